@@ -19,7 +19,6 @@ package io.nem.symbol.core.utils;
 import java.math.BigInteger;
 import java.util.Arrays;
 import org.apache.commons.codec.DecoderException;
-import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -33,6 +32,24 @@ public class ConvertUtils {
      */
     private static final BigInteger UNSIGNED_LONG_MASK = BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
 
+    /**
+     * The upper case hex characters by nibble value.
+     */
+    private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * The nibble value by hex character, -1 if the character is not a valid upper or lower case hex character.
+     */
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < HEX_CHARS.length; i++) {
+            HEX_VALUES[HEX_CHARS[i]] = (byte) i;
+            HEX_VALUES[Character.toLowerCase(HEX_CHARS[i])] = (byte) i;
+        }
+    }
+
 
     /**
      * Private constructor of this utility class.
@@ -56,10 +73,10 @@ public class ConvertUtils {
 
 
     private static byte[] getBytesInternal(final String hexString) throws DecoderException {
-        final Hex codec = new Hex();
         final String paddedHexString = 0 == hexString.length() % 2 ? hexString : "0" + hexString;
-        final byte[] encodedBytes = StringEncoder.getBytes(paddedHexString);
-        return codec.decode(encodedBytes);
+        final byte[] bytes = new byte[paddedHexString.length() / 2];
+        decode(paddedHexString, 0, paddedHexString.length(), bytes, 0);
+        return bytes;
     }
 
     /**
@@ -69,9 +86,112 @@ public class ConvertUtils {
      * @return The output hex string.
      */
     public static String toHex(final byte[] bytes) {
-        final Hex codec = new Hex();
-        final byte[] decodedBytes = codec.encode(bytes);
-        return StringEncoder.getString(decodedBytes).toUpperCase();
+        return toHex(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Converts a region of a byte array to a hex string.
+     *
+     * @param bytes The input byte array.
+     * @param offset the index of the first byte to convert.
+     * @param length the number of bytes to convert.
+     * @return The output hex string.
+     */
+    public static String toHex(final byte[] bytes, final int offset, final int length) {
+        final char[] chars = new char[length * 2];
+        encodeTo(bytes, offset, length, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Writes the upper case hex representation of a region of a byte array into a char array.
+     *
+     * @param bytes The input byte array.
+     * @param offset the index of the first byte to convert.
+     * @param length the number of bytes to convert.
+     * @param destination the char array where the hex characters are written.
+     * @param destinationOffset the index of the destination where the first character is written.
+     * @return the index of the destination after the last written character.
+     */
+    public static int encodeTo(final byte[] bytes, final int offset, final int length, final char[] destination,
+        final int destinationOffset) {
+        int position = destinationOffset;
+        for (int i = offset; i < offset + length; i++) {
+            destination[position++] = HEX_CHARS[(bytes[i] >> 4) & 0x0F];
+            destination[position++] = HEX_CHARS[bytes[i] & 0x0F];
+        }
+        return position;
+    }
+
+    /**
+     * Appends the upper case hex representation of a region of a byte array to a {@link StringBuilder}.
+     *
+     * @param bytes The input byte array.
+     * @param offset the index of the first byte to convert.
+     * @param length the number of bytes to convert.
+     * @param destination the builder where the hex characters are appended.
+     * @return the destination builder.
+     */
+    public static StringBuilder encodeTo(final byte[] bytes, final int offset, final int length,
+        final StringBuilder destination) {
+        destination.ensureCapacity(destination.length() + length * 2);
+        for (int i = offset; i < offset + length; i++) {
+            destination.append(HEX_CHARS[(bytes[i] >> 4) & 0x0F]).append(HEX_CHARS[bytes[i] & 0x0F]);
+        }
+        return destination;
+    }
+
+    /**
+     * Decodes a hex string into an existing byte array.
+     *
+     * @param hex the hex characters, upper or lower case.
+     * @param destination the byte array where the decoded bytes are written.
+     * @param destinationOffset the index of the destination where the first byte is written.
+     * @return the number of written bytes.
+     * @throws IllegalArgumentException if the hex is not valid.
+     */
+    public static int decodeInto(final CharSequence hex, final byte[] destination, final int destinationOffset) {
+        return decodeInto(hex, 0, hex.length(), destination, destinationOffset);
+    }
+
+    /**
+     * Decodes a region of a hex string into an existing byte array.
+     *
+     * @param hex the hex characters, upper or lower case.
+     * @param start the index of the first character to decode.
+     * @param end the index after the last character to decode.
+     * @param destination the byte array where the decoded bytes are written.
+     * @param destinationOffset the index of the destination where the first byte is written.
+     * @return the number of written bytes.
+     * @throws IllegalArgumentException if the hex is not valid.
+     */
+    public static int decodeInto(final CharSequence hex, final int start, final int end, final byte[] destination,
+        final int destinationOffset) {
+        try {
+            return decode(hex, start, end, destination, destinationOffset);
+        } catch (DecoderException e) {
+            throw new IllegalArgumentException(hex + " could not be decoded. " + ExceptionUtils.getMessage(e), e);
+        }
+    }
+
+    private static int decode(final CharSequence hex, final int start, final int end, final byte[] destination,
+        final int destinationOffset) throws DecoderException {
+        if (((end - start) & 0x01) != 0) {
+            throw new DecoderException("Odd number of characters.");
+        }
+        int position = destinationOffset;
+        for (int i = start; i < end; i += 2) {
+            destination[position++] = (byte) (toDigit(hex.charAt(i), i) << 4 | toDigit(hex.charAt(i + 1), i + 1));
+        }
+        return position - destinationOffset;
+    }
+
+    private static int toDigit(final char character, final int index) throws DecoderException {
+        final int digit = character < HEX_VALUES.length ? HEX_VALUES[character] : -1;
+        if (digit == -1) {
+            throw new DecoderException("Illegal hexadecimal character " + character + " at index " + index);
+        }
+        return digit;
     }
 
     /**
@@ -81,12 +201,9 @@ public class ConvertUtils {
      * @return the byte array.
      */
     public static byte[] fromHexToBytes(String hexString) {
-        final Hex codec = new Hex();
-        try {
-            return codec.decode(StringEncoder.getBytes(hexString));
-        } catch (DecoderException e) {
-            throw new IllegalArgumentException(hexString + " could not be decoded. " + ExceptionUtils.getMessage(e), e);
-        }
+        final byte[] bytes = new byte[hexString.length() / 2];
+        decodeInto(hexString, bytes, 0);
+        return bytes;
     }
 
     /**
@@ -124,7 +241,16 @@ public class ConvertUtils {
      */
     public static String toSize16Hex(final BigInteger number) {
         validateNotNegative(number);
-        return String.format("%016x", number).toUpperCase();
+        if (number.bitLength() > Long.SIZE) {
+            return String.format("%016x", number).toUpperCase();
+        }
+        long value = number.longValue();
+        final char[] chars = new char[16];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = HEX_CHARS[(int) (value & 0x0F)];
+            value >>>= 4;
+        }
+        return new String(chars);
     }
 
     /**
@@ -194,12 +320,22 @@ public class ConvertUtils {
         if (0 != input.length() % 2) {
             return false;
         }
-        try {
-            getBytesInternal(input);
-            return true;
-        } catch (DecoderException e) {
-            return false;
+        for (int i = 0; i < input.length(); i++) {
+            if (!isHexDigit(input.charAt(i))) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    /**
+     * Determines whether or not a character is a hex digit.
+     *
+     * @param character The character to test, upper or lower case.
+     * @return boolean true if the character is a hex digit, false otherwise.
+     */
+    public static boolean isHexDigit(char character) {
+        return character < HEX_VALUES.length && HEX_VALUES[character] != -1;
     }
 
     /**
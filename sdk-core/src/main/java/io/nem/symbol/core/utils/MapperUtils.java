@@ -65,13 +65,28 @@ public class MapperUtils {
         if (hex == null) {
             return null;
         }
-        if ((ConvertUtils.getBytes(hex)[0] & 128) == 128) {
+        if (hex.length() % 2 == 0 && (getByte(hex, 0) & 128) == 128) {
             return toNamespaceId(hex);
         } else {
             return toMosaicId(hex);
         }
     }
 
+    /**
+     * @param hex the hex string
+     * @param start the index of the first of the 2 characters to decode.
+     * @return the byte of the 2 hex characters at the start index without decoding the rest of the string.
+     */
+    private static byte getByte(String hex, int start) {
+        if (!ConvertUtils.isHexDigit(hex.charAt(start)) || !ConvertUtils.isHexDigit(hex.charAt(start + 1))) {
+            // getBytes reports the invalid character relative to the 2 characters.
+            return ConvertUtils.getBytes(hex.substring(start, start + 2))[0];
+        }
+        byte[] bytes = new byte[1];
+        ConvertUtils.decodeInto(hex, start, start + 2, bytes, 0);
+        return bytes[0];
+    }
+
     /**
      * Creates a {@link MosaicId} or {@link Address }from the provided hex string.
      *
@@ -84,7 +99,7 @@ public class MapperUtils {
         }
         // If bit 0 of byte 0 is not set (like in 0x90), then it is a regular address.
         // Else (e.g. 0x91) it represents a namespace id which starts at byte 1.
-        byte bit0 = ConvertUtils.getBytes(hex.substring(1, 3))[0];
+        byte bit0 = getByte(hex, 1);
         if ((bit0 & 16) == 16) {
             // namespaceId encoded hexadecimal notation provided
             // only 8 bytes are relevant to resolve the NamespaceId
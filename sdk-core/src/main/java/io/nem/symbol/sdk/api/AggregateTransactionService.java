@@ -19,6 +19,7 @@ package io.nem.symbol.sdk.api;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.transaction.SignedTransaction;
 import io.reactivex.Observable;
+import java.util.List;
 
 /**
  * Service that provides useful aggregated transactions methods.
@@ -35,6 +36,17 @@ public interface AggregateTransactionService {
      */
     Observable<Boolean> isComplete(SignedTransaction signedTransaction);
 
+    /**
+     * Checks if many aggregate complete transactions have all cosignatories attached. The multisig accounts shared by
+     * the aggregates are loaded once.
+     *
+     * @param signedTransactions The signed aggregate transactions (complete) to be verified
+     * @return a list with the completeness of each aggregate transaction, in the same order.
+     * @throws IllegalArgumentException if any signedTransaction is null or not related to an aggregate completed
+     * transaction.
+     */
+    Observable<List<Boolean>> isComplete(List<SignedTransaction> signedTransactions);
+
 
     /**
      * Gets total multisig account cosigner count.
@@ -21,6 +21,7 @@ import io.nem.symbol.sdk.model.account.UnresolvedAddress;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
 import io.reactivex.Observable;
+import java.util.List;
 
 /**
  * Service used to resolve aliases.
@@ -48,4 +49,20 @@ public interface AliasService {
      * address.
      */
     Observable<Address> resolveAddress(UnresolvedAddress unresolvedAddress);
+
+    /**
+     * This method resolves many {@link UnresolvedMosaicId}s. Each alias is resolved once even if it's repeated.
+     *
+     * @param unresolvedMosaicIds the unresolvedMosaicIds
+     * @return the {@link MosaicId}s in the same order.
+     */
+    Observable<List<MosaicId>> resolveMosaicIds(List<UnresolvedMosaicId> unresolvedMosaicIds);
+
+    /**
+     * This method resolves many {@link UnresolvedAddress}es. Each alias is resolved once even if it's repeated.
+     *
+     * @param unresolvedAddresses the unresolvedAddresses
+     * @return the {@link Address}es in the same order.
+     */
+    Observable<List<Address>> resolveAddresses(List<UnresolvedAddress> unresolvedAddresses);
 }
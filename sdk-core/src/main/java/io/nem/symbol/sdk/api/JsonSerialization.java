@@ -17,6 +17,8 @@
 package io.nem.symbol.sdk.api;
 
 import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import java.io.Writer;
 
 /**
  * Implementation of this class knows how to serialize different model object from/to DTOs/JSONs.
@@ -39,5 +41,15 @@ public interface JsonSerialization {
      */
     Transaction jsonToTransaction(String json);
 
+    /**
+     * It writes the transactions as newline delimited json (NDJSON), the json of each transaction is written in its
+     * own line straight to the writer. The transactions are written as they are emitted.
+     *
+     * @param transactions the transactions to be written.
+     * @param writer the writer. It's flushed but not closed when all the transactions have been written.
+     * @return an observable with the number of written transactions.
+     */
+    Observable<Long> transactionsToJson(Observable<Transaction> transactions, Writer writer);
+
 
 }
@@ -17,13 +17,16 @@
 package io.nem.symbol.sdk.api;
 
 import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.metadata.MetadataUpdate;
 import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
 import io.nem.symbol.sdk.model.namespace.NamespaceId;
 import io.nem.symbol.sdk.model.transaction.AccountMetadataTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.MetadataTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.MosaicMetadataTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.NamespaceMetadataTransactionFactory;
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.util.List;
 
 /**
  * Metadata transaction service.
@@ -80,4 +83,18 @@ public interface MetadataTransactionService {
         String value,
         Address sourceAddress,
         NamespaceId targetId);
+
+    /**
+     * Create the metadata transactions that set or update many values. The current values are loaded with one
+     * paginated search per metadata type, target and source instead of one search per key. When a key is repeated,
+     * each update is calculated from the value set by the previous one.
+     *
+     * <p>Metadata transactions must be announced inside aggregates, the factories can be packed with {@link
+     * io.nem.symbol.sdk.infrastructure.announce.AggregatePacker}.
+     *
+     * @param updates the values to be set.
+     * @return an observable of the metadata transaction factories in the order of the updates.
+     */
+    Observable<List<MetadataTransactionFactory<?>>> createMetadataTransactionFactories(
+        List<MetadataUpdate> updates);
 }
@@ -23,6 +23,8 @@ import io.nem.symbol.sdk.model.transaction.MosaicGlobalRestrictionTransactionFac
 import io.nem.symbol.sdk.model.transaction.MosaicRestrictionType;
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Service that helps clients setting up and updating mosaic restrictions.
@@ -80,4 +82,26 @@ public interface MosaicRestrictionTransactionService {
         BigInteger restrictionKey,
         UnresolvedAddress targetAddress,
         BigInteger restrictionValue);
+
+    /**
+     * Create many {@link MosaicAddressRestrictionTransactionFactory} objects that set the same
+     * restriction key of one mosaic for many target addresses, for example, when onboarding
+     * accounts onto a restricted mosaic.
+     *
+     * The mosaic alias and the global restriction are resolved once, the address aliases are
+     * resolved in one batch and the current address restriction values are loaded using {@link
+     * RestrictionMosaicRepository#getMosaicAddressRestrictions(io.nem.symbol.sdk.model.mosaic.MosaicId,
+     * List)} for many addresses at a time.
+     *
+     * @param mosaicId the mosaic id or an alias. If an alias is sent, the service will resolve it
+     * in order to retrieve the current mosaic address restriction values.
+     * @param restrictionKey Restriction key
+     * @param restrictionValues the new restriction value of each target address or alias.
+     * @return the {@link MosaicAddressRestrictionTransactionFactory}s in the iteration order of
+     * the restrictionValues map.
+     */
+    Observable<List<MosaicAddressRestrictionTransactionFactory>> createMosaicAddressRestrictionTransactionFactories(
+        UnresolvedMosaicId mosaicId,
+        BigInteger restrictionKey,
+        Map<UnresolvedAddress, BigInteger> restrictionValues);
 }
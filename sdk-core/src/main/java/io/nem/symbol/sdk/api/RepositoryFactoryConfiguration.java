@@ -57,6 +57,25 @@ public class RepositoryFactoryConfiguration {
      */
     private NetworkCurrency harvestCurrency;
 
+    /**
+     * If the repositories should decode the search pages from json tokens, mapping each entry without creating the
+     * whole page's dto graph first. The page is still emitted once all its entries are mapped and, depending on the
+     * http client, the whole response body may still be buffered. False by default.
+     */
+    private boolean streamingPages;
+
+    /**
+     * The max number of concurrent requests the http client executes, the extra requests are queued. If not
+     * provided, the http client's default is used.
+     */
+    private Integer maxRequests;
+
+    /**
+     * The max number of concurrent requests the http client executes against the same host, the extra requests are
+     * queued. If not provided, the http client's default is used.
+     */
+    private Integer maxRequestsPerHost;
+
     /**
      * It creates a basic configuration with the required base url.
      *
@@ -114,6 +133,40 @@ public class RepositoryFactoryConfiguration {
         return this;
     }
 
+    /**
+     * Helper method to enable the incremental decoding of the search pages. Only the page's dto graph is skipped: the
+     * page is emitted once all its entries are mapped and the Vert.x client still buffers the whole response body.
+     *
+     * @param streamingPages if the search pages should be decoded incrementally.
+     * @return this configuration.
+     */
+    public RepositoryFactoryConfiguration withStreamingPages(boolean streamingPages) {
+        this.streamingPages = streamingPages;
+        return this;
+    }
+
+    /**
+     * Helper method to setup the max number of concurrent requests of the http client's dispatcher.
+     *
+     * @param maxRequests the max number of concurrent requests.
+     * @return this configuration.
+     */
+    public RepositoryFactoryConfiguration withMaxRequests(Integer maxRequests) {
+        this.maxRequests = maxRequests;
+        return this;
+    }
+
+    /**
+     * Helper method to setup the max number of concurrent requests per host of the http client's dispatcher.
+     *
+     * @param maxRequestsPerHost the max number of concurrent requests per host.
+     * @return this configuration.
+     */
+    public RepositoryFactoryConfiguration withMaxRequestsPerHost(Integer maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
 
     public String getBaseUrl() {
         return baseUrl;
@@ -135,6 +188,18 @@ public class RepositoryFactoryConfiguration {
         return harvestCurrency;
     }
 
+    public boolean isStreamingPages() {
+        return streamingPages;
+    }
+
+    public Integer getMaxRequests() {
+        return maxRequests;
+    }
+
+    public Integer getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
     public void setNetworkType(NetworkType networkType) {
         this.networkType = networkType;
     }
@@ -152,4 +217,16 @@ public class RepositoryFactoryConfiguration {
         NetworkCurrency harvestCurrency) {
         this.harvestCurrency = harvestCurrency;
     }
+
+    public void setStreamingPages(boolean streamingPages) {
+        this.streamingPages = streamingPages;
+    }
+
+    public void setMaxRequests(Integer maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    public void setMaxRequestsPerHost(Integer maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
 }
@@ -18,9 +18,10 @@ package io.nem.symbol.sdk.infrastructure;
 
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.api.AggregateTransactionService;
-import io.nem.symbol.sdk.api.MultisigRepository;
 import io.nem.symbol.sdk.api.NetworkRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.infrastructure.cache.CachePolicy;
+import io.nem.symbol.sdk.infrastructure.cache.MultisigGraphCache;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.MultisigAccountGraphInfo;
 import io.nem.symbol.sdk.model.account.MultisigAccountInfo;
@@ -37,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.Validate;
@@ -47,25 +49,60 @@ import org.apache.commons.lang3.Validate;
 public class AggregateTransactionServiceImpl implements AggregateTransactionService {
 
 
-    private final MultisigRepository multisigRepository;
+    private final MultisigGraphCache multisigGraphCache;
     private final NetworkRepository networkRepository;
 
+    /**
+     * Constructor. Multisig accounts and graphs are loaded once per {@link #isComplete} call but they are not cached
+     * between calls.
+     *
+     * @param repositoryFactory the repository factory.
+     */
     public AggregateTransactionServiceImpl(RepositoryFactory repositoryFactory) {
-        this.multisigRepository = repositoryFactory.createMultisigRepository();
+        this(repositoryFactory,
+            new MultisigGraphCache(repositoryFactory.createMultisigRepository(), CachePolicy.none()));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param repositoryFactory the repository factory.
+     * @param multisigGraphCache the cache of the multisig accounts and graphs, it may be shared between services.
+     */
+    public AggregateTransactionServiceImpl(RepositoryFactory repositoryFactory, MultisigGraphCache multisigGraphCache) {
+        Validate.notNull(multisigGraphCache, "multisigGraphCache is required");
+        this.multisigGraphCache = multisigGraphCache;
         this.networkRepository = repositoryFactory.createNetworkRepository();
     }
 
     @Override
     public Observable<Boolean> isComplete(SignedTransaction signedTransaction) {
+        return isComplete(toAggregateTransaction(signedTransaction), signedTransaction, new MultisigLookup());
+    }
 
+    @Override
+    public Observable<List<Boolean>> isComplete(List<SignedTransaction> signedTransactions) {
+        Validate.notNull(signedTransactions, "signedTransactions is required");
+        List<AggregateTransaction> transactions = signedTransactions.stream().map(this::toAggregateTransaction)
+            .collect(Collectors.toList());
+        MultisigLookup lookup = new MultisigLookup();
+        return Observable.range(0, transactions.size())
+            .concatMapEager(i -> isComplete(transactions.get(i), signedTransactions.get(i), lookup)).toList()
+            .toObservable();
+    }
+
+    private AggregateTransaction toAggregateTransaction(SignedTransaction signedTransaction) {
         Validate.notNull(signedTransaction, "signedTransaction is required");
         Validate.isTrue(signedTransaction.getType() == TransactionType.AGGREGATE_COMPLETE,
             "signedTransaction type must be AGGREGATE_COMPLETE");
 
-        AggregateTransaction transaction = (AggregateTransaction) BinarySerializationImpl.INSTANCE
+        return (AggregateTransaction) BinarySerializationImpl.INSTANCE
             .deserialize(
                 ConvertUtils.fromHexToBytes(signedTransaction.getPayload()));
+    }
 
+    private Observable<Boolean> isComplete(AggregateTransaction transaction, SignedTransaction signedTransaction,
+        MultisigLookup lookup) {
         /*
          * Include both initiator & cosigners
          */
@@ -77,11 +114,11 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
 
         return Observable.fromIterable(transaction.getInnerTransactions())
             .flatMap(innerTransaction ->
-                multisigRepository.getMultisigAccountInfo(
+                lookup.getMultisigAccountInfo(
                     innerTransaction.getSigner().orElseThrow(IllegalArgumentException::new)
                         .getAddress()).flatMap(multisigAccountInfo ->
                     multisigAccountInfo.getMinRemoval() != 0
-                        && multisigAccountInfo.getMinApproval() != 0 ? multisigRepository
+                        && multisigAccountInfo.getMinApproval() != 0 ? lookup
                         .getMultisigAccountGraphInfo(multisigAccountInfo.getAccountAddress())
                         .map(graphInfo -> validateCosignatories(graphInfo, signers,
                             innerTransaction)) : Observable.just(signers.stream()
@@ -91,7 +128,7 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
 
     @Override
     public Observable<Integer> getMaxCosignatures(Address address) {
-        return this.multisigRepository.getMultisigAccountGraphInfo(address)
+        return this.multisigGraphCache.getMultisigAccountGraphInfo(address)
             .map(multisigAccountGraphInfo -> {
                 Stream<Address> publicAccountStream = multisigAccountGraphInfo
                     .getMultisigEntries().values().stream().flatMap(
@@ -171,4 +208,25 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
 
 
     }
+
+    /**
+     * The multisig accounts and graphs used by one {@link #isComplete} call. Each account is loaded once even when it
+     * signs many inner transactions or aggregates.
+     */
+    private class MultisigLookup {
+
+        private final Map<Address, Observable<MultisigAccountInfo>> accountInfos = new ConcurrentHashMap<>();
+
+        private final Map<Address, Observable<MultisigAccountGraphInfo>> graphInfos = new ConcurrentHashMap<>();
+
+        private Observable<MultisigAccountInfo> getMultisigAccountInfo(Address address) {
+            return accountInfos
+                .computeIfAbsent(address, key -> multisigGraphCache.getMultisigAccountInfo(key).cache());
+        }
+
+        private Observable<MultisigAccountGraphInfo> getMultisigAccountGraphInfo(Address address) {
+            return graphInfos
+                .computeIfAbsent(address, key -> multisigGraphCache.getMultisigAccountGraphInfo(key).cache());
+        }
+    }
 }
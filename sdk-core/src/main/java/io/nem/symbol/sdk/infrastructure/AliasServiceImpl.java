@@ -17,8 +17,9 @@
 package io.nem.symbol.sdk.infrastructure;
 
 import io.nem.symbol.sdk.api.AliasService;
-import io.nem.symbol.sdk.api.NamespaceRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.infrastructure.cache.AliasResolutionCache;
+import io.nem.symbol.sdk.infrastructure.cache.CachePolicy;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.UnresolvedAddress;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
@@ -26,6 +27,12 @@ import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
 import io.nem.symbol.sdk.model.namespace.AliasType;
 import io.nem.symbol.sdk.model.namespace.NamespaceId;
 import io.reactivex.Observable;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.Validate;
 
 /**
@@ -33,22 +40,37 @@ import org.apache.commons.lang3.Validate;
  */
 public class AliasServiceImpl implements AliasService {
 
-    private final NamespaceRepository namespaceRepository;
+    /**
+     * The max number of namespaces loaded at the same time by the batch resolutions.
+     */
+    private static final int MAX_CONCURRENT_RESOLUTIONS = 10;
+
+    private final AliasResolutionCache aliasResolutionCache;
 
     /**
-     * Constructor
+     * Constructor. Concurrent resolutions of the same alias share one remote call but the namespaces are not cached.
      *
      * @param repositoryFactory repository factory.
      */
     public AliasServiceImpl(RepositoryFactory repositoryFactory) {
-        this.namespaceRepository = repositoryFactory.createNamespaceRepository();
+        this(new AliasResolutionCache(repositoryFactory.createNamespaceRepository(), CachePolicy.none()));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aliasResolutionCache the cache of the namespaces, it may be shared between services.
+     */
+    public AliasServiceImpl(AliasResolutionCache aliasResolutionCache) {
+        Validate.notNull(aliasResolutionCache, "aliasResolutionCache is required");
+        this.aliasResolutionCache = aliasResolutionCache;
     }
 
     @Override
     public Observable<MosaicId> resolveMosaicId(UnresolvedMosaicId unresolvedMosaicId) {
         if (unresolvedMosaicId instanceof NamespaceId) {
             NamespaceId alias = (NamespaceId) unresolvedMosaicId;
-            return namespaceRepository.getNamespace(alias)
+            return aliasResolutionCache.getNamespace(alias)
                 .map(namespaceInfo -> {
                     Validate.isTrue(namespaceInfo.getAlias().getType() == AliasType.MOSAIC,
                         "Alias is not Mosaic");
@@ -68,7 +90,7 @@ public class AliasServiceImpl implements AliasService {
     public Observable<Address> resolveAddress(UnresolvedAddress unresolvedAddress) {
         if (unresolvedAddress instanceof NamespaceId) {
             NamespaceId alias = (NamespaceId) unresolvedAddress;
-            return namespaceRepository.getNamespace(alias)
+            return aliasResolutionCache.getNamespace(alias)
                 .map(namespaceInfo -> {
                     Validate.isTrue(namespaceInfo.getAlias().getType() == AliasType.ADDRESS,
                         "Alias is not address");
@@ -84,4 +106,26 @@ public class AliasServiceImpl implements AliasService {
 
     }
 
+    @Override
+    public Observable<List<MosaicId>> resolveMosaicIds(List<UnresolvedMosaicId> unresolvedMosaicIds) {
+        Validate.notNull(unresolvedMosaicIds, "unresolvedMosaicIds is required");
+        return resolveAll(unresolvedMosaicIds, this::resolveMosaicId);
+    }
+
+    @Override
+    public Observable<List<Address>> resolveAddresses(List<UnresolvedAddress> unresolvedAddresses) {
+        Validate.notNull(unresolvedAddresses, "unresolvedAddresses is required");
+        return resolveAll(unresolvedAddresses, this::resolveAddress);
+    }
+
+    private <U, R> Observable<List<R>> resolveAll(List<U> unresolved, Function<U, Observable<R>> resolver) {
+        return Observable.defer(() -> {
+            Map<U, R> resolved = new ConcurrentHashMap<>();
+            return Observable.fromIterable(new LinkedHashSet<>(unresolved))
+                .flatMap(key -> resolver.apply(key).doOnNext(value -> resolved.put(key, value)),
+                    MAX_CONCURRENT_RESOLUTIONS).ignoreElements()
+                .andThen(Observable.fromCallable(
+                    () -> unresolved.stream().map(resolved::get).collect(Collectors.toList())));
+        });
+    }
 }
@@ -348,9 +348,20 @@ public class BinarySerializationImpl implements BinarySerialization {
     @Override
     public TransactionFactory<?> deserializeToFactory(byte[] payload) {
         Validate.notNull(payload, "Payload must not be null");
-        DataInputStream stream = SerializationUtils.toDataInput(payload);
-        TransactionBuilder builder = TransactionBuilderFactory.createTransactionBuilder(stream);
+        return deserializeToFactory(SerializationUtils.toDataInput(payload));
+    }
 
+    /**
+     * Deserialization of transactions from a stream. Useful when the payload is not in its own byte array, for
+     * example, the remaining bytes of a {@link ByteBuffer} wrapped with
+     * {@link SerializationUtils#toDataInput(ByteBuffer)}.
+     *
+     * @param payload the payload as {@link DataInputStream}
+     * @return the {@link TransactionFactory}.
+     */
+    public TransactionFactory<?> deserializeToFactory(DataInputStream payload) {
+        Validate.notNull(payload, "Payload must not be null");
+        TransactionBuilder builder = TransactionBuilderFactory.createTransactionBuilder(payload);
         return toTransactionFactory(builder);
     }
 
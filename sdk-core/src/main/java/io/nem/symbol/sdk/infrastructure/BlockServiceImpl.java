@@ -29,6 +29,7 @@ import io.nem.symbol.sdk.model.blockchain.Position;
 import io.reactivex.Observable;
 import io.reactivex.functions.BiFunction;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.commons.lang3.Validate;
 
@@ -81,15 +82,13 @@ public class BlockServiceImpl implements BlockService {
             }
 
             // 1 is left
-            java.util.function.BiFunction<String, MerklePathItem, String> accumulator = (proofHash, pathItem) -> ConvertUtils
-                .toHex(Hashes
-                    .sha3_256(ConvertUtils
-                        .fromHexToBytes(
-                            pathItem.getPosition() == Position.LEFT ? pathItem.getHash() + proofHash
-                                : proofHash + pathItem.getHash())));
-
-            String hroot0 = merklePath.stream().reduce(leaf, accumulator, (s1, s2) -> s1);
-            return root.equalsIgnoreCase(hroot0);
+            byte[] hroot0 = ConvertUtils.fromHexToBytes(leaf);
+            for (MerklePathItem pathItem : merklePath) {
+                byte[] hash = ConvertUtils.fromHexToBytes(pathItem.getHash());
+                hroot0 = pathItem.getPosition() == Position.LEFT ? Hashes.sha3_256(hash, hroot0)
+                    : Hashes.sha3_256(hroot0, hash);
+            }
+            return Arrays.equals(ConvertUtils.fromHexToBytes(root), hroot0);
         };
         return Observable.zip(rootObservable, merkleTransactionObservable, zipper).onErrorReturn((e) -> {
             e.printStackTrace();
@@ -19,12 +19,16 @@ package io.nem.symbol.sdk.infrastructure;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.StringEncoder;
 import io.nem.symbol.sdk.api.AliasService;
+import io.nem.symbol.sdk.api.MetadataPaginationStreamer;
 import io.nem.symbol.sdk.api.MetadataRepository;
 import io.nem.symbol.sdk.api.MetadataSearchCriteria;
 import io.nem.symbol.sdk.api.MetadataTransactionService;
 import io.nem.symbol.sdk.api.RepositoryFactory;
 import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.metadata.Metadata;
 import io.nem.symbol.sdk.model.metadata.MetadataType;
+import io.nem.symbol.sdk.model.metadata.MetadataUpdate;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
 import io.nem.symbol.sdk.model.namespace.NamespaceId;
 import io.nem.symbol.sdk.model.network.NetworkType;
@@ -34,7 +38,15 @@ import io.nem.symbol.sdk.model.transaction.MosaicMetadataTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.NamespaceMetadataTransactionFactory;
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
 
 /**
  * Implementation of {@link MetadataTransactionService}
@@ -43,6 +55,16 @@ import java.util.function.BiFunction;
  */
 public class MetadataTransactionServiceImpl implements MetadataTransactionService {
 
+    /**
+     * The max number of targets searched at the same time by the bulk updates.
+     */
+    private static final int MAX_CONCURRENT_SEARCHES = 4;
+
+    /**
+     * The page size of the bulk updates' searches.
+     */
+    private static final int SEARCH_PAGE_SIZE = 100;
+
     private final MetadataRepository metadataRepository;
 
     private final Observable<NetworkType> networkTypeObservable;
@@ -50,9 +72,21 @@ public class MetadataTransactionServiceImpl implements MetadataTransactionServic
     private final AliasService aliasService;
 
     public MetadataTransactionServiceImpl(RepositoryFactory factory) {
+        this(factory, new AliasServiceImpl(factory));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param factory the repository factory.
+     * @param aliasService the service used to resolve the mosaic aliases, it may use a shared {@link
+     * io.nem.symbol.sdk.infrastructure.cache.AliasResolutionCache}.
+     */
+    public MetadataTransactionServiceImpl(RepositoryFactory factory, AliasService aliasService) {
+        Validate.notNull(aliasService, "aliasService is required");
         this.metadataRepository = factory.createMetadataRepository();
         this.networkTypeObservable = factory.getNetworkType();
-        this.aliasService = new AliasServiceImpl(factory);
+        this.aliasService = aliasService;
     }
 
     @Override
@@ -99,20 +133,151 @@ public class MetadataTransactionServiceImpl implements MetadataTransactionServic
      * @param <T> the type of the transaction factory.
      * @return an Observable of a transaction factory.
      */
-    private <T extends MetadataTransactionFactory> Observable<T> processMetadata(MetadataSearchCriteria criteria,
+    private <T extends MetadataTransactionFactory<?>> Observable<T> processMetadata(MetadataSearchCriteria criteria,
         BiFunction<String, NetworkType, T> transactionFactory, String newValue) {
-        return networkTypeObservable.flatMap(networkType -> metadataRepository.search(criteria).map(page -> {
-            if (page.getData().isEmpty()) {
-                return transactionFactory.apply(newValue, networkType);
-            } else {
-                byte[] currentValueBytes = StringEncoder.getBytes(page.getData().get(0).getValue());
-                byte[] newValueBytes = StringEncoder.getBytes(newValue);
-                String xorValue = StringEncoder.getString(ConvertUtils.xor(currentValueBytes, newValueBytes));
-                T factory = transactionFactory.apply(xorValue, networkType);
-                factory.valueSizeDelta(newValueBytes.length - currentValueBytes.length);
-                return factory;
+        return networkTypeObservable.flatMap(networkType -> metadataRepository.search(criteria).map(
+            page -> createFactory(transactionFactory, networkType,
+                page.getData().isEmpty() ? null : page.getData().get(0).getValue(), newValue)));
+    }
+
+    /**
+     * It creates a metadata transaction factory with the delta between the current and the new value.
+     *
+     * @param transactionFactory the function that creates a transaction factory
+     * @param networkType the network type
+     * @param currentValue the current value or null if there is no value.
+     * @param newValue the new value you want to set.
+     * @param <T> the type of the transaction factory.
+     * @return the transaction factory.
+     */
+    private <T extends MetadataTransactionFactory<?>> T createFactory(
+        BiFunction<String, NetworkType, T> transactionFactory, NetworkType networkType, String currentValue,
+        String newValue) {
+        if (currentValue == null) {
+            return transactionFactory.apply(newValue, networkType);
+        }
+        byte[] currentValueBytes = StringEncoder.getBytes(currentValue);
+        byte[] newValueBytes = StringEncoder.getBytes(newValue);
+        String xorValue = StringEncoder.getString(ConvertUtils.xor(currentValueBytes, newValueBytes));
+        T factory = transactionFactory.apply(xorValue, networkType);
+        factory.valueSizeDelta(newValueBytes.length - currentValueBytes.length);
+        return factory;
+    }
+
+    @Override
+    public Observable<List<MetadataTransactionFactory<?>>> createMetadataTransactionFactories(
+        List<MetadataUpdate> updates) {
+        Validate.notNull(updates, "updates is required");
+        List<UnresolvedMosaicId> mosaicIds = updates.stream()
+            .filter(update -> update.getMetadataType() == MetadataType.MOSAIC)
+            .map(update -> update.getTargetId().orElseThrow(IllegalArgumentException::new))
+            .collect(Collectors.toList());
+        return Observable.zip(networkTypeObservable, aliasService.resolveMosaicIds(mosaicIds),
+            (networkType, resolvedMosaicIds) -> {
+                Map<UnresolvedMosaicId, MosaicId> resolvedTargetIds = new HashMap<>();
+                for (int i = 0; i < mosaicIds.size(); i++) {
+                    resolvedTargetIds.put(mosaicIds.get(i), resolvedMosaicIds.get(i));
+                }
+                return new BulkMetadata(networkType, updates, resolvedTargetIds);
+            }).flatMap(bulkMetadata -> loadCurrentValues(bulkMetadata).map(currentValues -> updates.stream()
+            .map(update -> createFactory(bulkMetadata, currentValues, update)).collect(Collectors.toList())));
+    }
+
+    /**
+     * It loads the current values of the updated targets, one paginated search per target.
+     */
+    private Observable<Map<List<Object>, Map<BigInteger, String>>> loadCurrentValues(BulkMetadata bulkMetadata) {
+        MetadataPaginationStreamer streamer = new MetadataPaginationStreamer(metadataRepository);
+        Map<List<Object>, MetadataSearchCriteria> criteriaByTarget = new LinkedHashMap<>();
+        bulkMetadata.updates.forEach(update -> criteriaByTarget
+            .computeIfAbsent(bulkMetadata.getTargetKey(update), key -> bulkMetadata.createCriteria(update)));
+        return Observable.defer(() -> {
+            Map<List<Object>, Map<BigInteger, String>> currentValues = new ConcurrentHashMap<>();
+            return Observable.fromIterable(criteriaByTarget.entrySet()).flatMap(
+                entry -> streamer.search(entry.getValue()).toMap(Metadata::getScopedMetadataKey, Metadata::getValue)
+                    .doOnSuccess(values -> currentValues.put(entry.getKey(), values)).toObservable(),
+                MAX_CONCURRENT_SEARCHES).ignoreElements().andThen(Observable.just(currentValues));
+        });
+    }
+
+    private MetadataTransactionFactory<?> createFactory(BulkMetadata bulkMetadata,
+        Map<List<Object>, Map<BigInteger, String>> currentValues, MetadataUpdate update) {
+        Map<BigInteger, String> targetValues = currentValues.get(bulkMetadata.getTargetKey(update));
+        String currentValue = targetValues.put(update.getKey(), update.getValue());
+        Address targetAddress = update.getTargetAddress();
+        BigInteger key = update.getKey();
+        switch (update.getMetadataType()) {
+            case MOSAIC:
+                UnresolvedMosaicId targetMosaicId = update.getTargetId().orElseThrow(IllegalArgumentException::new);
+                return createFactory((newValue, networkType) -> MosaicMetadataTransactionFactory
+                        .create(networkType, targetAddress, targetMosaicId, key, newValue), bulkMetadata.networkType,
+                    currentValue, update.getValue());
+            case NAMESPACE:
+                NamespaceId targetNamespaceId = (NamespaceId) update.getTargetId()
+                    .orElseThrow(IllegalArgumentException::new);
+                return createFactory((newValue, networkType) -> NamespaceMetadataTransactionFactory
+                        .create(networkType, targetAddress, targetNamespaceId, key, newValue), bulkMetadata.networkType,
+                    currentValue, update.getValue());
+            default:
+                return createFactory((newValue, networkType) -> AccountMetadataTransactionFactory
+                        .create(networkType, targetAddress, key, newValue), bulkMetadata.networkType, currentValue,
+                    update.getValue());
+        }
+    }
+
+    /**
+     * The updates of one {@link #createMetadataTransactionFactories(List)} call with their resolved targets.
+     */
+    private static class BulkMetadata {
+
+        private final NetworkType networkType;
+
+        private final List<MetadataUpdate> updates;
+
+        private final Map<UnresolvedMosaicId, MosaicId> resolvedMosaicIds;
+
+        private BulkMetadata(NetworkType networkType, List<MetadataUpdate> updates,
+            Map<UnresolvedMosaicId, MosaicId> resolvedMosaicIds) {
+            this.networkType = networkType;
+            this.updates = updates;
+            this.resolvedMosaicIds = resolvedMosaicIds;
+        }
+
+        private Object getResolvedTargetId(MetadataUpdate update) {
+            if (update.getMetadataType() == MetadataType.MOSAIC) {
+                return resolvedMosaicIds.get(update.getTargetId().orElseThrow(IllegalArgumentException::new));
+            }
+            return update.getTargetId().orElse(null);
+        }
+
+        /**
+         * @return the target address of account metadata. Like the single value methods, mosaic and namespace
+         * metadata are searched by target id only.
+         */
+        private Address getSearchedTargetAddress(MetadataUpdate update) {
+            return update.getMetadataType() == MetadataType.ACCOUNT ? update.getTargetAddress() : null;
+        }
+
+        /**
+         * @return the key of the values searched together, the type, target address, source address and target id.
+         */
+        private List<Object> getTargetKey(MetadataUpdate update) {
+            return Arrays.asList(update.getMetadataType(), getSearchedTargetAddress(update), update.getSourceAddress(),
+                getResolvedTargetId(update));
+        }
+
+        private MetadataSearchCriteria createCriteria(MetadataUpdate update) {
+            MetadataSearchCriteria criteria = new MetadataSearchCriteria()
+                .targetAddress(getSearchedTargetAddress(update)).sourceAddress(update.getSourceAddress())
+                .metadataType(update.getMetadataType());
+            Object targetId = getResolvedTargetId(update);
+            if (targetId instanceof MosaicId) {
+                criteria.targetId((MosaicId) targetId);
+            } else if (targetId instanceof NamespaceId) {
+                criteria.targetId((NamespaceId) targetId);
             }
-        }));
+            return criteria.pageSize(SEARCH_PAGE_SIZE);
+        }
     }
 
 }
@@ -32,7 +32,13 @@ import io.nem.symbol.sdk.model.transaction.MosaicGlobalRestrictionTransactionFac
 import io.nem.symbol.sdk.model.transaction.MosaicRestrictionType;
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
 
 /**
  * Implementation of {@link MosaicRestrictionTransactionService}.
@@ -40,6 +46,18 @@ import java.util.Optional;
 public class MosaicRestrictionTransactionServiceImpl implements
     MosaicRestrictionTransactionService {
 
+    /**
+     * The max number of addresses sent in each getMosaicAddressRestrictions request by the bulk
+     * factories.
+     */
+    private static final int MAX_ADDRESSES_PER_REQUEST = 100;
+
+    /**
+     * The max number of getMosaicAddressRestrictions requests executed at the same time by the
+     * bulk factories.
+     */
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
+
     /**
      * The network type so user is not required to provide it each time.
      */
@@ -61,9 +79,21 @@ public class MosaicRestrictionTransactionServiceImpl implements
      */
     public MosaicRestrictionTransactionServiceImpl(
         RepositoryFactory repositoryFactory) {
+        this(repositoryFactory, new AliasServiceImpl(repositoryFactory));
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param repositoryFactory the repository factory.
+     * @param aliasService the service used to resolve the aliases, it may use a shared {@link
+     * io.nem.symbol.sdk.infrastructure.cache.AliasResolutionCache}.
+     */
+    public MosaicRestrictionTransactionServiceImpl(RepositoryFactory repositoryFactory, AliasService aliasService) {
+        Validate.notNull(aliasService, "aliasService is required");
         this.repository = repositoryFactory.createRestrictionMosaicRepository();
         this.networkTypeObservable = repositoryFactory.getNetworkType();
-        this.aliasService = new AliasServiceImpl(repositoryFactory);
+        this.aliasService = aliasService;
     }
 
 
@@ -129,6 +159,69 @@ public class MosaicRestrictionTransactionServiceImpl implements
                 })).flatMap(f -> f);
     }
 
+    @Override
+    public Observable<List<MosaicAddressRestrictionTransactionFactory>> createMosaicAddressRestrictionTransactionFactories(
+        UnresolvedMosaicId unresolvedMosaicId, BigInteger restrictionKey,
+        Map<UnresolvedAddress, BigInteger> restrictionValues) {
+        Validate.notNull(restrictionValues, "restrictionValues is required");
+        List<UnresolvedAddress> unresolvedTargetAddresses = new ArrayList<>(restrictionValues.keySet());
+        return Observable
+            .combineLatest(networkTypeObservable, aliasService.resolveMosaicId(unresolvedMosaicId),
+                aliasService.resolveAddresses(unresolvedTargetAddresses),
+                (networkType, mosaicId, targetAddresses) -> getGlobalRestrictionEntry(mosaicId, restrictionKey)
+                    .flatMap(optional -> {
+                        if (!optional.isPresent()) {
+                            throw new IllegalArgumentException(
+                                "Global restriction is not valid for RestrictionKey: " + restrictionKey);
+                        }
+                        return getCurrentMosaicAddressRestrictionValues(mosaicId, targetAddresses, restrictionKey)
+                            .map(currentValues -> {
+                                List<MosaicAddressRestrictionTransactionFactory> factories = new ArrayList<>();
+                                for (int i = 0; i < unresolvedTargetAddresses.size(); i++) {
+                                    UnresolvedAddress unresolvedTargetAddress = unresolvedTargetAddresses.get(i);
+                                    BigInteger restrictionValue = restrictionValues.get(unresolvedTargetAddress);
+                                    MosaicAddressRestrictionTransactionFactory factory =
+                                        MosaicAddressRestrictionTransactionFactory
+                                            .create(networkType, unresolvedMosaicId, restrictionKey,
+                                                unresolvedTargetAddress, restrictionValue);
+                                    Optional.ofNullable(currentValues.get(targetAddresses.get(i)))
+                                        .ifPresent(factory::previousRestrictionValue);
+                                    factories.add(factory);
+                                }
+                                return factories;
+                            });
+                    })).flatMap(f -> f);
+    }
+
+    /**
+     * Get the current value of a mosaic address restriction for many addresses using
+     * getMosaicAddressRestrictions in batches.
+     *
+     * @param mosaicId Mosaic identifier
+     * @param targetAddresses the target addresses, they may be repeated.
+     * @param restrictionKey Mosaic global restriction key
+     * @return Observable of the current values by address. Addresses without value are not in the
+     * map.
+     */
+    private Observable<Map<Address, BigInteger>> getCurrentMosaicAddressRestrictionValues(MosaicId mosaicId,
+        List<Address> targetAddresses, BigInteger restrictionKey) {
+        List<Address> addresses = targetAddresses.stream().distinct().collect(Collectors.toList());
+        int batches = (addresses.size() + MAX_ADDRESSES_PER_REQUEST - 1) / MAX_ADDRESSES_PER_REQUEST;
+        return Observable.defer(() -> {
+            Map<Address, BigInteger> currentValues = new ConcurrentHashMap<>();
+            return Observable.range(0, batches).map(batch -> addresses
+                .subList(batch * MAX_ADDRESSES_PER_REQUEST,
+                    Math.min(addresses.size(), (batch + 1) * MAX_ADDRESSES_PER_REQUEST)))
+                .flatMap(batch -> repository.getMosaicAddressRestrictions(mosaicId, batch)
+                    .doOnNext(restrictions -> restrictions.forEach(restriction -> {
+                        BigInteger value = restriction.getRestrictions().get(restrictionKey);
+                        if (value != null) {
+                            currentValues.put(restriction.getTargetAddress(), value);
+                        }
+                    })), MAX_CONCURRENT_REQUESTS).ignoreElements().andThen(Observable.just(currentValues));
+        });
+    }
+
     /**
      * Get the mosaic address restriction current value.
      *
@@ -46,6 +46,11 @@ public abstract class RepositoryFactoryBase implements RepositoryFactory {
      */
     private final String baseUrl;
 
+    /**
+     * If the search pages should be decoded incrementally.
+     */
+    private final boolean streamingPages;
+
     /**
      * The resolved network type. This observable is lazy (cold) and cached.
      */
@@ -76,6 +81,7 @@ public abstract class RepositoryFactoryBase implements RepositoryFactory {
      */
     public RepositoryFactoryBase(RepositoryFactoryConfiguration configuration) {
         this.baseUrl = configuration.getBaseUrl();
+        this.streamingPages = configuration.isStreamingPages();
 
         this.networkType = createLazyObservable(configuration.getNetworkType(),
             () -> createNetworkRepository().getNetworkType());
@@ -165,6 +171,10 @@ public abstract class RepositoryFactoryBase implements RepositoryFactory {
         return baseUrl;
     }
 
+    protected boolean isStreamingPages() {
+        return streamingPages;
+    }
+
     @Override
     public Observable<NetworkCurrency> getNetworkCurrency() {
         return networkCurrency;
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.JsonSerialization;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.MetadataRepository;
+import io.nem.symbol.sdk.api.MosaicRepository;
+import io.nem.symbol.sdk.api.MultisigRepository;
+import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.NodeRepository;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.RestrictionAccountRepository;
+import io.nem.symbol.sdk.api.RestrictionMosaicRepository;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionStatusRepository;
+import io.nem.symbol.sdk.model.mosaic.NetworkCurrency;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Base class of the {@link RepositoryFactory} decorators. Every method delegates to the decorated factory,
+ * subclasses override the methods of the repositories they decorate.
+ */
+public abstract class RepositoryFactoryDecorator implements RepositoryFactory {
+
+    private final RepositoryFactory delegate;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the decorated factory.
+     */
+    protected RepositoryFactoryDecorator(RepositoryFactory delegate) {
+        Validate.notNull(delegate, "delegate must not be null");
+        this.delegate = delegate;
+    }
+
+    /**
+     * @return the decorated factory.
+     */
+    protected RepositoryFactory getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * It returns the upper case hash of a transaction, the key used by the decorated transaction repositories.
+     *
+     * @param transaction the transaction.
+     * @return the upper case hash, null if the transaction doesn't have a hash.
+     */
+    public static String getTransactionHash(Transaction transaction) {
+        return transaction.getTransactionInfo().flatMap(TransactionInfo::getHash).map(String::toUpperCase)
+            .orElse(null);
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return delegate.createAccountRepository();
+    }
+
+    @Override
+    public MultisigRepository createMultisigRepository() {
+        return delegate.createMultisigRepository();
+    }
+
+    @Override
+    public BlockRepository createBlockRepository() {
+        return delegate.createBlockRepository();
+    }
+
+    @Override
+    public ReceiptRepository createReceiptRepository() {
+        return delegate.createReceiptRepository();
+    }
+
+    @Override
+    public ChainRepository createChainRepository() {
+        return delegate.createChainRepository();
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return delegate.createMosaicRepository();
+    }
+
+    @Override
+    public NamespaceRepository createNamespaceRepository() {
+        return delegate.createNamespaceRepository();
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return delegate.createNetworkRepository();
+    }
+
+    @Override
+    public NodeRepository createNodeRepository() {
+        return delegate.createNodeRepository();
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return delegate.createTransactionRepository();
+    }
+
+    @Override
+    public TransactionStatusRepository createTransactionStatusRepository() {
+        return delegate.createTransactionStatusRepository();
+    }
+
+    @Override
+    public MetadataRepository createMetadataRepository() {
+        return delegate.createMetadataRepository();
+    }
+
+    @Override
+    public RestrictionAccountRepository createRestrictionAccountRepository() {
+        return delegate.createRestrictionAccountRepository();
+    }
+
+    @Override
+    public RestrictionMosaicRepository createRestrictionMosaicRepository() {
+        return delegate.createRestrictionMosaicRepository();
+    }
+
+    @Override
+    public Listener createListener() {
+        return delegate.createListener();
+    }
+
+    @Override
+    public JsonSerialization createJsonSerialization() {
+        return delegate.createJsonSerialization();
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return delegate.getNetworkType();
+    }
+
+    @Override
+    public Observable<String> getGenerationHash() {
+        return delegate.getGenerationHash();
+    }
+
+    @Override
+    public Observable<NetworkCurrency> getNetworkCurrency() {
+        return delegate.getNetworkCurrency();
+    }
+
+    @Override
+    public Observable<NetworkCurrency> getHarvestCurrency() {
+        return delegate.getHarvestCurrency();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -31,9 +31,7 @@ import io.nem.symbol.catapult.builders.UnresolvedMosaicIdDto;
 import io.nem.symbol.catapult.builders.VotingKeyDto;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.crypto.VotingKey;
-import io.nem.symbol.core.utils.Base32Encoder;
 import io.nem.symbol.core.utils.ConvertUtils;
-import io.nem.symbol.core.utils.MapperUtils;
 import io.nem.symbol.core.utils.StringEncoder;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
@@ -45,6 +43,7 @@ import io.nem.symbol.sdk.model.namespace.NamespaceId;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.InputStream;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -148,7 +147,7 @@ public class SerializationUtils {
      * @return the serialized {@link ByteBuffer}
      */
     public static ByteBuffer fromAddressToByteBuffer(Address resolvedAddress) {
-        return ByteBuffer.wrap(Base32Encoder.getBytes(resolvedAddress.plain()));
+        return ByteBuffer.wrap(resolvedAddress.getBytes());
     }
 
 
@@ -170,7 +169,7 @@ public class SerializationUtils {
      * @return the model {@link Address}
      */
     public static Address toAddress(AddressDto dto) {
-        return Address.createFromEncoded(ConvertUtils.toHex(dto.getAddress().array()));
+        return Address.createFromBytes(dto.getAddress().array());
     }
 
     /**
@@ -194,7 +193,13 @@ public class SerializationUtils {
      * @return the model {@link UnresolvedAddress}
      */
     public static UnresolvedAddress toUnresolvedAddress(UnresolvedAddressDto dto) {
-        return MapperUtils.toUnresolvedAddress(ConvertUtils.toHex(dto.getUnresolvedAddress().array()));
+        ByteBuffer buffer = dto.getUnresolvedAddress();
+        // If bit 0 of byte 0 is set (like in 0x91), it's a namespace id alias which starts at byte 1.
+        if ((buffer.get(0) & 0x01) == 0x01) {
+            return NamespaceId
+                .createFromId(toUnsignedBigInteger(buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).getLong(1)));
+        }
+        return Address.createFromBytes(buffer.array());
     }
 
 
@@ -228,6 +233,17 @@ public class SerializationUtils {
         return new DataInputStream(new ByteArrayInputStream(payload));
     }
 
+    /**
+     * It creates a {@link DataInputStream} that reads the remaining bytes of a {@link ByteBuffer}. The bytes are not
+     * copied and the buffer's position is not changed.
+     *
+     * @param payload the payload, it could be a direct or a memory mapped buffer.
+     * @return the {@link DataInputStream} catbuffer uses.
+     */
+    public static DataInputStream toDataInput(ByteBuffer payload) {
+        return new DataInputStream(new ByteBufferInputStream(payload.slice()));
+    }
+
     /**
      * It converts an AmountDto into a positive {@link BigInteger}.
      *
@@ -255,7 +271,7 @@ public class SerializationUtils {
      * @return the hex string.
      */
     public static String toHexString(Hash256Dto dto) {
-        return ConvertUtils.toHex(dto.getHash256().array()).toUpperCase();
+        return ConvertUtils.toHex(dto.getHash256().array());
     }
 
     /**
@@ -276,7 +292,7 @@ public class SerializationUtils {
      * @return the hex string.
      */
     public static String toHexString(ByteBuffer buffer) {
-        return ConvertUtils.toHex(buffer.array()).toUpperCase();
+        return ConvertUtils.toHex(buffer.array());
     }
 
     /**
@@ -403,4 +419,46 @@ public class SerializationUtils {
     public static FinalizationPointDto toFinalizationPointDto(BigInteger finalizationPoint) {
         return new FinalizationPointDto(finalizationPoint.longValue());
     }
+
+    /**
+     * {@link InputStream} that reads from a {@link ByteBuffer} without copying it.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Constants and helpers shared by {@link TransactionArchiveWriter} and {@link TransactionArchiveReader}.
+ *
+ * <p>An archive is made of 2 files, all the numbers are little endian like catbuffer's:
+ *
+ * <ul>
+ * <li>The append-only data file: a header followed by records. Each record is the record size (int), the height
+ * (long), the index (int, -1 if unknown), the group (byte, ordinal + 1 or 0 if unknown), the hash (32 bytes), the
+ * merkle component hash (32 bytes), the database id (UTF-8 bytes prefixed by their size as short) and the catbuffer
+ * payload of the transaction.</li>
+ * <li>The index file, replaced each time the writer is flushed: a header, the number of entries (int) and the size
+ * of the indexed data file (long), followed by the hash entries sorted by hash and then the height entries sorted by
+ * height and offset. A hash entry is the hash (32 bytes), the height (long) and the offset of the record in the data
+ * file (long). A height entry is the height (long) and the offset (long).</li>
+ * </ul>
+ */
+final class TransactionArchiveFormat {
+
+    /**
+     * The magic number at the beginning of the data file.
+     */
+    static final int DATA_MAGIC = 0x53594D44;
+
+    /**
+     * The magic number at the beginning of the index file.
+     */
+    static final int INDEX_MAGIC = 0x53594D49;
+
+    /**
+     * The current version of the format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The size of the files' header: magic number and version.
+     */
+    static final int HEADER_SIZE = 8;
+
+    /**
+     * The size of a transaction hash.
+     */
+    static final int HASH_SIZE = 32;
+
+    /**
+     * The size of the index file's header: header, number of entries and indexed data size.
+     */
+    static final int INDEX_HEADER_SIZE = HEADER_SIZE + 4 + 8;
+
+    /**
+     * The size of a hash entry: hash, height and offset.
+     */
+    static final int HASH_ENTRY_SIZE = HASH_SIZE + 8 + 8;
+
+    /**
+     * The size of a height entry: height and offset.
+     */
+    static final int HEIGHT_ENTRY_SIZE = 8 + 8;
+
+    /**
+     * The size of the fixed part of a record: size, height, index, group, hash and merkle component hash.
+     */
+    static final int RECORD_FIXED_SIZE = 4 + 8 + 4 + 1 + HASH_SIZE + HASH_SIZE;
+
+    /**
+     * The suffix added to the data file name to resolve the index file.
+     */
+    static final String INDEX_SUFFIX = ".idx";
+
+    /**
+     * Private constructor.
+     */
+    private TransactionArchiveFormat() {
+    }
+
+    /**
+     * @param dataFile the archive's data file
+     * @return the archive's index file
+     */
+    static Path toIndexFile(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + INDEX_SUFFIX);
+    }
+
+    /**
+     * @param magic the magic number of the file.
+     * @return a header ready to be written.
+     */
+    static ByteBuffer header(int magic) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(magic).putInt(VERSION);
+        header.flip();
+        return header;
+    }
+
+    /**
+     * @param size the number of entries.
+     * @return the size of an index file with the given number of entries.
+     */
+    static long indexSize(int size) {
+        return INDEX_HEADER_SIZE + (long) size * (HASH_ENTRY_SIZE + HEIGHT_ENTRY_SIZE);
+    }
+
+    /**
+     * @param entry the entry.
+     * @return the position of a hash entry in the index file.
+     */
+    static int hashEntryPosition(int entry) {
+        return INDEX_HEADER_SIZE + entry * HASH_ENTRY_SIZE;
+    }
+
+    /**
+     * @param size the number of entries.
+     * @param entry the entry.
+     * @return the position of a height entry in the index file.
+     */
+    static int heightEntryPosition(int size, int entry) {
+        return INDEX_HEADER_SIZE + size * HASH_ENTRY_SIZE + entry * HEIGHT_ENTRY_SIZE;
+    }
+
+    /**
+     * It compares 2 hashes as unsigned bytes.
+     *
+     * @param buffer1 the buffer of the first hash.
+     * @param position1 the position of the first hash.
+     * @param buffer2 the buffer of the second hash.
+     * @param position2 the position of the second hash.
+     * @return the comparison result.
+     */
+    static int compareHash(ByteBuffer buffer1, int position1, ByteBuffer buffer2, int position2) {
+        for (int i = 0; i < HASH_SIZE; i++) {
+            int comparison = Integer.compare(buffer1.get(position1 + i) & 0xFF, buffer2.get(position2 + i) & 0xFF);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * It memory maps and validates an index file. The file's channel is closed once mapped.
+     *
+     * @param indexFile the index file.
+     * @return the mapped index.
+     */
+    static ByteBuffer mapIndex(Path indexFile) {
+        return ExceptionUtils.propagate(() -> {
+            try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+                ByteBuffer index = channel.map(MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+                validateHeader(index, INDEX_MAGIC, indexFile);
+                if (index.limit() < INDEX_HEADER_SIZE || index.limit() != indexSize(index.getInt(HEADER_SIZE))) {
+                    throw new IllegalArgumentException("Transaction archive index file " + indexFile + " is corrupted");
+                }
+                return index;
+            }
+        });
+    }
+
+    /**
+     * It reads from a position of a channel until the buffer is full.
+     *
+     * @param channel the channel.
+     * @param buffer the buffer.
+     * @param position the position in the channel.
+     * @throws IOException if the buffer cannot be filled.
+     */
+    static void read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long currentPosition = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, currentPosition);
+            if (read < 0) {
+                throw new IOException("Unexpected end of transaction archive at " + currentPosition);
+            }
+            currentPosition += read;
+        }
+        buffer.flip();
+    }
+
+    /**
+     * It reads and validates the header of a data file.
+     *
+     * @param channel the data file's channel.
+     * @param dataFile the data file, used in the error message.
+     */
+    static void validateDataHeader(FileChannel channel, Path dataFile) {
+        ExceptionUtils.propagateVoid(() -> {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IllegalArgumentException(dataFile + " is not a transaction archive file");
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            read(channel, header, 0);
+            validateHeader(header, DATA_MAGIC, dataFile);
+        });
+    }
+
+    /**
+     * It closes a resource opened by a constructor that failed afterwards.
+     *
+     * @param closeable the opened resource.
+     * @param failure the constructor's failure, it gets the close failure as suppressed exception.
+     */
+    static void closeOnFailure(Closeable closeable, RuntimeException failure) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * It validates the header of an archive file.
+     *
+     * @param buffer the file's buffer.
+     * @param magic the expected magic number.
+     * @param file the file, used in the error message.
+     */
+    static void validateHeader(ByteBuffer buffer, int magic, Path file) {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != magic) {
+            throw new IllegalArgumentException(file + " is not a transaction archive file");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException(
+                "Transaction archive file " + file + " has an unsupported version " + buffer.getInt(4));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.core.utils.StringEncoder;
+import io.nem.symbol.sdk.api.BinarySerialization;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionFactory;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It reads a binary transaction archive created by {@link TransactionArchiveWriter}.
+ *
+ * <p>The index file is memory mapped when the reader is created. Hash lookups and height range scans are resolved
+ * using binary searches over the sorted entries of the mapped index, only the found transactions are read from the
+ * data file and deserialized.
+ *
+ * <p>The reader is a snapshot of the archive when it was last flushed, transactions appended later require a new
+ * reader. The reader is thread safe.
+ */
+public class TransactionArchiveReader implements Closeable {
+
+    private final BinarySerialization binarySerialization;
+
+    private final FileChannel dataChannel;
+
+    private final ByteBuffer index;
+
+    private final int size;
+
+    /**
+     * Constructor.
+     *
+     * @param dataFile the archive's data file. The index file is resolved next to it.
+     */
+    public TransactionArchiveReader(Path dataFile) {
+        this(dataFile, BinarySerializationImpl.INSTANCE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dataFile the archive's data file. The index file is resolved next to it.
+     * @param binarySerialization the serialization used to deserialize the transactions' payloads.
+     */
+    public TransactionArchiveReader(Path dataFile, BinarySerialization binarySerialization) {
+        Validate.notNull(dataFile, "dataFile must not be null");
+        Validate.notNull(binarySerialization, "binarySerialization must not be null");
+        this.binarySerialization = binarySerialization;
+        this.index = TransactionArchiveFormat.mapIndex(TransactionArchiveFormat.toIndexFile(dataFile));
+        this.size = index.getInt(TransactionArchiveFormat.HEADER_SIZE);
+        this.dataChannel = ExceptionUtils.propagate(() -> FileChannel.open(dataFile, StandardOpenOption.READ));
+        try {
+            TransactionArchiveFormat.validateDataHeader(dataChannel, dataFile);
+            long indexedDataSize = index.getLong(TransactionArchiveFormat.HEADER_SIZE + 4);
+            if (ExceptionUtils.propagate(dataChannel::size) < indexedDataSize) {
+                throw new IllegalArgumentException("Transaction archive file " + dataFile + " is truncated");
+            }
+        } catch (RuntimeException e) {
+            TransactionArchiveFormat.closeOnFailure(dataChannel, e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of archived transactions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * It finds a transaction by its hash.
+     *
+     * @param hash the transaction hash.
+     * @return the transaction if it has been archived.
+     */
+    public Optional<Transaction> getTransaction(String hash) {
+        Validate.notNull(hash, "hash must not be null");
+        byte[] hashBytes = ConvertUtils.fromHexToBytes(hash);
+        Validate.isTrue(hashBytes.length == TransactionArchiveFormat.HASH_SIZE, "Invalid hash " + hash);
+        ByteBuffer hashBuffer = ByteBuffer.wrap(hashBytes);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int position = TransactionArchiveFormat.hashEntryPosition(middle);
+            int comparison = TransactionArchiveFormat.compareHash(index, position, hashBuffer, 0);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return Optional.of(readTransaction(index.getLong(position + TransactionArchiveFormat.HASH_SIZE + 8)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * It returns the archived transactions in a height range sorted by height. Transactions with the same height keep
+     * the appended order.
+     *
+     * @param fromHeight the from height, inclusive.
+     * @param toHeight the to height, inclusive.
+     * @return the transactions in the range.
+     */
+    public List<Transaction> getTransactions(BigInteger fromHeight, BigInteger toHeight) {
+        Validate.notNull(fromHeight, "fromHeight must not be null");
+        Validate.notNull(toHeight, "toHeight must not be null");
+        long to = toHeight.longValue();
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = lowerBound(fromHeight.longValue()); i < size; i++) {
+            int position = TransactionArchiveFormat.heightEntryPosition(size, i);
+            if (index.getLong(position) > to) {
+                break;
+            }
+            transactions.add(readTransaction(index.getLong(position + 8)));
+        }
+        return transactions;
+    }
+
+    private int lowerBound(long height) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (index.getLong(TransactionArchiveFormat.heightEntryPosition(size, middle)) < height) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private Transaction readTransaction(long offset) {
+        ByteBuffer record = ExceptionUtils.propagate(() -> {
+            ByteBuffer recordSize = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            TransactionArchiveFormat.read(dataChannel, recordSize, offset);
+            ByteBuffer buffer = ByteBuffer.allocate(recordSize.getInt()).order(ByteOrder.LITTLE_ENDIAN);
+            TransactionArchiveFormat.read(dataChannel, buffer, offset);
+            return buffer;
+        });
+        record.getInt();
+        BigInteger height = ConvertUtils.toUnsignedBigInteger(record.getLong());
+        int transactionIndex = record.getInt();
+        int group = record.get();
+        byte[] hash = new byte[TransactionArchiveFormat.HASH_SIZE];
+        record.get(hash);
+        byte[] merkleComponentHash = new byte[TransactionArchiveFormat.HASH_SIZE];
+        record.get(merkleComponentHash);
+        byte[] id = new byte[record.getShort()];
+        record.get(id);
+
+        byte[] payload = new byte[record.remaining()];
+        record.get(payload);
+
+        TransactionFactory<?> factory = binarySerialization.deserializeToFactory(payload);
+        factory.transactionInfo(TransactionInfo.create(height, transactionIndex < 0 ? null : transactionIndex,
+            id.length == 0 ? null : StringEncoder.getString(id), ConvertUtils.toHex(hash),
+            ConvertUtils.toHex(merkleComponentHash)));
+        if (group > 0) {
+            factory.group(TransactionGroup.values()[group - 1]);
+        }
+        return factory.build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        dataChannel.close();
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.core.utils.StringEncoder;
+import io.nem.symbol.sdk.api.BinarySerialization;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It appends confirmed transactions to a binary transaction archive. The transactions are stored as catbuffer
+ * payloads created by {@link BinarySerialization} together with their {@link TransactionInfo}.
+ *
+ * <p>The data file is only appended, existing archives can be reopened to add more transactions. The entries of the
+ * transactions appended since the last flush are kept in memory and merged into the sorted index file when the writer
+ * is flushed or closed. Transactions appended but not indexed, for example after a crash, are indexed again when the
+ * archive is reopened. See {@link TransactionArchiveFormat} for the file layout and {@link TransactionArchiveReader}
+ * to read the archive back.
+ */
+public class TransactionArchiveWriter implements Closeable {
+
+    private static final int INITIAL_PENDING_ENTRIES = 64;
+
+    private final BinarySerialization binarySerialization;
+
+    private final Path indexFile;
+
+    private final FileChannel dataChannel;
+
+    /**
+     * The hash entries of the transactions that are not in the index file yet, in the appended order.
+     */
+    private ByteBuffer pendingEntries = newEntries(INITIAL_PENDING_ENTRIES);
+
+    private int pendingSize;
+
+    /**
+     * Constructor.
+     *
+     * @param dataFile the archive's data file. The index file is created next to it.
+     */
+    public TransactionArchiveWriter(Path dataFile) {
+        this(dataFile, BinarySerializationImpl.INSTANCE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dataFile the archive's data file. The index file is created next to it.
+     * @param binarySerialization the serialization used to create the transactions' payloads.
+     */
+    public TransactionArchiveWriter(Path dataFile, BinarySerialization binarySerialization) {
+        Validate.notNull(dataFile, "dataFile must not be null");
+        Validate.notNull(binarySerialization, "binarySerialization must not be null");
+        this.binarySerialization = binarySerialization;
+        this.indexFile = TransactionArchiveFormat.toIndexFile(dataFile);
+        this.dataChannel = ExceptionUtils.propagate(() -> FileChannel
+            .open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        try {
+            ExceptionUtils.propagateVoid(() -> {
+                if (dataChannel.size() == 0) {
+                    write(dataChannel, TransactionArchiveFormat.header(TransactionArchiveFormat.DATA_MAGIC), 0);
+                } else {
+                    TransactionArchiveFormat.validateDataHeader(dataChannel, dataFile);
+                }
+                recoverPendingEntries();
+            });
+        } catch (RuntimeException e) {
+            TransactionArchiveFormat.closeOnFailure(dataChannel, e);
+            throw e;
+        }
+    }
+
+    private static ByteBuffer newEntries(int size) {
+        return ByteBuffer.allocate(size * TransactionArchiveFormat.HASH_ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * It adds the records after the indexed part of the data file to the pending entries. A record cut by a crash is
+     * removed from the data file.
+     */
+    private void recoverPendingEntries() throws IOException {
+        long offset = Files.exists(indexFile) ? TransactionArchiveFormat.mapIndex(indexFile)
+            .getLong(TransactionArchiveFormat.HEADER_SIZE + 4) : TransactionArchiveFormat.HEADER_SIZE;
+        long dataSize = dataChannel.size();
+        Validate.isTrue(offset <= dataSize, "Transaction archive file is shorter than its index " + indexFile);
+        ByteBuffer fixedPart = ByteBuffer.allocate(TransactionArchiveFormat.RECORD_FIXED_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        while (offset < dataSize) {
+            fixedPart.clear();
+            if (offset + TransactionArchiveFormat.RECORD_FIXED_SIZE > dataSize) {
+                break;
+            }
+            TransactionArchiveFormat.read(dataChannel, fixedPart, offset);
+            int recordSize = fixedPart.getInt(0);
+            if (recordSize < TransactionArchiveFormat.RECORD_FIXED_SIZE || offset + recordSize > dataSize) {
+                break;
+            }
+            byte[] hash = new byte[TransactionArchiveFormat.HASH_SIZE];
+            fixedPart.position(TransactionArchiveFormat.RECORD_FIXED_SIZE - 2 * TransactionArchiveFormat.HASH_SIZE);
+            fixedPart.get(hash);
+            addPendingEntry(hash, fixedPart.getLong(4), offset);
+            offset += recordSize;
+        }
+        if (offset < dataSize) {
+            dataChannel.truncate(offset);
+        }
+    }
+
+    /**
+     * It appends a transaction to the archive. The transaction must be fully loaded and it must have a {@link
+     * TransactionInfo} with the height, the hash and the merkle component hash.
+     *
+     * @param transaction the transaction to be archived.
+     */
+    public synchronized void append(Transaction transaction) {
+        Validate.notNull(transaction, "transaction must not be null");
+        TransactionInfo info = transaction.getTransactionInfo()
+            .orElseThrow(() -> new IllegalArgumentException("Transaction info is required to archive a transaction"));
+        byte[] hash = toHashBytes(info.getHash()
+            .orElseThrow(() -> new IllegalArgumentException("Transaction hash is required to archive a transaction")));
+        byte[] merkleComponentHash = toHashBytes(info.getMerkleComponentHash().orElseThrow(
+            () -> new IllegalArgumentException("Merkle component hash is required to archive a transaction")));
+        byte[] id = info.getId().map(StringEncoder::getBytes).orElse(new byte[0]);
+        byte[] payload = binarySerialization.serialize(transaction);
+        long height = info.getHeight().longValue();
+
+        int recordSize = TransactionArchiveFormat.RECORD_FIXED_SIZE + 2 + id.length + payload.length;
+        ByteBuffer record = ByteBuffer.allocate(recordSize).order(ByteOrder.LITTLE_ENDIAN);
+        record.putInt(recordSize);
+        record.putLong(height);
+        record.putInt(info.getIndex().orElse(-1));
+        record.put((byte) transaction.getGroup().map(g -> g.ordinal() + 1).orElse(0).intValue());
+        record.put(hash);
+        record.put(merkleComponentHash);
+        record.putShort((short) id.length);
+        record.put(id);
+        record.put(payload);
+        record.flip();
+
+        ExceptionUtils.propagateVoid(() -> {
+            long offset = dataChannel.size();
+            write(dataChannel, record, offset);
+            addPendingEntry(hash, height, offset);
+        });
+    }
+
+    private void addPendingEntry(byte[] hash, long height, long offset) {
+        if (!pendingEntries.hasRemaining()) {
+            ByteBuffer entries = newEntries(pendingSize * 2);
+            pendingEntries.flip();
+            entries.put(pendingEntries);
+            pendingEntries = entries;
+        }
+        pendingEntries.put(hash).putLong(height).putLong(offset);
+        pendingSize++;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long currentPosition = position;
+        while (buffer.hasRemaining()) {
+            currentPosition += channel.write(buffer, currentPosition);
+        }
+    }
+
+    private static byte[] toHashBytes(String hash) {
+        byte[] bytes = ConvertUtils.fromHexToBytes(hash);
+        Validate.isTrue(bytes.length == TransactionArchiveFormat.HASH_SIZE, "Invalid hash " + hash);
+        return bytes;
+    }
+
+    /**
+     * It forces the archived transactions to be written to the storage device and it merges them into the index
+     * file, making them visible to new readers.
+     */
+    public synchronized void flush() {
+        ExceptionUtils.propagateVoid(this::writeIndex);
+    }
+
+    /**
+     * It merges the sorted pending entries with the sorted entries of the current index file into a new index file
+     * that replaces the current one.
+     */
+    private void writeIndex() throws IOException {
+        boolean indexExists = Files.exists(indexFile);
+        if (pendingSize == 0 && indexExists) {
+            return;
+        }
+        dataChannel.force(false);
+        ByteBuffer current = indexExists ? TransactionArchiveFormat.mapIndex(indexFile) : null;
+        int currentSize = current == null ? 0 : current.getInt(TransactionArchiveFormat.HEADER_SIZE);
+        int size = Math.addExact(currentSize, pendingSize);
+        int[] pendingByHash = sortPending(
+            (entry1, entry2) -> TransactionArchiveFormat.compareHash(pendingEntries, pendingPosition(entry1),
+                pendingEntries, pendingPosition(entry2)));
+        // The sort is stable so the pending entries with the same height keep the appended order.
+        int[] pendingByHeight = sortPending(Comparator.comparingLong(this::getPendingHeight));
+
+        Path temporaryFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer index = channel.map(MapMode.READ_WRITE, 0, TransactionArchiveFormat.indexSize(size));
+            index.order(ByteOrder.LITTLE_ENDIAN);
+            index.put(TransactionArchiveFormat.header(TransactionArchiveFormat.INDEX_MAGIC)).putInt(size)
+                .putLong(dataChannel.size());
+
+            int currentEntry = 0;
+            int pendingEntry = 0;
+            while (currentEntry < currentSize || pendingEntry < pendingSize) {
+                int currentPosition = TransactionArchiveFormat.hashEntryPosition(currentEntry);
+                if (pendingEntry == pendingSize || currentEntry < currentSize && TransactionArchiveFormat
+                    .compareHash(current, currentPosition, pendingEntries,
+                        pendingPosition(pendingByHash[pendingEntry])) <= 0) {
+                    copy(current, currentPosition, TransactionArchiveFormat.HASH_ENTRY_SIZE, index);
+                    currentEntry++;
+                } else {
+                    copy(pendingEntries, pendingPosition(pendingByHash[pendingEntry]),
+                        TransactionArchiveFormat.HASH_ENTRY_SIZE, index);
+                    pendingEntry++;
+                }
+            }
+
+            // The pending entries were appended after the current ones, so the current ones go first on equal height.
+            currentEntry = 0;
+            pendingEntry = 0;
+            while (currentEntry < currentSize || pendingEntry < pendingSize) {
+                int currentPosition = TransactionArchiveFormat.heightEntryPosition(currentSize, currentEntry);
+                if (pendingEntry == pendingSize || currentEntry < currentSize
+                    && current.getLong(currentPosition) <= getPendingHeight(pendingByHeight[pendingEntry])) {
+                    copy(current, currentPosition, TransactionArchiveFormat.HEIGHT_ENTRY_SIZE, index);
+                    currentEntry++;
+                } else {
+                    int pendingHeightPosition =
+                        pendingPosition(pendingByHeight[pendingEntry]) + TransactionArchiveFormat.HASH_SIZE;
+                    copy(pendingEntries, pendingHeightPosition, TransactionArchiveFormat.HEIGHT_ENTRY_SIZE, index);
+                    pendingEntry++;
+                }
+            }
+            index.force();
+        }
+        Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        pendingEntries = newEntries(INITIAL_PENDING_ENTRIES);
+        pendingSize = 0;
+    }
+
+    private int[] sortPending(Comparator<Integer> comparator) {
+        Integer[] entries = IntStream.range(0, pendingSize).boxed().toArray(Integer[]::new);
+        Arrays.sort(entries, comparator);
+        return Arrays.stream(entries).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int pendingPosition(int entry) {
+        return entry * TransactionArchiveFormat.HASH_ENTRY_SIZE;
+    }
+
+    private long getPendingHeight(int entry) {
+        return pendingEntries.getLong(pendingPosition(entry) + TransactionArchiveFormat.HASH_SIZE);
+    }
+
+    private static void copy(ByteBuffer source, int position, int length, ByteBuffer target) {
+        ByteBuffer slice = source.duplicate();
+        slice.limit(position + length).position(position);
+        target.put(slice);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!dataChannel.isOpen()) {
+            return;
+        }
+        try {
+            writeIndex();
+        } finally {
+            dataChannel.close();
+        }
+    }
+}
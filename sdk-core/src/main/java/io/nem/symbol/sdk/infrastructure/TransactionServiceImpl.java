@@ -32,6 +32,7 @@ import io.nem.symbol.sdk.model.namespace.NamespaceId;
 import io.nem.symbol.sdk.model.receipt.AddressResolutionStatement;
 import io.nem.symbol.sdk.model.receipt.MosaicResolutionStatement;
 import io.nem.symbol.sdk.model.receipt.ReceiptSource;
+import io.nem.symbol.sdk.model.receipt.ResolutionEntry;
 import io.nem.symbol.sdk.model.transaction.AccountAddressRestrictionTransaction;
 import io.nem.symbol.sdk.model.transaction.AccountAddressRestrictionTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.AccountMosaicRestrictionTransaction;
@@ -64,7 +65,11 @@ import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
 import io.reactivex.Observable;
 import io.reactivex.functions.BiFunction;
 import java.math.BigInteger;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.Validate;
 
 /**
@@ -73,6 +78,11 @@ import org.apache.commons.lang3.Validate;
  */
 public class TransactionServiceImpl implements TransactionService {
 
+    /**
+     * The max number of transactions resolved concurrently by {@link #resolveAliases(List)}.
+     */
+    private static final int MAX_CONCURRENT_RESOLUTIONS = 10;
+
     /**
      * The @{@link TransactionRepository} used to query and announce the different transactions.
      */
@@ -130,25 +140,23 @@ public class TransactionServiceImpl implements TransactionService {
     @Override
     public Observable<List<Transaction>> resolveAliases(List<String> transactionHashes) {
         return transactionRepository.getTransactions(TransactionGroup.CONFIRMED, transactionHashes)
-            .flatMapIterable(a -> a)
-            .flatMap(transaction -> resolveTransaction(transaction, createExpectedReceiptSource(transaction))).toList()
-            .toObservable();
-    }
-
-    private Observable<Transaction> resolveTransaction(Transaction transaction, ReceiptSource expectedSource) {
-
-        Observable<List<AddressResolutionStatement>> addressResolutionStatements = getAddressResolutionStatements(
-            transaction);
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements = getMosaicResolutionStatements(
-            transaction);
-
-        return resolveTransaction(transaction, expectedSource, addressResolutionStatements, mosaicResolutionStatements);
+            .flatMap(transactions -> {
+                Map<BigInteger, Observable<Map<UnresolvedAddress, AddressResolutionStatement>>> addressStatements =
+                    new ConcurrentHashMap<>();
+                Map<BigInteger, Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>>> mosaicStatements =
+                    new ConcurrentHashMap<>();
+                return Observable.fromIterable(transactions).concatMapEager(transaction -> {
+                    BigInteger height = getTransactionInfo(transaction).getHeight();
+                    return resolveTransaction(transaction, createExpectedReceiptSource(transaction),
+                        addressStatements.computeIfAbsent(height, this::getAddressResolutionStatements),
+                        mosaicStatements.computeIfAbsent(height, this::getMosaicResolutionStatements));
+                }, MAX_CONCURRENT_RESOLUTIONS, 1).toList().toObservable();
+            });
     }
 
-
     private Observable<Transaction> resolveTransaction(Transaction transaction, ReceiptSource expectedSource,
-        Observable<List<AddressResolutionStatement>> addressResolutionStatements,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        Observable<Map<UnresolvedAddress, AddressResolutionStatement>> addressResolutionStatements,
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
 
         return basicTransactionFactory(transaction, expectedSource, addressResolutionStatements,
             mosaicResolutionStatements)
@@ -156,8 +164,9 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> basicTransactionFactory(Transaction transaction,
-        ReceiptSource expectedReceiptSource, Observable<List<AddressResolutionStatement>> addressResolutionStatements,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        ReceiptSource expectedReceiptSource,
+        Observable<Map<UnresolvedAddress, AddressResolutionStatement>> addressResolutionStatements,
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
 
         if (transaction.getType() == TransactionType.TRANSFER) {
             return resolveTransactionFactory((TransferTransaction) transaction, expectedReceiptSource,
@@ -226,7 +235,7 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         HashLockTransaction transaction, ReceiptSource expectedReceiptSource,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
 
         Observable<Mosaic> resolvedMosaic = getResolvedMosaic(transaction, transaction.getMosaic(),
             mosaicResolutionStatements, expectedReceiptSource);
@@ -237,8 +246,8 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         SecretLockTransaction transaction, ReceiptSource expectedReceiptSource,
-        Observable<List<AddressResolutionStatement>> addressResolutionStatements,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        Observable<Map<UnresolvedAddress, AddressResolutionStatement>> addressResolutionStatements,
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
         Observable<Address> resolvedAddress = getResolvedAddress(transaction, transaction.getRecipient(),
             addressResolutionStatements, expectedReceiptSource);
         Observable<Mosaic> resolvedMosaic = getResolvedMosaic(transaction, transaction.getMosaic(),
@@ -251,7 +260,7 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         SecretProofTransaction transaction, ReceiptSource expectedReceiptSource,
-        Observable<List<AddressResolutionStatement>> addressResolutionStatements) {
+        Observable<Map<UnresolvedAddress, AddressResolutionStatement>> addressResolutionStatements) {
 
         Observable<Address> resolvedAddress = getResolvedAddress(transaction, transaction.getRecipient(),
             addressResolutionStatements, expectedReceiptSource);
@@ -262,8 +271,8 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         TransferTransaction transaction, ReceiptSource expectedReceiptSource,
-        Observable<List<AddressResolutionStatement>> addressResolutionStatements,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        Observable<Map<UnresolvedAddress, AddressResolutionStatement>> addressResolutionStatements,
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
 
         Observable<List<Mosaic>> resolvedMosaics = Observable.fromIterable(transaction.getMosaics())
             .flatMap(m -> getResolvedMosaic(transaction, m, mosaicResolutionStatements, expectedReceiptSource)).toList()
@@ -279,7 +288,7 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         MosaicGlobalRestrictionTransaction transaction, ReceiptSource expectedReceiptSource,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction, transaction.getMosaicId(),
             mosaicResolutionStatements, expectedReceiptSource);
 
@@ -300,8 +309,8 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         MosaicAddressRestrictionTransaction transaction, ReceiptSource expectedReceiptSource,
-        Observable<List<AddressResolutionStatement>> addressResolutionStatements,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        Observable<Map<UnresolvedAddress, AddressResolutionStatement>> addressResolutionStatements,
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction, transaction.getMosaicId(),
             mosaicResolutionStatements, expectedReceiptSource);
 
@@ -317,7 +326,7 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         AccountMosaicRestrictionTransaction transaction, ReceiptSource expectedReceiptSource,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
         Observable<List<UnresolvedMosaicId>> unresolvedAdditions = getResolvedMosaicIds(transaction,
             transaction.getRestrictionAdditions(), mosaicResolutionStatements, expectedReceiptSource);
 
@@ -331,7 +340,7 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         AccountAddressRestrictionTransaction transaction, ReceiptSource expectedReceiptSource,
-        Observable<List<AddressResolutionStatement>> addressResolutionStatements) {
+        Observable<Map<UnresolvedAddress, AddressResolutionStatement>> addressResolutionStatements) {
         Observable<List<UnresolvedAddress>> unresolvedAdditions = getResolvedAddresses(transaction,
             transaction.getRestrictionAdditions(), addressResolutionStatements, expectedReceiptSource);
 
@@ -346,7 +355,7 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         MosaicMetadataTransaction transaction, ReceiptSource expectedReceiptSource,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
 
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction, transaction.getTargetMosaicId(),
             mosaicResolutionStatements, expectedReceiptSource);
@@ -359,7 +368,7 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         MosaicSupplyChangeTransaction transaction, ReceiptSource expectedReceiptSource,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
 
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction, transaction.getMosaicId(),
             mosaicResolutionStatements, expectedReceiptSource);
@@ -371,8 +380,8 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         AggregateTransaction transaction, ReceiptSource aggregateTransactionReceiptSource,
-        Observable<List<AddressResolutionStatement>> addressResolutionStatements,
-        Observable<List<MosaicResolutionStatement>> mosaicResolutionStatements) {
+        Observable<Map<UnresolvedAddress, AddressResolutionStatement>> addressResolutionStatements,
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> mosaicResolutionStatements) {
         Observable<List<Transaction>> innerTransactions = Observable.just(transaction.getInnerTransactions())
             .flatMapIterable(m -> m).flatMap(innerTransaction -> {
                 ReceiptSource expectedReceiptSource = createExpectedReceiptSource(aggregateTransactionReceiptSource,
@@ -396,21 +405,37 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionFactory.build();
     }
 
-    private Observable<List<MosaicResolutionStatement>> getMosaicResolutionStatements(Transaction transaction) {
-        BigInteger height = getTransactionInfo(transaction).getHeight();
+    /**
+     * It loads the mosaic resolution statements of a block indexed by unresolved mosaic id. The statements are loaded
+     * once, when the first transaction of the block needs them.
+     */
+    private Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> getMosaicResolutionStatements(
+        BigInteger height) {
         return ReceiptPaginationStreamer.mosaics(receiptRepository)
-            .search(new ResolutionStatementSearchCriteria().height(height)).toList().toObservable().cache();
+            .search(new ResolutionStatementSearchCriteria().height(height))
+            .filter(statement -> height.equals(statement.getHeight()))
+            .<Map<UnresolvedMosaicId, MosaicResolutionStatement>>collect(HashMap::new,
+                (index, statement) -> index.putIfAbsent(statement.getUnresolved(), statement)).toObservable()
+            .cache();
     }
 
-    private Observable<List<AddressResolutionStatement>> getAddressResolutionStatements(Transaction transaction) {
-        BigInteger height = getTransactionInfo(transaction).getHeight();
+    /**
+     * It loads the address resolution statements of a block indexed by unresolved address. The statements are loaded
+     * once, when the first transaction of the block needs them.
+     */
+    private Observable<Map<UnresolvedAddress, AddressResolutionStatement>> getAddressResolutionStatements(
+        BigInteger height) {
         return ReceiptPaginationStreamer.addresses(receiptRepository)
-            .search(new ResolutionStatementSearchCriteria().height(height)).toList().toObservable().cache();
+            .search(new ResolutionStatementSearchCriteria().height(height))
+            .filter(statement -> height.equals(statement.getHeight()))
+            .<Map<UnresolvedAddress, AddressResolutionStatement>>collect(HashMap::new,
+                (index, statement) -> index.putIfAbsent(statement.getUnresolved(), statement)).toObservable()
+            .cache();
     }
 
-
     private Observable<List<UnresolvedMosaicId>> getResolvedMosaicIds(Transaction transaction,
-        List<UnresolvedMosaicId> unresolvedMosaicIds, Observable<List<MosaicResolutionStatement>> statementObservable,
+        List<UnresolvedMosaicId> unresolvedMosaicIds,
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> statementObservable,
         ReceiptSource expectedReceiptSource) {
         return Observable.fromIterable(unresolvedMosaicIds).flatMap(
             unresolved -> getResolvedMosaicId(transaction, unresolved, statementObservable, expectedReceiptSource))
@@ -418,7 +443,8 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<List<UnresolvedAddress>> getResolvedAddresses(Transaction transaction,
-        List<UnresolvedAddress> unresolvedMosaicIds, Observable<List<AddressResolutionStatement>> statementObservable,
+        List<UnresolvedAddress> unresolvedMosaicIds,
+        Observable<Map<UnresolvedAddress, AddressResolutionStatement>> statementObservable,
         ReceiptSource expectedReceiptSource) {
         return Observable.fromIterable(unresolvedMosaicIds).flatMap(
             unresolved -> getResolvedAddress(transaction, unresolved, statementObservable, expectedReceiptSource))
@@ -427,28 +453,37 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<Mosaic> getResolvedMosaic(Transaction transaction, Mosaic unresolvedMosaic,
-        Observable<List<MosaicResolutionStatement>> statementObservable, ReceiptSource expectedReceiptSource) {
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> statementObservable,
+        ReceiptSource expectedReceiptSource) {
         return getResolvedMosaicId(transaction, unresolvedMosaic.getId(), statementObservable, expectedReceiptSource)
             .map(mId -> new Mosaic(mId, unresolvedMosaic.getAmount()));
     }
 
     private Observable<MosaicId> getResolvedMosaicId(Transaction transaction, UnresolvedMosaicId unresolvedMosaicId,
-        Observable<List<MosaicResolutionStatement>> statementObservable, ReceiptSource expectedReceiptSource) {
-        BigInteger height = getTransactionInfo(transaction).getHeight();
-        return statementObservable.map(statements -> MosaicResolutionStatement
-            .getResolvedMosaicId(statements, height, unresolvedMosaicId, expectedReceiptSource.getPrimaryId(),
-                expectedReceiptSource.getSecondaryId()).orElseThrow(() -> new IllegalArgumentException(
-                "MosaicId could not be resolved for alias " + unresolvedMosaicId.getIdAsHex())));
+        Observable<Map<UnresolvedMosaicId, MosaicResolutionStatement>> statementObservable,
+        ReceiptSource expectedReceiptSource) {
+        if (unresolvedMosaicId instanceof MosaicId) {
+            return Observable.just((MosaicId) unresolvedMosaicId);
+        }
+        return statementObservable.map(statements -> Optional.ofNullable(statements.get(unresolvedMosaicId))
+            .flatMap(statement -> statement.getResolutionEntryById(expectedReceiptSource.getPrimaryId(),
+                expectedReceiptSource.getSecondaryId())).map(ResolutionEntry::getResolved).orElseThrow(
+                () -> new IllegalArgumentException(
+                    "MosaicId could not be resolved for alias " + unresolvedMosaicId.getIdAsHex())));
     }
 
 
     private Observable<Address> getResolvedAddress(Transaction transaction, UnresolvedAddress unresolvedAddress,
-        Observable<List<AddressResolutionStatement>> statementObservable, ReceiptSource expectedReceiptSource) {
-        BigInteger height = getTransactionInfo(transaction).getHeight();
-        return statementObservable.map(statements -> AddressResolutionStatement
-            .getResolvedAddress(statements, height, unresolvedAddress, expectedReceiptSource.getPrimaryId(),
-                expectedReceiptSource.getSecondaryId()).orElseThrow(() -> new IllegalArgumentException(
-                "Address could not be resolved for alias " + ((NamespaceId) unresolvedAddress).getIdAsHex())));
+        Observable<Map<UnresolvedAddress, AddressResolutionStatement>> statementObservable,
+        ReceiptSource expectedReceiptSource) {
+        if (unresolvedAddress instanceof Address) {
+            return Observable.just((Address) unresolvedAddress);
+        }
+        return statementObservable.map(statements -> Optional.ofNullable(statements.get(unresolvedAddress))
+            .flatMap(statement -> statement.getResolutionEntryById(expectedReceiptSource.getPrimaryId(),
+                expectedReceiptSource.getSecondaryId())).map(ResolutionEntry::getResolved).orElseThrow(
+                () -> new IllegalArgumentException(
+                    "Address could not be resolved for alias " + ((NamespaceId) unresolvedAddress).getIdAsHex())));
     }
 
     private ReceiptSource createExpectedReceiptSource(Transaction transaction) {
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.network.AggregateNetworkProperties;
+import io.nem.symbol.sdk.model.network.NetworkConfiguration;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.network.PluginsProperties;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.HashLockTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionFactory;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.reactivex.Observable;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It packs streams of transactions into signed aggregate transactions.
+ *
+ * <p>The transactions are packed in order. An aggregate is closed when adding the next transaction would exceed the
+ * max number of transactions per aggregate, the lower of the configured and the network's maxTransactionsPerAggregate,
+ * or the configured max aggregate size. The aggregates are built, their max fee calculated and signed in parallel on
+ * the configured scheduler. The signed aggregates keep the order of the transactions.
+ *
+ * <p>The packed complete aggregates can be announced with {@link BulkAnnouncer#announce(Observable)}, the bonded ones
+ * with {@link BulkAnnouncer#announce(PackedAggregate)}.
+ */
+public class AggregatePacker {
+
+    /**
+     * The inner transactions are aligned to 8 bytes inside an aggregate.
+     */
+    private static final int INNER_TRANSACTION_ALIGNMENT = 8;
+
+    private final BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+
+    private final RepositoryFactory repositoryFactory;
+
+    private final NetworkRepository networkRepository;
+
+    private final Account signer;
+
+    private final AggregatePackerConfiguration configuration;
+
+    /**
+     * Constructor using the default configuration.
+     *
+     * @param repositoryFactory the factory used to load the network type, generation hash and properties.
+     * @param signer the account that signs the aggregates and the hash locks.
+     */
+    public AggregatePacker(RepositoryFactory repositoryFactory, Account signer) {
+        this(repositoryFactory, signer, new AggregatePackerConfiguration());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param repositoryFactory the factory used to load the network type, generation hash and properties.
+     * @param signer the account that signs the aggregates and the hash locks.
+     * @param configuration the packer configuration.
+     */
+    public AggregatePacker(RepositoryFactory repositoryFactory, Account signer,
+        AggregatePackerConfiguration configuration) {
+        Validate.notNull(repositoryFactory, "repositoryFactory must not be null");
+        Validate.notNull(signer, "signer must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        Validate.isTrue(configuration.getAggregateType() != TransactionType.AGGREGATE_BONDED || configuration
+            .getLockMosaic().isPresent(), "lockMosaic is required to pack bonded aggregates");
+        this.repositoryFactory = repositoryFactory;
+        this.networkRepository = repositoryFactory.createNetworkRepository();
+        this.signer = signer;
+        this.configuration = configuration;
+    }
+
+    /**
+     * It packs the transactions created by a stream of factories. The factories without signer are signed by the
+     * packer's signer.
+     *
+     * @param factories the factories of the inner transactions.
+     * @return an {@link Observable} of the signed aggregates, in the order of the transactions.
+     */
+    public Observable<PackedAggregate> pack(Observable<? extends TransactionFactory<?>> factories) {
+        Validate.notNull(factories, "factories must not be null");
+        return Observable.zip(repositoryFactory.getNetworkType(), repositoryFactory.getGenerationHash(),
+            networkRepository.getNetworkProperties(),
+            (networkType, generationHash, properties) -> new Packing(networkType, generationHash,
+                getMaxTransactionsPerAggregate(properties))).flatMap(packing -> pack(packing, factories));
+    }
+
+    private int getMaxTransactionsPerAggregate(NetworkConfiguration properties) {
+        return Optional.ofNullable(properties.getPlugins()).map(PluginsProperties::getAggregate)
+            .map(AggregateNetworkProperties::getMaxTransactionsPerAggregate)
+            .map(value -> Integer.parseInt(value.replace("'", "")))
+            .map(value -> Math.min(value, configuration.getMaxTransactionsPerAggregate()))
+            .orElse(configuration.getMaxTransactionsPerAggregate());
+    }
+
+    private Observable<PackedAggregate> pack(Packing packing, Observable<? extends TransactionFactory<?>> factories) {
+        return Observable.defer(() -> {
+            List<Transaction> current = new ArrayList<>();
+            long[] currentSize = {packing.emptyAggregateSize};
+            Observable<List<Transaction>> batches = factories.concatMap(factory -> {
+                Transaction transaction = toInnerTransaction(factory);
+                long size = getInnerTransactionSize(transaction);
+                Validate.isTrue(packing.emptyAggregateSize + size <= configuration.getMaxAggregateSize(),
+                    "Transaction of size " + size + " does not fit in an aggregate");
+                List<Transaction> closed = Collections.emptyList();
+                if (current.size() == packing.maxTransactionsPerAggregate
+                    || currentSize[0] + size > configuration.getMaxAggregateSize()) {
+                    closed = new ArrayList<>(current);
+                    current.clear();
+                    currentSize[0] = packing.emptyAggregateSize;
+                }
+                current.add(transaction);
+                currentSize[0] += size;
+                return closed.isEmpty() ? Observable.empty() : Observable.just(closed);
+            }).concatWith(Observable.defer(
+                () -> current.isEmpty() ? Observable.empty() : Observable.just(new ArrayList<>(current))));
+            return batches.concatMapEager(
+                batch -> Observable.fromCallable(() -> sign(packing, batch)).subscribeOn(configuration.getScheduler()),
+                configuration.getMaxConcurrentSignatures(), 1);
+        });
+    }
+
+    private Transaction toInnerTransaction(TransactionFactory<?> factory) {
+        if (!factory.getSigner().isPresent()) {
+            factory.signer(signer.getPublicAccount());
+        }
+        return factory.build();
+    }
+
+    private long getInnerTransactionSize(Transaction transaction) {
+        int size = binarySerialization.serializeEmbedded(transaction).length;
+        return (size + INNER_TRANSACTION_ALIGNMENT - 1) / INNER_TRANSACTION_ALIGNMENT * INNER_TRANSACTION_ALIGNMENT;
+    }
+
+    private PackedAggregate sign(Packing packing, List<Transaction> transactions) {
+        AggregateTransaction aggregate = createAggregateFactory(packing.networkType, transactions)
+            .calculateMaxFeeForAggregate(configuration.getFeeMultiplier(), configuration.getRequiredCosignatures())
+            .build();
+        SignedTransaction signedAggregate = aggregate.signWith(signer, packing.generationHash);
+        if (configuration.getAggregateType() == TransactionType.AGGREGATE_COMPLETE) {
+            return new PackedAggregate(signedAggregate, null, transactions.size());
+        }
+        SignedTransaction signedHashLock = HashLockTransactionFactory
+            .create(packing.networkType, configuration.getLockMosaic().orElseThrow(IllegalStateException::new),
+                configuration.getLockDuration(), signedAggregate).deadline(createDeadline())
+            .calculateMaxFeeFromMultiplier(configuration.getFeeMultiplier()).build()
+            .signWith(signer, packing.generationHash);
+        return new PackedAggregate(signedAggregate, signedHashLock, transactions.size());
+    }
+
+    private AggregateTransactionFactory createAggregateFactory(NetworkType networkType,
+        List<Transaction> transactions) {
+        AggregateTransactionFactory factory =
+            configuration.getAggregateType() == TransactionType.AGGREGATE_COMPLETE ? AggregateTransactionFactory
+                .createComplete(networkType, transactions)
+                : AggregateTransactionFactory.createBonded(networkType, transactions);
+        return (AggregateTransactionFactory) factory.deadline(createDeadline());
+    }
+
+    private Deadline createDeadline() {
+        return Deadline.create((int) configuration.getDeadline().getSeconds(), ChronoUnit.SECONDS);
+    }
+
+    /**
+     * The network values of one {@link #pack(Observable)} call.
+     */
+    private class Packing {
+
+        private final NetworkType networkType;
+
+        private final String generationHash;
+
+        private final int maxTransactionsPerAggregate;
+
+        /**
+         * The size of an aggregate with the required cosignatures and without inner transactions.
+         */
+        private final long emptyAggregateSize;
+
+        private Packing(NetworkType networkType, String generationHash, int maxTransactionsPerAggregate) {
+            this.networkType = networkType;
+            this.generationHash = generationHash;
+            this.maxTransactionsPerAggregate = maxTransactionsPerAggregate;
+            this.emptyAggregateSize = createAggregateFactory(networkType, Collections.emptyList()).build().getSize()
+                + (long) configuration.getRequiredCosignatures() * AggregateTransactionFactory.COSIGNATURE_SIZE;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The configuration of an {@link AggregatePacker}.
+ */
+public class AggregatePackerConfiguration {
+
+    /**
+     * The type of the packed aggregates, {@link TransactionType#AGGREGATE_COMPLETE} or {@link
+     * TransactionType#AGGREGATE_BONDED}.
+     */
+    private TransactionType aggregateType = TransactionType.AGGREGATE_COMPLETE;
+
+    /**
+     * The max number of inner transactions per aggregate. The network's maxTransactionsPerAggregate is used when it's
+     * lower.
+     */
+    private int maxTransactionsPerAggregate = 100;
+
+    /**
+     * The max size in bytes of a packed aggregate including the required cosignatures.
+     */
+    private long maxAggregateSize = 100_000;
+
+    /**
+     * The fee multiplier used to calculate the max fee of each aggregate and hash lock.
+     */
+    private long feeMultiplier = 100;
+
+    /**
+     * The number of cosignatures the aggregates will have, used by the max fee and the size limit.
+     */
+    private int requiredCosignatures;
+
+    /**
+     * The time until the deadline of the packed transactions.
+     */
+    private Duration deadline = Duration.ofHours(2);
+
+    /**
+     * The mosaic locked by the hash lock of each bonded aggregate. Required for bonded aggregates.
+     */
+    private Mosaic lockMosaic;
+
+    /**
+     * The number of blocks the funds of the hash locks are locked.
+     */
+    private BigInteger lockDuration = BigInteger.valueOf(480);
+
+    /**
+     * The max number of aggregates being built and signed at the same time.
+     */
+    private int maxConcurrentSignatures = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The scheduler used to serialize and sign the aggregates.
+     */
+    private Scheduler scheduler = Schedulers.computation();
+
+    public AggregatePackerConfiguration withAggregateType(TransactionType aggregateType) {
+        setAggregateType(aggregateType);
+        return this;
+    }
+
+    public AggregatePackerConfiguration withMaxTransactionsPerAggregate(int maxTransactionsPerAggregate) {
+        setMaxTransactionsPerAggregate(maxTransactionsPerAggregate);
+        return this;
+    }
+
+    public AggregatePackerConfiguration withMaxAggregateSize(long maxAggregateSize) {
+        setMaxAggregateSize(maxAggregateSize);
+        return this;
+    }
+
+    public AggregatePackerConfiguration withFeeMultiplier(long feeMultiplier) {
+        setFeeMultiplier(feeMultiplier);
+        return this;
+    }
+
+    public AggregatePackerConfiguration withRequiredCosignatures(int requiredCosignatures) {
+        setRequiredCosignatures(requiredCosignatures);
+        return this;
+    }
+
+    public AggregatePackerConfiguration withDeadline(Duration deadline) {
+        setDeadline(deadline);
+        return this;
+    }
+
+    public AggregatePackerConfiguration withLockMosaic(Mosaic lockMosaic) {
+        setLockMosaic(lockMosaic);
+        return this;
+    }
+
+    public AggregatePackerConfiguration withLockDuration(BigInteger lockDuration) {
+        setLockDuration(lockDuration);
+        return this;
+    }
+
+    public AggregatePackerConfiguration withMaxConcurrentSignatures(int maxConcurrentSignatures) {
+        setMaxConcurrentSignatures(maxConcurrentSignatures);
+        return this;
+    }
+
+    public AggregatePackerConfiguration withScheduler(Scheduler scheduler) {
+        setScheduler(scheduler);
+        return this;
+    }
+
+    public TransactionType getAggregateType() {
+        return aggregateType;
+    }
+
+    public void setAggregateType(TransactionType aggregateType) {
+        Validate.isTrue(
+            aggregateType == TransactionType.AGGREGATE_COMPLETE || aggregateType == TransactionType.AGGREGATE_BONDED,
+            "aggregateType must be AGGREGATE_COMPLETE or AGGREGATE_BONDED");
+        this.aggregateType = aggregateType;
+    }
+
+    public int getMaxTransactionsPerAggregate() {
+        return maxTransactionsPerAggregate;
+    }
+
+    public void setMaxTransactionsPerAggregate(int maxTransactionsPerAggregate) {
+        Validate.isTrue(maxTransactionsPerAggregate > 0, "maxTransactionsPerAggregate must be greater than 0");
+        this.maxTransactionsPerAggregate = maxTransactionsPerAggregate;
+    }
+
+    public long getMaxAggregateSize() {
+        return maxAggregateSize;
+    }
+
+    public void setMaxAggregateSize(long maxAggregateSize) {
+        Validate.isTrue(maxAggregateSize > 0, "maxAggregateSize must be greater than 0");
+        this.maxAggregateSize = maxAggregateSize;
+    }
+
+    public long getFeeMultiplier() {
+        return feeMultiplier;
+    }
+
+    public void setFeeMultiplier(long feeMultiplier) {
+        Validate.isTrue(feeMultiplier >= 0, "feeMultiplier must not be negative");
+        this.feeMultiplier = feeMultiplier;
+    }
+
+    public int getRequiredCosignatures() {
+        return requiredCosignatures;
+    }
+
+    public void setRequiredCosignatures(int requiredCosignatures) {
+        Validate.isTrue(requiredCosignatures >= 0, "requiredCosignatures must not be negative");
+        this.requiredCosignatures = requiredCosignatures;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Duration deadline) {
+        Validate.notNull(deadline, "deadline must not be null");
+        Validate.isTrue(!deadline.isNegative() && !deadline.isZero(), "deadline must be positive");
+        this.deadline = deadline;
+    }
+
+    public Optional<Mosaic> getLockMosaic() {
+        return Optional.ofNullable(lockMosaic);
+    }
+
+    public void setLockMosaic(Mosaic lockMosaic) {
+        Validate.notNull(lockMosaic, "lockMosaic must not be null");
+        this.lockMosaic = lockMosaic;
+    }
+
+    public BigInteger getLockDuration() {
+        return lockDuration;
+    }
+
+    public void setLockDuration(BigInteger lockDuration) {
+        Validate.notNull(lockDuration, "lockDuration must not be null");
+        Validate.isTrue(lockDuration.signum() > 0, "lockDuration must be positive");
+        this.lockDuration = lockDuration;
+    }
+
+    public int getMaxConcurrentSignatures() {
+        return maxConcurrentSignatures;
+    }
+
+    public void setMaxConcurrentSignatures(int maxConcurrentSignatures) {
+        Validate.isTrue(maxConcurrentSignatures > 0, "maxConcurrentSignatures must be greater than 0");
+        this.maxConcurrentSignatures = maxConcurrentSignatures;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(Scheduler scheduler) {
+        Validate.notNull(scheduler, "scheduler must not be null");
+        this.scheduler = scheduler;
+    }
+}
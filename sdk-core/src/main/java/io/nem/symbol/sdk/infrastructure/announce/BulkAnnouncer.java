@@ -0,0 +1,380 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.reactivex.Observable;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.subjects.AsyncSubject;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * It announces streams of signed transactions and tracks them until they are confirmed, fail or expire.
+ *
+ * <p>Unlike {@link io.nem.symbol.sdk.api.TransactionService#announce(Listener, SignedTransaction)}, which
+ * subscribes to the confirmed and status channels for every transaction, the announcer keeps the pending transactions
+ * in one registry indexed by hash. The registry is fed by one confirmed and one status subscription per signer
+ * address, shared by all the signer's pending transactions and closed when the signer has nothing pending.
+ *
+ * <p>The listener must be opened by the caller and it's not closed by the announcer.
+ */
+public class BulkAnnouncer implements Closeable {
+
+    private final TransactionRepository transactionRepository;
+
+    private final Listener listener;
+
+    private final BulkAnnouncerConfiguration configuration;
+
+    /**
+     * The pending transactions by upper case hash.
+     */
+    private final Map<String, PendingTransaction> pendingTransactions = new ConcurrentHashMap<>();
+
+    /**
+     * The listener subscriptions by signer. Access is synchronized on the map.
+     */
+    private final Map<Address, SignerSubscription> signerSubscriptions = new HashMap<>();
+
+    private final Disposable expirationCheck;
+
+    private final AtomicLong announcedCount = new AtomicLong();
+
+    private final AtomicLong confirmedCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    private final AtomicLong confirmedLatencyMillis = new AtomicLong();
+
+    /**
+     * Constructor using the default configuration.
+     *
+     * @param repositoryFactory the factory of the transaction repository used to announce.
+     * @param listener the opened listener used to detect the confirmed and failed transactions.
+     */
+    public BulkAnnouncer(RepositoryFactory repositoryFactory, Listener listener) {
+        this(repositoryFactory, listener, new BulkAnnouncerConfiguration());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param repositoryFactory the factory of the transaction repository used to announce.
+     * @param listener the opened listener used to detect the confirmed and failed transactions.
+     * @param configuration the announcer configuration.
+     */
+    public BulkAnnouncer(RepositoryFactory repositoryFactory, Listener listener,
+        BulkAnnouncerConfiguration configuration) {
+        Validate.notNull(repositoryFactory, "repositoryFactory must not be null");
+        Validate.notNull(listener, "listener must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.transactionRepository = repositoryFactory.createTransactionRepository();
+        this.listener = listener;
+        this.configuration = configuration;
+        long interval = configuration.getExpirationCheckInterval().toMillis();
+        this.expirationCheck = configuration.getScheduler()
+            .schedulePeriodicallyDirect(this::expire, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * It announces one transaction and tracks it until its outcome is known.
+     *
+     * @param signedTransaction the signed transaction.
+     * @return an {@link Observable} of the transaction outcome.
+     */
+    public Observable<TransactionOutcome> announce(SignedTransaction signedTransaction) {
+        Validate.notNull(signedTransaction, "signedTransaction must not be null");
+        return announce(Observable.just(signedTransaction));
+    }
+
+    /**
+     * It announces the transactions of a stream, at most {@link BulkAnnouncerConfiguration#getMaxConcurrentAnnounces()}
+     * at the same time, and tracks them until their outcomes are known. Aggregate bonded transactions are announced
+     * as partial transactions and tracked until they are confirmed.
+     *
+     * @param signedTransactions the signed transactions.
+     * @return an {@link Observable} of the transaction outcomes in the order they are known.
+     */
+    public Observable<TransactionOutcome> announce(Observable<SignedTransaction> signedTransactions) {
+        Validate.notNull(signedTransactions, "signedTransactions must not be null");
+        return signedTransactions
+            .flatMap(this::announceTransaction, configuration.getMaxConcurrentAnnounces())
+            .flatMap(pendingTransaction -> pendingTransaction.outcome);
+    }
+
+    /**
+     * It announces an aggregate created by an {@link AggregatePacker}. The hash lock of a bonded aggregate is announced
+     * first and the aggregate is announced once the lock is confirmed.
+     *
+     * @param packedAggregate the packed aggregate.
+     * @return an {@link Observable} of the aggregate outcome, or of the hash lock outcome if the lock is not confirmed.
+     */
+    public Observable<TransactionOutcome> announce(PackedAggregate packedAggregate) {
+        Validate.notNull(packedAggregate, "packedAggregate must not be null");
+        return packedAggregate.getHashLock().map(hashLock -> announce(hashLock).flatMap(
+            lockOutcome -> lockOutcome.isConfirmed() ? announce(packedAggregate.getAggregate())
+                : Observable.just(lockOutcome))).orElseGet(() -> announce(packedAggregate.getAggregate()));
+    }
+
+    private Observable<PendingTransaction> announceTransaction(SignedTransaction signedTransaction) {
+        return Observable.defer(() -> {
+            PendingTransaction created = new PendingTransaction(signedTransaction, now(),
+                signedTransaction.getDeadline().toInstant().toEpochMilli());
+            created.subscription = acquire(created.signer);
+            PendingTransaction existing = pendingTransactions.putIfAbsent(created.hash, created);
+            if (existing != null) {
+                release(created.subscription);
+                return Observable.just(existing);
+            }
+            announcedCount.incrementAndGet();
+            Observable<TransactionAnnounceResponse> announce =
+                signedTransaction.getType() == TransactionType.AGGREGATE_BONDED ? transactionRepository
+                    .announceAggregateBonded(signedTransaction) : transactionRepository.announce(signedTransaction);
+            return announce.ignoreElements().doOnError(
+                error -> complete(created, TransactionOutcomeStatus.FAILED, null, ExceptionUtils.getMessage(error)))
+                .onErrorComplete().andThen(Observable.just(created));
+        });
+    }
+
+    private SignerSubscription acquire(Address signer) {
+        synchronized (signerSubscriptions) {
+            SignerSubscription subscription = signerSubscriptions.get(signer);
+            if (subscription == null) {
+                subscription = new SignerSubscription(signer);
+                signerSubscriptions.put(signer, subscription);
+                subscribe(subscription);
+            }
+            subscription.pendingCount++;
+            return subscription;
+        }
+    }
+
+    private void subscribe(SignerSubscription subscription) {
+        subscription.disposable.add(listener.confirmed(subscription.signer)
+            .subscribe(this::onConfirmed, error -> onListenerError(subscription, error)));
+        subscription.disposable.add(listener.status(subscription.signer)
+            .subscribe(this::onStatus, error -> onListenerError(subscription, error)));
+    }
+
+    private void release(SignerSubscription subscription) {
+        synchronized (signerSubscriptions) {
+            subscription.pendingCount--;
+            if (subscription.pendingCount == 0) {
+                subscription.disposable.dispose();
+                signerSubscriptions.remove(subscription.signer, subscription);
+            }
+        }
+    }
+
+    private void onConfirmed(Transaction transaction) {
+        transaction.getTransactionInfo().flatMap(TransactionInfo::getHash)
+            .map(hash -> pendingTransactions.get(hash.toUpperCase())).ifPresent(
+                pendingTransaction -> complete(pendingTransaction, TransactionOutcomeStatus.CONFIRMED, transaction,
+                    null));
+    }
+
+    private void onStatus(TransactionStatusError statusError) {
+        if (statusError.getHash() == null) {
+            return;
+        }
+        PendingTransaction pendingTransaction = pendingTransactions.get(statusError.getHash().toUpperCase());
+        if (pendingTransaction != null) {
+            complete(pendingTransaction, TransactionOutcomeStatus.FAILED, null, statusError.getStatus());
+        }
+    }
+
+    /**
+     * When a signer's subscription fails, its pending transactions cannot be tracked anymore and they fail. The
+     * following transactions of the signer create a new subscription.
+     */
+    private void onListenerError(SignerSubscription subscription, Throwable error) {
+        synchronized (signerSubscriptions) {
+            subscription.disposable.dispose();
+            signerSubscriptions.remove(subscription.signer, subscription);
+        }
+        String message = "Listener error: " + ExceptionUtils.getMessage(error);
+        pendingTransactions.values().stream().filter(p -> p.subscription == subscription)
+            .forEach(p -> complete(p, TransactionOutcomeStatus.FAILED, null, message));
+    }
+
+    private void expire() {
+        long expiredBefore = now() - configuration.getDeadlineGracePeriod().toMillis();
+        pendingTransactions.values().stream().filter(p -> p.deadline < expiredBefore)
+            .forEach(p -> complete(p, TransactionOutcomeStatus.EXPIRED, null, null));
+    }
+
+    private void complete(PendingTransaction pendingTransaction, TransactionOutcomeStatus status,
+        Transaction transaction, String error) {
+        if (!pendingTransactions.remove(pendingTransaction.hash, pendingTransaction)) {
+            return;
+        }
+        long latency = now() - pendingTransaction.announcedAt;
+        if (status == TransactionOutcomeStatus.CONFIRMED) {
+            confirmedCount.incrementAndGet();
+            confirmedLatencyMillis.addAndGet(latency);
+        } else if (status == TransactionOutcomeStatus.FAILED) {
+            failedCount.incrementAndGet();
+        } else {
+            expiredCount.incrementAndGet();
+        }
+        release(pendingTransaction.subscription);
+        pendingTransaction.outcome.onNext(
+            new TransactionOutcome(pendingTransaction.hash, pendingTransaction.signer, status, transaction, error,
+                Duration.ofMillis(latency)));
+        pendingTransaction.outcome.onComplete();
+    }
+
+    private long now() {
+        return configuration.getScheduler().now(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the number of announced transactions.
+     */
+    public long getAnnouncedCount() {
+        return announcedCount.get();
+    }
+
+    /**
+     * @return the number of confirmed transactions.
+     */
+    public long getConfirmedCount() {
+        return confirmedCount.get();
+    }
+
+    /**
+     * @return the number of failed transactions, rejected when announced or by a status error.
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return the number of transactions that have not been confirmed before their deadline.
+     */
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    /**
+     * @return the number of transactions waiting for their outcome.
+     */
+    public int getPendingCount() {
+        return pendingTransactions.size();
+    }
+
+    /**
+     * @return the number of signers with a listener subscription.
+     */
+    public int getSubscribedSignerCount() {
+        synchronized (signerSubscriptions) {
+            return signerSubscriptions.size();
+        }
+    }
+
+    /**
+     * @return the average time between the announce and the confirmation of the confirmed transactions.
+     */
+    public Duration getAverageConfirmationLatency() {
+        long confirmed = confirmedCount.get();
+        return confirmed == 0 ? Duration.ZERO : Duration.ofMillis(confirmedLatencyMillis.get() / confirmed);
+    }
+
+    /**
+     * It stops the expiration checks and the listener subscriptions. The pending transactions' outcomes fail with an
+     * {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        expirationCheck.dispose();
+        List<PendingTransaction> pending = new ArrayList<>(pendingTransactions.values());
+        synchronized (signerSubscriptions) {
+            signerSubscriptions.values().forEach(subscription -> subscription.disposable.dispose());
+            signerSubscriptions.clear();
+        }
+        // Only the entries removed here fail, the ones a listener completed concurrently keep their outcome.
+        pending.stream().filter(p -> pendingTransactions.remove(p.hash, p)).forEach(
+            p -> p.outcome.onError(new IllegalStateException("Announcer closed before the outcome of " + p.hash)));
+    }
+
+    /**
+     * An announced transaction waiting for its outcome.
+     */
+    private static class PendingTransaction {
+
+        private final String hash;
+
+        private final Address signer;
+
+        private final long announcedAt;
+
+        /**
+         * The deadline in epoch millis.
+         */
+        private final long deadline;
+
+        private final AsyncSubject<TransactionOutcome> outcome = AsyncSubject.create();
+
+        private SignerSubscription subscription;
+
+        private PendingTransaction(SignedTransaction signedTransaction, long announcedAt, long deadline) {
+            this.hash = signedTransaction.getHash().toUpperCase();
+            this.signer = signedTransaction.getSigner().getAddress();
+            this.announcedAt = announcedAt;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * The listener subscriptions shared by the pending transactions of a signer.
+     */
+    private static class SignerSubscription {
+
+        private final Address signer;
+
+        private final CompositeDisposable disposable = new CompositeDisposable();
+
+        private int pendingCount;
+
+        private SignerSubscription(Address signer) {
+            this.signer = signer;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The configuration of a {@link BulkAnnouncer}.
+ */
+public class BulkAnnouncerConfiguration {
+
+    /**
+     * The max number of announce requests sent to the node at the same time.
+     */
+    private int maxConcurrentAnnounces = 10;
+
+    /**
+     * How often the pending transactions are checked for expired deadlines.
+     */
+    private Duration expirationCheckInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long after its deadline a pending transaction is reported as expired. It gives the confirmation of a
+     * transaction included in the last block before the deadline time to arrive.
+     */
+    private Duration deadlineGracePeriod = Duration.ofSeconds(30);
+
+    /**
+     * The scheduler of the expiration checks and the clock of the latencies.
+     */
+    private Scheduler scheduler = Schedulers.computation();
+
+    public BulkAnnouncerConfiguration withMaxConcurrentAnnounces(int maxConcurrentAnnounces) {
+        setMaxConcurrentAnnounces(maxConcurrentAnnounces);
+        return this;
+    }
+
+    public BulkAnnouncerConfiguration withExpirationCheckInterval(Duration expirationCheckInterval) {
+        setExpirationCheckInterval(expirationCheckInterval);
+        return this;
+    }
+
+    public BulkAnnouncerConfiguration withDeadlineGracePeriod(Duration deadlineGracePeriod) {
+        setDeadlineGracePeriod(deadlineGracePeriod);
+        return this;
+    }
+
+    public BulkAnnouncerConfiguration withScheduler(Scheduler scheduler) {
+        setScheduler(scheduler);
+        return this;
+    }
+
+    public int getMaxConcurrentAnnounces() {
+        return maxConcurrentAnnounces;
+    }
+
+    public void setMaxConcurrentAnnounces(int maxConcurrentAnnounces) {
+        Validate.isTrue(maxConcurrentAnnounces > 0, "maxConcurrentAnnounces must be greater than 0");
+        this.maxConcurrentAnnounces = maxConcurrentAnnounces;
+    }
+
+    public Duration getExpirationCheckInterval() {
+        return expirationCheckInterval;
+    }
+
+    public void setExpirationCheckInterval(Duration expirationCheckInterval) {
+        Validate.notNull(expirationCheckInterval, "expirationCheckInterval must not be null");
+        Validate.isTrue(!expirationCheckInterval.isNegative() && !expirationCheckInterval.isZero(),
+            "expirationCheckInterval must be positive");
+        this.expirationCheckInterval = expirationCheckInterval;
+    }
+
+    public Duration getDeadlineGracePeriod() {
+        return deadlineGracePeriod;
+    }
+
+    public void setDeadlineGracePeriod(Duration deadlineGracePeriod) {
+        Validate.notNull(deadlineGracePeriod, "deadlineGracePeriod must not be null");
+        Validate.isTrue(!deadlineGracePeriod.isNegative(), "deadlineGracePeriod must not be negative");
+        this.deadlineGracePeriod = deadlineGracePeriod;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(Scheduler scheduler) {
+        Validate.notNull(scheduler, "scheduler must not be null");
+        this.scheduler = scheduler;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import java.util.Optional;
+
+/**
+ * A signed aggregate created by an {@link AggregatePacker}. Bonded aggregates come with the signed hash lock that must
+ * be confirmed before the aggregate is announced.
+ */
+public class PackedAggregate {
+
+    private final SignedTransaction aggregate;
+
+    private final SignedTransaction hashLock;
+
+    private final int transactionCount;
+
+    /**
+     * Constructor.
+     *
+     * @param aggregate the signed aggregate.
+     * @param hashLock the signed hash lock of a bonded aggregate, null for complete aggregates.
+     * @param transactionCount the number of inner transactions.
+     */
+    public PackedAggregate(SignedTransaction aggregate, SignedTransaction hashLock, int transactionCount) {
+        this.aggregate = aggregate;
+        this.hashLock = hashLock;
+        this.transactionCount = transactionCount;
+    }
+
+    /**
+     * @return the signed aggregate.
+     */
+    public SignedTransaction getAggregate() {
+        return aggregate;
+    }
+
+    /**
+     * @return the signed hash lock if the aggregate is bonded.
+     */
+    public Optional<SignedTransaction> getHashLock() {
+        return Optional.ofNullable(hashLock);
+    }
+
+    /**
+     * @return the number of inner transactions.
+     */
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionStatusRepository;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.ChainProperties;
+import io.nem.symbol.sdk.model.network.NetworkConfiguration;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransactionState;
+import io.nem.symbol.sdk.model.transaction.TransactionStatus;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.subjects.AsyncSubject;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It tracks the outcome of many transaction hashes polling {@link
+ * TransactionStatusRepository#getTransactionStatuses(List)} when a websocket {@link io.nem.symbol.sdk.api.Listener}
+ * is not available.
+ *
+ * <p>All the pending hashes are polled together, in batches of {@link
+ * PollingConfirmationTrackerConfiguration#getBatchSize()} hashes. The polling interval is derived from the network's
+ * block generation target time and the polls stop while there is nothing pending. Hashes whose deadline has passed
+ * are reported as expired and are not polled anymore. Failed requests are counted and their hashes are polled again
+ * in the next poll.
+ */
+public class PollingConfirmationTracker implements Closeable {
+
+    /**
+     * A catapult time span like 15s, 500ms or 1h, the digits may be grouped with '.
+     */
+    private static final Pattern TIME_SPAN = Pattern.compile("(\\d+)(ms|s|m|h|d)");
+
+    private final TransactionStatusRepository transactionStatusRepository;
+
+    private final NetworkRepository networkRepository;
+
+    private final PollingConfirmationTrackerConfiguration configuration;
+
+    /**
+     * The pending hashes by upper case hash.
+     */
+    private final Map<String, PendingHash> pendingHashes = new ConcurrentHashMap<>();
+
+    private final Subject<TransactionOutcome> outcomes = PublishSubject.<TransactionOutcome>create().toSerialized();
+
+    private final AtomicLong pollCount = new AtomicLong();
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private final AtomicLong failedRequestCount = new AtomicLong();
+
+    private final Object lock = new Object();
+
+    private volatile Duration pollingInterval;
+
+    /**
+     * The following fields are guarded by the lock.
+     */
+    private boolean pollScheduled;
+
+    private boolean networkConfigurationRequested;
+
+    private boolean closed;
+
+    private Disposable nextPoll = Disposables.disposed();
+
+    private Disposable inFlightPoll = Disposables.disposed();
+
+    private Disposable networkConfigurationRequest = Disposables.disposed();
+
+    /**
+     * Constructor using the default configuration.
+     *
+     * @param repositoryFactory the factory of the transaction status and network repositories.
+     */
+    public PollingConfirmationTracker(RepositoryFactory repositoryFactory) {
+        this(repositoryFactory, new PollingConfirmationTrackerConfiguration());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param repositoryFactory the factory of the transaction status and network repositories.
+     * @param configuration the tracker configuration.
+     */
+    public PollingConfirmationTracker(RepositoryFactory repositoryFactory,
+        PollingConfirmationTrackerConfiguration configuration) {
+        Validate.notNull(repositoryFactory, "repositoryFactory must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.transactionStatusRepository = repositoryFactory.createTransactionStatusRepository();
+        this.networkRepository = repositoryFactory.createNetworkRepository();
+        this.configuration = configuration;
+        this.pollingInterval = configuration.getPollingInterval();
+    }
+
+    /**
+     * It starts tracking an announced transaction.
+     *
+     * @param signedTransaction the announced transaction.
+     * @return an {@link Observable} of the transaction outcome.
+     */
+    public Observable<TransactionOutcome> track(SignedTransaction signedTransaction) {
+        Validate.notNull(signedTransaction, "signedTransaction must not be null");
+        return track(signedTransaction.getHash(), signedTransaction.getSigner().getAddress(),
+            signedTransaction.getDeadline());
+    }
+
+    /**
+     * It starts tracking an announced transaction hash.
+     *
+     * @param transactionHash the transaction hash.
+     * @param deadline the transaction deadline, the hash is not polled after it.
+     * @return an {@link Observable} of the transaction outcome.
+     */
+    public Observable<TransactionOutcome> track(String transactionHash, Deadline deadline) {
+        return track(transactionHash, null, deadline);
+    }
+
+    private Observable<TransactionOutcome> track(String transactionHash, Address signer, Deadline deadline) {
+        Validate.notNull(transactionHash, "transactionHash must not be null");
+        Validate.notNull(deadline, "deadline must not be null");
+        Validate.validState(!isClosed(), "The tracker has been closed");
+        PendingHash created = new PendingHash(transactionHash.toUpperCase(), signer, now(),
+            deadline.toInstant().toEpochMilli());
+        PendingHash existing = pendingHashes.putIfAbsent(created.hash, created);
+        schedulePoll();
+        return existing == null ? created.outcome : existing.outcome;
+    }
+
+    /**
+     * @return a hot {@link Observable} of the outcomes of all the tracked hashes.
+     */
+    public Observable<TransactionOutcome> outcomes() {
+        return outcomes;
+    }
+
+    private void schedulePoll() {
+        synchronized (lock) {
+            if (pollScheduled || closed || pendingHashes.isEmpty()) {
+                return;
+            }
+            pollScheduled = true;
+            if (!networkConfigurationRequested) {
+                networkConfigurationRequested = true;
+                networkConfigurationRequest = networkRepository.getNetworkProperties()
+                    .subscribe(this::onNetworkConfiguration, this::onNetworkConfigurationError);
+            }
+            nextPoll = configuration.getScheduler()
+                .scheduleDirect(this::poll, pollingInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void onNetworkConfiguration(NetworkConfiguration networkConfiguration) {
+        Optional.ofNullable(networkConfiguration.getChain()).map(ChainProperties::getBlockGenerationTargetTime)
+            .flatMap(PollingConfirmationTracker::toDuration).ifPresent(blockTime -> {
+            Duration interval = Duration.ofMillis((long) (blockTime.toMillis() * configuration.getBlockTimeFactor()));
+            this.pollingInterval = interval.compareTo(configuration.getMinPollingInterval()) < 0 ? configuration
+                .getMinPollingInterval() : interval;
+        });
+    }
+
+    /**
+     * The network configuration is requested again before the next poll.
+     */
+    private void onNetworkConfigurationError(Throwable error) {
+        synchronized (lock) {
+            networkConfigurationRequested = false;
+        }
+    }
+
+    private void poll() {
+        pollCount.incrementAndGet();
+        expire();
+        List<String> hashes = new ArrayList<>(pendingHashes.keySet());
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < hashes.size(); i += configuration.getBatchSize()) {
+            batches.add(hashes.subList(i, Math.min(i + configuration.getBatchSize(), hashes.size())));
+        }
+        Disposable disposable = Observable.fromIterable(batches).flatMap(batch -> {
+            requestCount.incrementAndGet();
+            return transactionStatusRepository.getTransactionStatuses(batch).onErrorResumeNext((Throwable error) -> {
+                failedRequestCount.incrementAndGet();
+                return Observable.just(Collections.emptyList());
+            });
+        }, configuration.getMaxConcurrentRequests()).doFinally(this::onPollFinished)
+            .subscribe(statuses -> statuses.forEach(this::onStatus));
+        synchronized (lock) {
+            if (closed) {
+                disposable.dispose();
+            } else {
+                inFlightPoll = disposable;
+            }
+        }
+    }
+
+    private void onPollFinished() {
+        synchronized (lock) {
+            pollScheduled = false;
+        }
+        schedulePoll();
+    }
+
+    private void onStatus(TransactionStatus status) {
+        PendingHash pendingHash = status.getHash() == null ? null : pendingHashes.get(status.getHash().toUpperCase());
+        if (pendingHash == null) {
+            return;
+        }
+        if (status.getGroup() == TransactionState.CONFIRMED) {
+            complete(pendingHash, TransactionOutcomeStatus.CONFIRMED, null);
+        } else if (status.getGroup() == TransactionState.FAILED) {
+            complete(pendingHash, TransactionOutcomeStatus.FAILED, status.getCode());
+        }
+    }
+
+    private void expire() {
+        long expiredBefore = now() - configuration.getDeadlineGracePeriod().toMillis();
+        pendingHashes.values().stream().filter(p -> p.deadline < expiredBefore)
+            .forEach(p -> complete(p, TransactionOutcomeStatus.EXPIRED, null));
+    }
+
+    private void complete(PendingHash pendingHash, TransactionOutcomeStatus status, String error) {
+        if (!pendingHashes.remove(pendingHash.hash, pendingHash)) {
+            return;
+        }
+        TransactionOutcome outcome = new TransactionOutcome(pendingHash.hash, pendingHash.signer, status, null,
+            error, Duration.ofMillis(now() - pendingHash.trackedAt));
+        pendingHash.outcome.onNext(outcome);
+        pendingHash.outcome.onComplete();
+        outcomes.onNext(outcome);
+    }
+
+    private long now() {
+        return configuration.getScheduler().now(TimeUnit.MILLISECONDS);
+    }
+
+    private boolean isClosed() {
+        synchronized (lock) {
+            return closed;
+        }
+    }
+
+    /**
+     * It parses a catapult time span like 15s or 500ms.
+     *
+     * @param timeSpan the time span.
+     * @return the duration if the time span is valid.
+     */
+    static Optional<Duration> toDuration(String timeSpan) {
+        Matcher matcher = TIME_SPAN.matcher(timeSpan.replace("'", "").trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        long value = Long.parseLong(matcher.group(1));
+        switch (matcher.group(2)) {
+            case "ms":
+                return Optional.of(Duration.ofMillis(value));
+            case "s":
+                return Optional.of(Duration.ofSeconds(value));
+            case "m":
+                return Optional.of(Duration.ofMinutes(value));
+            case "h":
+                return Optional.of(Duration.ofHours(value));
+            default:
+                return Optional.of(Duration.ofDays(value));
+        }
+    }
+
+    /**
+     * @return the current polling interval.
+     */
+    public Duration getPollingInterval() {
+        return pollingInterval;
+    }
+
+    /**
+     * @return the number of hashes waiting for their outcome.
+     */
+    public int getPendingCount() {
+        return pendingHashes.size();
+    }
+
+    /**
+     * @return the number of polls.
+     */
+    public long getPollCount() {
+        return pollCount.get();
+    }
+
+    /**
+     * @return the number of transaction statuses requests.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return the number of transaction statuses requests that failed. Their hashes are polled again in the next poll.
+     */
+    public long getFailedRequestCount() {
+        return failedRequestCount.get();
+    }
+
+    /**
+     * It stops polling. The pending hashes' outcomes fail with an {@link IllegalStateException} and the combined
+     * outcome stream completes.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            nextPoll.dispose();
+            inFlightPoll.dispose();
+            networkConfigurationRequest.dispose();
+        }
+        // Only the hashes removed here fail, the ones an in-flight poll completed concurrently keep their outcome.
+        new ArrayList<>(pendingHashes.values()).stream().filter(p -> pendingHashes.remove(p.hash, p)).forEach(
+            p -> p.outcome.onError(new IllegalStateException("Tracker closed before the outcome of " + p.hash)));
+        outcomes.onComplete();
+    }
+
+    /**
+     * A tracked hash waiting for its outcome.
+     */
+    private static class PendingHash {
+
+        private final String hash;
+
+        private final Address signer;
+
+        private final long trackedAt;
+
+        /**
+         * The deadline in epoch millis.
+         */
+        private final long deadline;
+
+        private final AsyncSubject<TransactionOutcome> outcome = AsyncSubject.create();
+
+        private PendingHash(String hash, Address signer, long trackedAt, long deadline) {
+            this.hash = hash;
+            this.signer = signer;
+            this.trackedAt = trackedAt;
+            this.deadline = deadline;
+        }
+    }
+}
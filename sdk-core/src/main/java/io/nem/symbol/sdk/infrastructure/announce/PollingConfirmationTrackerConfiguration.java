@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The configuration of a {@link PollingConfirmationTracker}.
+ */
+public class PollingConfirmationTrackerConfiguration {
+
+    /**
+     * The max number of hashes sent in one transaction statuses request.
+     */
+    private int batchSize = 100;
+
+    /**
+     * The max number of transaction statuses requests sent at the same time.
+     */
+    private int maxConcurrentRequests = 2;
+
+    /**
+     * The polling interval used until the block generation target time of the network is known.
+     */
+    private Duration pollingInterval = Duration.ofSeconds(5);
+
+    /**
+     * The polling interval as a fraction of the network's block generation target time.
+     */
+    private double blockTimeFactor = 0.5;
+
+    /**
+     * The min polling interval when it's derived from the block generation target time.
+     */
+    private Duration minPollingInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long after its deadline a pending hash is reported as expired.
+     */
+    private Duration deadlineGracePeriod = Duration.ofSeconds(30);
+
+    /**
+     * The scheduler of the polls and the clock of the latencies.
+     */
+    private Scheduler scheduler = Schedulers.computation();
+
+    public PollingConfirmationTrackerConfiguration withBatchSize(int batchSize) {
+        setBatchSize(batchSize);
+        return this;
+    }
+
+    public PollingConfirmationTrackerConfiguration withMaxConcurrentRequests(int maxConcurrentRequests) {
+        setMaxConcurrentRequests(maxConcurrentRequests);
+        return this;
+    }
+
+    public PollingConfirmationTrackerConfiguration withPollingInterval(Duration pollingInterval) {
+        setPollingInterval(pollingInterval);
+        return this;
+    }
+
+    public PollingConfirmationTrackerConfiguration withBlockTimeFactor(double blockTimeFactor) {
+        setBlockTimeFactor(blockTimeFactor);
+        return this;
+    }
+
+    public PollingConfirmationTrackerConfiguration withMinPollingInterval(Duration minPollingInterval) {
+        setMinPollingInterval(minPollingInterval);
+        return this;
+    }
+
+    public PollingConfirmationTrackerConfiguration withDeadlineGracePeriod(Duration deadlineGracePeriod) {
+        setDeadlineGracePeriod(deadlineGracePeriod);
+        return this;
+    }
+
+    public PollingConfirmationTrackerConfiguration withScheduler(Scheduler scheduler) {
+        setScheduler(scheduler);
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        Validate.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        Validate.isTrue(maxConcurrentRequests > 0, "maxConcurrentRequests must be greater than 0");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public Duration getPollingInterval() {
+        return pollingInterval;
+    }
+
+    public void setPollingInterval(Duration pollingInterval) {
+        Validate.notNull(pollingInterval, "pollingInterval must not be null");
+        Validate.isTrue(!pollingInterval.isNegative() && !pollingInterval.isZero(),
+            "pollingInterval must be positive");
+        this.pollingInterval = pollingInterval;
+    }
+
+    public double getBlockTimeFactor() {
+        return blockTimeFactor;
+    }
+
+    public void setBlockTimeFactor(double blockTimeFactor) {
+        Validate.isTrue(blockTimeFactor > 0, "blockTimeFactor must be greater than 0");
+        this.blockTimeFactor = blockTimeFactor;
+    }
+
+    public Duration getMinPollingInterval() {
+        return minPollingInterval;
+    }
+
+    public void setMinPollingInterval(Duration minPollingInterval) {
+        Validate.notNull(minPollingInterval, "minPollingInterval must not be null");
+        Validate.isTrue(!minPollingInterval.isNegative() && !minPollingInterval.isZero(),
+            "minPollingInterval must be positive");
+        this.minPollingInterval = minPollingInterval;
+    }
+
+    public Duration getDeadlineGracePeriod() {
+        return deadlineGracePeriod;
+    }
+
+    public void setDeadlineGracePeriod(Duration deadlineGracePeriod) {
+        Validate.notNull(deadlineGracePeriod, "deadlineGracePeriod must not be null");
+        Validate.isTrue(!deadlineGracePeriod.isNegative(), "deadlineGracePeriod must not be negative");
+        this.deadlineGracePeriod = deadlineGracePeriod;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(Scheduler scheduler) {
+        Validate.notNull(scheduler, "scheduler must not be null");
+        this.scheduler = scheduler;
+    }
+}
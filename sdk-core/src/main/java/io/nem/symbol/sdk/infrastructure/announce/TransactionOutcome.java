@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import java.time.Duration;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The outcome of an announced transaction once it has been confirmed, has failed or has expired.
+ */
+public class TransactionOutcome {
+
+    private final String hash;
+
+    private final Address signer;
+
+    private final TransactionOutcomeStatus status;
+
+    private final Transaction transaction;
+
+    private final String error;
+
+    private final Duration latency;
+
+    /**
+     * Constructor.
+     *
+     * @param hash the transaction hash.
+     * @param signer the address of the transaction signer if known.
+     * @param status the final state of the transaction.
+     * @param transaction the confirmed transaction if known.
+     * @param error the status error or the announce error of a failed transaction.
+     * @param latency the time between the announce and the outcome.
+     */
+    public TransactionOutcome(String hash, Address signer, TransactionOutcomeStatus status, Transaction transaction,
+        String error, Duration latency) {
+        Validate.notNull(hash, "hash must not be null");
+        Validate.notNull(status, "status must not be null");
+        Validate.notNull(latency, "latency must not be null");
+        this.hash = hash;
+        this.signer = signer;
+        this.status = status;
+        this.transaction = transaction;
+        this.error = error;
+        this.latency = latency;
+    }
+
+    /**
+     * @return the transaction hash.
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * @return the address of the transaction signer if known.
+     */
+    public Optional<Address> getSigner() {
+        return Optional.ofNullable(signer);
+    }
+
+    /**
+     * @return the final state of the transaction.
+     */
+    public TransactionOutcomeStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the confirmed transaction, if it was sent by the node.
+     */
+    public Optional<Transaction> getTransaction() {
+        return Optional.ofNullable(transaction);
+    }
+
+    /**
+     * @return the status error or the announce error of a failed transaction.
+     */
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * @return the time between the announce and the outcome.
+     */
+    public Duration getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return if the transaction has been confirmed.
+     */
+    public boolean isConfirmed() {
+        return status == TransactionOutcomeStatus.CONFIRMED;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionOutcome{" + "hash='" + hash + '\'' + ", status=" + status + ", error='" + error + '\''
+            + ", latency=" + latency + '}';
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+/**
+ * The final state of a tracked transaction.
+ */
+public enum TransactionOutcomeStatus {
+
+    /**
+     * The transaction has been included in a block.
+     */
+    CONFIRMED,
+
+    /**
+     * The transaction has been rejected by the node, either when announced or when validated.
+     */
+    FAILED,
+
+    /**
+     * The transaction has not been confirmed before its deadline.
+     */
+    EXPIRED
+}
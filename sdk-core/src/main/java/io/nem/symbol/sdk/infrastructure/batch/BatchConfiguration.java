@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.batch;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The configuration of the {@link BatchLoader} used by a {@link BatchingRepositoryFactory}.
+ */
+public class BatchConfiguration {
+
+    /**
+     * The max number of keys in a bulk call. Rest limits the number of ids of the bulk endpoints to 100.
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * How long a batch waits for more keys after its first key.
+     */
+    private Duration window = Duration.ofMillis(10);
+
+    /**
+     * The scheduler that sends the batches when the window ends.
+     */
+    private Scheduler scheduler = Schedulers.computation();
+
+    public BatchConfiguration withMaxBatchSize(int maxBatchSize) {
+        setMaxBatchSize(maxBatchSize);
+        return this;
+    }
+
+    public BatchConfiguration withWindow(Duration window) {
+        setWindow(window);
+        return this;
+    }
+
+    public BatchConfiguration withScheduler(Scheduler scheduler) {
+        setScheduler(scheduler);
+        return this;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        Validate.isTrue(maxBatchSize > 0, "maxBatchSize must be greater than 0");
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        Validate.notNull(window, "window must not be null");
+        Validate.isTrue(!window.isNegative(), "window must not be negative");
+        this.window = window;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(Scheduler scheduler) {
+        this.scheduler = Validate.notNull(scheduler, "scheduler must not be null");
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.batch;
+
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.subjects.AsyncSubject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It gathers the single entity loads that arrive within a short window into one bulk remote call.
+ *
+ * <p>The first load of a batch starts the window. The batch is sent when the window ends or when it reaches the max
+ * batch size, whatever happens first. The bulk results are fanned out to the subscribers of each key. Loads of the
+ * same key in the same batch share the result. Keys that are not in the bulk response fail with a 404 {@link
+ * RepositoryCallException}, the same as the single entity endpoints.
+ *
+ * @param <K> the type of the key.
+ * @param <V> the type of the loaded value.
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<List<K>, Observable<List<V>>> bulkLoader;
+
+    private final Function<V, K> keyMapper;
+
+    private final int maxBatchSize;
+
+    private final Duration window;
+
+    private final Scheduler scheduler;
+
+    private final Object lock = new Object();
+
+    private final AtomicLong loadCount = new AtomicLong();
+
+    private final AtomicLong batchCount = new AtomicLong();
+
+    private Map<K, AsyncSubject<V>> pending = new LinkedHashMap<>();
+
+    private Disposable scheduledFlush;
+
+    /**
+     * Constructor.
+     *
+     * @param bulkLoader the bulk remote call.
+     * @param keyMapper the function that resolves the key of each loaded value.
+     * @param configuration the batch size and window.
+     */
+    public BatchLoader(Function<List<K>, Observable<List<V>>> bulkLoader, Function<V, K> keyMapper,
+        BatchConfiguration configuration) {
+        Validate.notNull(bulkLoader, "bulkLoader must not be null");
+        Validate.notNull(keyMapper, "keyMapper must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.bulkLoader = bulkLoader;
+        this.keyMapper = keyMapper;
+        this.maxBatchSize = configuration.getMaxBatchSize();
+        this.window = configuration.getWindow();
+        this.scheduler = configuration.getScheduler();
+    }
+
+    /**
+     * It loads the value of a key in the next batch. The key is added to the batch when the observable is subscribed.
+     *
+     * @param key the key.
+     * @return an {@link Observable} of the value.
+     */
+    public Observable<V> load(K key) {
+        Validate.notNull(key, "key must not be null");
+        return Observable.defer(() -> {
+            loadCount.incrementAndGet();
+            AsyncSubject<V> subject;
+            Map<K, AsyncSubject<V>> fullBatch = null;
+            synchronized (lock) {
+                subject = pending.get(key);
+                if (subject == null) {
+                    subject = AsyncSubject.create();
+                    pending.put(key, subject);
+                    if (pending.size() >= maxBatchSize) {
+                        fullBatch = takePending();
+                    } else if (pending.size() == 1) {
+                        scheduledFlush = scheduler.scheduleDirect(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+                    }
+                }
+            }
+            if (fullBatch != null) {
+                dispatch(fullBatch);
+            }
+            return subject;
+        });
+    }
+
+    /**
+     * It sends the current batch without waiting for the window to end.
+     */
+    public void flush() {
+        Map<K, AsyncSubject<V>> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * @return the number of single entity loads.
+     */
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    /**
+     * @return the number of bulk remote calls.
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    private Map<K, AsyncSubject<V>> takePending() {
+        Map<K, AsyncSubject<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.dispose();
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<K, AsyncSubject<V>> batch) {
+        batchCount.incrementAndGet();
+        Observable<List<V>> bulkCall;
+        try {
+            bulkCall = bulkLoader.apply(new ArrayList<>(batch.keySet()));
+        } catch (RuntimeException e) {
+            batch.values().forEach(subject -> subject.onError(e));
+            return;
+        }
+        bulkCall.subscribe(values -> values.forEach(value -> {
+            AsyncSubject<V> subject = batch.remove(keyMapper.apply(value));
+            if (subject != null) {
+                subject.onNext(value);
+                subject.onComplete();
+            }
+        }), error -> batch.values().forEach(subject -> subject.onError(error)),
+            () -> batch.forEach((key, subject) -> subject.onError(
+                new RepositoryCallException("Not Found: " + key + " is not in the bulk response", 404, null))));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.batch;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.MosaicRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionStatusRepository;
+import io.nem.symbol.sdk.infrastructure.RepositoryFactoryDecorator;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link RepositoryFactory} decorator whose repositories batch the single entity calls into the bulk endpoints.
+ *
+ * <p>The account, mosaic, transaction and transaction status repositories gather the single entity calls that arrive
+ * within the configured window into one bulk call, see {@link BatchLoader}. Each created repository batches its own
+ * calls, share the repository between the flows to be batched together. Namespace infos don't have a bulk endpoint and
+ * they are loaded one by one.
+ */
+public class BatchingRepositoryFactory extends RepositoryFactoryDecorator {
+
+    private final BatchConfiguration configuration;
+
+    /**
+     * Constructor using the default {@link BatchConfiguration}.
+     *
+     * @param delegate the decorated factory.
+     */
+    public BatchingRepositoryFactory(RepositoryFactory delegate) {
+        this(delegate, new BatchConfiguration());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the decorated factory.
+     * @param configuration the batch size and window.
+     */
+    public BatchingRepositoryFactory(RepositoryFactory delegate, BatchConfiguration configuration) {
+        super(delegate);
+        Validate.notNull(configuration, "configuration must not be null");
+        this.configuration = configuration;
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return new BatchingAccountRepository(getDelegate().createAccountRepository(), configuration);
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return new BatchingMosaicRepository(getDelegate().createMosaicRepository(), configuration);
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return new BatchingTransactionRepository(getDelegate().createTransactionRepository(), configuration);
+    }
+
+    @Override
+    public TransactionStatusRepository createTransactionStatusRepository() {
+        return new BatchingTransactionStatusRepository(getDelegate().createTransactionStatusRepository(),
+            configuration);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.batch;
+
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.infrastructure.RepositoryFactoryDecorator;
+import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.reactivex.Observable;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TransactionRepository} that batches the {@link #getTransaction(TransactionGroup, String)} calls of each
+ * group into {@link #getTransactions(TransactionGroup, List)} calls.
+ */
+class BatchingTransactionRepository implements TransactionRepository {
+
+    private final TransactionRepository delegate;
+
+    private final Map<TransactionGroup, BatchLoader<String, Transaction>> transactions = new EnumMap<>(
+        TransactionGroup.class);
+
+    BatchingTransactionRepository(TransactionRepository delegate, BatchConfiguration configuration) {
+        this.delegate = delegate;
+        for (TransactionGroup group : TransactionGroup.values()) {
+            transactions.put(group,
+                new BatchLoader<>(hashes -> delegate.getTransactions(group, hashes),
+                    RepositoryFactoryDecorator::getTransactionHash, configuration));
+        }
+    }
+
+    @Override
+    public Observable<Transaction> getTransaction(TransactionGroup group, String transactionHash) {
+        return transactions.get(group).load(transactionHash.toUpperCase());
+    }
+
+    @Override
+    public Observable<List<Transaction>> getTransactions(TransactionGroup group, List<String> transactionHashes) {
+        return delegate.getTransactions(group, transactionHashes);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
+        return delegate.announce(signedTransaction);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announceAggregateBonded(SignedTransaction signedTransaction) {
+        return delegate.announceAggregateBonded(signedTransaction);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announceAggregateBondedCosignature(
+        CosignatureSignedTransaction cosignatureSignedTransaction) {
+        return delegate.announceAggregateBondedCosignature(cosignatureSignedTransaction);
+    }
+
+    @Override
+    public Observable<Page<Transaction>> search(TransactionSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.batch;
+
+import io.nem.symbol.sdk.api.TransactionStatusRepository;
+import io.nem.symbol.sdk.model.transaction.TransactionStatus;
+import io.reactivex.Observable;
+import java.util.List;
+
+/**
+ * {@link TransactionStatusRepository} that batches the {@link #getTransactionStatus(String)} calls into {@link
+ * #getTransactionStatuses(List)} calls.
+ */
+class BatchingTransactionStatusRepository implements TransactionStatusRepository {
+
+    private final TransactionStatusRepository delegate;
+
+    private final BatchLoader<String, TransactionStatus> statuses;
+
+    BatchingTransactionStatusRepository(TransactionStatusRepository delegate, BatchConfiguration configuration) {
+        this.delegate = delegate;
+        this.statuses = new BatchLoader<>(delegate::getTransactionStatuses,
+            status -> status.getHash().toUpperCase(), configuration);
+    }
+
+    @Override
+    public Observable<TransactionStatus> getTransactionStatus(String transactionHash) {
+        return statuses.load(transactionHash.toUpperCase());
+    }
+
+    @Override
+    public Observable<List<TransactionStatus>> getTransactionStatuses(List<String> transactionHashes) {
+        return delegate.getTransactionStatuses(transactionHashes);
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.infrastructure.singleflight.SingleFlight;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.namespace.NamespaceInfo;
+import io.nem.symbol.sdk.model.transaction.AddressAliasTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.MosaicAliasTransaction;
+import io.nem.symbol.sdk.model.transaction.NamespaceRegistrationTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import java.io.Closeable;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A cache of the namespaces used to resolve mosaic and address aliases.
+ *
+ * <p>Concurrent lookups of the same namespace share one remote call. A cached namespace is reloaded once the known
+ * chain height reaches the namespace's end height, as its alias is removed when the namespace expires.
+ *
+ * <p>When a listener is attached with {@link #listen(Listener)}, the chain height is updated with every new block and
+ * the confirmed transactions of the owners of the cached namespaces are watched. Alias and namespace registration
+ * transactions invalidate the namespaces they change. An owner is no longer watched once none of its namespaces are
+ * cached. If a listener subscription fails, the cached namespaces are dropped as their changes may be missed.
+ */
+public class AliasResolutionCache implements Closeable {
+
+    /**
+     * The default policy, aliases rarely change and the listener, when attached, invalidates them.
+     */
+    public static final CachePolicy DEFAULT_POLICY = CachePolicy.expireAfterWrite(Duration.ofMinutes(5))
+        .maximumSize(10000);
+
+    private final NamespaceRepository namespaceRepository;
+
+    private final RepositoryCache<NamespaceId, NamespaceInfo> namespaces;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private final AtomicReference<BigInteger> chainHeight = new AtomicReference<>(BigInteger.ZERO);
+
+    private final AtomicReference<Listener> listener = new AtomicReference<>();
+
+    private final CompositeDisposable subscriptions = new CompositeDisposable();
+
+    /**
+     * The following fields are guarded by the lock.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The watched owners, each with the subscription to its confirmed transactions and its cached namespaces.
+     */
+    private final Map<Address, OwnerWatch> ownerWatches = new HashMap<>();
+
+    /**
+     * The owners of the cached namespaces.
+     */
+    private final Map<NamespaceId, Address> namespaceOwners = new HashMap<>();
+
+    private boolean closed;
+
+    /**
+     * Constructor using the {@link #DEFAULT_POLICY}.
+     *
+     * @param namespaceRepository the repository used to load the namespaces.
+     */
+    public AliasResolutionCache(NamespaceRepository namespaceRepository) {
+        this(namespaceRepository, DEFAULT_POLICY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param namespaceRepository the repository used to load the namespaces.
+     * @param policy the policy of the namespaces cache.
+     */
+    public AliasResolutionCache(NamespaceRepository namespaceRepository, CachePolicy policy) {
+        Validate.notNull(namespaceRepository, "namespaceRepository must not be null");
+        Validate.notNull(policy, "policy must not be null");
+        this.namespaceRepository = namespaceRepository;
+        this.namespaces = new RepositoryCache<>(policy, (namespaceId, namespaceInfo) -> unwatch(namespaceId));
+    }
+
+    /**
+     * @param namespaceId the namespace id.
+     * @return an {@link Observable} of the cached or loaded namespace.
+     */
+    public Observable<NamespaceInfo> getNamespace(NamespaceId namespaceId) {
+        Validate.notNull(namespaceId, "namespaceId must not be null");
+        return Observable.defer(() -> {
+            Optional<NamespaceInfo> cached = namespaces.getIfPresent(namespaceId);
+            if (cached.isPresent() && !isExpired(cached.get())) {
+                return Observable.just(cached.get());
+            }
+            cached.ifPresent(namespaceInfo -> namespaces.invalidate(namespaceId));
+            return singleFlight.execute(Arrays.asList("getNamespace", namespaceId),
+                () -> namespaceRepository.getNamespace(namespaceId).doOnNext(namespaceInfo -> {
+                    namespaces.put(namespaceId, namespaceInfo);
+                    watchOwner(namespaceId, namespaceInfo);
+                }));
+        });
+    }
+
+    private boolean isExpired(NamespaceInfo namespaceInfo) {
+        return namespaceInfo.getEndHeight() != null && chainHeight.get().compareTo(namespaceInfo.getEndHeight()) >= 0;
+    }
+
+    /**
+     * It attaches an opened listener. The listener is not closed by the cache. If its new blocks fail, the listener
+     * is detached and another one can be attached.
+     *
+     * @param listener the listener.
+     */
+    public void listen(Listener listener) {
+        Validate.notNull(listener, "listener must not be null");
+        Validate.isTrue(this.listener.compareAndSet(null, listener), "A listener is already attached");
+        subscriptions.add(listener.newBlock()
+            .subscribe(block -> setChainHeight(block.getHeight()), error -> onNewBlockError(listener)));
+    }
+
+    /**
+     * The expired namespaces may not be noticed from now on. The cached namespaces are dropped and the listener is
+     * detached so a working listener can be attached again.
+     */
+    private void onNewBlockError(Listener failed) {
+        listener.compareAndSet(failed, null);
+        namespaces.invalidateAll();
+    }
+
+    private void watchOwner(NamespaceId namespaceId, NamespaceInfo namespaceInfo) {
+        Listener attached = listener.get();
+        if (attached == null || !(namespaceInfo.getOwnerAddress() instanceof Address)) {
+            return;
+        }
+        Address owner = (Address) namespaceInfo.getOwnerAddress();
+        OwnerWatch newWatch = null;
+        OwnerWatch unusedWatch;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            unusedWatch = removeNamespaceOwner(namespaceId);
+            namespaceOwners.put(namespaceId, owner);
+            OwnerWatch watch = ownerWatches.get(owner);
+            if (watch == null) {
+                watch = new OwnerWatch();
+                ownerWatches.put(owner, watch);
+                newWatch = watch;
+            }
+            watch.namespaceIds.add(namespaceId);
+        }
+        if (unusedWatch != null) {
+            unusedWatch.dispose();
+        }
+        if (newWatch != null) {
+            newWatch.setSubscription(attached.confirmed(owner).subscribe(this::onConfirmed, error -> onOwnerError()));
+        }
+    }
+
+    private void unwatch(NamespaceId namespaceId) {
+        OwnerWatch unusedWatch;
+        synchronized (lock) {
+            unusedWatch = removeNamespaceOwner(namespaceId);
+        }
+        if (unusedWatch != null) {
+            unusedWatch.dispose();
+        }
+    }
+
+    /**
+     * It removes the owner of a namespace, guarded by the lock.
+     *
+     * @return the owner's watch when none of its namespaces are cached anymore.
+     */
+    private OwnerWatch removeNamespaceOwner(NamespaceId namespaceId) {
+        Address owner = namespaceOwners.remove(namespaceId);
+        OwnerWatch watch = owner == null ? null : ownerWatches.get(owner);
+        if (watch == null) {
+            return null;
+        }
+        watch.namespaceIds.remove(namespaceId);
+        if (!watch.namespaceIds.isEmpty()) {
+            return null;
+        }
+        ownerWatches.remove(owner);
+        return watch;
+    }
+
+    /**
+     * The alias changes of an owner may be missed from now on. The cached namespaces are dropped and their owners are
+     * watched again when their namespaces are loaded.
+     */
+    private void onOwnerError() {
+        namespaces.invalidateAll();
+    }
+
+    private void onConfirmed(Transaction transaction) {
+        if (transaction instanceof AggregateTransaction) {
+            ((AggregateTransaction) transaction).getInnerTransactions().forEach(this::onConfirmed);
+        } else if (transaction instanceof MosaicAliasTransaction) {
+            invalidate(((MosaicAliasTransaction) transaction).getNamespaceId());
+        } else if (transaction instanceof AddressAliasTransaction) {
+            invalidate(((AddressAliasTransaction) transaction).getNamespaceId());
+        } else if (transaction instanceof NamespaceRegistrationTransaction) {
+            invalidate(((NamespaceRegistrationTransaction) transaction).getNamespaceId());
+        }
+    }
+
+    /**
+     * It updates the known chain height, the namespaces ending at or before the height are reloaded.
+     *
+     * @param height the current chain height.
+     */
+    public void setChainHeight(BigInteger height) {
+        Validate.notNull(height, "height must not be null");
+        chainHeight.accumulateAndGet(height, BigInteger::max);
+    }
+
+    /**
+     * @return the known chain height.
+     */
+    public BigInteger getChainHeight() {
+        return chainHeight.get();
+    }
+
+    /**
+     * It removes a cached namespace.
+     *
+     * @param namespaceId the namespace id.
+     */
+    public void invalidate(NamespaceId namespaceId) {
+        Validate.notNull(namespaceId, "namespaceId must not be null");
+        namespaces.invalidate(namespaceId);
+    }
+
+    /**
+     * It removes all the cached namespaces.
+     */
+    public void invalidateAll() {
+        namespaces.invalidateAll();
+    }
+
+    /**
+     * @return the number of owners whose confirmed transactions are watched.
+     */
+    public int getWatchedOwnerCount() {
+        synchronized (lock) {
+            return ownerWatches.size();
+        }
+    }
+
+    /**
+     * @return the statistics of the namespaces cache.
+     */
+    public CacheStats getStats() {
+        return namespaces.getStats();
+    }
+
+    /**
+     * It stops the listener subscriptions.
+     */
+    @Override
+    public void close() {
+        List<OwnerWatch> watches;
+        synchronized (lock) {
+            closed = true;
+            watches = new ArrayList<>(ownerWatches.values());
+            ownerWatches.clear();
+            namespaceOwners.clear();
+        }
+        subscriptions.dispose();
+        watches.forEach(OwnerWatch::dispose);
+    }
+
+    /**
+     * The subscription to the confirmed transactions of an owner and the owner's cached namespaces.
+     */
+    private static class OwnerWatch {
+
+        /**
+         * Guarded by the cache's lock.
+         */
+        private final Set<NamespaceId> namespaceIds = new HashSet<>();
+
+        private Disposable subscription;
+
+        private boolean disposed;
+
+        private synchronized void setSubscription(Disposable subscription) {
+            if (disposed) {
+                subscription.dispose();
+            } else {
+                this.subscription = subscription;
+            }
+        }
+
+        private synchronized void dispose() {
+            disposed = true;
+            if (subscription != null) {
+                subscription.dispose();
+            }
+        }
+    }
+}
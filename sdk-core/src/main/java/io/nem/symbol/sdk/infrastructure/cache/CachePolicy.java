@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It defines how long and how many values a {@link RepositoryCache} keeps.
+ *
+ * <p>Use {@link #permanent()} for finalized data that never changes, {@link #expireAfterWrite(Duration)} for mutable
+ * state and {@link #maximumSize(long)} to bound the memory used by the cache. When the cache is full, the least
+ * recently used value is evicted. Policies are immutable.
+ */
+public class CachePolicy {
+
+    private static final CachePolicy NONE = new CachePolicy(false, null, 0);
+
+    private final boolean enabled;
+
+    private final Duration expireAfterWrite;
+
+    private final long maximumSize;
+
+    private CachePolicy(boolean enabled, Duration expireAfterWrite, long maximumSize) {
+        this.enabled = enabled;
+        this.expireAfterWrite = expireAfterWrite;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return a policy that doesn't cache any value. Every call goes to the remote repository.
+     */
+    public static CachePolicy none() {
+        return NONE;
+    }
+
+    /**
+     * @return a policy that keeps the values until they are evicted by size or invalidated.
+     */
+    public static CachePolicy permanent() {
+        return new CachePolicy(true, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param expireAfterWrite how long a value is kept after it has been loaded.
+     * @return a policy that keeps the values for the given duration.
+     */
+    public static CachePolicy expireAfterWrite(Duration expireAfterWrite) {
+        Validate.notNull(expireAfterWrite, "expireAfterWrite must not be null");
+        Validate.isTrue(!expireAfterWrite.isNegative() && !expireAfterWrite.isZero(),
+            "expireAfterWrite must be positive");
+        return new CachePolicy(true, expireAfterWrite, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param maximumSize the max number of values.
+     * @return a copy of this policy that evicts the least recently used values when the cache has more values than
+     * the maximum size.
+     */
+    public CachePolicy maximumSize(long maximumSize) {
+        Validate.isTrue(enabled, "A disabled policy cannot be bounded");
+        Validate.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+        return new CachePolicy(true, expireAfterWrite, maximumSize);
+    }
+
+    /**
+     * @return if the values are cached.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return how long a value is kept after it has been loaded, empty if they never expire.
+     */
+    public Optional<Duration> getExpireAfterWrite() {
+        return Optional.ofNullable(expireAfterWrite);
+    }
+
+    /**
+     * @return the max number of values.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public String toString() {
+        return "CachePolicy{" + "enabled=" + enabled + ", expireAfterWrite=" + expireAfterWrite + ", maximumSize="
+            + maximumSize + '}';
+    }
+}
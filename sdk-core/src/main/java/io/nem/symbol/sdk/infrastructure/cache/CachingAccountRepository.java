@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.AccountSearchCriteria;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.model.account.AccountInfo;
+import io.nem.symbol.sdk.model.account.Address;
+import io.reactivex.Observable;
+import java.util.List;
+
+/**
+ * {@link AccountRepository} that caches the account infos. Searches are not cached.
+ */
+class CachingAccountRepository implements AccountRepository {
+
+    private final AccountRepository delegate;
+
+    private final RepositoryCache<Address, AccountInfo> accounts;
+
+    CachingAccountRepository(AccountRepository delegate, RepositoryCache<Address, AccountInfo> accounts) {
+        this.delegate = delegate;
+        this.accounts = accounts;
+    }
+
+    @Override
+    public Observable<AccountInfo> getAccountInfo(Address address) {
+        return accounts.get(address, () -> delegate.getAccountInfo(address));
+    }
+
+    @Override
+    public Observable<List<AccountInfo>> getAccountsInfo(List<Address> addresses) {
+        return accounts.getAll(addresses, delegate::getAccountsInfo, AccountInfo::getAddress);
+    }
+
+    @Override
+    public Observable<Page<AccountInfo>> search(AccountSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.BlockSearchCriteria;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+
+/**
+ * {@link BlockRepository} that caches the blocks and merkle proofs. Searches are not cached. Blocks that may still be
+ * rolled back expire after a short time.
+ */
+class CachingBlockRepository implements BlockRepository {
+
+    private final BlockRepository delegate;
+
+    private final RepositoryCache<BigInteger, BlockInfo> blocks;
+
+    private final RepositoryCache<String, MerkleProofInfo> merkleProofs;
+
+    private final FinalizedHeightTracker finalizedHeightTracker;
+
+    CachingBlockRepository(BlockRepository delegate, RepositoryCache<BigInteger, BlockInfo> blocks,
+        RepositoryCache<String, MerkleProofInfo> merkleProofs, FinalizedHeightTracker finalizedHeightTracker) {
+        this.delegate = delegate;
+        this.blocks = blocks;
+        this.merkleProofs = merkleProofs;
+        this.finalizedHeightTracker = finalizedHeightTracker;
+    }
+
+    @Override
+    public Observable<BlockInfo> getBlockByHeight(BigInteger height) {
+        return blocks.get(height, () -> delegate.getBlockByHeight(height),
+            block -> finalizedHeightTracker.getExpireAfterWrite(height));
+    }
+
+    @Override
+    public Observable<MerkleProofInfo> getMerkleTransaction(BigInteger height, String hash) {
+        return merkleProofs.get("transaction:" + height + ":" + hash.toUpperCase(),
+            () -> delegate.getMerkleTransaction(height, hash),
+            proof -> finalizedHeightTracker.getExpireAfterWrite(height));
+    }
+
+    @Override
+    public Observable<MerkleProofInfo> getMerkleReceipts(BigInteger height, String hash) {
+        return merkleProofs.get("receipt:" + height + ":" + hash.toUpperCase(),
+            () -> delegate.getMerkleReceipts(height, hash),
+            proof -> finalizedHeightTracker.getExpireAfterWrite(height));
+    }
+
+    @Override
+    public Observable<Page<BlockInfo>> search(BlockSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.MosaicRepository;
+import io.nem.symbol.sdk.api.MosaicSearchCriteria;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.mosaic.MosaicInfo;
+import io.reactivex.Observable;
+import java.util.List;
+
+/**
+ * {@link MosaicRepository} that caches the mosaic infos. Searches are not cached.
+ */
+class CachingMosaicRepository implements MosaicRepository {
+
+    private final MosaicRepository delegate;
+
+    private final RepositoryCache<MosaicId, MosaicInfo> mosaics;
+
+    CachingMosaicRepository(MosaicRepository delegate, RepositoryCache<MosaicId, MosaicInfo> mosaics) {
+        this.delegate = delegate;
+        this.mosaics = mosaics;
+    }
+
+    @Override
+    public Observable<MosaicInfo> getMosaic(MosaicId mosaicId) {
+        return mosaics.get(mosaicId, () -> delegate.getMosaic(mosaicId));
+    }
+
+    @Override
+    public Observable<List<MosaicInfo>> getMosaics(List<MosaicId> mosaicIds) {
+        return mosaics.getAll(mosaicIds, delegate::getMosaics, MosaicInfo::getMosaicId);
+    }
+
+    @Override
+    public Observable<Page<MosaicInfo>> search(MosaicSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.api.NamespaceSearchCriteria;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.model.account.AccountNames;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.mosaic.MosaicNames;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.namespace.NamespaceInfo;
+import io.nem.symbol.sdk.model.namespace.NamespaceName;
+import io.reactivex.Observable;
+import java.util.List;
+
+/**
+ * {@link NamespaceRepository} that caches the namespace infos, names and aliases. Searches are not cached.
+ */
+class CachingNamespaceRepository implements NamespaceRepository {
+
+    private final NamespaceRepository delegate;
+
+    private final RepositoryCache<NamespaceId, NamespaceInfo> namespaces;
+
+    private final RepositoryCache<NamespaceId, NamespaceName> namespaceNames;
+
+    private final RepositoryCache<NamespaceId, MosaicId> linkedMosaicIds;
+
+    private final RepositoryCache<NamespaceId, Address> linkedAddresses;
+
+    private final RepositoryCache<Address, AccountNames> accountNames;
+
+    private final RepositoryCache<MosaicId, MosaicNames> mosaicNames;
+
+    CachingNamespaceRepository(NamespaceRepository delegate, RepositoryCache<NamespaceId, NamespaceInfo> namespaces,
+        RepositoryCache<NamespaceId, NamespaceName> namespaceNames,
+        RepositoryCache<NamespaceId, MosaicId> linkedMosaicIds, RepositoryCache<NamespaceId, Address> linkedAddresses,
+        RepositoryCache<Address, AccountNames> accountNames, RepositoryCache<MosaicId, MosaicNames> mosaicNames) {
+        this.delegate = delegate;
+        this.namespaces = namespaces;
+        this.namespaceNames = namespaceNames;
+        this.linkedMosaicIds = linkedMosaicIds;
+        this.linkedAddresses = linkedAddresses;
+        this.accountNames = accountNames;
+        this.mosaicNames = mosaicNames;
+    }
+
+    @Override
+    public Observable<NamespaceInfo> getNamespace(NamespaceId namespaceId) {
+        return namespaces.get(namespaceId, () -> delegate.getNamespace(namespaceId));
+    }
+
+    @Override
+    public Observable<List<NamespaceName>> getNamespaceNames(List<NamespaceId> namespaceIds) {
+        return namespaceNames.getAll(namespaceIds, delegate::getNamespaceNames, NamespaceName::getNamespaceId);
+    }
+
+    @Override
+    public Observable<MosaicId> getLinkedMosaicId(NamespaceId namespaceId) {
+        return linkedMosaicIds.get(namespaceId, () -> delegate.getLinkedMosaicId(namespaceId));
+    }
+
+    @Override
+    public Observable<Address> getLinkedAddress(NamespaceId namespaceId) {
+        return linkedAddresses.get(namespaceId, () -> delegate.getLinkedAddress(namespaceId));
+    }
+
+    @Override
+    public Observable<List<AccountNames>> getAccountsNames(List<Address> addresses) {
+        return accountNames.getAll(addresses, delegate::getAccountsNames, AccountNames::getAddress);
+    }
+
+    @Override
+    public Observable<List<MosaicNames>> getMosaicsNames(List<MosaicId> mosaicIds) {
+        return mosaicNames.getAll(mosaicIds, delegate::getMosaicsNames, MosaicNames::getMosaicId);
+    }
+
+    @Override
+    public Observable<Page<NamespaceInfo>> search(NamespaceSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.model.network.NetworkConfiguration;
+import io.nem.symbol.sdk.model.network.NetworkInfo;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.network.RentalFees;
+import io.nem.symbol.sdk.model.network.TransactionFees;
+import io.reactivex.Observable;
+
+/**
+ * {@link NetworkRepository} that caches the network type, information and properties. The fees depend on the current
+ * chain state and they are always loaded from the remote repository.
+ */
+class CachingNetworkRepository implements NetworkRepository {
+
+    private final NetworkRepository delegate;
+
+    private final RepositoryCache<String, Object> network;
+
+    CachingNetworkRepository(NetworkRepository delegate, RepositoryCache<String, Object> network) {
+        this.delegate = delegate;
+        this.network = network;
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return network.get("networkType", () -> delegate.getNetworkType().cast(Object.class))
+            .cast(NetworkType.class);
+    }
+
+    @Override
+    public Observable<TransactionFees> getTransactionFees() {
+        return delegate.getTransactionFees();
+    }
+
+    @Override
+    public Observable<NetworkInfo> getNetworkInfo() {
+        return network.get("networkInfo", () -> delegate.getNetworkInfo().cast(Object.class)).cast(NetworkInfo.class);
+    }
+
+    @Override
+    public Observable<RentalFees> getRentalFees() {
+        return delegate.getRentalFees();
+    }
+
+    @Override
+    public Observable<NetworkConfiguration> getNetworkProperties() {
+        return network.get("networkProperties", () -> delegate.getNetworkProperties().cast(Object.class))
+            .cast(NetworkConfiguration.class);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.MosaicRepository;
+import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.infrastructure.RepositoryFactoryDecorator;
+import io.nem.symbol.sdk.model.account.AccountInfo;
+import io.nem.symbol.sdk.model.account.AccountNames;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.mosaic.MosaicInfo;
+import io.nem.symbol.sdk.model.mosaic.MosaicNames;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.namespace.NamespaceInfo;
+import io.nem.symbol.sdk.model.namespace.NamespaceName;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link RepositoryFactory} decorator that caches the responses of the repositories created by another factory.
+ *
+ * <p>The block, transaction, mosaic, namespace, account and network repositories are wrapped with caching
+ * repositories, the other repositories and listeners are created by the decorated factory as they are. The caches are
+ * shared by all the repositories created by this factory and each cache follows the {@link CachePolicy} of its
+ * repository in the {@link RepositoryCacheConfiguration}.
+ */
+public class CachingRepositoryFactory extends RepositoryFactoryDecorator {
+
+    private final Map<String, RepositoryCache<?, ?>> caches = new LinkedHashMap<>();
+
+    private final RepositoryCache<BigInteger, BlockInfo> blocks;
+
+    private final RepositoryCache<String, MerkleProofInfo> merkleProofs;
+
+    private final RepositoryCache<String, Transaction> transactions;
+
+    private final RepositoryCache<MosaicId, MosaicInfo> mosaics;
+
+    private final RepositoryCache<NamespaceId, NamespaceInfo> namespaces;
+
+    private final RepositoryCache<NamespaceId, NamespaceName> namespaceNames;
+
+    private final RepositoryCache<NamespaceId, MosaicId> linkedMosaicIds;
+
+    private final RepositoryCache<NamespaceId, Address> linkedAddresses;
+
+    private final RepositoryCache<Address, AccountNames> accountNames;
+
+    private final RepositoryCache<MosaicId, MosaicNames> mosaicNames;
+
+    private final RepositoryCache<Address, AccountInfo> accounts;
+
+    private final RepositoryCache<String, Object> network;
+
+    private final FinalizedHeightTracker finalizedHeightTracker;
+
+    /**
+     * Constructor using the default {@link RepositoryCacheConfiguration}.
+     *
+     * @param delegate the decorated factory.
+     */
+    public CachingRepositoryFactory(RepositoryFactory delegate) {
+        this(delegate, new RepositoryCacheConfiguration());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the decorated factory.
+     * @param configuration the cache policies.
+     */
+    public CachingRepositoryFactory(RepositoryFactory delegate, RepositoryCacheConfiguration configuration) {
+        super(delegate);
+        Validate.notNull(configuration, "configuration must not be null");
+        this.blocks = createCache("blocks", configuration.getBlockPolicy());
+        this.merkleProofs = createCache("merkleProofs", configuration.getBlockPolicy());
+        this.transactions = createCache("transactions", configuration.getTransactionPolicy());
+        this.mosaics = createCache("mosaics", configuration.getMosaicPolicy());
+        this.namespaces = createCache("namespaces", configuration.getNamespacePolicy());
+        this.namespaceNames = createCache("namespaceNames", configuration.getNamespacePolicy());
+        this.linkedMosaicIds = createCache("linkedMosaicIds", configuration.getNamespacePolicy());
+        this.linkedAddresses = createCache("linkedAddresses", configuration.getNamespacePolicy());
+        this.accountNames = createCache("accountNames", configuration.getNamespacePolicy());
+        this.mosaicNames = createCache("mosaicNames", configuration.getNamespacePolicy());
+        this.accounts = createCache("accounts", configuration.getAccountPolicy());
+        this.network = createCache("network", configuration.getNetworkPolicy());
+        this.finalizedHeightTracker = new FinalizedHeightTracker(delegate::createChainRepository,
+            configuration.getFinalizationDepth(), configuration.getUnfinalizedExpireAfterWrite());
+    }
+
+    private <K, V> RepositoryCache<K, V> createCache(String name, CachePolicy policy) {
+        RepositoryCache<K, V> cache = new RepositoryCache<>(policy);
+        caches.put(name, cache);
+        return cache;
+    }
+
+    /**
+     * @return a snapshot of the metrics of each cache by cache name.
+     */
+    public Map<String, CacheStats> getStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.getStats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * It removes all the cached values, for example, after a chain rollback.
+     */
+    public void invalidateAll() {
+        caches.values().forEach(RepositoryCache::invalidateAll);
+        finalizedHeightTracker.invalidateAll();
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return new CachingAccountRepository(getDelegate().createAccountRepository(), accounts);
+    }
+
+    @Override
+    public BlockRepository createBlockRepository() {
+        return new CachingBlockRepository(getDelegate().createBlockRepository(), blocks, merkleProofs,
+            finalizedHeightTracker);
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return new CachingMosaicRepository(getDelegate().createMosaicRepository(), mosaics);
+    }
+
+    @Override
+    public NamespaceRepository createNamespaceRepository() {
+        return new CachingNamespaceRepository(getDelegate().createNamespaceRepository(), namespaces, namespaceNames,
+            linkedMosaicIds, linkedAddresses, accountNames, mosaicNames);
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return new CachingNetworkRepository(getDelegate().createNetworkRepository(), network);
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return new CachingTransactionRepository(getDelegate().createTransactionRepository(), transactions,
+            finalizedHeightTracker);
+    }
+
+    @Override
+    public void close() {
+        invalidateAll();
+        super.close();
+    }
+}
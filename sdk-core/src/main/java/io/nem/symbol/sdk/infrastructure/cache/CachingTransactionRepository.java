@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.infrastructure.RepositoryFactoryDecorator;
+import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * {@link TransactionRepository} that caches the confirmed transactions. Unconfirmed and partial transactions change
+ * group over time and they are always loaded from the remote repository, the same as searches and announcements.
+ * Confirmed transactions that may still be rolled back expire after a short time.
+ */
+class CachingTransactionRepository implements TransactionRepository {
+
+    private final TransactionRepository delegate;
+
+    private final RepositoryCache<String, Transaction> transactions;
+
+    private final FinalizedHeightTracker finalizedHeightTracker;
+
+    CachingTransactionRepository(TransactionRepository delegate, RepositoryCache<String, Transaction> transactions,
+        FinalizedHeightTracker finalizedHeightTracker) {
+        this.delegate = delegate;
+        this.transactions = transactions;
+        this.finalizedHeightTracker = finalizedHeightTracker;
+    }
+
+    private Observable<Optional<Duration>> getExpireAfterWrite(Transaction transaction) {
+        return finalizedHeightTracker
+            .getExpireAfterWrite(transaction.getTransactionInfo().map(TransactionInfo::getHeight).orElse(null));
+    }
+
+    @Override
+    public Observable<Transaction> getTransaction(TransactionGroup group, String transactionHash) {
+        if (group != TransactionGroup.CONFIRMED) {
+            return delegate.getTransaction(group, transactionHash);
+        }
+        return transactions.get(transactionHash.toUpperCase(), () -> delegate.getTransaction(group, transactionHash),
+            this::getExpireAfterWrite);
+    }
+
+    @Override
+    public Observable<List<Transaction>> getTransactions(TransactionGroup group, List<String> transactionHashes) {
+        if (group != TransactionGroup.CONFIRMED) {
+            return delegate.getTransactions(group, transactionHashes);
+        }
+        List<String> hashes = transactionHashes.stream().map(String::toUpperCase).distinct()
+            .collect(Collectors.toList());
+        return transactions
+            .getAll(hashes, missingHashes -> delegate.getTransactions(group, missingHashes),
+                RepositoryFactoryDecorator::getTransactionHash, this::getExpireAfterWrite);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
+        return delegate.announce(signedTransaction);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announceAggregateBonded(SignedTransaction signedTransaction) {
+        return delegate.announceAggregateBonded(signedTransaction);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announceAggregateBondedCosignature(
+        CosignatureSignedTransaction cosignatureSignedTransaction) {
+        return delegate.announceAggregateBondedCosignature(cosignatureSignedTransaction);
+    }
+
+    @Override
+    public Observable<Page<Transaction>> search(TransactionSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * It decides how long the data of a given height can be cached.
+ *
+ * <p>Blocks that are more than the finalization depth below the chain height cannot be rolled back and they are kept
+ * according to the cache's policy. Newer blocks and their transactions expire after a short time so a rollback
+ * doesn't leave them cached. The chain height is cached for the same short time and it's only requested for heights
+ * above the last known finalized height.
+ */
+class FinalizedHeightTracker {
+
+    private static final String CHAIN_HEIGHT = "chainHeight";
+
+    private final Supplier<ChainRepository> chainRepository;
+
+    private final BigInteger finalizationDepth;
+
+    private final Duration unfinalizedExpireAfterWrite;
+
+    private final RepositoryCache<String, BigInteger> chainHeight;
+
+    private final AtomicReference<BigInteger> finalizedHeight = new AtomicReference<>(BigInteger.ZERO);
+
+    /**
+     * Constructor.
+     *
+     * @param chainRepository the supplier of the repository used to load the chain height.
+     * @param finalizationDepth the number of blocks below the chain height that can still be rolled back.
+     * @param unfinalizedExpireAfterWrite how long the data that may be rolled back is kept.
+     */
+    FinalizedHeightTracker(Supplier<ChainRepository> chainRepository, long finalizationDepth,
+        Duration unfinalizedExpireAfterWrite) {
+        this.chainRepository = chainRepository;
+        this.finalizationDepth = BigInteger.valueOf(finalizationDepth);
+        this.unfinalizedExpireAfterWrite = unfinalizedExpireAfterWrite;
+        this.chainHeight = new RepositoryCache<>(CachePolicy.expireAfterWrite(unfinalizedExpireAfterWrite));
+    }
+
+    /**
+     * @param height the height of the data, null if unknown.
+     * @return empty when the height is finalized and the data can be kept according to the cache's policy, otherwise
+     * the short expiration of the data that may be rolled back. The unknown heights are not finalized.
+     */
+    Observable<Optional<Duration>> getExpireAfterWrite(BigInteger height) {
+        if (height == null) {
+            return Observable.just(Optional.of(unfinalizedExpireAfterWrite));
+        }
+        if (height.compareTo(finalizedHeight.get()) <= 0) {
+            return Observable.just(Optional.empty());
+        }
+        return chainHeight.get(CHAIN_HEIGHT, () -> chainRepository.get().getBlockchainHeight()).map(currentHeight -> {
+            BigInteger finalized = finalizedHeight.accumulateAndGet(currentHeight.subtract(finalizationDepth),
+                BigInteger::max);
+            return height.compareTo(finalized) <= 0 ? Optional.<Duration>empty()
+                : Optional.of(unfinalizedExpireAfterWrite);
+        }).onErrorReturnItem(Optional.of(unfinalizedExpireAfterWrite));
+    }
+
+    /**
+     * It forgets the chain height, for example, after a chain rollback.
+     */
+    void invalidateAll() {
+        chainHeight.invalidateAll();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.MultisigRepository;
+import io.nem.symbol.sdk.infrastructure.singleflight.SingleFlight;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.MultisigAccountGraphInfo;
+import io.nem.symbol.sdk.model.account.MultisigAccountInfo;
+import io.reactivex.Observable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A cache of multisig accounts and multisig graphs shared by the services that resolve cosignatories.
+ *
+ * <p>Concurrent lookups of the same account share one remote call. Cached graphs are indexed by the accounts they
+ * contain, so invalidating an account after a multisig modification also invalidates the graphs it belongs to. The
+ * index entries of a graph are removed when the graph expires, is evicted or is invalidated.
+ */
+public class MultisigGraphCache {
+
+    /**
+     * The default policy, multisig modifications are rare but they must be noticed soon.
+     */
+    public static final CachePolicy DEFAULT_POLICY = CachePolicy.expireAfterWrite(Duration.ofSeconds(30))
+        .maximumSize(10000);
+
+    private final MultisigRepository multisigRepository;
+
+    private final RepositoryCache<Address, MultisigAccountInfo> accountInfos;
+
+    private final RepositoryCache<Address, MultisigAccountGraphInfo> graphInfos;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    /**
+     * The addresses of the cached graphs by the accounts they contain.
+     */
+    private final Map<Address, Set<Address>> graphsByAccount = new ConcurrentHashMap<>();
+
+    /**
+     * The accounts indexed in graphsByAccount by graph address, used to remove them when the graph is removed.
+     */
+    private final Map<Address, Set<Address>> accountsByGraph = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor using the {@link #DEFAULT_POLICY}.
+     *
+     * @param multisigRepository the repository used to load the accounts and graphs.
+     */
+    public MultisigGraphCache(MultisigRepository multisigRepository) {
+        this(multisigRepository, DEFAULT_POLICY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param multisigRepository the repository used to load the accounts and graphs.
+     * @param policy the policy of the accounts and graphs caches.
+     */
+    public MultisigGraphCache(MultisigRepository multisigRepository, CachePolicy policy) {
+        Validate.notNull(multisigRepository, "multisigRepository must not be null");
+        Validate.notNull(policy, "policy must not be null");
+        this.multisigRepository = multisigRepository;
+        this.accountInfos = new RepositoryCache<>(policy);
+        this.graphInfos = new RepositoryCache<>(policy, (address, graphInfo) -> unindexGraph(address));
+    }
+
+    /**
+     * @param address the account address.
+     * @return an {@link Observable} of the cached or loaded multisig account.
+     */
+    public Observable<MultisigAccountInfo> getMultisigAccountInfo(Address address) {
+        return accountInfos.get(address, () -> singleFlight
+            .execute(Arrays.asList("getMultisigAccountInfo", address),
+                () -> multisigRepository.getMultisigAccountInfo(address)));
+    }
+
+    /**
+     * @param address the account address.
+     * @return an {@link Observable} of the cached or loaded multisig graph.
+     */
+    public Observable<MultisigAccountGraphInfo> getMultisigAccountGraphInfo(Address address) {
+        return graphInfos.get(address, () -> singleFlight
+            .execute(Arrays.asList("getMultisigAccountGraphInfo", address),
+                () -> multisigRepository.getMultisigAccountGraphInfo(address)
+                    .doOnNext(graphInfo -> indexGraph(address, graphInfo))));
+    }
+
+    private void indexGraph(Address address, MultisigAccountGraphInfo graphInfo) {
+        if (!graphInfos.getPolicy().isEnabled()) {
+            return;
+        }
+        Set<Address> graphAccounts = accountsByGraph.computeIfAbsent(address, key -> ConcurrentHashMap.newKeySet());
+        Consumer<Address> index = account -> {
+            graphAccounts.add(account);
+            graphsByAccount.computeIfAbsent(account, key -> ConcurrentHashMap.newKeySet()).add(address);
+        };
+        index.accept(address);
+        graphInfo.getMultisigEntries().values().forEach(accounts -> accounts.forEach(account -> {
+            index.accept(account.getAccountAddress());
+            account.getCosignatoryAddresses().forEach(index);
+        }));
+    }
+
+    private void unindexGraph(Address address) {
+        Set<Address> accounts = accountsByGraph.remove(address);
+        if (accounts == null) {
+            return;
+        }
+        accounts.forEach(account -> graphsByAccount.computeIfPresent(account, (key, graphs) -> {
+            graphs.remove(address);
+            return graphs.isEmpty() ? null : graphs;
+        }));
+    }
+
+    /**
+     * It removes the cached account and the cached graphs that contain it.
+     *
+     * @param address the account address.
+     */
+    public void invalidate(Address address) {
+        Validate.notNull(address, "address must not be null");
+        accountInfos.invalidate(address);
+        graphInfos.invalidate(address);
+        Set<Address> graphs = graphsByAccount.remove(address);
+        if (graphs != null) {
+            graphs.forEach(graphInfos::invalidate);
+        }
+    }
+
+    /**
+     * It removes all the cached accounts and graphs.
+     */
+    public void invalidateAll() {
+        accountInfos.invalidateAll();
+        graphInfos.invalidateAll();
+        graphsByAccount.clear();
+        accountsByGraph.clear();
+    }
+
+    /**
+     * @return the number of accounts in the index of the cached graphs.
+     */
+    int getIndexedAccountCount() {
+        return graphsByAccount.size();
+    }
+
+    /**
+     * @return the statistics of the multisig accounts cache.
+     */
+    public CacheStats getAccountInfoStats() {
+        return accountInfos.getStats();
+    }
+
+    /**
+     * @return the statistics of the multisig graphs cache.
+     */
+    public CacheStats getGraphInfoStats() {
+        return graphInfos.getStats();
+    }
+}
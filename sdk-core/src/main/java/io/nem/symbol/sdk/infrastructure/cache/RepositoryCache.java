@@ -0,0 +1,413 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.reactivex.Observable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A thread safe in memory cache of the values returned by a repository.
+ *
+ * <p>Values are kept according to the cache's {@link CachePolicy}. Only the values emitted by the remote calls are
+ * cached, errors are not cached and the next lookup calls the repository again. An optional removal listener is
+ * notified when a value is evicted, expires or is invalidated.
+ *
+ * @param <K> the type of the key.
+ * @param <V> the type of the cached value.
+ */
+public class RepositoryCache<K, V> {
+
+    private final CachePolicy policy;
+
+    private final LongSupplier ticker;
+
+    private final BiConsumer<K, V> removalListener;
+
+    private final Map<K, CachedValue<V>> entries;
+
+    /**
+     * The values evicted by size that haven't been notified yet, guarded by the entries' lock.
+     */
+    private final Map<K, V> evicted = new LinkedHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param policy the policy of the cache.
+     */
+    public RepositoryCache(CachePolicy policy) {
+        this(policy, (key, value) -> {
+        });
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param policy the policy of the cache.
+     * @param removalListener the listener notified, outside the cache's lock, when a value is evicted, expires or is
+     * invalidated. Replaced values are not notified.
+     */
+    public RepositoryCache(CachePolicy policy, BiConsumer<K, V> removalListener) {
+        this(policy, System::nanoTime, removalListener);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param policy the policy of the cache.
+     * @param ticker the source of the current time in nanoseconds.
+     */
+    RepositoryCache(CachePolicy policy, LongSupplier ticker) {
+        this(policy, ticker, (key, value) -> {
+        });
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param policy the policy of the cache.
+     * @param ticker the source of the current time in nanoseconds.
+     * @param removalListener the listener notified when a value is evicted, expires or is invalidated.
+     */
+    @SuppressWarnings("serial")
+    RepositoryCache(CachePolicy policy, LongSupplier ticker, BiConsumer<K, V> removalListener) {
+        Validate.notNull(policy, "policy must not be null");
+        Validate.notNull(ticker, "ticker must not be null");
+        Validate.notNull(removalListener, "removalListener must not be null");
+        this.policy = policy;
+        this.ticker = ticker;
+        this.removalListener = removalListener;
+        this.entries = new LinkedHashMap<K, CachedValue<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                boolean evict = size() > policy.getMaximumSize();
+                if (evict) {
+                    evictionCount.incrementAndGet();
+                    evicted.put(eldest.getKey(), eldest.getValue().value);
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * It returns the cached value of the key or it loads it when it's not cached.
+     *
+     * @param key the key.
+     * @param loader the remote call used when the value is not cached.
+     * @return an {@link Observable} of the cached or loaded value.
+     */
+    public Observable<V> get(K key, Supplier<Observable<V>> loader) {
+        return get(key, loader, value -> Observable.just(Optional.empty()));
+    }
+
+    /**
+     * It returns the cached value of the key or it loads it when it's not cached.
+     *
+     * @param key the key.
+     * @param loader the remote call used when the value is not cached.
+     * @param expiry the function that resolves how long a loaded value is kept. When it's empty, the value is kept
+     * according to the policy.
+     * @return an {@link Observable} of the cached or loaded value.
+     */
+    public Observable<V> get(K key, Supplier<Observable<V>> loader,
+        Function<V, Observable<Optional<Duration>>> expiry) {
+        Validate.notNull(key, "key must not be null");
+        Validate.notNull(loader, "loader must not be null");
+        Validate.notNull(expiry, "expiry must not be null");
+        return Observable.defer(() -> {
+            Optional<V> cached = getIfPresent(key);
+            if (cached.isPresent()) {
+                return Observable.just(cached.get());
+            }
+            return loader.get().concatMap(value -> store(key, value, expiry));
+        });
+    }
+
+    /**
+     * It returns the cached values of the keys loading only the keys that are not cached in one remote call.
+     *
+     * @param keys the keys.
+     * @param loader the remote call used with the keys that are not cached.
+     * @param keyMapper the function that resolves the key of each loaded value. Values without key are not cached.
+     * @return an {@link Observable} of the values in the keys' order. Loaded values without key are added at the end.
+     */
+    public Observable<List<V>> getAll(List<K> keys, Function<List<K>, Observable<List<V>>> loader,
+        Function<V, K> keyMapper) {
+        return getAll(keys, loader, keyMapper, value -> Observable.just(Optional.empty()));
+    }
+
+    /**
+     * It returns the cached values of the keys loading only the keys that are not cached in one remote call.
+     *
+     * @param keys the keys.
+     * @param loader the remote call used with the keys that are not cached.
+     * @param keyMapper the function that resolves the key of each loaded value. Values without key are not cached.
+     * @param expiry the function that resolves how long a loaded value is kept. When it's empty, the value is kept
+     * according to the policy.
+     * @return an {@link Observable} of the values in the keys' order. Loaded values without key are added at the end.
+     */
+    public Observable<List<V>> getAll(List<K> keys, Function<List<K>, Observable<List<V>>> loader,
+        Function<V, K> keyMapper, Function<V, Observable<Optional<Duration>>> expiry) {
+        Validate.notNull(keys, "keys must not be null");
+        Validate.notNull(loader, "loader must not be null");
+        Validate.notNull(keyMapper, "keyMapper must not be null");
+        Validate.notNull(expiry, "expiry must not be null");
+        return Observable.defer(() -> {
+            Map<K, V> values = new HashMap<>();
+            List<K> missingKeys = new ArrayList<>();
+            for (K key : keys) {
+                Optional<V> cached = getIfPresent(key);
+                if (cached.isPresent()) {
+                    values.put(key, cached.get());
+                } else {
+                    missingKeys.add(key);
+                }
+            }
+            if (missingKeys.isEmpty()) {
+                return Observable.just(toList(keys, values, Collections.emptyList()));
+            }
+            return loader.apply(missingKeys).concatMap(loaded -> {
+                List<V> valuesWithoutKey = new ArrayList<>();
+                return Observable.fromIterable(loaded).concatMap(value -> {
+                    K key = keyMapper.apply(value);
+                    if (key == null) {
+                        valuesWithoutKey.add(value);
+                        return Observable.empty();
+                    }
+                    values.put(key, value);
+                    return store(key, value, expiry);
+                }).ignoreElements().andThen(Observable.fromCallable(() -> toList(keys, values, valuesWithoutKey)));
+            });
+        });
+    }
+
+    private static <K, V> List<V> toList(List<K> keys, Map<K, V> values, List<V> valuesWithoutKey) {
+        List<V> list = new ArrayList<>(keys.size() + valuesWithoutKey.size());
+        for (K key : keys) {
+            V value = values.get(key);
+            if (value != null) {
+                list.add(value);
+            }
+        }
+        list.addAll(valuesWithoutKey);
+        return list;
+    }
+
+    private Observable<V> store(K key, V value, Function<V, Observable<Optional<Duration>>> expiry) {
+        if (!policy.isEnabled()) {
+            return Observable.just(value);
+        }
+        return expiry.apply(value).take(1).map(expireAfterWrite -> {
+            if (expireAfterWrite.isPresent()) {
+                put(key, value, expireAfterWrite.get());
+            } else {
+                put(key, value);
+            }
+            return value;
+        });
+    }
+
+    /**
+     * It returns the cached value of the key recording a hit or a miss.
+     *
+     * @param key the key.
+     * @return the cached value if present and not expired.
+     */
+    public Optional<V> getIfPresent(K key) {
+        Validate.notNull(key, "key must not be null");
+        if (!policy.isEnabled()) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        CachedValue<V> expired = null;
+        synchronized (entries) {
+            CachedValue<V> entry = entries.get(key);
+            if (entry != null && isExpired(entry, ticker.getAsLong())) {
+                entries.remove(key);
+                evictionCount.incrementAndGet();
+                expired = entry;
+                entry = null;
+            }
+            if (entry != null) {
+                hitCount.incrementAndGet();
+                return Optional.of(entry.value);
+            }
+            missCount.incrementAndGet();
+        }
+        if (expired != null) {
+            removalListener.accept(key, expired.value);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * It caches a value. Disabled caches ignore the value.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    public void put(K key, V value) {
+        put(key, value, policy.getExpireAfterWrite().map(Duration::toNanos).orElse(Long.MAX_VALUE));
+    }
+
+    /**
+     * It caches a value that expires sooner than the policy's values, for example, data that may be rolled back.
+     * Disabled caches ignore the value.
+     *
+     * @param key the key.
+     * @param value the value.
+     * @param expireAfterWrite how long the value is kept. The policy's expiration is used if it's shorter.
+     */
+    public void put(K key, V value, Duration expireAfterWrite) {
+        Validate.notNull(expireAfterWrite, "expireAfterWrite must not be null");
+        long expireAfterWriteNanos = expireAfterWrite.toNanos();
+        put(key, value, policy.getExpireAfterWrite().map(Duration::toNanos)
+            .map(policyNanos -> Math.min(policyNanos, expireAfterWriteNanos)).orElse(expireAfterWriteNanos));
+    }
+
+    private void put(K key, V value, long expireAfterWriteNanos) {
+        Validate.notNull(key, "key must not be null");
+        Validate.notNull(value, "value must not be null");
+        if (!policy.isEnabled()) {
+            return;
+        }
+        Map<K, V> removed;
+        synchronized (entries) {
+            entries.put(key, new CachedValue<>(value, ticker.getAsLong(), expireAfterWriteNanos));
+            if (evicted.isEmpty()) {
+                return;
+            }
+            removed = new LinkedHashMap<>(evicted);
+            evicted.clear();
+        }
+        removed.forEach(removalListener);
+    }
+
+    /**
+     * It removes the cached value of the key.
+     *
+     * @param key the key.
+     */
+    public void invalidate(K key) {
+        Validate.notNull(key, "key must not be null");
+        CachedValue<V> removed;
+        synchronized (entries) {
+            removed = entries.remove(key);
+        }
+        if (removed != null) {
+            removalListener.accept(key, removed.value);
+        }
+    }
+
+    /**
+     * It removes all the cached values.
+     */
+    public void invalidateAll() {
+        Map<K, V> removed = new LinkedHashMap<>();
+        synchronized (entries) {
+            entries.forEach((key, entry) -> removed.put(key, entry.value));
+            entries.clear();
+        }
+        removed.forEach(removalListener);
+    }
+
+    /**
+     * It removes the expired values.
+     */
+    public void cleanUp() {
+        long now = ticker.getAsLong();
+        Map<K, V> removed = new LinkedHashMap<>();
+        synchronized (entries) {
+            Iterator<Map.Entry<K, CachedValue<V>>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, CachedValue<V>> entry = iterator.next();
+                if (isExpired(entry.getValue(), now)) {
+                    iterator.remove();
+                    evictionCount.incrementAndGet();
+                    removed.put(entry.getKey(), entry.getValue().value);
+                }
+            }
+        }
+        removed.forEach(removalListener);
+    }
+
+    /**
+     * @return the number of cached values, it may include expired values that haven't been cleaned up yet.
+     */
+    public long size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return the policy of the cache.
+     */
+    public CachePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return a snapshot of the cache metrics.
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.get(), missCount.get(), evictionCount.get(), size());
+    }
+
+    private static boolean isExpired(CachedValue<?> entry, long now) {
+        return now - entry.writeTime >= entry.expireAfterWriteNanos;
+    }
+
+    /**
+     * A cached value, the time it was loaded and how long it's kept.
+     */
+    private static class CachedValue<V> {
+
+        private final V value;
+
+        private final long writeTime;
+
+        private final long expireAfterWriteNanos;
+
+        private CachedValue(V value, long writeTime, long expireAfterWriteNanos) {
+            this.value = value;
+            this.writeTime = writeTime;
+            this.expireAfterWriteNanos = expireAfterWriteNanos;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The cache policies used by a {@link CachingRepositoryFactory}, one per repository.
+ *
+ * <p>By default, finalized data (blocks, confirmed transactions and network configuration) is cached permanently
+ * with a size bound while mutable state (accounts, mosaics and namespaces) expires after a short time. Blocks and
+ * confirmed transactions are only finalized when they are more than the finalization depth below the chain height,
+ * newer ones may be rolled back and they expire after the unfinalized expiration.
+ */
+public class RepositoryCacheConfiguration {
+
+    /**
+     * The policy of the blocks and merkle proofs.
+     */
+    private CachePolicy blockPolicy = CachePolicy.permanent().maximumSize(10_000);
+
+    /**
+     * The policy of the confirmed transactions. Unconfirmed and partial transactions are never cached.
+     */
+    private CachePolicy transactionPolicy = CachePolicy.permanent().maximumSize(10_000);
+
+    /**
+     * The number of blocks below the chain height that may still be rolled back. It should match the network's
+     * maxRollbackBlocks.
+     */
+    private long finalizationDepth = 360;
+
+    /**
+     * How long the blocks and confirmed transactions that may still be rolled back are kept.
+     */
+    private Duration unfinalizedExpireAfterWrite = Duration.ofSeconds(15);
+
+    /**
+     * The policy of the network type, properties and information. Fees are never cached.
+     */
+    private CachePolicy networkPolicy = CachePolicy.permanent();
+
+    /**
+     * The policy of the account infos.
+     */
+    private CachePolicy accountPolicy = CachePolicy.expireAfterWrite(Duration.ofSeconds(15)).maximumSize(1_000);
+
+    /**
+     * The policy of the mosaic infos.
+     */
+    private CachePolicy mosaicPolicy = CachePolicy.expireAfterWrite(Duration.ofMinutes(1)).maximumSize(1_000);
+
+    /**
+     * The policy of the namespace infos, names and aliases.
+     */
+    private CachePolicy namespacePolicy = CachePolicy.expireAfterWrite(Duration.ofMinutes(1)).maximumSize(1_000);
+
+    public RepositoryCacheConfiguration withBlockPolicy(CachePolicy blockPolicy) {
+        setBlockPolicy(blockPolicy);
+        return this;
+    }
+
+    public RepositoryCacheConfiguration withTransactionPolicy(CachePolicy transactionPolicy) {
+        setTransactionPolicy(transactionPolicy);
+        return this;
+    }
+
+    public RepositoryCacheConfiguration withFinalizationDepth(long finalizationDepth) {
+        setFinalizationDepth(finalizationDepth);
+        return this;
+    }
+
+    public RepositoryCacheConfiguration withUnfinalizedExpireAfterWrite(Duration unfinalizedExpireAfterWrite) {
+        setUnfinalizedExpireAfterWrite(unfinalizedExpireAfterWrite);
+        return this;
+    }
+
+    public RepositoryCacheConfiguration withNetworkPolicy(CachePolicy networkPolicy) {
+        setNetworkPolicy(networkPolicy);
+        return this;
+    }
+
+    public RepositoryCacheConfiguration withAccountPolicy(CachePolicy accountPolicy) {
+        setAccountPolicy(accountPolicy);
+        return this;
+    }
+
+    public RepositoryCacheConfiguration withMosaicPolicy(CachePolicy mosaicPolicy) {
+        setMosaicPolicy(mosaicPolicy);
+        return this;
+    }
+
+    public RepositoryCacheConfiguration withNamespacePolicy(CachePolicy namespacePolicy) {
+        setNamespacePolicy(namespacePolicy);
+        return this;
+    }
+
+    public CachePolicy getBlockPolicy() {
+        return blockPolicy;
+    }
+
+    public void setBlockPolicy(CachePolicy blockPolicy) {
+        this.blockPolicy = Validate.notNull(blockPolicy, "blockPolicy must not be null");
+    }
+
+    public CachePolicy getTransactionPolicy() {
+        return transactionPolicy;
+    }
+
+    public void setTransactionPolicy(CachePolicy transactionPolicy) {
+        this.transactionPolicy = Validate.notNull(transactionPolicy, "transactionPolicy must not be null");
+    }
+
+    public long getFinalizationDepth() {
+        return finalizationDepth;
+    }
+
+    public void setFinalizationDepth(long finalizationDepth) {
+        Validate.isTrue(finalizationDepth >= 0, "finalizationDepth must not be negative");
+        this.finalizationDepth = finalizationDepth;
+    }
+
+    public Duration getUnfinalizedExpireAfterWrite() {
+        return unfinalizedExpireAfterWrite;
+    }
+
+    public void setUnfinalizedExpireAfterWrite(Duration unfinalizedExpireAfterWrite) {
+        Validate.notNull(unfinalizedExpireAfterWrite, "unfinalizedExpireAfterWrite must not be null");
+        Validate.isTrue(!unfinalizedExpireAfterWrite.isNegative() && !unfinalizedExpireAfterWrite.isZero(),
+            "unfinalizedExpireAfterWrite must be positive");
+        this.unfinalizedExpireAfterWrite = unfinalizedExpireAfterWrite;
+    }
+
+    public CachePolicy getNetworkPolicy() {
+        return networkPolicy;
+    }
+
+    public void setNetworkPolicy(CachePolicy networkPolicy) {
+        this.networkPolicy = Validate.notNull(networkPolicy, "networkPolicy must not be null");
+    }
+
+    public CachePolicy getAccountPolicy() {
+        return accountPolicy;
+    }
+
+    public void setAccountPolicy(CachePolicy accountPolicy) {
+        this.accountPolicy = Validate.notNull(accountPolicy, "accountPolicy must not be null");
+    }
+
+    public CachePolicy getMosaicPolicy() {
+        return mosaicPolicy;
+    }
+
+    public void setMosaicPolicy(CachePolicy mosaicPolicy) {
+        this.mosaicPolicy = Validate.notNull(mosaicPolicy, "mosaicPolicy must not be null");
+    }
+
+    public CachePolicy getNamespacePolicy() {
+        return namespacePolicy;
+    }
+
+    public void setNamespacePolicy(CachePolicy namespacePolicy) {
+        this.namespacePolicy = Validate.notNull(namespacePolicy, "namespacePolicy must not be null");
+    }
+}
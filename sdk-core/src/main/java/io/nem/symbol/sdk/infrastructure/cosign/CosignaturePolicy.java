@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.cosign;
+
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.reactivex.Observable;
+
+/**
+ * The policy that decides if a {@link CosigningEngine} cosigns a pending aggregate bonded transaction.
+ */
+@FunctionalInterface
+public interface CosignaturePolicy {
+
+    /**
+     * It decides if a managed account cosigns an aggregate bonded transaction. Only the first emitted value is used, an
+     * empty or failed {@link Observable} means the transaction is not cosigned.
+     *
+     * @param transaction the partial aggregate bonded transaction.
+     * @param cosigner the managed account that would cosign it.
+     * @return an {@link Observable} of true if the transaction must be cosigned.
+     */
+    Observable<Boolean> approve(AggregateTransaction transaction, PublicAccount cosigner);
+
+    /**
+     * @return a policy that cosigns every aggregate bonded transaction.
+     */
+    static CosignaturePolicy approveAll() {
+        return (transaction, cosigner) -> Observable.just(true);
+    }
+}
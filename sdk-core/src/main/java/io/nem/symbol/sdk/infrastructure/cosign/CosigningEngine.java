@@ -0,0 +1,366 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.cosign;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionCosignature;
+import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It cosigns the aggregate bonded transactions that are waiting for the signatures of a set of managed accounts.
+ *
+ * <p>The engine subscribes to the aggregate bonded added and removed channels of every managed account on one
+ * listener. Each new partial transaction is checked against the {@link CosignaturePolicy}, signed with the account's
+ * prepared signer on the configured scheduler and announced with the other cosignatures of the same batch.
+ * Transactions already signed by the account, or being cosigned by it, are skipped.
+ *
+ * <p>The listener must be opened by the caller and it's not closed by the engine.
+ */
+public class CosigningEngine implements Closeable {
+
+    private final TransactionRepository transactionRepository;
+
+    private final Listener listener;
+
+    private final CosignaturePolicy policy;
+
+    private final CosigningEngineConfiguration configuration;
+
+    /**
+     * The listener subscriptions of the managed accounts by address. Access is synchronized on the map.
+     */
+    private final Map<Address, ManagedAccount> managedAccounts = new HashMap<>();
+
+    /**
+     * The public keys of the managed accounts that cosigned, or are cosigning, each partial transaction by upper case
+     * hash. The entries are removed when the partial transaction leaves the node's partial cache.
+     */
+    private final Map<String, Set<String>> cosigners = new ConcurrentHashMap<>();
+
+    private final Subject<CosignRequest> requests = PublishSubject.<CosignRequest>create().toSerialized();
+
+    private final Subject<CosignatureSignedTransaction> cosignatures = PublishSubject
+        .<CosignatureSignedTransaction>create().toSerialized();
+
+    private final Disposable pipeline;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final AtomicLong signedCount = new AtomicLong();
+
+    private final AtomicLong announcedCount = new AtomicLong();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private final AtomicLong skippedCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    /**
+     * Constructor using the default configuration.
+     *
+     * @param repositoryFactory the factory of the transaction repository used to announce the cosignatures.
+     * @param listener the opened listener used to detect the partial transactions.
+     * @param accounts the managed accounts.
+     * @param policy the policy that approves the cosignatures.
+     */
+    public CosigningEngine(RepositoryFactory repositoryFactory, Listener listener, List<Account> accounts,
+        CosignaturePolicy policy) {
+        this(repositoryFactory, listener, accounts, policy, new CosigningEngineConfiguration());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param repositoryFactory the factory of the transaction repository used to announce the cosignatures.
+     * @param listener the opened listener used to detect the partial transactions.
+     * @param accounts the managed accounts.
+     * @param policy the policy that approves the cosignatures.
+     * @param configuration the engine configuration.
+     */
+    public CosigningEngine(RepositoryFactory repositoryFactory, Listener listener, List<Account> accounts,
+        CosignaturePolicy policy, CosigningEngineConfiguration configuration) {
+        Validate.notNull(repositoryFactory, "repositoryFactory must not be null");
+        Validate.notNull(listener, "listener must not be null");
+        Validate.notNull(accounts, "accounts must not be null");
+        Validate.notNull(policy, "policy must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.transactionRepository = repositoryFactory.createTransactionRepository();
+        this.listener = listener;
+        this.policy = policy;
+        this.configuration = configuration;
+        this.pipeline = requests.flatMap(this::approveAndSign, configuration.getMaxConcurrentSignatures())
+            .buffer(configuration.getBatchInterval().toMillis(), TimeUnit.MILLISECONDS, configuration.getScheduler(),
+                configuration.getMaxBatchSize()).filter(batch -> !batch.isEmpty())
+            .concatMap(this::announceBatch).subscribe(cosignatures::onNext);
+        accounts.forEach(this::addAccount);
+    }
+
+    /**
+     * It starts cosigning the partial transactions of a new managed account. Adding an already managed account has no
+     * effect.
+     *
+     * @param account the account.
+     */
+    public void addAccount(Account account) {
+        Validate.notNull(account, "account must not be null");
+        Validate.isTrue(!closed.get(), "The engine is closed");
+        synchronized (managedAccounts) {
+            if (managedAccounts.containsKey(account.getAddress())) {
+                return;
+            }
+            ManagedAccount managedAccount = new ManagedAccount(account);
+            managedAccounts.put(account.getAddress(), managedAccount);
+            managedAccount.disposable.add(listener.aggregateBondedAdded(account.getAddress())
+                .subscribe(transaction -> onAggregateBondedAdded(managedAccount, transaction),
+                    error -> onListenerError(managedAccount)));
+            managedAccount.disposable.add(listener.aggregateBondedRemoved(account.getAddress())
+                .subscribe(hash -> cosigners.remove(hash.toUpperCase()), error -> onListenerError(managedAccount)));
+        }
+    }
+
+    /**
+     * It stops cosigning the partial transactions of a managed account. The cosignatures being signed are still
+     * announced.
+     *
+     * @param address the account address.
+     */
+    public void removeAccount(Address address) {
+        Validate.notNull(address, "address must not be null");
+        synchronized (managedAccounts) {
+            ManagedAccount managedAccount = managedAccounts.remove(address);
+            if (managedAccount != null) {
+                managedAccount.disposable.dispose();
+            }
+        }
+    }
+
+    /**
+     * When an account's subscription fails the account is not managed anymore. It can be added again once the
+     * listener is usable.
+     */
+    private void onListenerError(ManagedAccount managedAccount) {
+        synchronized (managedAccounts) {
+            managedAccount.disposable.dispose();
+            managedAccounts.remove(managedAccount.publicAccount.getAddress(), managedAccount);
+        }
+    }
+
+    private void onAggregateBondedAdded(ManagedAccount managedAccount, AggregateTransaction transaction) {
+        Optional<String> hash = transaction.getTransactionInfo().flatMap(TransactionInfo::getHash)
+            .map(String::toUpperCase);
+        if (!hash.isPresent() || transaction.signedByAccount(managedAccount.publicAccount)) {
+            skippedCount.incrementAndGet();
+            return;
+        }
+        boolean added = cosigners.computeIfAbsent(hash.get(), key -> ConcurrentHashMap.newKeySet())
+            .add(managedAccount.publicKey);
+        if (!added) {
+            skippedCount.incrementAndGet();
+            return;
+        }
+        requests.onNext(new CosignRequest(hash.get(), transaction, managedAccount));
+    }
+
+    private Observable<CosignatureSignedTransaction> approveAndSign(CosignRequest request) {
+        return Observable.defer(() -> policy.approve(request.transaction, request.managedAccount.publicAccount))
+            .first(false).toObservable().observeOn(configuration.getScheduler()).flatMap(approved -> {
+                if (!approved) {
+                    rejectedCount.incrementAndGet();
+                    release(request.hash, request.managedAccount.publicKey);
+                    return Observable.empty();
+                }
+                CosignatureSignedTransaction cosignature = request.managedAccount.sign(request.hash);
+                signedCount.incrementAndGet();
+                return Observable.just(cosignature);
+            }).onErrorResumeNext(error -> {
+                failedCount.incrementAndGet();
+                release(request.hash, request.managedAccount.publicKey);
+                return Observable.empty();
+            });
+    }
+
+    private Observable<CosignatureSignedTransaction> announceBatch(List<CosignatureSignedTransaction> batch) {
+        return Observable.fromIterable(batch).flatMap(
+            cosignature -> transactionRepository.announceAggregateBondedCosignature(cosignature).map(response -> {
+                announcedCount.incrementAndGet();
+                return cosignature;
+            }).onErrorResumeNext(error -> {
+                failedCount.incrementAndGet();
+                release(cosignature.getParentHash().toUpperCase(), cosignature.getSignerPublicKey().toUpperCase());
+                return Observable.empty();
+            }), configuration.getMaxConcurrentAnnounces());
+    }
+
+    /**
+     * It forgets a failed or rejected cosignature so a new notification of the transaction is processed again.
+     */
+    private void release(String hash, String publicKey) {
+        Set<String> publicKeys = cosigners.get(hash);
+        if (publicKeys != null) {
+            publicKeys.remove(publicKey);
+        }
+    }
+
+    /**
+     * @return a hot {@link Observable} of the announced cosignatures.
+     */
+    public Observable<CosignatureSignedTransaction> cosignatures() {
+        return cosignatures;
+    }
+
+    /**
+     * @return the addresses of the managed accounts.
+     */
+    public List<Address> getManagedAddresses() {
+        synchronized (managedAccounts) {
+            return new ArrayList<>(managedAccounts.keySet());
+        }
+    }
+
+    /**
+     * @return the number of signed cosignatures.
+     */
+    public long getSignedCount() {
+        return signedCount.get();
+    }
+
+    /**
+     * @return the number of cosignatures accepted by the node.
+     */
+    public long getAnnouncedCount() {
+        return announcedCount.get();
+    }
+
+    /**
+     * @return the number of partial transactions rejected by the policy.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * @return the number of partial transactions already signed, or being signed, by the notified account.
+     */
+    public long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    /**
+     * @return the number of policy or announce errors.
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * It stops the listener subscriptions and completes the cosignatures stream. The cosignatures waiting in the
+     * current batch are not announced.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (managedAccounts) {
+            managedAccounts.values().forEach(managedAccount -> managedAccount.disposable.dispose());
+            managedAccounts.clear();
+        }
+        pipeline.dispose();
+        cosigners.clear();
+        cosignatures.onComplete();
+    }
+
+    /**
+     * A managed account with its prepared signer and listener subscriptions.
+     */
+    private static class ManagedAccount {
+
+        private final PublicAccount publicAccount;
+
+        /**
+         * The upper case public key.
+         */
+        private final String publicKey;
+
+        private final DsaSigner signer;
+
+        private final CompositeDisposable disposable = new CompositeDisposable();
+
+        private ManagedAccount(Account account) {
+            this.publicAccount = account.getPublicAccount();
+            this.publicKey = account.getPublicKey().toUpperCase();
+            this.signer = CryptoEngines.defaultEngine().createDsaSigner(account.getKeyPair());
+        }
+
+        /**
+         * It signs the hash like {@link io.nem.symbol.sdk.model.transaction.CosignatureTransaction#signWith(Account)}
+         * without creating a new signer for every transaction.
+         */
+        private CosignatureSignedTransaction sign(String hash) {
+            byte[] signature = signer.sign(ConvertUtils.fromHexToBytes(hash)).getBytes();
+            return new CosignatureSignedTransaction(AggregateTransactionCosignature.DEFAULT_VERSION, hash,
+                ConvertUtils.toHex(signature), publicKey);
+        }
+    }
+
+    /**
+     * A partial transaction to be cosigned by a managed account.
+     */
+    private static class CosignRequest {
+
+        private final String hash;
+
+        private final AggregateTransaction transaction;
+
+        private final ManagedAccount managedAccount;
+
+        private CosignRequest(String hash, AggregateTransaction transaction, ManagedAccount managedAccount) {
+            this.hash = hash;
+            this.transaction = transaction;
+            this.managedAccount = managedAccount;
+        }
+    }
+}
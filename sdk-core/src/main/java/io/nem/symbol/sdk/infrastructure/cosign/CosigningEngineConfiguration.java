@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.cosign;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The configuration of a {@link CosigningEngine}.
+ */
+public class CosigningEngineConfiguration {
+
+    /**
+     * The max number of transactions being approved and signed at the same time.
+     */
+    private int maxConcurrentSignatures = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The max number of cosignatures announced in one batch.
+     */
+    private int maxBatchSize = 50;
+
+    /**
+     * How long the engine waits to fill a batch before announcing it.
+     */
+    private Duration batchInterval = Duration.ofMillis(200);
+
+    /**
+     * The max number of announce requests of a batch sent to the node at the same time.
+     */
+    private int maxConcurrentAnnounces = 4;
+
+    /**
+     * The scheduler used to sign and to time the batches.
+     */
+    private Scheduler scheduler = Schedulers.computation();
+
+    public CosigningEngineConfiguration withMaxConcurrentSignatures(int maxConcurrentSignatures) {
+        setMaxConcurrentSignatures(maxConcurrentSignatures);
+        return this;
+    }
+
+    public CosigningEngineConfiguration withMaxBatchSize(int maxBatchSize) {
+        setMaxBatchSize(maxBatchSize);
+        return this;
+    }
+
+    public CosigningEngineConfiguration withBatchInterval(Duration batchInterval) {
+        setBatchInterval(batchInterval);
+        return this;
+    }
+
+    public CosigningEngineConfiguration withMaxConcurrentAnnounces(int maxConcurrentAnnounces) {
+        setMaxConcurrentAnnounces(maxConcurrentAnnounces);
+        return this;
+    }
+
+    public CosigningEngineConfiguration withScheduler(Scheduler scheduler) {
+        setScheduler(scheduler);
+        return this;
+    }
+
+    public int getMaxConcurrentSignatures() {
+        return maxConcurrentSignatures;
+    }
+
+    public void setMaxConcurrentSignatures(int maxConcurrentSignatures) {
+        Validate.isTrue(maxConcurrentSignatures > 0, "maxConcurrentSignatures must be greater than 0");
+        this.maxConcurrentSignatures = maxConcurrentSignatures;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        Validate.isTrue(maxBatchSize > 0, "maxBatchSize must be greater than 0");
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getBatchInterval() {
+        return batchInterval;
+    }
+
+    public void setBatchInterval(Duration batchInterval) {
+        Validate.notNull(batchInterval, "batchInterval must not be null");
+        Validate.isTrue(!batchInterval.isNegative() && !batchInterval.isZero(), "batchInterval must be positive");
+        this.batchInterval = batchInterval;
+    }
+
+    public int getMaxConcurrentAnnounces() {
+        return maxConcurrentAnnounces;
+    }
+
+    public void setMaxConcurrentAnnounces(int maxConcurrentAnnounces) {
+        Validate.isTrue(maxConcurrentAnnounces > 0, "maxConcurrentAnnounces must be greater than 0");
+        this.maxConcurrentAnnounces = maxConcurrentAnnounces;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(Scheduler scheduler) {
+        Validate.notNull(scheduler, "scheduler must not be null");
+        this.scheduler = scheduler;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.multinode;
+
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * How a {@link MultiNodeRepositoryFactory} executes the read only repository calls, every call but the announce
+ * methods.
+ *
+ * <p>Calls failing with a retryable {@link RepositoryCallException} status code are retried on another node after a
+ * jittered exponential backoff. When hedging is enabled, a second request is sent to another node if the first one
+ * hasn't responded after the configured latency percentile of the node, the first response wins. The number of
+ * concurrent calls per node is limited with an additive increase, multiplicative decrease limit between the min and
+ * max concurrency, slow nodes get fewer calls.
+ */
+public class ExecutionPolicy {
+
+    /**
+     * The max number of retries of a read only call.
+     */
+    private int maxRetries = 2;
+
+    /**
+     * The backoff of the first retry, it doubles on each retry.
+     */
+    private Duration initialBackoff = Duration.ofMillis(100);
+
+    /**
+     * The max backoff.
+     */
+    private Duration maxBackoff = Duration.ofSeconds(2);
+
+    /**
+     * The {@link RepositoryCallException} status codes that are retried.
+     */
+    private Set<Integer> retryableStatusCodes = new HashSet<>(Arrays.asList(0, 429, 502, 503, 504));
+
+    /**
+     * If hedged requests are sent.
+     */
+    private boolean hedging;
+
+    /**
+     * The latency percentile of the node after which a hedged request is sent, between 0 and 1.
+     */
+    private double hedgePercentile = 0.95;
+
+    /**
+     * The min number of latency samples of the node to compute the percentile.
+     */
+    private int hedgeMinSamples = 20;
+
+    /**
+     * The hedge delay used when the node doesn't have enough latency samples.
+     */
+    private Duration hedgeDelay = Duration.ofMillis(500);
+
+    /**
+     * The initial concurrency limit of each node.
+     */
+    private int initialConcurrency = 20;
+
+    /**
+     * The min concurrency limit of each node.
+     */
+    private int minConcurrency = 1;
+
+    /**
+     * The max concurrency limit of each node.
+     */
+    private int maxConcurrency = 200;
+
+    /**
+     * It tells if the error of a call should be retried.
+     *
+     * @param error the error.
+     * @return if it's a {@link RepositoryCallException} with a retryable status code.
+     */
+    public boolean isRetryable(Throwable error) {
+        return error instanceof RepositoryCallException && retryableStatusCodes
+            .contains(((RepositoryCallException) error).getStatusCode());
+    }
+
+    /**
+     * It returns the full jitter backoff of a retry, a random delay between 0 and the exponential backoff.
+     *
+     * @param retry the retry number starting from 0.
+     * @return the delay in milliseconds.
+     */
+    public long getBackoffMillis(int retry) {
+        long backoff = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(retry, 30));
+        return backoff <= 0 ? 0 : ThreadLocalRandom.current().nextLong(backoff + 1);
+    }
+
+    public ExecutionPolicy withMaxRetries(int maxRetries) {
+        setMaxRetries(maxRetries);
+        return this;
+    }
+
+    public ExecutionPolicy withInitialBackoff(Duration initialBackoff) {
+        setInitialBackoff(initialBackoff);
+        return this;
+    }
+
+    public ExecutionPolicy withMaxBackoff(Duration maxBackoff) {
+        setMaxBackoff(maxBackoff);
+        return this;
+    }
+
+    public ExecutionPolicy withRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+        setRetryableStatusCodes(retryableStatusCodes);
+        return this;
+    }
+
+    public ExecutionPolicy withHedging(boolean hedging) {
+        setHedging(hedging);
+        return this;
+    }
+
+    public ExecutionPolicy withHedgePercentile(double hedgePercentile) {
+        setHedgePercentile(hedgePercentile);
+        return this;
+    }
+
+    public ExecutionPolicy withHedgeMinSamples(int hedgeMinSamples) {
+        setHedgeMinSamples(hedgeMinSamples);
+        return this;
+    }
+
+    public ExecutionPolicy withHedgeDelay(Duration hedgeDelay) {
+        setHedgeDelay(hedgeDelay);
+        return this;
+    }
+
+    public ExecutionPolicy withConcurrency(int initialConcurrency, int minConcurrency, int maxConcurrency) {
+        setConcurrency(initialConcurrency, minConcurrency, maxConcurrency);
+        return this;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        Validate.isTrue(maxRetries >= 0, "maxRetries must not be negative");
+        this.maxRetries = maxRetries;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        Validate.notNull(initialBackoff, "initialBackoff must not be null");
+        Validate.isTrue(!initialBackoff.isNegative(), "initialBackoff must not be negative");
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        Validate.notNull(maxBackoff, "maxBackoff must not be null");
+        Validate.isTrue(!maxBackoff.isNegative(), "maxBackoff must not be negative");
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Set<Integer> getRetryableStatusCodes() {
+        return retryableStatusCodes;
+    }
+
+    public void setRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+        Validate.notNull(retryableStatusCodes, "retryableStatusCodes must not be null");
+        this.retryableStatusCodes = Collections.unmodifiableSet(new HashSet<>(retryableStatusCodes));
+    }
+
+    public boolean isHedging() {
+        return hedging;
+    }
+
+    public void setHedging(boolean hedging) {
+        this.hedging = hedging;
+    }
+
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+
+    public void setHedgePercentile(double hedgePercentile) {
+        Validate.isTrue(hedgePercentile > 0 && hedgePercentile <= 1, "hedgePercentile must be in (0, 1]");
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    public int getHedgeMinSamples() {
+        return hedgeMinSamples;
+    }
+
+    public void setHedgeMinSamples(int hedgeMinSamples) {
+        Validate.isTrue(hedgeMinSamples > 0, "hedgeMinSamples must be greater than 0");
+        this.hedgeMinSamples = hedgeMinSamples;
+    }
+
+    public Duration getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    public void setHedgeDelay(Duration hedgeDelay) {
+        Validate.notNull(hedgeDelay, "hedgeDelay must not be null");
+        Validate.isTrue(!hedgeDelay.isNegative(), "hedgeDelay must not be negative");
+        this.hedgeDelay = hedgeDelay;
+    }
+
+    public int getInitialConcurrency() {
+        return initialConcurrency;
+    }
+
+    public int getMinConcurrency() {
+        return minConcurrency;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setConcurrency(int initialConcurrency, int minConcurrency, int maxConcurrency) {
+        Validate.isTrue(minConcurrency > 0, "minConcurrency must be greater than 0");
+        Validate.isTrue(minConcurrency <= initialConcurrency && initialConcurrency <= maxConcurrency,
+            "initialConcurrency must be between minConcurrency and maxConcurrency");
+        this.initialConcurrency = initialConcurrency;
+        this.minConcurrency = minConcurrency;
+        this.maxConcurrency = maxConcurrency;
+    }
+}
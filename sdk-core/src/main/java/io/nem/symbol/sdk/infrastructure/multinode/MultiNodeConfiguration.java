@@ -0,0 +1,247 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.multinode;
+
+import io.nem.symbol.sdk.model.node.NodeInfo;
+import io.nem.symbol.sdk.model.node.RoleType;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The configuration of a {@link MultiNodeRepositoryFactory}.
+ */
+public class MultiNodeConfiguration {
+
+    /**
+     * How often the nodes are probed.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(30);
+
+    /**
+     * How long a probe waits for the node's response before ejecting the node.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(5);
+
+    /**
+     * The weight of the new latency samples in the exponentially weighted moving average, between 0 and 1.
+     */
+    private double latencyAlpha = 0.3;
+
+    /**
+     * Nodes whose chain height is behind the highest known height by more blocks are not used.
+     */
+    private long maxHeightLag = 10;
+
+    /**
+     * The consecutive failed calls that eject a node until the next successful probe.
+     */
+    private int maxFailures = 3;
+
+    /**
+     * The expected generation hash seed. When provided, the nodes of other networks are ejected.
+     */
+    private String generationHash;
+
+    /**
+     * If new nodes are discovered using the peers of the known nodes.
+     */
+    private boolean peerDiscovery;
+
+    /**
+     * The max number of known nodes, including the discovered ones.
+     */
+    private int maxNodes = 20;
+
+    /**
+     * It resolves the rest url of a discovered peer, empty if the peer is not an api node.
+     */
+    private Function<NodeInfo, Optional<String>> peerUrlResolver = MultiNodeConfiguration::resolveDefaultPeerUrl;
+
+    /**
+     * The retries, hedging and concurrency limits of the calls.
+     */
+    private ExecutionPolicy executionPolicy = new ExecutionPolicy();
+
+    /**
+     * The scheduler of the periodic health checks, the probe timeouts, the retries and the hedged requests.
+     */
+    private Scheduler scheduler = Schedulers.computation();
+
+    private static Optional<String> resolveDefaultPeerUrl(NodeInfo nodeInfo) {
+        if (nodeInfo.getRoles() != RoleType.API_NODE && nodeInfo.getRoles() != RoleType.DUAL_NODE) {
+            return Optional.empty();
+        }
+        return Optional.of("http://" + nodeInfo.getHost() + ":3000");
+    }
+
+    public MultiNodeConfiguration withHealthCheckInterval(Duration healthCheckInterval) {
+        setHealthCheckInterval(healthCheckInterval);
+        return this;
+    }
+
+    public MultiNodeConfiguration withHealthCheckTimeout(Duration healthCheckTimeout) {
+        setHealthCheckTimeout(healthCheckTimeout);
+        return this;
+    }
+
+    public MultiNodeConfiguration withLatencyAlpha(double latencyAlpha) {
+        setLatencyAlpha(latencyAlpha);
+        return this;
+    }
+
+    public MultiNodeConfiguration withMaxHeightLag(long maxHeightLag) {
+        setMaxHeightLag(maxHeightLag);
+        return this;
+    }
+
+    public MultiNodeConfiguration withMaxFailures(int maxFailures) {
+        setMaxFailures(maxFailures);
+        return this;
+    }
+
+    public MultiNodeConfiguration withGenerationHash(String generationHash) {
+        setGenerationHash(generationHash);
+        return this;
+    }
+
+    public MultiNodeConfiguration withPeerDiscovery(boolean peerDiscovery) {
+        setPeerDiscovery(peerDiscovery);
+        return this;
+    }
+
+    public MultiNodeConfiguration withMaxNodes(int maxNodes) {
+        setMaxNodes(maxNodes);
+        return this;
+    }
+
+    public MultiNodeConfiguration withPeerUrlResolver(Function<NodeInfo, Optional<String>> peerUrlResolver) {
+        setPeerUrlResolver(peerUrlResolver);
+        return this;
+    }
+
+    public MultiNodeConfiguration withExecutionPolicy(ExecutionPolicy executionPolicy) {
+        setExecutionPolicy(executionPolicy);
+        return this;
+    }
+
+    public MultiNodeConfiguration withScheduler(Scheduler scheduler) {
+        setScheduler(scheduler);
+        return this;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        Validate.notNull(healthCheckInterval, "healthCheckInterval must not be null");
+        Validate.isTrue(!healthCheckInterval.isNegative() && !healthCheckInterval.isZero(),
+            "healthCheckInterval must be positive");
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    public Duration getHealthCheckTimeout() {
+        return healthCheckTimeout;
+    }
+
+    public void setHealthCheckTimeout(Duration healthCheckTimeout) {
+        Validate.notNull(healthCheckTimeout, "healthCheckTimeout must not be null");
+        Validate.isTrue(!healthCheckTimeout.isNegative() && !healthCheckTimeout.isZero(),
+            "healthCheckTimeout must be positive");
+        this.healthCheckTimeout = healthCheckTimeout;
+    }
+
+    public double getLatencyAlpha() {
+        return latencyAlpha;
+    }
+
+    public void setLatencyAlpha(double latencyAlpha) {
+        Validate.isTrue(latencyAlpha > 0 && latencyAlpha <= 1, "latencyAlpha must be in (0, 1]");
+        this.latencyAlpha = latencyAlpha;
+    }
+
+    public long getMaxHeightLag() {
+        return maxHeightLag;
+    }
+
+    public void setMaxHeightLag(long maxHeightLag) {
+        Validate.isTrue(maxHeightLag >= 0, "maxHeightLag must not be negative");
+        this.maxHeightLag = maxHeightLag;
+    }
+
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    public void setMaxFailures(int maxFailures) {
+        Validate.isTrue(maxFailures > 0, "maxFailures must be greater than 0");
+        this.maxFailures = maxFailures;
+    }
+
+    public String getGenerationHash() {
+        return generationHash;
+    }
+
+    public void setGenerationHash(String generationHash) {
+        this.generationHash = generationHash;
+    }
+
+    public boolean isPeerDiscovery() {
+        return peerDiscovery;
+    }
+
+    public void setPeerDiscovery(boolean peerDiscovery) {
+        this.peerDiscovery = peerDiscovery;
+    }
+
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    public void setMaxNodes(int maxNodes) {
+        Validate.isTrue(maxNodes > 0, "maxNodes must be greater than 0");
+        this.maxNodes = maxNodes;
+    }
+
+    public Function<NodeInfo, Optional<String>> getPeerUrlResolver() {
+        return peerUrlResolver;
+    }
+
+    public void setPeerUrlResolver(Function<NodeInfo, Optional<String>> peerUrlResolver) {
+        this.peerUrlResolver = Validate.notNull(peerUrlResolver, "peerUrlResolver must not be null");
+    }
+
+    public ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.executionPolicy = Validate.notNull(executionPolicy, "executionPolicy must not be null");
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(Scheduler scheduler) {
+        this.scheduler = Validate.notNull(scheduler, "scheduler must not be null");
+    }
+}
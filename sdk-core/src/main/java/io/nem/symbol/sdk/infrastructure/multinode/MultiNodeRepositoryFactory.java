@@ -0,0 +1,430 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.multinode;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.JsonSerialization;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.MetadataRepository;
+import io.nem.symbol.sdk.api.MosaicRepository;
+import io.nem.symbol.sdk.api.MultisigRepository;
+import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.NodeRepository;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.RestrictionAccountRepository;
+import io.nem.symbol.sdk.api.RestrictionMosaicRepository;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionStatusRepository;
+import io.nem.symbol.sdk.model.mosaic.NetworkCurrency;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.node.NodeHealth;
+import io.nem.symbol.sdk.model.node.NodeInfo;
+import io.nem.symbol.sdk.model.node.NodeStatus;
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link RepositoryFactory} that spreads the calls between many rest nodes.
+ *
+ * <p>The nodes are probed periodically with {@link NodeRepository#getNodeHealth()}, {@link
+ * NodeRepository#getNodeInfo()} and {@link ChainRepository#getBlockchainHeight()}. Each repository call is routed,
+ * when subscribed, to the healthy node with the lowest average latency whose chain height is not behind the others.
+ * Nodes that fail a probe, or too many consecutive calls, are ejected until a probe succeeds again. When all the
+ * nodes are ejected, the calls are routed to the node with the lowest latency. Optionally, new nodes are discovered
+ * using {@link NodeRepository#getNodePeers()}.
+ *
+ * <p>Read only calls are retried, hedged and limited per node according to the {@link ExecutionPolicy}.
+ *
+ * <p>Each node is accessed through its own factory, created from the node url with the provided function, for
+ * example {@code url -> new RepositoryFactoryOkHttpImpl(new RepositoryFactoryConfiguration(url))}.
+ */
+public class MultiNodeRepositoryFactory implements RepositoryFactory {
+
+    private final Function<String, RepositoryFactory> factoryCreator;
+
+    private final MultiNodeConfiguration configuration;
+
+    private final Scheduler scheduler;
+
+    private final List<NodeEndpoint> nodes = new CopyOnWriteArrayList<>();
+
+    private final Disposable healthChecks;
+
+    private final AtomicLong retryCount = new AtomicLong();
+
+    private final AtomicLong hedgeCount = new AtomicLong();
+
+    private final AtomicLong failedHealthCheckCount = new AtomicLong();
+
+    /**
+     * Constructor using the default {@link MultiNodeConfiguration}.
+     *
+     * @param urls the rest urls of the known nodes.
+     * @param factoryCreator the function that creates the factory of a node url.
+     */
+    public MultiNodeRepositoryFactory(List<String> urls, Function<String, RepositoryFactory> factoryCreator) {
+        this(urls, factoryCreator, new MultiNodeConfiguration());
+    }
+
+    /**
+     * Constructor. The first health check is scheduled straight away.
+     *
+     * @param urls the rest urls of the known nodes.
+     * @param factoryCreator the function that creates the factory of a node url.
+     * @param configuration the configuration.
+     */
+    public MultiNodeRepositoryFactory(List<String> urls, Function<String, RepositoryFactory> factoryCreator,
+        MultiNodeConfiguration configuration) {
+        Validate.notEmpty(urls, "urls must not be empty");
+        Validate.notNull(factoryCreator, "factoryCreator must not be null");
+        Validate.notNull(configuration, "configuration must not be null");
+        this.factoryCreator = factoryCreator;
+        this.configuration = configuration;
+        this.scheduler = configuration.getScheduler();
+        urls.stream().distinct()
+            .forEach(url -> nodes.add(new NodeEndpoint(url, factoryCreator.apply(url), configuration, true)));
+        this.healthChecks = Observable
+            .interval(0, configuration.getHealthCheckInterval().toMillis(), TimeUnit.MILLISECONDS, scheduler)
+            .concatMap(tick -> Observable.defer(this::checkHealth).onErrorResumeNext((Throwable error) -> {
+                // An unexpected failure skips this health check only, the next one is still scheduled.
+                failedHealthCheckCount.incrementAndGet();
+                return Observable.empty();
+            })).subscribe();
+    }
+
+    /**
+     * @return a snapshot of the known nodes.
+     */
+    public List<NodeEndpoint> getNodes() {
+        return Collections.unmodifiableList(new ArrayList<>(nodes));
+    }
+
+    /**
+     * It discovers new nodes, when enabled, and it probes all the known nodes.
+     *
+     * @return an {@link Observable} of the known nodes once they have been probed.
+     */
+    public Observable<List<NodeEndpoint>> checkHealth() {
+        Completable discovery = configuration.isPeerDiscovery() ? discoverPeers() : Completable.complete();
+        return discovery.andThen(Observable.defer(() -> Observable.fromIterable(nodes).flatMap(this::probe)))
+            .ignoreElements().andThen(Observable.fromCallable(this::getNodes));
+    }
+
+    private Observable<NodeEndpoint> probe(NodeEndpoint node) {
+        return Observable.defer(() -> {
+            long start = now();
+            NodeRepository nodeRepository = node
+                .getRepository(NodeRepository.class, RepositoryFactory::createNodeRepository);
+            ChainRepository chainRepository = node
+                .getRepository(ChainRepository.class, RepositoryFactory::createChainRepository);
+            return Observable.zip(nodeRepository.getNodeHealth(), nodeRepository.getNodeInfo(),
+                chainRepository.getBlockchainHeight(), (health, info, height) -> {
+                    validateProbe(node, health, info);
+                    node.probeSucceeded(toMillis(now() - start), height);
+                    return node;
+                }).take(1);
+        }).timeout(configuration.getHealthCheckTimeout().toMillis(), TimeUnit.MILLISECONDS, scheduler)
+            .onErrorReturn(error -> {
+                node.probeFailed(error);
+                return node;
+            });
+    }
+
+    private void validateProbe(NodeEndpoint node, NodeHealth health, NodeInfo info) {
+        if (health.getApiNode() != NodeStatus.UP || health.getDb() != NodeStatus.UP) {
+            throw new IllegalStateException(
+                "Node " + node.getUrl() + " is not healthy. Api node: " + health.getApiNode() + ", db: " + health
+                    .getDb());
+        }
+        String generationHash = configuration.getGenerationHash();
+        if (generationHash != null && !generationHash.equalsIgnoreCase(info.getNetworkGenerationHashSeed())) {
+            throw new IllegalStateException(
+                "Node " + node.getUrl() + " belongs to a different network. Generation hash: " + info
+                    .getNetworkGenerationHashSeed());
+        }
+    }
+
+    private Completable discoverPeers() {
+        return Observable.defer(
+            () -> selectNode().getRepository(NodeRepository.class, RepositoryFactory::createNodeRepository)
+                .getNodePeers()).take(1)
+            .timeout(configuration.getHealthCheckTimeout().toMillis(), TimeUnit.MILLISECONDS, scheduler)
+            .doOnNext(peers -> peers.forEach(peer -> configuration.getPeerUrlResolver().apply(peer)
+                .ifPresent(this::addDiscoveredNode))).ignoreElements().onErrorComplete();
+    }
+
+    private synchronized void addDiscoveredNode(String url) {
+        if (nodes.size() >= configuration.getMaxNodes() || nodes.stream()
+            .anyMatch(node -> node.getUrl().equals(url))) {
+            return;
+        }
+        nodes.add(new NodeEndpoint(url, factoryCreator.apply(url), configuration, false));
+    }
+
+    /**
+     * It selects the node of the next call without reserving a concurrent call slot.
+     *
+     * @return the healthy and up to date node with the lowest latency.
+     */
+    NodeEndpoint selectNode() {
+        return rankNodes(Collections.emptySet()).get(0);
+    }
+
+    /**
+     * It selects and reserves the node of the next call. The best nodes that haven't reached their concurrency limit
+     * are preferred, when all of them have reached it the least loaded node is used.
+     *
+     * @param excluded the nodes already tried by the call, they are only used when there isn't any other node.
+     * @return the reserved node.
+     */
+    NodeEndpoint acquireNode(Set<NodeEndpoint> excluded) {
+        List<NodeEndpoint> ranked = rankNodes(excluded);
+        return acquire(ranked.isEmpty() ? rankNodes(Collections.emptySet()) : ranked);
+    }
+
+    /**
+     * It selects and reserves a node different from the excluded ones.
+     *
+     * @param excluded the excluded nodes.
+     * @return the reserved node, empty if all the nodes are excluded.
+     */
+    Optional<NodeEndpoint> acquireOtherNode(Set<NodeEndpoint> excluded) {
+        List<NodeEndpoint> ranked = rankNodes(excluded);
+        return ranked.isEmpty() ? Optional.empty() : Optional.of(acquire(ranked));
+    }
+
+    private NodeEndpoint acquire(List<NodeEndpoint> ranked) {
+        for (NodeEndpoint node : ranked) {
+            if (node.tryAcquire()) {
+                return node;
+            }
+        }
+        NodeEndpoint leastLoaded = ranked.stream().min(Comparator
+            .comparingDouble(node -> (double) node.getInFlightCount() / node.getConcurrencyLimit()))
+            .orElseThrow(IllegalStateException::new);
+        leastLoaded.acquire();
+        return leastLoaded;
+    }
+
+    /**
+     * It ranks the candidate nodes. Unhealthy nodes are only candidates when there isn't any healthy node. Nodes whose
+     * chain height is behind are not candidates.
+     *
+     * @param excluded the nodes that are not candidates.
+     * @return the candidates sorted by latency.
+     */
+    private List<NodeEndpoint> rankNodes(Set<NodeEndpoint> excluded) {
+        List<NodeEndpoint> available = nodes.stream().filter(node -> !excluded.contains(node))
+            .collect(Collectors.toList());
+        List<NodeEndpoint> candidates = available.stream().filter(NodeEndpoint::isHealthy)
+            .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            candidates = available;
+        }
+        BigInteger minHeight = candidates.stream().map(NodeEndpoint::getChainHeight).filter(Objects::nonNull)
+            .max(Comparator.naturalOrder()).map(height -> height.subtract(BigInteger.valueOf(
+                configuration.getMaxHeightLag()))).orElse(BigInteger.ZERO);
+        return candidates.stream()
+            .filter(node -> node.getChainHeight() == null || node.getChainHeight().compareTo(minHeight) >= 0)
+            .sorted(Comparator.comparingDouble(NodeEndpoint::getLatencyMillis)).collect(Collectors.toList());
+    }
+
+    void recordRetry() {
+        retryCount.incrementAndGet();
+    }
+
+    void recordHedge() {
+        hedgeCount.incrementAndGet();
+    }
+
+    /**
+     * @return the number of retried calls.
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * @return the number of hedged requests.
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * @return the number of scheduled health checks that failed unexpectedly, for example, when the factory of a
+     * discovered node could not be created.
+     */
+    public long getFailedHealthCheckCount() {
+        return failedHealthCheckCount.get();
+    }
+
+    ExecutionPolicy getExecutionPolicy() {
+        return configuration.getExecutionPolicy();
+    }
+
+    Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    long now() {
+        return scheduler.now(TimeUnit.NANOSECONDS);
+    }
+
+    double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private <R> R createRepository(Class<R> repositoryType, Function<RepositoryFactory, R> repositoryCreator) {
+        return repositoryType.cast(Proxy
+            .newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                new NodeRoutingHandler<>(this, repositoryType, repositoryCreator)));
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return createRepository(AccountRepository.class, RepositoryFactory::createAccountRepository);
+    }
+
+    @Override
+    public MultisigRepository createMultisigRepository() {
+        return createRepository(MultisigRepository.class, RepositoryFactory::createMultisigRepository);
+    }
+
+    @Override
+    public BlockRepository createBlockRepository() {
+        return createRepository(BlockRepository.class, RepositoryFactory::createBlockRepository);
+    }
+
+    @Override
+    public ReceiptRepository createReceiptRepository() {
+        return createRepository(ReceiptRepository.class, RepositoryFactory::createReceiptRepository);
+    }
+
+    @Override
+    public ChainRepository createChainRepository() {
+        return createRepository(ChainRepository.class, RepositoryFactory::createChainRepository);
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return createRepository(MosaicRepository.class, RepositoryFactory::createMosaicRepository);
+    }
+
+    @Override
+    public NamespaceRepository createNamespaceRepository() {
+        return createRepository(NamespaceRepository.class, RepositoryFactory::createNamespaceRepository);
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return createRepository(NetworkRepository.class, RepositoryFactory::createNetworkRepository);
+    }
+
+    @Override
+    public NodeRepository createNodeRepository() {
+        return createRepository(NodeRepository.class, RepositoryFactory::createNodeRepository);
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return createRepository(TransactionRepository.class, RepositoryFactory::createTransactionRepository);
+    }
+
+    @Override
+    public TransactionStatusRepository createTransactionStatusRepository() {
+        return createRepository(TransactionStatusRepository.class,
+            RepositoryFactory::createTransactionStatusRepository);
+    }
+
+    @Override
+    public MetadataRepository createMetadataRepository() {
+        return createRepository(MetadataRepository.class, RepositoryFactory::createMetadataRepository);
+    }
+
+    @Override
+    public RestrictionAccountRepository createRestrictionAccountRepository() {
+        return createRepository(RestrictionAccountRepository.class,
+            RepositoryFactory::createRestrictionAccountRepository);
+    }
+
+    @Override
+    public RestrictionMosaicRepository createRestrictionMosaicRepository() {
+        return createRepository(RestrictionMosaicRepository.class,
+            RepositoryFactory::createRestrictionMosaicRepository);
+    }
+
+    /**
+     * @return a listener connected to the best node when the listener is created.
+     */
+    @Override
+    public Listener createListener() {
+        return selectNode().getRepositoryFactory().createListener();
+    }
+
+    @Override
+    public JsonSerialization createJsonSerialization() {
+        return nodes.get(0).getRepositoryFactory().createJsonSerialization();
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return Observable.defer(() -> selectNode().getRepositoryFactory().getNetworkType());
+    }
+
+    @Override
+    public Observable<String> getGenerationHash() {
+        return Observable.defer(() -> selectNode().getRepositoryFactory().getGenerationHash());
+    }
+
+    @Override
+    public Observable<NetworkCurrency> getNetworkCurrency() {
+        return Observable.defer(() -> selectNode().getRepositoryFactory().getNetworkCurrency());
+    }
+
+    @Override
+    public Observable<NetworkCurrency> getHarvestCurrency() {
+        return Observable.defer(() -> selectNode().getRepositoryFactory().getHarvestCurrency());
+    }
+
+    @Override
+    public void close() {
+        healthChecks.dispose();
+        nodes.forEach(node -> node.getRepositoryFactory().close());
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.multinode;
+
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A node known by a {@link MultiNodeRepositoryFactory} and its measured state.
+ *
+ * <p>The latency is an exponentially weighted moving average of the successful calls and probes. A node is ejected
+ * when a probe fails or after too many consecutive failed calls, and it's readmitted by the next successful probe.
+ *
+ * <p>The node's concurrency limit grows by one every limit successful calls and it's reduced by a quarter on each
+ * failed or slow call, a call slower than twice the average latency.
+ */
+public class NodeEndpoint {
+
+    private static final int LATENCY_WINDOW_SIZE = 128;
+
+    private static final double CONCURRENCY_DECREASE_RATIO = 0.75;
+
+    private final String url;
+
+    private final RepositoryFactory repositoryFactory;
+
+    private final double latencyAlpha;
+
+    private final int maxFailures;
+
+    private final int minConcurrency;
+
+    private final int maxConcurrency;
+
+    private final Map<Class<?>, Object> repositories = new ConcurrentHashMap<>();
+
+    /**
+     * The latencies of the last successful calls, a ring buffer.
+     */
+    private final double[] latencySampleWindow = new double[LATENCY_WINDOW_SIZE];
+
+    private boolean healthy;
+
+    private long latencySamples;
+
+    private double latencyMillis;
+
+    private BigInteger chainHeight;
+
+    private int failureCount;
+
+    private Throwable lastError;
+
+    private double concurrencyLimit;
+
+    private int inFlightCount;
+
+    NodeEndpoint(String url, RepositoryFactory repositoryFactory, MultiNodeConfiguration configuration,
+        boolean healthy) {
+        this.url = url;
+        this.repositoryFactory = repositoryFactory;
+        this.latencyAlpha = configuration.getLatencyAlpha();
+        this.maxFailures = configuration.getMaxFailures();
+        this.minConcurrency = configuration.getExecutionPolicy().getMinConcurrency();
+        this.maxConcurrency = configuration.getExecutionPolicy().getMaxConcurrency();
+        this.concurrencyLimit = configuration.getExecutionPolicy().getInitialConcurrency();
+        this.healthy = healthy;
+    }
+
+    /**
+     * It tells if an error is a failure of the node or a valid response of the node, like a 404.
+     *
+     * @param error the error.
+     * @return if the error is a failure of the node.
+     */
+    static boolean isNodeFailure(Throwable error) {
+        if (!(error instanceof RepositoryCallException)) {
+            return true;
+        }
+        int statusCode = ((RepositoryCallException) error).getStatusCode();
+        return statusCode < 400 || statusCode >= 500 || statusCode == 429;
+    }
+
+    @SuppressWarnings("unchecked")
+    <R> R getRepository(Class<R> repositoryType, Function<RepositoryFactory, R> repositoryCreator) {
+        return (R) repositories.computeIfAbsent(repositoryType, type -> repositoryCreator.apply(repositoryFactory));
+    }
+
+    synchronized void recordSuccess(double latencyMillis) {
+        if (latencySamples > 0 && latencyMillis > 2 * this.latencyMillis) {
+            decreaseConcurrencyLimit();
+        } else {
+            this.concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1 / concurrencyLimit);
+        }
+        this.latencyMillis = latencySamples == 0 ? latencyMillis
+            : latencyAlpha * latencyMillis + (1 - latencyAlpha) * this.latencyMillis;
+        this.latencySampleWindow[(int) (latencySamples % LATENCY_WINDOW_SIZE)] = latencyMillis;
+        this.latencySamples++;
+        this.failureCount = 0;
+    }
+
+    synchronized void recordFailure(Throwable error) {
+        decreaseConcurrencyLimit();
+        this.failureCount++;
+        this.lastError = error;
+        if (failureCount >= maxFailures) {
+            this.healthy = false;
+        }
+    }
+
+    private void decreaseConcurrencyLimit() {
+        this.concurrencyLimit = Math.max(minConcurrency, concurrencyLimit * CONCURRENCY_DECREASE_RATIO);
+    }
+
+    /**
+     * It reserves a concurrent call slot.
+     *
+     * @return false if the node has reached its concurrency limit.
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlightCount >= (int) concurrencyLimit) {
+            return false;
+        }
+        inFlightCount++;
+        return true;
+    }
+
+    /**
+     * It reserves a concurrent call slot even if the node has reached its concurrency limit.
+     */
+    synchronized void acquire() {
+        inFlightCount++;
+    }
+
+    /**
+     * It releases a concurrent call slot.
+     */
+    synchronized void release() {
+        inFlightCount--;
+    }
+
+    /**
+     * It returns a percentile of the latest latencies.
+     *
+     * @param percentile the percentile between 0 and 1.
+     * @param minSamples the min number of samples.
+     * @return the percentile in milliseconds, empty if there aren't enough samples.
+     */
+    synchronized OptionalDouble getLatencyPercentile(double percentile, int minSamples) {
+        int size = (int) Math.min(latencySamples, LATENCY_WINDOW_SIZE);
+        if (size < minSamples || size == 0) {
+            return OptionalDouble.empty();
+        }
+        double[] sorted = Arrays.copyOf(latencySampleWindow, size);
+        Arrays.sort(sorted);
+        return OptionalDouble.of(sorted[Math.min(size - 1, (int) Math.ceil(percentile * size) - 1)]);
+    }
+
+    synchronized void probeSucceeded(double latencyMillis, BigInteger chainHeight) {
+        recordSuccess(latencyMillis);
+        this.chainHeight = chainHeight;
+        this.healthy = true;
+    }
+
+    synchronized void probeFailed(Throwable error) {
+        this.lastError = error;
+        this.healthy = false;
+    }
+
+    /**
+     * @return the rest url of the node.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return the factory connected to this node.
+     */
+    public RepositoryFactory getRepositoryFactory() {
+        return repositoryFactory;
+    }
+
+    /**
+     * @return if the node is used. Nodes are healthy until the first probe.
+     */
+    public synchronized boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * @return the average latency in milliseconds, 0 if unknown.
+     */
+    public synchronized double getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    /**
+     * @return the chain height of the last successful probe, null if unknown.
+     */
+    public synchronized BigInteger getChainHeight() {
+        return chainHeight;
+    }
+
+    /**
+     * @return the consecutive failed calls.
+     */
+    public synchronized int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the last error of the node, null if none.
+     */
+    public synchronized Throwable getLastError() {
+        return lastError;
+    }
+
+    /**
+     * @return the current concurrency limit.
+     */
+    public synchronized int getConcurrencyLimit() {
+        return (int) concurrencyLimit;
+    }
+
+    /**
+     * @return the number of calls in flight.
+     */
+    public synchronized int getInFlightCount() {
+        return inFlightCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "NodeEndpoint{" + "url='" + url + '\'' + ", healthy=" + healthy + ", latencyMillis=" + latencyMillis
+            + ", chainHeight=" + chainHeight + ", failureCount=" + failureCount + ", concurrencyLimit="
+            + concurrencyLimit + ", inFlightCount=" + inFlightCount + '}';
+    }
+}
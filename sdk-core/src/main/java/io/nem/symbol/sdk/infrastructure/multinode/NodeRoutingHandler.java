@@ -0,0 +1,197 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.multinode;
+
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.reactivex.Observable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * The {@link InvocationHandler} of the repositories created by a {@link MultiNodeRepositoryFactory}. Each call is
+ * routed to the best node when the returned {@link Observable} is subscribed and its outcome is recorded in the
+ * node's {@link NodeEndpoint}. Read only calls, every method but the {@link #NON_IDEMPOTENT_METHODS}, are retried
+ * and hedged according to the {@link ExecutionPolicy}.
+ *
+ * @param <R> the type of the repository.
+ */
+class NodeRoutingHandler<R> implements InvocationHandler {
+
+    /**
+     * The methods that change the network state, they are sent to a single node and never retried or hedged.
+     */
+    static final Set<Method> NON_IDEMPOTENT_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        getMethod(TransactionRepository.class, "announce", SignedTransaction.class),
+        getMethod(TransactionRepository.class, "announceAggregateBonded", SignedTransaction.class),
+        getMethod(TransactionRepository.class, "announceAggregateBondedCosignature",
+            CosignatureSignedTransaction.class))));
+
+    private final MultiNodeRepositoryFactory factory;
+
+    private final Class<R> repositoryType;
+
+    private final Function<RepositoryFactory, R> repositoryCreator;
+
+    NodeRoutingHandler(MultiNodeRepositoryFactory factory, Class<R> repositoryType,
+        Function<RepositoryFactory, R> repositoryCreator) {
+        this.factory = factory;
+        this.repositoryType = repositoryType;
+        this.repositoryCreator = repositoryCreator;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeObjectMethod(proxy, method, args);
+        }
+        if (method.getReturnType() != Observable.class) {
+            return invoke(factory.selectNode(), method, args);
+        }
+        if (NON_IDEMPOTENT_METHODS.contains(method)) {
+            return Observable.using(() -> new Reservation(factory.acquireNode(Collections.emptySet())),
+                reservation -> attempt(reservation, method, args), Reservation::release, true);
+        }
+        return Observable.defer(() -> read(method, args, 0, Collections.emptySet()));
+    }
+
+    private Observable<Object> read(Method method, Object[] args, int retry, Set<NodeEndpoint> tried) {
+        ExecutionPolicy policy = factory.getExecutionPolicy();
+        Set<NodeEndpoint> nextTried = Collections.synchronizedSet(new HashSet<>(tried));
+        return Observable.using(() -> new Reservation(factory.acquireNode(tried)), reservation -> {
+            nextTried.add(reservation.node);
+            return hedge(reservation, method, args, tried);
+        }, Reservation::release, true).onErrorResumeNext((Throwable error) -> {
+            if (retry >= policy.getMaxRetries() || !policy.isRetryable(error)) {
+                return Observable.error(error);
+            }
+            factory.recordRetry();
+            return Observable.timer(policy.getBackoffMillis(retry), TimeUnit.MILLISECONDS, factory.getScheduler())
+                .flatMap(tick -> read(method, args, retry + 1, nextTried));
+        });
+    }
+
+    private Observable<Object> hedge(Reservation reservation, Method method, Object[] args,
+        Set<NodeEndpoint> tried) {
+        Observable<Object> primary = attempt(reservation, method, args);
+        NodeEndpoint node = reservation.node;
+        ExecutionPolicy policy = factory.getExecutionPolicy();
+        if (!policy.isHedging()) {
+            return primary;
+        }
+        long delay = (long) node.getLatencyPercentile(policy.getHedgePercentile(), policy.getHedgeMinSamples())
+            .orElse(policy.getHedgeDelay().toMillis());
+        Set<NodeEndpoint> excluded = new HashSet<>(tried);
+        excluded.add(node);
+        Observable<Object> hedged = Observable.timer(delay, TimeUnit.MILLISECONDS, factory.getScheduler())
+            .flatMap(tick -> Observable
+                .using(() -> factory.acquireOtherNode(excluded).map(Reservation::new), other -> other.map(r -> {
+                    factory.recordHedge();
+                    return attempt(r, method, args);
+                }).orElse(Observable.never()), other -> other.ifPresent(Reservation::release), true))
+            .onErrorResumeNext(Observable.never());
+        return primary.ambWith(hedged);
+    }
+
+    /**
+     * It calls a reserved node, the node is released when the call terminates or it's disposed.
+     */
+    @SuppressWarnings("unchecked")
+    private Observable<Object> attempt(Reservation reservation, Method method, Object[] args) {
+        NodeEndpoint node = reservation.node;
+        long start = factory.now();
+        AtomicBoolean recorded = new AtomicBoolean();
+        Observable<Object> observable;
+        try {
+            observable = (Observable<Object>) invoke(node, method, args);
+        } catch (Throwable e) {
+            observable = Observable.error(e);
+        }
+        return observable.doOnNext(value -> record(node, start, recorded, null))
+            .doOnComplete(() -> record(node, start, recorded, null))
+            .doOnError(error -> record(node, start, recorded, error)).doFinally(reservation::release);
+    }
+
+    private void record(NodeEndpoint node, long start, AtomicBoolean recorded, Throwable error) {
+        if (!recorded.compareAndSet(false, true)) {
+            return;
+        }
+        if (error != null && NodeEndpoint.isNodeFailure(error)) {
+            node.recordFailure(error);
+        } else {
+            node.recordSuccess(factory.toMillis(factory.now() - start));
+        }
+    }
+
+    private Object invoke(NodeEndpoint node, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(node.getRepository(repositoryType, repositoryCreator), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Method getMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Method " + name + " not found in " + type.getSimpleName(), e);
+        }
+    }
+
+    private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return "MultiNode" + repositoryType.getSimpleName();
+        }
+    }
+
+    /**
+     * A node slot reserved when a call is subscribed. It's released once, when the call terminates or it's disposed,
+     * even if the call was never subscribed.
+     */
+    private static class Reservation {
+
+        private final NodeEndpoint node;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Reservation(NodeEndpoint node) {
+            this.node = node;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                node.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.singleflight;
+
+import io.reactivex.Observable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It shares one in-flight remote call per key among all its concurrent subscribers.
+ *
+ * <p>The first subscriber of a key starts the call, the subscribers that arrive while the call is in flight receive
+ * the same response, including errors. Once the call terminates, the next subscriber starts a new call, responses are
+ * not cached. The call is disposed when all its subscribers are disposed.
+ */
+public class SingleFlight {
+
+    private final Map<Object, Observable<?>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong callCount = new AtomicLong();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * It executes the call or it joins the in-flight call of the same key.
+     *
+     * @param key the key of the call, for example, the method name and the arguments.
+     * @param call the remote call.
+     * @param <T> the type of the response.
+     * @return an {@link Observable} of the shared response.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Observable<T> execute(Object key, Supplier<Observable<T>> call) {
+        Validate.notNull(key, "key must not be null");
+        Validate.notNull(call, "call must not be null");
+        return Observable.defer(() -> {
+            callCount.incrementAndGet();
+            Observable<T> existing = (Observable<T>) inFlight.get(key);
+            if (existing != null) {
+                coalescedCount.incrementAndGet();
+                return existing;
+            }
+            AtomicReference<Observable<T>> self = new AtomicReference<>();
+            Observable<T> shared = Observable.defer(call::get).doFinally(() -> inFlight.remove(key, self.get()))
+                .replay().refCount();
+            self.set(shared);
+            Observable<T> previous = (Observable<T>) inFlight.putIfAbsent(key, shared);
+            if (previous != null) {
+                coalescedCount.incrementAndGet();
+                return previous;
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * @return the number of calls, including the coalesced ones.
+     */
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    /**
+     * @return the number of calls that joined an in-flight call instead of calling the remote repository.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * @return the number of calls currently in flight.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
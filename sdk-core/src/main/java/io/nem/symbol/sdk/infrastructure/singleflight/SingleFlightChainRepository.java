@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.singleflight;
+
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.model.blockchain.BlockchainScore;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+
+/**
+ * {@link ChainRepository} that shares the in-flight calls.
+ */
+class SingleFlightChainRepository implements ChainRepository {
+
+    private final ChainRepository delegate;
+
+    private final SingleFlight singleFlight;
+
+    SingleFlightChainRepository(ChainRepository delegate, SingleFlight singleFlight) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Observable<BigInteger> getBlockchainHeight() {
+        return singleFlight.execute("getBlockchainHeight", delegate::getBlockchainHeight);
+    }
+
+    @Override
+    public Observable<BlockchainScore> getChainScore() {
+        return singleFlight.execute("getChainScore", delegate::getChainScore);
+    }
+}
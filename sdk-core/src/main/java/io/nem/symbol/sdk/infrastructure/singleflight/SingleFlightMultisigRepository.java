@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.singleflight;
+
+import io.nem.symbol.sdk.api.MultisigRepository;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.MultisigAccountGraphInfo;
+import io.nem.symbol.sdk.model.account.MultisigAccountInfo;
+import io.reactivex.Observable;
+import java.util.Arrays;
+
+/**
+ * {@link MultisigRepository} that shares the in-flight calls of the same address.
+ */
+class SingleFlightMultisigRepository implements MultisigRepository {
+
+    private final MultisigRepository delegate;
+
+    private final SingleFlight singleFlight;
+
+    SingleFlightMultisigRepository(MultisigRepository delegate, SingleFlight singleFlight) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Observable<MultisigAccountInfo> getMultisigAccountInfo(Address address) {
+        return singleFlight.execute(Arrays.asList("getMultisigAccountInfo", address),
+            () -> delegate.getMultisigAccountInfo(address));
+    }
+
+    @Override
+    public Observable<MultisigAccountGraphInfo> getMultisigAccountGraphInfo(Address address) {
+        return singleFlight.execute(Arrays.asList("getMultisigAccountGraphInfo", address),
+            () -> delegate.getMultisigAccountGraphInfo(address));
+    }
+}
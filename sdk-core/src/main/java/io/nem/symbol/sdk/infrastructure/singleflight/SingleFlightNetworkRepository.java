@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.singleflight;
+
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.model.network.NetworkConfiguration;
+import io.nem.symbol.sdk.model.network.NetworkInfo;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.network.RentalFees;
+import io.nem.symbol.sdk.model.network.TransactionFees;
+import io.reactivex.Observable;
+
+/**
+ * {@link NetworkRepository} that shares the in-flight calls.
+ */
+class SingleFlightNetworkRepository implements NetworkRepository {
+
+    private final NetworkRepository delegate;
+
+    private final SingleFlight singleFlight;
+
+    SingleFlightNetworkRepository(NetworkRepository delegate, SingleFlight singleFlight) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return singleFlight.execute("getNetworkType", delegate::getNetworkType);
+    }
+
+    @Override
+    public Observable<TransactionFees> getTransactionFees() {
+        return singleFlight.execute("getTransactionFees", delegate::getTransactionFees);
+    }
+
+    @Override
+    public Observable<NetworkInfo> getNetworkInfo() {
+        return singleFlight.execute("getNetworkInfo", delegate::getNetworkInfo);
+    }
+
+    @Override
+    public Observable<RentalFees> getRentalFees() {
+        return singleFlight.execute("getRentalFees", delegate::getRentalFees);
+    }
+
+    @Override
+    public Observable<NetworkConfiguration> getNetworkProperties() {
+        return singleFlight.execute("getNetworkProperties", delegate::getNetworkProperties);
+    }
+}
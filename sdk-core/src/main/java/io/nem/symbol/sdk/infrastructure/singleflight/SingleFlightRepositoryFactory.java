@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.singleflight;
+
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.MultisigRepository;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.infrastructure.RepositoryFactoryDecorator;
+
+/**
+ * A {@link RepositoryFactory} decorator whose repositories share the in-flight calls, see {@link SingleFlight}.
+ *
+ * <p>The chain, network and multisig repositories created by this factory share one {@link SingleFlight}, concurrent
+ * flows asking for the chain height, the network properties or the same multisig graph trigger one remote call.
+ */
+public class SingleFlightRepositoryFactory extends RepositoryFactoryDecorator {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the decorated factory.
+     */
+    public SingleFlightRepositoryFactory(RepositoryFactory delegate) {
+        super(delegate);
+    }
+
+    /**
+     * @return the {@link SingleFlight} shared by the repositories and its counters.
+     */
+    public SingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    @Override
+    public ChainRepository createChainRepository() {
+        return new SingleFlightChainRepository(getDelegate().createChainRepository(), singleFlight);
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return new SingleFlightNetworkRepository(getDelegate().createNetworkRepository(), singleFlight);
+    }
+
+    @Override
+    public MultisigRepository createMultisigRepository() {
+        return new SingleFlightMultisigRepository(getDelegate().createMultisigRepository(), singleFlight);
+    }
+}
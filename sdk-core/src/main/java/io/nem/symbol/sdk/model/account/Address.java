@@ -32,6 +32,9 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 /**
  * The address structure describes an address with its network.
  *
+ * <p>The address is backed by its 24 bytes raw form. The plain, pretty and encoded representations are created
+ * the first time they are requested and then cached.
+ *
  * @since 1.0
  */
 public class Address implements UnresolvedAddress {
@@ -51,10 +54,21 @@ public class Address implements UnresolvedAddress {
      */
     private static final int CHECKSUM_SIZE = RawAddress.NUM_CHECKSUM_BYTES;
 
-    private final String plainAddress;
+    /**
+     * The raw address, the network type, the public key ripemd160 hash and the checksum.
+     */
+    private final byte[] bytes;
 
     private final NetworkType networkType;
 
+    private final int hashCode;
+
+    private String plainAddress;
+
+    private String prettyAddress;
+
+    private String encodedAddress;
+
     /**
      * Constructor
      *
@@ -64,8 +78,10 @@ public class Address implements UnresolvedAddress {
     public Address(String prettyOrRaw, NetworkType networkType) {
         this.plainAddress = toPlainAddress(Validate.notNull(prettyOrRaw, "address must not be null"));
         this.networkType = Objects.requireNonNull(networkType, "networkType must not be null");
-        Optional<String> validationError = validatePlainAddress(this.plainAddress);
+        this.bytes = new byte[RAW_ADDRESS_SIZE];
+        Optional<String> validationError = validatePlainAddress(this.plainAddress, this.bytes);
         Validate.isTrue(!validationError.isPresent(), validationError.orElse(""));
+        this.hashCode = Arrays.hashCode(this.bytes);
         char addressNetwork = this.plainAddress.charAt(0);
         if (networkType.equals(NetworkType.MAIN_NET) && addressNetwork != 'N') {
             throw new IllegalArgumentException("MAIN_NET Address must start with N");
@@ -78,6 +94,18 @@ public class Address implements UnresolvedAddress {
         }
     }
 
+    /**
+     * Constructor used when the raw address has already been validated.
+     *
+     * @param bytes the raw address.
+     * @param networkType the network type of the raw address.
+     */
+    private Address(byte[] bytes, NetworkType networkType) {
+        this.bytes = bytes;
+        this.networkType = networkType;
+        this.hashCode = Arrays.hashCode(bytes);
+    }
+
     /**
      * It normalizes a plain or pretty address into an upercase plain address.
      *
@@ -128,7 +156,26 @@ public class Address implements UnresolvedAddress {
      * @return {@link Address}
      */
     public static Address createFromEncoded(String encodedAddress) {
-        return Address.createFromRawAddress(fromEncodedToPlain(encodedAddress));
+        return createFromBytes(ConvertUtils.fromHexToBytes(encodedAddress));
+    }
+
+    /**
+     * Create an Address from its raw bytes, the bytes a {@link #getBytes()} would return.
+     *
+     * @param bytes the 24 bytes raw address.
+     * @return {@link Address}
+     */
+    public static Address createFromBytes(byte[] bytes) {
+        Validate.notNull(bytes, "bytes must not be null");
+        if (bytes.length == RAW_ADDRESS_SIZE && isValidChecksum(bytes)) {
+            for (NetworkType networkType : NetworkType.values()) {
+                if ((byte) networkType.getValue() == bytes[0]) {
+                    return new Address(Arrays.copyOf(bytes, RAW_ADDRESS_SIZE), networkType);
+                }
+            }
+        }
+        // The plain address validation reports the problem.
+        return Address.createFromRawAddress(fromBytesToPlain(bytes));
     }
 
     /**
@@ -175,7 +222,7 @@ public class Address implements UnresolvedAddress {
             if (encodedAddress == null) {
                 return Optional.of("Encoded Address it nos provided");
             }
-            String plainAddress = fromEncodedToPlain(encodedAddress);
+            String plainAddress = fromBytesToPlain(ConvertUtils.fromHexToBytes(encodedAddress));
             return validatePlainAddress(plainAddress)
                 .map(message -> "Encoded address: " + encodedAddress + " is invalid. " + message);
         } catch (Exception e) {
@@ -191,6 +238,17 @@ public class Address implements UnresolvedAddress {
      * @return the error message or emtpy if the address is valid.
      */
     public static Optional<String> validatePlainAddress(String plainAddress) {
+        return validatePlainAddress(plainAddress, new byte[RAW_ADDRESS_SIZE]);
+    }
+
+    /**
+     * Checks if a plain address is valid returning the problem message if it's not valid.
+     *
+     * @param plainAddress the address to be checked.
+     * @param rawAddress the array where the decoded raw address is copied when the address is valid.
+     * @return the error message or emtpy if the address is valid.
+     */
+    private static Optional<String> validatePlainAddress(String plainAddress, byte[] rawAddress) {
         try {
             if (plainAddress == null) {
                 return Optional.of("Plain Address it nos provided");
@@ -212,16 +270,13 @@ public class Address implements UnresolvedAddress {
                         + RAW_ADDRESS_SIZE + " is required");
             }
 
-            int checksumBegin = RAW_ADDRESS_SIZE - CHECKSUM_SIZE;
-            byte[] expectedChecksum = Arrays
-                .copyOf(Hashes.sha3_256(Arrays.copyOf(decodedArray, checksumBegin)), CHECKSUM_SIZE);
-
-            byte[] providedChecksum = Arrays.copyOfRange(decodedArray, checksumBegin, decodedArray.length);
-            if (!Arrays.equals(expectedChecksum, providedChecksum)) {
+            if (!isValidChecksum(decodedArray)) {
+                int checksumBegin = RAW_ADDRESS_SIZE - CHECKSUM_SIZE;
                 return Optional.of("Plain address '" + plainAddress + "' checksum is incorrect. Address checksum is '"
-                    + ConvertUtils.toHex(providedChecksum) + "' when '" + ConvertUtils.toHex(expectedChecksum)
-                    + "' is expected");
+                    + ConvertUtils.toHex(decodedArray, checksumBegin, CHECKSUM_SIZE) + "' when '" + ConvertUtils
+                    .toHex(calculateChecksum(decodedArray), 0, CHECKSUM_SIZE) + "' is expected");
             }
+            System.arraycopy(decodedArray, 0, rawAddress, 0, RAW_ADDRESS_SIZE);
             return Optional.empty();
         } catch (IllegalArgumentException e) {
             return Optional
@@ -229,6 +284,29 @@ public class Address implements UnresolvedAddress {
         }
     }
 
+    /**
+     * @param rawAddress the 24 bytes raw address.
+     * @return the hash of the raw address without the checksum. The checksum are its first bytes.
+     */
+    private static byte[] calculateChecksum(byte[] rawAddress) {
+        return Hashes.sha3_256(Arrays.copyOf(rawAddress, RAW_ADDRESS_SIZE - CHECKSUM_SIZE));
+    }
+
+    /**
+     * @param rawAddress the 24 bytes raw address.
+     * @return if the last bytes of the raw address are the expected checksum.
+     */
+    private static boolean isValidChecksum(byte[] rawAddress) {
+        byte[] expectedChecksum = calculateChecksum(rawAddress);
+        int checksumBegin = RAW_ADDRESS_SIZE - CHECKSUM_SIZE;
+        for (int i = 0; i < CHECKSUM_SIZE; i++) {
+            if (expectedChecksum[i] != rawAddress[checksumBegin + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Generates a random address for the given network type.
      *
@@ -245,7 +323,19 @@ public class Address implements UnresolvedAddress {
      * @return String
      */
     public String plain() {
-        return this.plainAddress;
+        if (plainAddress == null) {
+            plainAddress = fromBytesToPlain(bytes);
+        }
+        return plainAddress;
+    }
+
+    /**
+     * Returns the raw address, the bytes that are serialized in the transaction payloads.
+     *
+     * @return a copy of the 24 bytes raw address.
+     */
+    public byte[] getBytes() {
+        return Arrays.copyOf(bytes, bytes.length);
     }
 
     /**
@@ -275,7 +365,10 @@ public class Address implements UnresolvedAddress {
      * @return the encoded plain address.
      */
     public String encoded() {
-        return fromPlainToEncoded(plain());
+        if (encodedAddress == null) {
+            encodedAddress = ConvertUtils.toHex(bytes);
+        }
+        return encodedAddress;
     }
 
 
@@ -285,28 +378,27 @@ public class Address implements UnresolvedAddress {
      * @return String
      */
     public String pretty() {
-        return this.plainAddress.replaceAll("(.{6})", "$1-");
-    }
-
-    /**
-     * Concert a encoded address to a plain one
-     *
-     * @param plain the plain address.
-     * @return the encoded address.
-     */
-    private static String fromPlainToEncoded(String plain) {
-        byte[] bytes = Base32Encoder.getBytes(plain);
-        return ConvertUtils.toHex(bytes);
+        if (prettyAddress == null) {
+            String plain = plain();
+            StringBuilder builder = new StringBuilder(PLAIN_ADDRESS_SIZE + PLAIN_ADDRESS_SIZE / 6);
+            for (int i = 0; i < plain.length(); i += 6) {
+                builder.append(plain, i, Math.min(i + 6, plain.length()));
+                if (i + 6 <= plain.length()) {
+                    builder.append('-');
+                }
+            }
+            prettyAddress = builder.toString();
+        }
+        return prettyAddress;
     }
 
     /**
-     * Concerts an encoded to a plain one
+     * Converts a raw address to a plain one
      *
-     * @param encoded the encoded address.
-     * @return the encoded address.
+     * @param bytes the raw address.
+     * @return the plain address.
      */
-    private static String fromEncodedToPlain(String encoded) {
-        byte[] bytes = ConvertUtils.fromHexToBytes(encoded);
+    private static String fromBytesToPlain(byte[] bytes) {
         String rawAddress = Base32Encoder.getString(bytes);
         return rawAddress.substring(0, rawAddress.length() - 1);
     }
@@ -325,12 +417,13 @@ public class Address implements UnresolvedAddress {
             return false;
         }
         Address address1 = (Address) o;
-        return Objects.equals(plainAddress, address1.plainAddress) && networkType == address1.networkType;
+        return hashCode == address1.hashCode && networkType == address1.networkType && Arrays
+            .equals(bytes, address1.bytes);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(plainAddress, networkType);
+        return hashCode;
     }
 
 }
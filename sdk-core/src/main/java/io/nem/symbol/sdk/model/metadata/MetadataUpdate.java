@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.model.metadata;
+
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import java.math.BigInteger;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A metadata value to be set, used to create many metadata transactions at once.
+ */
+public class MetadataUpdate {
+
+    private final MetadataType metadataType;
+
+    private final Address targetAddress;
+
+    private final BigInteger key;
+
+    private final String value;
+
+    private final Address sourceAddress;
+
+    /**
+     * The mosaic id or alias of mosaic metadata, or the namespace id of namespace metadata.
+     */
+    private final UnresolvedMosaicId targetId;
+
+    private MetadataUpdate(MetadataType metadataType, Address targetAddress, BigInteger key, String value,
+        Address sourceAddress, UnresolvedMosaicId targetId) {
+        Validate.notNull(targetAddress, "targetAddress must not be null");
+        Validate.notNull(key, "key must not be null");
+        Validate.notNull(value, "value must not be null");
+        Validate.notNull(sourceAddress, "sourceAddress must not be null");
+        Validate.isTrue(metadataType == MetadataType.ACCOUNT || targetId != null, "targetId must not be null");
+        this.metadataType = metadataType;
+        this.targetAddress = targetAddress;
+        this.key = key;
+        this.value = value;
+        this.sourceAddress = sourceAddress;
+        this.targetId = targetId;
+    }
+
+    /**
+     * Creates an account metadata update.
+     *
+     * @param targetAddress the target address
+     * @param key the key of the metadata
+     * @param value the value of the metadata.
+     * @param sourceAddress the address of the account creating the metadata.
+     * @return the {@link MetadataUpdate}
+     */
+    public static MetadataUpdate account(Address targetAddress, BigInteger key, String value,
+        Address sourceAddress) {
+        return new MetadataUpdate(MetadataType.ACCOUNT, targetAddress, key, value, sourceAddress, null);
+    }
+
+    /**
+     * Creates a mosaic metadata update.
+     *
+     * @param targetAddress the target address
+     * @param key the key of the metadata
+     * @param value the value of the metadata.
+     * @param sourceAddress the address of the account creating the metadata.
+     * @param targetId the mosaic id or alias of the attached metadata.
+     * @return the {@link MetadataUpdate}
+     */
+    public static MetadataUpdate mosaic(Address targetAddress, BigInteger key, String value, Address sourceAddress,
+        UnresolvedMosaicId targetId) {
+        return new MetadataUpdate(MetadataType.MOSAIC, targetAddress, key, value, sourceAddress, targetId);
+    }
+
+    /**
+     * Creates a namespace metadata update.
+     *
+     * @param targetAddress the target address
+     * @param key the key of the metadata
+     * @param value the value of the metadata.
+     * @param sourceAddress the address of the account creating the metadata.
+     * @param targetId the namespace id of the attached metadata.
+     * @return the {@link MetadataUpdate}
+     */
+    public static MetadataUpdate namespace(Address targetAddress, BigInteger key, String value, Address sourceAddress,
+        NamespaceId targetId) {
+        return new MetadataUpdate(MetadataType.NAMESPACE, targetAddress, key, value, sourceAddress, targetId);
+    }
+
+    public MetadataType getMetadataType() {
+        return metadataType;
+    }
+
+    public Address getTargetAddress() {
+        return targetAddress;
+    }
+
+    public BigInteger getKey() {
+        return key;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Address getSourceAddress() {
+        return sourceAddress;
+    }
+
+    /**
+     * @return the mosaic id or alias of mosaic metadata, or the namespace id of namespace metadata.
+     */
+    public Optional<UnresolvedMosaicId> getTargetId() {
+        return Optional.ofNullable(targetId);
+    }
+}
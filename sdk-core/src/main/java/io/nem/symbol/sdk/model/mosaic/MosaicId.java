@@ -16,7 +16,6 @@
 
 package io.nem.symbol.sdk.model.mosaic;
 
-import io.nem.symbol.core.utils.Base32Encoder;
 import io.nem.symbol.core.utils.ByteUtils;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.Address;
@@ -63,7 +62,7 @@ public class MosaicId implements UnresolvedMosaicId {
      */
     public MosaicId(MosaicNonce mosaicNonce, Address owner) {
         this.id = IdGenerator
-            .generateMosaicId(mosaicNonce.getNonce(), Base32Encoder.getBytes(owner.plain()));
+            .generateMosaicId(mosaicNonce.getNonce(), owner.getBytes());
     }
 
     /**
@@ -33,9 +33,12 @@ import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * @param <U> the unresolved type {@link UnresolvedAddress} or  {@link UnresolvedMosaicId}
@@ -49,6 +52,22 @@ public abstract class ResolutionStatement<U, R> implements Stored {
     private final U unresolved;
     private final List<ResolutionEntry<R>> resolutionEntries;
 
+    /**
+     * The positions in {@link #resolutionEntries} sorted by primary id and secondary id. Entries with the same receipt
+     * source keep the list order.
+     */
+    private final int[] entryPositions;
+
+    /**
+     * The primary ids of the sorted entries.
+     */
+    private final long[] primaryIds;
+
+    /**
+     * The secondary ids of the sorted entries.
+     */
+    private final long[] secondaryIds;
+
     /**
      * Constructor
      *
@@ -66,6 +85,14 @@ public abstract class ResolutionStatement<U, R> implements Stored {
         this.resolutionEntries = resolutionEntries;
         this.resolutionType = resolutionType;
         this.validateType();
+        this.entryPositions = IntStream.range(0, resolutionEntries.size()).boxed().sorted(
+            Comparator.comparingLong((Integer i) -> resolutionEntries.get(i).getReceiptSource().getPrimaryId())
+                .thenComparingLong(i -> resolutionEntries.get(i).getReceiptSource().getSecondaryId()))
+            .mapToInt(Integer::intValue).toArray();
+        this.primaryIds = Arrays.stream(entryPositions)
+            .mapToLong(i -> resolutionEntries.get(i).getReceiptSource().getPrimaryId()).toArray();
+        this.secondaryIds = Arrays.stream(entryPositions)
+            .mapToLong(i -> resolutionEntries.get(i).getReceiptSource().getSecondaryId()).toArray();
     }
 
     /**
@@ -149,6 +176,9 @@ public abstract class ResolutionStatement<U, R> implements Stored {
      * @return Optional of {@link ResolutionEntry}
      */
     public Optional<ResolutionEntry<R>> getResolutionEntryById(long primaryId, long secondaryId) {
+        if (entryPositions.length == 0) {
+            throw new IllegalArgumentException("resolutionEntries is empty when calculating getMaxAvailablePrimaryId");
+        }
         /*
         Primary id and secondary id do not specifically map to the exact transaction index on the same block.
         The ids are just the order of the resolution reflecting on the order of transactions (ordered by index).
@@ -184,10 +214,7 @@ public abstract class ResolutionStatement<U, R> implements Stored {
             Transaction: [Inx:3(2+1), AggInx:0]
             It should return Entry: {P:2, S:0}
             */
-            return this.resolutionEntries.stream().filter(
-                entry -> entry.getReceiptSource().getPrimaryId() == resolvedPrimaryId
-                    && entry.getReceiptSource().getSecondaryId() == this
-                    .getMaxSecondaryIdByPrimaryId(resolvedPrimaryId)).findFirst();
+            return getMostRecentEntryByPrimaryId(resolvedPrimaryId);
         }
 
         // When transaction index matches a primaryId, get the most recent secondaryId (resolvedPrimaryId can only <= primaryId)
@@ -204,11 +231,7 @@ public abstract class ResolutionStatement<U, R> implements Stored {
         It should return Entry: {P:2, S:0}
         */
         if (resolvedSecondaryId == 0 && resolvedSecondaryId != secondaryId) {
-            long lastPrimaryId = this.getMaxAvailablePrimaryId(resolvedPrimaryId - 1);
-            return this.resolutionEntries.stream().filter(
-                entry -> entry.getReceiptSource().getPrimaryId() == lastPrimaryId
-                    && entry.getReceiptSource().getSecondaryId() == this.getMaxSecondaryIdByPrimaryId(lastPrimaryId))
-                .findFirst();
+            return getMostRecentEntryByPrimaryId(this.getMaxAvailablePrimaryId(resolvedPrimaryId - 1));
         }
 
         /*
@@ -219,25 +242,25 @@ public abstract class ResolutionStatement<U, R> implements Stored {
         Transaction: [Inx:5(4+1), AggInx:6(2+1)]
         It should return Entry: {P:5, S:6}
         */
-        return this.resolutionEntries.stream()
-            .filter(entry -> entry.getReceiptSource().getPrimaryId() == resolvedPrimaryId)
-            .filter(entry -> entry.getReceiptSource().getSecondaryId() == resolvedSecondaryId).findFirst();
+        int index = lowerBound(resolvedPrimaryId, resolvedSecondaryId);
+        return index < entryPositions.length && compareSource(index, resolvedPrimaryId, resolvedSecondaryId) == 0
+            ? Optional.of(getEntry(index)) : Optional.empty();
     }
 
     /**
-     * Get max secondary id by a given primaryId
+     * Get the first entry with the given primaryId and the max secondary id of that primaryId.
      *
      * @param primaryId Primary source id
-     * @return Get max secondary id by a given primaryId
+     * @return the entry if there is an entry with the given primaryId.
      */
-    private long getMaxSecondaryIdByPrimaryId(long primaryId) {
-        return this.resolutionEntries.stream().filter(entry -> entry.getReceiptSource().getPrimaryId() == primaryId)
-            .mapToLong(entry -> entry.getReceiptSource().getSecondaryId()).max().orElseThrow(
-                () -> new IllegalArgumentException(
-                    "resolutionEntries is empty when calculating getMaxSecondaryIdByPrimaryId"));
+    private Optional<ResolutionEntry<R>> getMostRecentEntryByPrimaryId(long primaryId) {
+        int lastIndex = upperBound(primaryId, Long.MAX_VALUE) - 1;
+        if (lastIndex < 0 || primaryIds[lastIndex] != primaryId) {
+            return Optional.empty();
+        }
+        return Optional.of(getEntry(lowerBound(primaryId, secondaryIds[lastIndex])));
     }
 
-
     /**
      * Get most `recent` available secondary id by a given primaryId
      *
@@ -246,11 +269,8 @@ public abstract class ResolutionStatement<U, R> implements Stored {
      * @return the expected max available.
      */
     private long getMaxSecondaryIdByPrimaryIdAndSecondaryId(long primaryId, long secondaryId) {
-
-        return this.resolutionEntries.stream().filter(entry -> entry.getReceiptSource().getPrimaryId() == primaryId)
-            .mapToLong(entry -> secondaryId >= entry.getReceiptSource().getSecondaryId() ? entry.getReceiptSource()
-                .getSecondaryId() : 0).max().orElseThrow(() -> new IllegalArgumentException(
-                "resolutionEntries is empty when calculating getMaxSecondaryIdByPrimaryIdAndSecondaryId"));
+        int index = upperBound(primaryId, secondaryId) - 1;
+        return index >= 0 && primaryIds[index] == primaryId ? secondaryIds[index] : 0;
     }
 
     /**
@@ -261,11 +281,51 @@ public abstract class ResolutionStatement<U, R> implements Stored {
      * @return the expected max available.
      */
     private long getMaxAvailablePrimaryId(long primaryId) {
+        int index = upperBound(primaryId, Long.MAX_VALUE) - 1;
+        return index >= 0 ? primaryIds[index] : 0;
+    }
+
+    /**
+     * @return the index of the first sorted source greater than or equal to the given source.
+     */
+    private int lowerBound(long primaryId, long secondaryId) {
+        int low = 0;
+        int high = entryPositions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareSource(middle, primaryId, secondaryId) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first sorted source greater than the given source.
+     */
+    private int upperBound(long primaryId, long secondaryId) {
+        int low = 0;
+        int high = entryPositions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareSource(middle, primaryId, secondaryId) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int compareSource(int index, long primaryId, long secondaryId) {
+        int comparison = Long.compare(primaryIds[index], primaryId);
+        return comparison == 0 ? Long.compare(secondaryIds[index], secondaryId) : comparison;
+    }
 
-        return this.resolutionEntries.stream().mapToLong(
-            entry -> primaryId >= entry.getReceiptSource().getPrimaryId() ? entry.getReceiptSource().getPrimaryId() : 0)
-            .max().orElseThrow(() -> new IllegalArgumentException(
-                "resolutionEntries is empty when calculating getMaxAvailablePrimaryId"));
+    private ResolutionEntry<R> getEntry(int index) {
+        return resolutionEntries.get(entryPositions[index]);
     }
 
     /**
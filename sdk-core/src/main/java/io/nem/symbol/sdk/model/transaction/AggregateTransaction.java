@@ -16,17 +16,15 @@
 
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.catapult.builders.CosignatureBuilder;
-import io.nem.symbol.catapult.builders.SignatureDto;
 import io.nem.symbol.core.crypto.CryptoEngines;
-import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.utils.ConvertUtils;
-import io.nem.symbol.sdk.infrastructure.SerializationUtils;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
-import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.List;
-import org.apache.commons.lang3.ArrayUtils;
+import java.util.stream.Collectors;
 
 /**
  * The aggregate innerTransactions contain multiple innerTransactions that can be initiated by different accounts.
@@ -35,6 +33,11 @@ import org.apache.commons.lang3.ArrayUtils;
  */
 public class AggregateTransaction extends Transaction {
 
+    /**
+     * The size of a serialized cosignature: version, signer public key and signature.
+     */
+    private static final int COSIGNATURE_SIZE = 8 + 32 + 64;
+
     private final String transactionsHash;
 
     private final List<Transaction> innerTransactions;
@@ -79,6 +82,9 @@ public class AggregateTransaction extends Transaction {
     /**
      * Sign transaction with cosignatories creating a new SignedTransaction.
      *
+     * <p>The cosignatories sign the aggregate hash in parallel. The cosignatures are written straight into a
+     * payload sized for all of them and the payload size is patched once.
+     *
      * @param initiatorAccount Initiator account
      * @param cosignatories The list of accounts that will cosign the transaction
      * @param generationHash the block 1 generation hash used to sign.
@@ -88,29 +94,27 @@ public class AggregateTransaction extends Transaction {
         final Account initiatorAccount,
         final List<Account> cosignatories,
         final String generationHash) {
-        SignedTransaction signedTransaction = this.signWith(initiatorAccount, generationHash);
-        StringBuilder payload = new StringBuilder(signedTransaction.getPayload());
-
-        for (Account cosignatory : cosignatories) {
-            final DsaSigner signer = CryptoEngines.defaultEngine()
-                .createDsaSigner(cosignatory.getKeyPair());
-            byte[] bytes = ConvertUtils.fromHexToBytes(signedTransaction.getHash());
-            byte[] signatureBytes = signer.sign(bytes).getBytes();
-            SignatureDto signature = SerializationUtils.toSignatureDto(ConvertUtils.toHex(signatureBytes));
-            CosignatureBuilder builder = CosignatureBuilder.create(AggregateTransactionCosignature.DEFAULT_VERSION.longValue(),
-                SerializationUtils.toKeyDto(cosignatory.getPublicAccount().getPublicKey()), signature);
-            payload.append(ConvertUtils.toHex(builder.serialize()));
+        final byte[] generationHashBytes = ConvertUtils.getBytes(generationHash);
+        final byte[] signedPayload = signPayload(initiatorAccount, generationHashBytes);
+        final byte[] hash = createTransactionHash(signedPayload, generationHashBytes);
+
+        final List<byte[]> signatures = cosignatories.parallelStream()
+            .map(cosignatory -> CryptoEngines.defaultEngine().createDsaSigner(cosignatory.getKeyPair()).sign(hash)
+                .getBytes()).collect(Collectors.toList());
+
+        final byte[] payload = Arrays
+            .copyOf(signedPayload, signedPayload.length + COSIGNATURE_SIZE * signatures.size());
+        final ByteBuffer buffer = ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(signedPayload.length);
+        for (int i = 0; i < signatures.size(); i++) {
+            buffer.putLong(AggregateTransactionCosignature.DEFAULT_VERSION.longValue());
+            buffer.put(cosignatories.get(i).getKeyPair().getPublicKey().getBytes());
+            buffer.put(signatures.get(i));
         }
+        buffer.putInt(0, payload.length);
 
-        byte[] payloadBytes = ConvertUtils.fromHexToBytes(payload.toString());
-
-        byte[] size = BigInteger.valueOf(payloadBytes.length).toByteArray();
-        ArrayUtils.reverse(size);
-
-        System.arraycopy(size, 0, payloadBytes, 0, size.length);
-
-        return new SignedTransaction(initiatorAccount.getPublicAccount(),
-            ConvertUtils.toHex(payloadBytes), signedTransaction.getHash(), getType());
+        return new SignedTransaction(initiatorAccount.getPublicAccount(), ConvertUtils.toHex(payload),
+            ConvertUtils.toHex(hash), getType());
     }
 
     /**
@@ -95,6 +95,14 @@ public class Deadline {
         return instant.toEpochMilli() - Deadline.TIMESTAMP_NEMESIS_BLOCK.toEpochMilli();
     }
 
+    /**
+     * Returns the deadline as an {@link Instant}.
+     * @return Instant
+     */
+    public Instant toInstant() {
+        return instant;
+    }
+
     /**
      * Returns deadline as local date time in a given timezone.
      *
@@ -16,6 +16,7 @@
 
 package io.nem.symbol.sdk.model.transaction;
 
+import java.io.Writer;
 import java.math.BigInteger;
 import java.util.List;
 
@@ -40,6 +41,14 @@ public interface JsonHelper {
      */
     String print(Object object);
 
+    /**
+     * It serializes an object into json writing it to the given writer without creating the json string.
+     *
+     * @param object the object (json native object, MAP or DTO)
+     * @param writer the writer. It's not closed or flushed.
+     */
+    void print(Object object, Writer writer);
+
     /**
      * It serializes an object into pretty json string.
      *
@@ -16,7 +16,12 @@
 
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.PublicAccount;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.apache.commons.lang3.Validate;
 
 /**
  * The signed transaction object is used to transfer the transaction data and the signature to NIS in order to initiate
@@ -26,6 +31,14 @@ import io.nem.symbol.sdk.model.account.PublicAccount;
  */
 public class SignedTransaction {
 
+    /**
+     * The position of the deadline in the hex payload, after the size, the verifiable header, the version, the network
+     * type, the transaction type and the max fee.
+     */
+    private static final int DEADLINE_HEX_OFFSET = 240;
+
+    private static final int DEADLINE_HEX_SIZE = 16;
+
     private final PublicAccount signer;
     private final String payload;
     private final String hash;
@@ -83,4 +96,16 @@ public class SignedTransaction {
         return type;
     }
 
+    /**
+     * Returns the deadline of the transaction read from the payload.
+     *
+     * @return the deadline of the transaction.
+     */
+    public Deadline getDeadline() {
+        Validate.isTrue(payload.length() >= DEADLINE_HEX_OFFSET + DEADLINE_HEX_SIZE,
+            "payload is too short to contain a deadline");
+        byte[] deadline = new byte[DEADLINE_HEX_SIZE / 2];
+        ConvertUtils.decodeInto(payload, DEADLINE_HEX_OFFSET, DEADLINE_HEX_OFFSET + DEADLINE_HEX_SIZE, deadline, 0);
+        return new Deadline(BigInteger.valueOf(ByteBuffer.wrap(deadline).order(ByteOrder.LITTLE_ENDIAN).getLong()));
+    }
 }
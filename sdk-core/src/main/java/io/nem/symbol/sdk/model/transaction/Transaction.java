@@ -172,14 +172,24 @@ public abstract class Transaction implements Stored {
      * @return generated transaction hash.
      */
     public String createTransactionHash(String transactionPayload, final byte[] generationHashBytes) {
-        byte[] bytes = ConvertUtils.fromHexToBytes(transactionPayload);
+        return ConvertUtils
+            .toHex(createTransactionHash(ConvertUtils.fromHexToBytes(transactionPayload), generationHashBytes));
+    }
+
+    /**
+     * Generates hash for a serialized transaction payload.
+     *
+     * @param bytes Transaction payload bytes
+     * @param generationHashBytes the generation hash.
+     * @return generated transaction hash bytes.
+     */
+    byte[] createTransactionHash(byte[] bytes, final byte[] generationHashBytes) {
         final byte[] dataBytes = getSignBytes(bytes, generationHashBytes);
         final int sizeOfSignatureAndSignerPublicKey = 96;
         byte[] signingBytes = new byte[dataBytes.length + sizeOfSignatureAndSignerPublicKey];
         System.arraycopy(bytes, 8, signingBytes, 0, sizeOfSignatureAndSignerPublicKey);
         System.arraycopy(dataBytes, 0, signingBytes, sizeOfSignatureAndSignerPublicKey, dataBytes.length);
-        byte[] result = Hashes.sha3_256(signingBytes);
-        return ConvertUtils.toHex(result);
+        return Hashes.sha3_256(signingBytes);
     }
 
     /**
@@ -207,9 +217,22 @@ public abstract class Transaction implements Stored {
      * @return {@link SignedTransaction}
      */
     public SignedTransaction signWith(final Account account, final String generationHash) {
+        final byte[] generationHashBytes = ConvertUtils.getBytes(generationHash);
+        final byte[] payload = signPayload(account, generationHashBytes);
+        final String hash = ConvertUtils.toHex(createTransactionHash(payload, generationHashBytes));
+        return new SignedTransaction(account.getPublicAccount(), ConvertUtils.toHex(payload), hash, type);
+    }
+
+    /**
+     * Serialize and sign transaction returning the signed payload.
+     *
+     * @param account The account to sign the transaction.
+     * @param generationHashBytes The generation hash bytes for the network.
+     * @return the signed payload.
+     */
+    byte[] signPayload(final Account account, final byte[] generationHashBytes) {
         final DsaSigner theSigner = CryptoEngines.defaultEngine().createDsaSigner(account.getKeyPair());
         final byte[] bytes = this.serialize();
-        final byte[] generationHashBytes = ConvertUtils.getBytes(generationHash);
         final byte[] signingBytes = getSignBytes(bytes, generationHashBytes);
         final Signature theSignature = theSigner.sign(signingBytes);
 
@@ -219,9 +242,7 @@ public abstract class Transaction implements Stored {
         System.arraycopy(account.getKeyPair().getPublicKey().getBytes(), 0, payload, 64 + 8,
             account.getKeyPair().getPublicKey().getBytes().length); // Signer
         System.arraycopy(bytes, 104, payload, 104, bytes.length - 104);
-
-        final String hash = createTransactionHash(ConvertUtils.toHex(payload), generationHashBytes);
-        return new SignedTransaction(account.getPublicAccount(), ConvertUtils.toHex(payload), hash, type);
+        return payload;
     }
 
     /**
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.model.transaction;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.SerializationUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A template used to create many {@link TransferTransaction} that only differ in the recipient, the mosaic amounts,
+ * the deadline and the max fee.
+ *
+ * <p>The prototype transaction is serialized once. Each change patches the bytes of the template's payload in place,
+ * so creating and signing a new transaction doesn't require building and serializing the catbuffer objects again.
+ * The payload is reused between transactions, a template must not be shared between threads, use {@link #copy()} to
+ * create one template per thread.
+ */
+public class TransferTransactionTemplate {
+
+    private static final int SIGNATURE_OFFSET = 8;
+
+    private static final int SIGNER_OFFSET = SIGNATURE_OFFSET + 64;
+
+    private static final int SIGNER_SIZE = 32;
+
+    private static final int SIGNING_DATA_OFFSET = SIGNER_OFFSET + SIGNER_SIZE + 4;
+
+    private static final int MAX_FEE_OFFSET = SIGNING_DATA_OFFSET + 4;
+
+    private static final int DEADLINE_OFFSET = MAX_FEE_OFFSET + 8;
+
+    private static final int RECIPIENT_OFFSET = DEADLINE_OFFSET + 8;
+
+    private static final int RECIPIENT_SIZE = 24;
+
+    private static final int MOSAICS_COUNT_OFFSET = RECIPIENT_OFFSET + RECIPIENT_SIZE + 2;
+
+    private static final int MOSAICS_OFFSET = MOSAICS_COUNT_OFFSET + 1 + 4 + 1;
+
+    private static final int MOSAIC_SIZE = 16;
+
+    private static final int GENERATION_HASH_SIZE = 32;
+
+    private final NetworkType networkType;
+
+    /**
+     * The mosaic ids in the order they are serialized.
+     */
+    private final List<UnresolvedMosaicId> mosaicIds;
+
+    private final byte[] payload;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * The generation hash followed by the payload without the verifiable header, the bytes to be signed.
+     */
+    private final byte[] signingBytes;
+
+    private String generationHash;
+
+    /**
+     * Constructor.
+     *
+     * @param prototype the transaction used as template. The message, the mosaic ids, the version and the network
+     * type are shared by all the transactions created from this template.
+     */
+    public TransferTransactionTemplate(TransferTransaction prototype) {
+        Validate.notNull(prototype, "prototype must not be null");
+        this.networkType = prototype.getNetworkType();
+        this.mosaicIds = prototype.getMosaics().stream().map(Mosaic::getId)
+            .sorted(Comparator.comparing(UnresolvedMosaicId::getId)).collect(Collectors.toList());
+        this.payload = prototype.serialize();
+        this.buffer = ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN);
+        this.signingBytes = new byte[GENERATION_HASH_SIZE + payload.length - SIGNING_DATA_OFFSET];
+        Validate.isTrue(payload[MOSAICS_COUNT_OFFSET] == mosaicIds.size(), "Invalid serialized transfer transaction");
+    }
+
+    private TransferTransactionTemplate(TransferTransactionTemplate template) {
+        this.networkType = template.networkType;
+        this.mosaicIds = template.mosaicIds;
+        this.payload = Arrays.copyOf(template.payload, template.payload.length);
+        this.buffer = ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN);
+        this.signingBytes = Arrays.copyOf(template.signingBytes, template.signingBytes.length);
+        this.generationHash = template.generationHash;
+    }
+
+    /**
+     * @return a new template with the current values that doesn't share the payload with this template.
+     */
+    public TransferTransactionTemplate copy() {
+        return new TransferTransactionTemplate(this);
+    }
+
+    /**
+     * It sets the recipient of the next transaction.
+     *
+     * @param recipient the address or namespace id of the recipient.
+     * @return this template.
+     */
+    public TransferTransactionTemplate recipient(UnresolvedAddress recipient) {
+        Validate.notNull(recipient, "recipient must not be null");
+        ByteBuffer recipientBuffer = SerializationUtils.fromUnresolvedAddressToByteBuffer(recipient, networkType);
+        System.arraycopy(recipientBuffer.array(), 0, payload, RECIPIENT_OFFSET, RECIPIENT_SIZE);
+        return this;
+    }
+
+    /**
+     * It sets the amount of the template's mosaic. The template must have exactly one mosaic.
+     *
+     * @param amount the amount.
+     * @return this template.
+     */
+    public TransferTransactionTemplate amount(BigInteger amount) {
+        Validate.isTrue(mosaicIds.size() == 1, "The template has " + mosaicIds.size() + " mosaics");
+        return amount(0, amount);
+    }
+
+    /**
+     * It sets the amount of one of the template's mosaics.
+     *
+     * @param mosaicId the id of the mosaic, it must be one of the prototype's mosaics.
+     * @param amount the amount.
+     * @return this template.
+     */
+    public TransferTransactionTemplate amount(UnresolvedMosaicId mosaicId, BigInteger amount) {
+        Validate.notNull(mosaicId, "mosaicId must not be null");
+        int index = mosaicIds.indexOf(mosaicId);
+        Validate.isTrue(index != -1, "Mosaic " + mosaicId.getIdAsHex() + " is not in the template");
+        return amount(index, amount);
+    }
+
+    private TransferTransactionTemplate amount(int index, BigInteger amount) {
+        buffer.putLong(MOSAICS_OFFSET + index * MOSAIC_SIZE + 8, SerializationUtils.toUnsignedLong(amount));
+        return this;
+    }
+
+    /**
+     * It sets the deadline of the next transaction.
+     *
+     * @param deadline the deadline.
+     * @return this template.
+     */
+    public TransferTransactionTemplate deadline(Deadline deadline) {
+        Validate.notNull(deadline, "deadline must not be null");
+        buffer.putLong(DEADLINE_OFFSET, deadline.getInstant());
+        return this;
+    }
+
+    /**
+     * It sets the max fee of the next transaction.
+     *
+     * @param maxFee the max fee.
+     * @return this template.
+     */
+    public TransferTransactionTemplate maxFee(BigInteger maxFee) {
+        buffer.putLong(MAX_FEE_OFFSET, SerializationUtils.toUnsignedLong(maxFee));
+        return this;
+    }
+
+    /**
+     * It sets the max fee of the next transaction based on the fee multiplier. All the transactions created with this
+     * template have the same size.
+     *
+     * @param feeMultiplier the fee multiplier greater than 1
+     * @return this template.
+     */
+    public TransferTransactionTemplate calculateMaxFeeFromMultiplier(long feeMultiplier) {
+        return maxFee(BigInteger.valueOf(getSize()).multiply(BigInteger.valueOf(feeMultiplier)));
+    }
+
+    /**
+     * @return the size of the transactions created by this template.
+     */
+    public long getSize() {
+        return payload.length;
+    }
+
+    /**
+     * @return a copy of the current unsigned payload, the same bytes {@link Transaction#serialize()} would return for
+     * an unsigned transaction with the current values.
+     */
+    public byte[] serialize() {
+        byte[] unsignedPayload = Arrays.copyOf(payload, payload.length);
+        Arrays.fill(unsignedPayload, SIGNATURE_OFFSET, SIGNER_OFFSET + SIGNER_SIZE, (byte) 0);
+        return unsignedPayload;
+    }
+
+    /**
+     * It signs the current values of the template creating a new {@link SignedTransaction}.
+     *
+     * @param account the account to sign the transaction.
+     * @param generationHash the generation hash for the network.
+     * @return the {@link SignedTransaction}
+     */
+    public SignedTransaction signWith(Account account, String generationHash) {
+        Validate.notNull(account, "account must not be null");
+        Validate.notNull(generationHash, "generationHash must not be null");
+        if (!generationHash.equals(this.generationHash)) {
+            byte[] generationHashBytes = ConvertUtils.getBytes(generationHash);
+            Validate.isTrue(generationHashBytes.length == GENERATION_HASH_SIZE, "Invalid generation hash");
+            System.arraycopy(generationHashBytes, 0, signingBytes, 0, GENERATION_HASH_SIZE);
+            this.generationHash = generationHash;
+        }
+        System.arraycopy(payload, SIGNING_DATA_OFFSET, signingBytes, GENERATION_HASH_SIZE,
+            payload.length - SIGNING_DATA_OFFSET);
+
+        DsaSigner signer = CryptoEngines.defaultEngine().createDsaSigner(account.getKeyPair());
+        Signature signature = signer.sign(signingBytes);
+        byte[] signatureBytes = signature.getBytes();
+        byte[] signerBytes = account.getKeyPair().getPublicKey().getBytes();
+        System.arraycopy(signatureBytes, 0, payload, SIGNATURE_OFFSET, signatureBytes.length);
+        System.arraycopy(signerBytes, 0, payload, SIGNER_OFFSET, signerBytes.length);
+
+        String hash = ConvertUtils.toHex(Hashes.sha3_256(signatureBytes, signerBytes, signingBytes));
+        return new SignedTransaction(account.getPublicAccount(), ConvertUtils.toHex(payload), hash,
+            TransactionType.TRANSFER);
+    }
+}
@@ -191,6 +191,15 @@ public class ConvertUtilsTest {
         Assertions.assertFalse(ConvertUtils.isHexString(null)); //Null
     }
 
+    @Test
+    void testIsHexDigit() {
+        Assertions.assertTrue(ConvertUtils.isHexDigit('0'));
+        Assertions.assertTrue(ConvertUtils.isHexDigit('a'));
+        Assertions.assertTrue(ConvertUtils.isHexDigit('F'));
+        Assertions.assertFalse(ConvertUtils.isHexDigit('G'));
+        Assertions.assertFalse(ConvertUtils.isHexDigit('\u00e9'));
+    }
+
     @Test
     void validateIsHexString() {
         assertIsHexString("026ee415fc15", null, null);
@@ -220,6 +229,32 @@ public class ConvertUtilsTest {
         Assertions.assertEquals(hex, ConvertUtils.reverseHexString(reverseHex));
     }
 
+    @Test
+    void encodeToAndDecodeInto() {
+        byte[] bytes = new byte[]{0x00, 0x1A, (byte) 0xFF, 0x7F, (byte) 0x80};
+        Assertions.assertEquals("1AFF7F", ConvertUtils.toHex(bytes, 1, 3));
+
+        char[] chars = new char[8];
+        Assertions.assertEquals(7, ConvertUtils.encodeTo(bytes, 3, 2, chars, 3));
+        Assertions.assertEquals("7F80", new String(chars, 3, 4));
+        Assertions.assertEquals("AB001AFF", ConvertUtils.encodeTo(bytes, 0, 3, new StringBuilder("AB")).toString());
+
+        byte[] destination = new byte[6];
+        Assertions.assertEquals(3, ConvertUtils.decodeInto("001aFF", destination, 1));
+        Assertions.assertArrayEquals(new byte[]{0, 0x00, 0x1A, (byte) 0xFF, 0, 0}, destination);
+        Assertions.assertEquals(2, ConvertUtils.decodeInto("XX7F80", 2, 6, destination, 4));
+        Assertions.assertArrayEquals(new byte[]{0, 0x00, 0x1A, (byte) 0xFF, 0x7F, (byte) 0x80}, destination);
+
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ConvertUtils.decodeInto("0G", new byte[1], 0));
+        Assertions.assertEquals("0G could not be decoded. DecoderException: Illegal hexadecimal character G at index 1",
+            exception.getMessage());
+        exception = Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ConvertUtils.decodeInto("ABC", new byte[2], 0));
+        Assertions.assertEquals("ABC could not be decoded. DecoderException: Odd number of characters.",
+            exception.getMessage());
+    }
+
     private void assertIsHexString(String input, Integer size, String errorMessage) {
         try {
             if (size == null) {
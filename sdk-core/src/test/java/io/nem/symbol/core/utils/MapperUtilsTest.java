@@ -117,6 +117,11 @@ public class MapperUtilsTest {
             .assertEquals(new NamespaceId("9a52fde35777cd4f"),
                 MapperUtils.toUnresolvedMosaicId("9a52fde35777cd4f"));
 
+        IllegalArgumentException exception = Assertions
+            .assertThrows(IllegalArgumentException.class, () -> MapperUtils.toUnresolvedMosaicId("9G52fde35777cd4f"));
+        Assertions.assertEquals(
+            "org.apache.commons.codec.DecoderException: Illegal hexadecimal character G at index 1",
+            exception.getMessage());
     }
 
     @Test
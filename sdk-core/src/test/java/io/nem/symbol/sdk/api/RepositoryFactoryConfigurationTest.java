@@ -45,12 +45,16 @@ class RepositoryFactoryConfigurationTest {
             NamespaceId.createFromName("my.custom.harvest"), 3)
             .build();
         configuration.withHarvestCurrency(networkHarvestCurrency);
+        configuration.withStreamingPages(true).withMaxRequests(128).withMaxRequestsPerHost(32);
 
         Assertions.assertEquals("http://localhost:3000", configuration.getBaseUrl());
         Assertions.assertEquals("abc", configuration.getGenerationHash());
         Assertions.assertEquals(NetworkType.MAIN_NET, configuration.getNetworkType());
         Assertions.assertEquals(networkCurrency, configuration.getNetworkCurrency());
         Assertions.assertEquals(networkHarvestCurrency, configuration.getHarvestCurrency());
+        Assertions.assertTrue(configuration.isStreamingPages());
+        Assertions.assertEquals(128, configuration.getMaxRequests());
+        Assertions.assertEquals(32, configuration.getMaxRequestsPerHost());
     }
 
     @Test
@@ -69,12 +73,18 @@ class RepositoryFactoryConfigurationTest {
             NamespaceId.createFromName("my.custom.harvest"), 3)
             .build();
         configuration.setHarvestCurrency(networkHarvestCurrency);
+        configuration.setStreamingPages(true);
+        configuration.setMaxRequests(128);
+        configuration.setMaxRequestsPerHost(32);
 
         Assertions.assertEquals("http://localhost:3000", configuration.getBaseUrl());
         Assertions.assertEquals("abc", configuration.getGenerationHash());
         Assertions.assertEquals(NetworkType.MAIN_NET, configuration.getNetworkType());
         Assertions.assertEquals(networkCurrency, configuration.getNetworkCurrency());
         Assertions.assertEquals(networkHarvestCurrency, configuration.getHarvestCurrency());
+        Assertions.assertTrue(configuration.isStreamingPages());
+        Assertions.assertEquals(128, configuration.getMaxRequests());
+        Assertions.assertEquals(32, configuration.getMaxRequestsPerHost());
 
     }
 }
@@ -21,6 +21,7 @@ import io.nem.symbol.core.utils.ExceptionUtils;
 import io.nem.symbol.sdk.api.MultisigRepository;
 import io.nem.symbol.sdk.api.NetworkRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.infrastructure.cache.MultisigGraphCache;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.MultisigAccountGraphInfo;
@@ -550,5 +551,51 @@ public class AggregateTransactionServiceTest {
         Assertions.assertFalse(service.isComplete(signedTransaction).toFuture().get());
     }
 
+    @Test
+    void isCompleteShouldLoadEachMultisigAccountOnce() {
+        TransferTransaction transferTransaction = TransferTransactionFactory
+            .create(networkType, Address.generateRandom(networkType), Collections.emptyList(),
+                PlainMessage.create("test-message")).build();
+
+        AggregateTransaction aggregateTransaction = AggregateTransactionFactory.createComplete(networkType,
+            Arrays.asList(transferTransaction.toAggregate(multisig2.getPublicAccount()),
+                transferTransaction.toAggregate(multisig2.getPublicAccount()))).build();
+
+        SignedTransaction complete = aggregateTransaction
+            .signTransactionWithCosigners(account1, Collections.singletonList(account2), generationHash);
+        SignedTransaction incomplete = aggregateTransaction
+            .signTransactionWithCosigners(account1, Collections.singletonList(account4), generationHash);
+
+        Assertions.assertEquals(Arrays.asList(true, false),
+            service.isComplete(Arrays.asList(complete, incomplete)).blockingFirst());
+        Mockito.verify(multisigRepository, Mockito.times(1)).getMultisigAccountInfo(multisig2.getAddress());
+        Mockito.verify(multisigRepository, Mockito.times(1)).getMultisigAccountGraphInfo(multisig2.getAddress());
+
+        Assertions.assertTrue(service.isComplete(complete).blockingFirst());
+        Mockito.verify(multisigRepository, Mockito.times(2)).getMultisigAccountInfo(multisig2.getAddress());
+    }
 
+    @Test
+    void isCompleteShouldUseTheSharedCache() {
+        TransferTransaction transferTransaction = TransferTransactionFactory
+            .create(networkType, Address.generateRandom(networkType), Collections.emptyList(),
+                PlainMessage.create("test-message")).build();
+
+        AggregateTransaction aggregateTransaction = AggregateTransactionFactory.createComplete(networkType,
+            Collections.singletonList(transferTransaction.toAggregate(multisig2.getPublicAccount()))).build();
+        SignedTransaction signedTransaction = aggregateTransaction
+            .signTransactionWithCosigners(account1, Collections.singletonList(account2), generationHash);
+
+        MultisigGraphCache cache = new MultisigGraphCache(multisigRepository);
+        AggregateTransactionServiceImpl cachedService = new AggregateTransactionServiceImpl(factory, cache);
+        Assertions.assertTrue(cachedService.isComplete(signedTransaction).blockingFirst());
+        Assertions.assertTrue(cachedService.isComplete(signedTransaction).blockingFirst());
+        Mockito.verify(multisigRepository, Mockito.times(1)).getMultisigAccountInfo(multisig2.getAddress());
+        Mockito.verify(multisigRepository, Mockito.times(1)).getMultisigAccountGraphInfo(multisig2.getAddress());
+
+        cache.invalidate(account2.getAddress());
+        Assertions.assertTrue(cachedService.isComplete(signedTransaction).blockingFirst());
+        Mockito.verify(multisigRepository, Mockito.times(1)).getMultisigAccountInfo(multisig2.getAddress());
+        Mockito.verify(multisigRepository, Mockito.times(2)).getMultisigAccountGraphInfo(multisig2.getAddress());
+    }
 }
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.when;
 import io.nem.symbol.core.utils.ExceptionUtils;
 import io.nem.symbol.sdk.api.NamespaceRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.infrastructure.cache.AliasResolutionCache;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
@@ -34,6 +35,7 @@ import io.nem.symbol.sdk.model.namespace.NamespaceRegistrationType;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.Assertions;
@@ -169,4 +171,32 @@ public class AliasServiceTest {
 
     }
 
+    @Test
+    void resolveManyShouldLoadEachAliasOnce() {
+        Assertions.assertEquals(Arrays.asList(mosaicId1, mosaicId2, mosaicId1, mosaicId2),
+            service.resolveMosaicIds(Arrays.asList(mosaicAlias1, mosaicAlias2, mosaicId1, mosaicAlias2))
+                .blockingFirst());
+        Assertions.assertEquals(Arrays.asList(account2.getAddress(), account1.getAddress(), account2.getAddress()),
+            service.resolveAddresses(Arrays.asList(accountAlias2, account1.getAddress(), accountAlias2))
+                .blockingFirst());
+        Assertions.assertEquals(Collections.emptyList(),
+            service.resolveMosaicIds(Collections.emptyList()).blockingFirst());
+
+        Mockito.verify(namespaceRepository, Mockito.times(1)).getNamespace(mosaicAlias2);
+        Mockito.verify(namespaceRepository, Mockito.times(1)).getNamespace(accountAlias2);
+
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+            () -> service.resolveMosaicIds(Arrays.asList(mosaicAlias1, accountAlias1)).blockingFirst());
+        Assertions.assertEquals("MosaicId could not be resolved from alias " + accountAlias1.getIdAsHex(),
+            exception.getMessage());
+    }
+
+    @Test
+    void resolveShouldUseTheSharedCache() {
+        AliasServiceImpl cachedService = new AliasServiceImpl(new AliasResolutionCache(namespaceRepository));
+        Assertions.assertEquals(mosaicId1, cachedService.resolveMosaicId(mosaicAlias1).blockingFirst());
+        Assertions.assertEquals(Collections.singletonList(mosaicId1),
+            cachedService.resolveMosaicIds(Collections.singletonList(mosaicAlias1)).blockingFirst());
+        Mockito.verify(namespaceRepository, Mockito.times(1)).getNamespace(mosaicAlias1);
+    }
 }
@@ -19,6 +19,7 @@ package io.nem.symbol.sdk.infrastructure;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.ExceptionUtils;
 import io.nem.symbol.core.utils.StringEncoder;
 import io.nem.symbol.sdk.api.MetadataRepository;
@@ -32,6 +33,7 @@ import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.metadata.Metadata;
 import io.nem.symbol.sdk.model.metadata.MetadataType;
+import io.nem.symbol.sdk.model.metadata.MetadataUpdate;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.mosaic.MosaicNonce;
 import io.nem.symbol.sdk.model.namespace.MosaicAlias;
@@ -40,11 +42,14 @@ import io.nem.symbol.sdk.model.namespace.NamespaceInfo;
 import io.nem.symbol.sdk.model.namespace.NamespaceRegistrationType;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.AccountMetadataTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.MetadataTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.MosaicMetadataTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.NamespaceMetadataTransactionFactory;
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -435,4 +440,69 @@ class MetadataTransactionServiceTest {
         Mockito.verify(metadataRepositoryMock).search(criteria);
     }
 
+    @Test
+    void shouldCreateManyMetadataTransactionFactoriesWithOneSearchPerTarget() {
+        Address targetAddress = targetAccount.getAddress();
+        Metadata existing1 = new Metadata("id1", "hash1", sourceAddress, targetAddress, BigInteger.ONE,
+            MetadataType.ACCOUNT, "old value 1", Optional.empty());
+        Metadata existing2 = new Metadata("id2", "hash2", sourceAddress, targetAddress, BigInteger.valueOf(2),
+            MetadataType.ACCOUNT, "old 2", Optional.empty());
+        Metadata existingMosaic = new Metadata("id3", "hash3", sourceAddress, targetAddress, BigInteger.ONE,
+            MetadataType.MOSAIC, "mosaic value", Optional.empty());
+
+        Mockito.when(metadataRepositoryMock.search(Mockito.any())).thenAnswer(invocation -> {
+            MetadataSearchCriteria criteria = (MetadataSearchCriteria) invocation.getArguments()[0];
+            Assertions.assertNull(criteria.getScopedMetadataKey());
+            Assertions.assertEquals(sourceAddress, criteria.getSourceAddress());
+            if (criteria.getMetadataType() == MetadataType.MOSAIC) {
+                Assertions.assertNull(criteria.getTargetAddress());
+                Assertions.assertEquals(mosaicId.getIdAsHex(), criteria.getTargetId());
+                return Observable.just(new Page<>(Collections.singletonList(existingMosaic)));
+            }
+            if (criteria.getMetadataType() == MetadataType.NAMESPACE) {
+                Assertions.assertNull(criteria.getTargetAddress());
+                Assertions.assertEquals(namespaceId.getIdAsHex(), criteria.getTargetId());
+                return Observable.just(new Page<>(Collections.emptyList()));
+            }
+            Assertions.assertEquals(targetAddress, criteria.getTargetAddress());
+            return Observable.just(criteria.getPageNumber() == 1 ? new Page<>(
+                Collections.singletonList(existing1), 1, 1, 2, 2)
+                : new Page<>(Collections.singletonList(existing2), 2, 1, 2, 2));
+        });
+
+        List<MetadataTransactionFactory<?>> factories = service.createMetadataTransactionFactories(Arrays
+            .asList(MetadataUpdate.account(targetAddress, BigInteger.ONE, "new value 1", sourceAddress),
+                MetadataUpdate.account(targetAddress, BigInteger.valueOf(2), "new value 2", sourceAddress),
+                MetadataUpdate.account(targetAddress, BigInteger.valueOf(3), "new value 3", sourceAddress),
+                MetadataUpdate.account(targetAddress, BigInteger.valueOf(2), "new 2", sourceAddress),
+                MetadataUpdate.mosaic(targetAddress, BigInteger.ONE, "new mosaic value", sourceAddress, mosaicAlias),
+                MetadataUpdate.namespace(targetAddress, BigInteger.ONE, "namespace", sourceAddress, namespaceId)))
+            .blockingFirst();
+
+        Assertions.assertEquals(6, factories.size());
+        assertDelta(factories.get(0), "old value 1", "new value 1");
+        assertDelta(factories.get(1), "old 2", "new value 2");
+        assertDelta(factories.get(2), null, "new value 3");
+        assertDelta(factories.get(3), "new value 2", "new 2");
+        assertDelta(factories.get(4), "mosaic value", "new mosaic value");
+        assertDelta(factories.get(5), null, "namespace");
+        Assertions.assertEquals(mosaicAlias, ((MosaicMetadataTransactionFactory) factories.get(4)).getTargetMosaicId());
+        Assertions
+            .assertEquals(namespaceId, ((NamespaceMetadataTransactionFactory) factories.get(5)).getTargetNamespaceId());
+
+        Mockito.verify(metadataRepositoryMock, Mockito.times(4)).search(Mockito.any());
+    }
+
+    private void assertDelta(MetadataTransactionFactory<?> factory, String oldValue, String newValue) {
+        byte[] newValueBytes = StringEncoder.getBytes(newValue);
+        if (oldValue == null) {
+            Assertions.assertEquals(newValue, factory.getValue());
+            Assertions.assertEquals(newValueBytes.length, factory.getValueSizeDelta());
+        } else {
+            byte[] oldValueBytes = StringEncoder.getBytes(oldValue);
+            Assertions.assertEquals(StringEncoder.getString(ConvertUtils.xor(oldValueBytes, newValueBytes)),
+                factory.getValue());
+            Assertions.assertEquals(newValueBytes.length - oldValueBytes.length, factory.getValueSizeDelta());
+        }
+    }
 }
@@ -27,6 +27,7 @@ import io.nem.symbol.sdk.api.RepositoryFactory;
 import io.nem.symbol.sdk.api.RestrictionMosaicRepository;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.mosaic.MosaicNonce;
 import io.nem.symbol.sdk.model.namespace.AddressAlias;
@@ -40,11 +41,17 @@ import io.nem.symbol.sdk.model.restriction.MosaicGlobalRestriction;
 import io.nem.symbol.sdk.model.restriction.MosaicGlobalRestrictionItem;
 import io.nem.symbol.sdk.model.restriction.MosaicRestrictionEntryType;
 import io.nem.symbol.sdk.model.transaction.MosaicAddressRestrictionTransaction;
+import io.nem.symbol.sdk.model.transaction.MosaicAddressRestrictionTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.MosaicGlobalRestrictionTransaction;
 import io.nem.symbol.sdk.model.transaction.MosaicRestrictionType;
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -358,6 +365,48 @@ public class MosaicRestrictionTransactionServiceTest {
     }
 
 
+    @Test
+    void createMosaicAddressRestrictionTransactionFactoriesInBatches() {
+        Map<UnresolvedAddress, BigInteger> restrictionValues = new LinkedHashMap<>();
+        restrictionValues.put(accountAlias1, BigInteger.valueOf(40));
+        restrictionValues.put(account2.getAddress(), BigInteger.valueOf(50));
+        restrictionValues.put(account1.getAddress(), BigInteger.valueOf(60));
+        for (int i = 0; i < 148; i++) {
+            restrictionValues.put(Account.generateNewAccount(networkType).getAddress(), BigInteger.ONE);
+        }
+
+        List<List<Address>> requests = Collections.synchronizedList(new ArrayList<>());
+        when(restrictionMosaicRepository.getMosaicAddressRestrictions(eq(mosaicId1), Mockito.any()))
+            .thenAnswer(invocation -> {
+                @SuppressWarnings("unchecked")
+                List<Address> addresses = (List<Address>) invocation.getArguments()[1];
+                requests.add(new ArrayList<>(addresses));
+                return Observable.just(addresses.contains(account1.getAddress()) ? Collections
+                    .singletonList(mockAddressRestriction()) : Collections.emptyList());
+            });
+
+        List<MosaicAddressRestrictionTransactionFactory> factories = service
+            .createMosaicAddressRestrictionTransactionFactories(mosaicAlias1, restrictionKey, restrictionValues)
+            .blockingFirst();
+
+        Assertions.assertEquals(151, factories.size());
+        Assertions.assertEquals(new ArrayList<>(restrictionValues.keySet()),
+            factories.stream().map(MosaicAddressRestrictionTransactionFactory::getTargetAddress)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals(BigInteger.valueOf(40), factories.get(0).getNewRestrictionValue());
+        Assertions.assertEquals(BigInteger.valueOf(30), factories.get(0).getPreviousRestrictionValue());
+        Assertions.assertEquals(BigInteger.valueOf(50), factories.get(1).getNewRestrictionValue());
+        Assertions.assertEquals(new BigInteger("FFFFFFFFFFFFFFFF", 16), factories.get(1).getPreviousRestrictionValue());
+        Assertions.assertEquals(BigInteger.valueOf(30), factories.get(2).getPreviousRestrictionValue());
+        Assertions.assertEquals(mosaicAlias1, factories.get(2).getMosaicId());
+
+        Assertions.assertEquals(2, requests.size());
+        Assertions.assertEquals(150, requests.stream().mapToInt(List::size).sum());
+        Mockito.verify(restrictionMosaicRepository, Mockito.times(1)).getMosaicGlobalRestriction(mosaicId1);
+        Mockito.verify(restrictionMosaicRepository, Mockito.never())
+            .getMosaicAddressRestriction(Mockito.any(), Mockito.any());
+    }
+
     private MosaicGlobalRestriction mockGlobalRestriction() {
         return new MosaicGlobalRestriction(
             "AAAA",
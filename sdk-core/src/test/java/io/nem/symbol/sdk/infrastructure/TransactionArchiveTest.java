@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.FakeDeadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test of {@link TransactionArchiveWriter} and {@link TransactionArchiveReader}
+ */
+class TransactionArchiveTest {
+
+    private final Account account = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+
+    @TempDir
+    Path tempDir;
+
+    private TransferTransaction createTransaction(long height, int index, String message) {
+        String hash = ConvertUtils.toHex(Hashes.sha3_256((height + message).getBytes()));
+        String merkleComponentHash = ConvertUtils.toHex(Hashes.sha3_256((message + height).getBytes()));
+        return TransferTransactionFactory.create(NetworkType.MIJIN_TEST, Address.generateRandom(NetworkType.MIJIN_TEST),
+            Collections.singletonList(new Mosaic(new MosaicId(BigInteger.TEN), BigInteger.valueOf(height))),
+            new PlainMessage(message)).deadline(new FakeDeadline()).maxFee(BigInteger.valueOf(index))
+            .signer(account.getPublicAccount()).signature(ConvertUtils.toHex(new byte[64]).replace('0', 'A'))
+            .transactionInfo(
+                TransactionInfo.create(BigInteger.valueOf(height), index, "5EAA" + index, hash, merkleComponentHash))
+            .group(TransactionGroup.CONFIRMED).build();
+    }
+
+    private String getHash(Transaction transaction) {
+        return transaction.getTransactionInfo().flatMap(TransactionInfo::getHash).get();
+    }
+
+    private void assertTransaction(Transaction expected, Transaction actual) {
+        Assertions.assertArrayEquals(expected.serialize(), actual.serialize());
+        TransactionInfo expectedInfo = expected.getTransactionInfo().get();
+        TransactionInfo actualInfo = actual.getTransactionInfo().get();
+        Assertions.assertEquals(expectedInfo.getHeight(), actualInfo.getHeight());
+        Assertions.assertEquals(expectedInfo.getIndex(), actualInfo.getIndex());
+        Assertions.assertEquals(expectedInfo.getId(), actualInfo.getId());
+        Assertions.assertEquals(expectedInfo.getHash(), actualInfo.getHash());
+        Assertions.assertEquals(expectedInfo.getMerkleComponentHash(), actualInfo.getMerkleComponentHash());
+        Assertions.assertEquals(expected.getGroup(), actual.getGroup());
+    }
+
+    @Test
+    void writeAndRead() throws IOException {
+        Path file = tempDir.resolve("transactions.dat");
+        TransferTransaction transaction1 = createTransaction(10, 0, "first");
+        TransferTransaction transaction2 = createTransaction(5, 1, "second");
+        TransferTransaction transaction3 = createTransaction(10, 2, "third");
+        TransferTransaction transaction4 = createTransaction(20, 3, "fourth");
+
+        try (TransactionArchiveWriter writer = new TransactionArchiveWriter(file)) {
+            writer.append(transaction1);
+            writer.append(transaction2);
+            writer.append(transaction3);
+        }
+        try (TransactionArchiveWriter writer = new TransactionArchiveWriter(file)) {
+            writer.append(transaction4);
+            writer.flush();
+        }
+
+        try (TransactionArchiveReader reader = new TransactionArchiveReader(file)) {
+            Assertions.assertEquals(4, reader.size());
+            assertTransaction(transaction1, reader.getTransaction(getHash(transaction1)).get());
+            assertTransaction(transaction2, reader.getTransaction(getHash(transaction2)).get());
+            assertTransaction(transaction4, reader.getTransaction(getHash(transaction4)).get());
+            Assertions.assertFalse(reader.getTransaction(ConvertUtils.toHex(new byte[32])).isPresent());
+
+            List<Transaction> range = reader.getTransactions(BigInteger.valueOf(6), BigInteger.valueOf(20));
+            Assertions.assertEquals(3, range.size());
+            assertTransaction(transaction1, range.get(0));
+            assertTransaction(transaction3, range.get(1));
+            assertTransaction(transaction4, range.get(2));
+
+            Assertions.assertEquals(Collections.singletonList(BigInteger.valueOf(5)),
+                reader.getTransactions(BigInteger.ZERO, BigInteger.valueOf(9)).stream()
+                    .map(t -> t.getTransactionInfo().get().getHeight()).collect(Collectors.toList()));
+            Assertions.assertTrue(reader.getTransactions(BigInteger.valueOf(21), BigInteger.valueOf(100)).isEmpty());
+        }
+    }
+
+    @Test
+    void emptyArchive() throws IOException {
+        Path file = tempDir.resolve("empty.dat");
+        new TransactionArchiveWriter(file).close();
+        try (TransactionArchiveReader reader = new TransactionArchiveReader(file)) {
+            Assertions.assertEquals(0, reader.size());
+            Assertions.assertFalse(reader.getTransaction(ConvertUtils.toHex(new byte[32])).isPresent());
+            Assertions.assertTrue(reader.getTransactions(BigInteger.ZERO, BigInteger.TEN).isEmpty());
+        }
+    }
+
+    @Test
+    void appendWithoutTransactionInfo() throws IOException {
+        TransferTransaction transaction = TransferTransactionFactory
+            .create(NetworkType.MIJIN_TEST, Address.generateRandom(NetworkType.MIJIN_TEST), Collections.emptyList(),
+                PlainMessage.Empty).deadline(new FakeDeadline()).build();
+        try (TransactionArchiveWriter writer = new TransactionArchiveWriter(tempDir.resolve("invalid.dat"))) {
+            IllegalArgumentException exception = Assertions
+                .assertThrows(IllegalArgumentException.class, () -> writer.append(transaction));
+            Assertions.assertEquals("Transaction info is required to archive a transaction", exception.getMessage());
+        }
+    }
+
+    @Test
+    void invalidFile() throws IOException {
+        Path file = tempDir.resolve("invalid.dat");
+        Files.write(file, "Not an archive".getBytes());
+        IllegalArgumentException exception = Assertions
+            .assertThrows(IllegalArgumentException.class, () -> new TransactionArchiveWriter(file));
+        Assertions.assertEquals(file + " is not a transaction archive file", exception.getMessage());
+    }
+
+    @Test
+    void reopenedWriterShouldIndexTheUnindexedRecords() throws IOException {
+        Path file = tempDir.resolve("recovered.dat");
+        TransferTransaction transaction1 = createTransaction(7, 0, "first");
+        TransferTransaction transaction2 = createTransaction(3, 1, "second");
+        TransferTransaction transaction3 = createTransaction(7, 2, "third");
+        try (TransactionArchiveWriter writer = new TransactionArchiveWriter(file)) {
+            writer.append(transaction1);
+            writer.append(transaction2);
+        }
+        Files.delete(TransactionArchiveFormat.toIndexFile(file));
+        Files.write(file, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (TransactionArchiveWriter writer = new TransactionArchiveWriter(file)) {
+            writer.append(transaction3);
+        }
+
+        try (TransactionArchiveReader reader = new TransactionArchiveReader(file)) {
+            Assertions.assertEquals(3, reader.size());
+            assertTransaction(transaction3, reader.getTransaction(getHash(transaction3)).get());
+            List<Transaction> range = reader.getTransactions(BigInteger.ZERO, BigInteger.TEN);
+            Assertions.assertEquals(3, range.size());
+            assertTransaction(transaction2, range.get(0));
+            assertTransaction(transaction1, range.get(1));
+            assertTransaction(transaction3, range.get(2));
+        }
+    }
+
+    @Test
+    void readerWithInvalidDataFile() throws IOException {
+        Path file = tempDir.resolve("overwritten.dat");
+        new TransactionArchiveWriter(file).close();
+        Files.write(file, "Not an archive".getBytes());
+        IllegalArgumentException exception = Assertions
+            .assertThrows(IllegalArgumentException.class, () -> new TransactionArchiveReader(file));
+        Assertions.assertEquals(file + " is not a transaction archive file", exception.getMessage());
+    }
+}
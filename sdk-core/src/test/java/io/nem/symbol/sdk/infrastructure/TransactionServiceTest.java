@@ -294,6 +294,46 @@ class TransactionServiceTest {
 
     }
 
+    @Test
+    void transferTransactionsResolveAliasLoadStatementsOncePerHeight()
+        throws ExecutionException, InterruptedException {
+
+        simulateStatement(height, 1, 0);
+
+        List<Transaction> transactions = new ArrayList<>();
+        List<String> hashes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String transactionHash = "aaaa" + i;
+            hashes.add(transactionHash);
+            transactions.add(TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+                i % 2 == 0 ? addressNamespace1 : address2,
+                Collections.singletonList(new Mosaic(i % 2 == 0 ? mosaicNamespace2 : mosaicId3, BigInteger.valueOf(i))),
+                PlainMessage.Empty).transactionInfo(TransactionInfo.create(height, i, "ABC", transactionHash, ""))
+                .build());
+        }
+
+        Mockito
+            .when(transactionRepositoryMock.getTransactions(Mockito.eq(TransactionGroup.CONFIRMED), Mockito.eq(hashes)))
+            .thenReturn(Observable.just(transactions));
+
+        List<Transaction> resolvedTransactions = service.resolveAliases(hashes).toFuture().get();
+
+        Assertions.assertEquals(transactions.size(), resolvedTransactions.size());
+        for (int i = 0; i < resolvedTransactions.size(); i++) {
+            TransferTransaction resolvedTransaction = (TransferTransaction) resolvedTransactions.get(i);
+            Assertions.assertEquals(hashes.get(i), resolvedTransaction.getTransactionInfo().get().getHash().get());
+            Assertions.assertEquals(i % 2 == 0 ? address1 : address2, resolvedTransaction.getRecipient());
+            Assertions.assertEquals(i % 2 == 0 ? mosaicId2 : mosaicId3,
+                resolvedTransaction.getMosaics().get(0).getId());
+            Assertions.assertEquals(BigInteger.valueOf(i), resolvedTransaction.getMosaics().get(0).getAmount());
+        }
+
+        Mockito.verify(receiptRepositoryMock, Mockito.times(1))
+            .searchAddressResolutionStatements(Mockito.eq(new ResolutionStatementSearchCriteria().height(height)));
+        Mockito.verify(receiptRepositoryMock, Mockito.times(1))
+            .searchMosaicResolutionStatements(Mockito.eq(new ResolutionStatementSearchCriteria().height(height)));
+    }
+
     @Test
     void transferTransactionResolveAliasCannotAddressResolveAliases() {
 
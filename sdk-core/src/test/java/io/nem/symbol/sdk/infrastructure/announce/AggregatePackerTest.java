@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.network.AggregateNetworkProperties;
+import io.nem.symbol.sdk.model.network.NetworkConfiguration;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.network.PluginsProperties;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.HashLockTransaction;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test of {@link AggregatePacker}
+ */
+class AggregatePackerTest {
+
+    private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+    private final String generationHash = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+    private final Account account = Account.generateNewAccount(networkType);
+
+    private RepositoryFactory repositoryFactory;
+
+    private AggregateNetworkProperties aggregateNetworkProperties;
+
+    @BeforeEach
+    void setup() {
+        repositoryFactory = Mockito.mock(RepositoryFactory.class);
+        NetworkRepository networkRepository = Mockito.mock(NetworkRepository.class);
+        NetworkConfiguration configuration = Mockito.mock(NetworkConfiguration.class);
+        PluginsProperties pluginsProperties = Mockito.mock(PluginsProperties.class);
+        aggregateNetworkProperties = Mockito.mock(AggregateNetworkProperties.class);
+        Mockito.when(pluginsProperties.getAggregate()).thenReturn(aggregateNetworkProperties);
+        Mockito.when(configuration.getPlugins()).thenReturn(pluginsProperties);
+        Mockito.when(networkRepository.getNetworkProperties()).thenReturn(Observable.just(configuration));
+        Mockito.when(repositoryFactory.createNetworkRepository()).thenReturn(networkRepository);
+        Mockito.when(repositoryFactory.getNetworkType()).thenReturn(Observable.just(networkType));
+        Mockito.when(repositoryFactory.getGenerationHash()).thenReturn(Observable.just(generationHash));
+    }
+
+    private Observable<TransferTransactionFactory> transfers(int count) {
+        return Observable.range(0, count).map(i -> TransferTransactionFactory
+            .create(networkType, Address.generateRandom(networkType), Collections.emptyList(),
+                new PlainMessage("payment " + i)));
+    }
+
+    private AggregateTransaction deserialize(SignedTransaction signedTransaction) {
+        return (AggregateTransaction) BinarySerializationImpl.INSTANCE
+            .deserialize(ConvertUtils.fromHexToBytes(signedTransaction.getPayload()));
+    }
+
+    private List<String> messages(AggregateTransaction aggregate) {
+        return aggregate.getInnerTransactions().stream()
+            .map(transaction -> ((TransferTransaction) transaction).getMessage().getPayload())
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    void shouldPackInOrderUpToTheNetworkLimit() {
+        Mockito.when(aggregateNetworkProperties.getMaxTransactionsPerAggregate()).thenReturn("1'0");
+        AggregatePacker packer = new AggregatePacker(repositoryFactory, account,
+            new AggregatePackerConfiguration().withFeeMultiplier(10).withMaxConcurrentSignatures(2));
+
+        List<PackedAggregate> packed = packer.pack(transfers(25)).toList().blockingGet();
+
+        Assertions.assertEquals(3, packed.size());
+        List<String> messages = packed.stream().flatMap(p -> messages(deserialize(p.getAggregate())).stream())
+            .collect(Collectors.toList());
+        Assertions.assertEquals(IntStream.range(0, 25).mapToObj(i -> "payment " + i).collect(Collectors.toList()),
+            messages);
+        for (PackedAggregate packedAggregate : packed) {
+            AggregateTransaction aggregate = deserialize(packedAggregate.getAggregate());
+            Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, packedAggregate.getAggregate().getType());
+            Assertions.assertEquals(packedAggregate.getTransactionCount(), aggregate.getInnerTransactions().size());
+            Assertions.assertEquals(BigInteger.valueOf(aggregate.getSize() * 10), aggregate.getMaxFee());
+            Assertions
+                .assertEquals(account.getPublicAccount(), aggregate.getInnerTransactions().get(0).getSigner().get());
+            Assertions.assertFalse(packedAggregate.getHashLock().isPresent());
+        }
+        Assertions.assertEquals(5, packed.get(2).getTransactionCount());
+    }
+
+    @Test
+    void shouldPackUpToTheMaxAggregateSize() {
+        AggregatePacker unbounded = new AggregatePacker(repositoryFactory, account,
+            new AggregatePackerConfiguration().withRequiredCosignatures(1));
+        long threeTransactionsSize = deserialize(
+            unbounded.pack(transfers(3)).blockingFirst().getAggregate()).getSize()
+            + AggregateTransactionFactory.COSIGNATURE_SIZE;
+
+        AggregatePacker packer = new AggregatePacker(repositoryFactory, account,
+            new AggregatePackerConfiguration().withRequiredCosignatures(1).withMaxAggregateSize(threeTransactionsSize));
+        List<Integer> counts = packer.pack(transfers(8)).map(PackedAggregate::getTransactionCount).toList()
+            .blockingGet();
+        Assertions.assertEquals(Arrays.asList(3, 3, 2), counts);
+
+        AggregatePacker tooSmall = new AggregatePacker(repositoryFactory, account,
+            new AggregatePackerConfiguration().withMaxAggregateSize(200));
+        IllegalArgumentException exception = Assertions
+            .assertThrows(IllegalArgumentException.class, () -> tooSmall.pack(transfers(1)).blockingFirst());
+        Assertions.assertTrue(exception.getMessage().endsWith("does not fit in an aggregate"));
+    }
+
+    @Test
+    void shouldPackBondedAggregatesWithHashLocks() {
+        Mosaic lockMosaic = new Mosaic(new MosaicId(BigInteger.TEN), BigInteger.valueOf(10_000_000));
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new AggregatePacker(repositoryFactory, account,
+                new AggregatePackerConfiguration().withAggregateType(TransactionType.AGGREGATE_BONDED)));
+        Assertions.assertEquals("lockMosaic is required to pack bonded aggregates", exception.getMessage());
+
+        AggregatePacker packer = new AggregatePacker(repositoryFactory, account,
+            new AggregatePackerConfiguration().withAggregateType(TransactionType.AGGREGATE_BONDED)
+                .withLockMosaic(lockMosaic).withMaxTransactionsPerAggregate(2));
+        List<PackedAggregate> packed = packer.pack(transfers(3)).toList().blockingGet();
+
+        Assertions.assertEquals(2, packed.size());
+        for (PackedAggregate packedAggregate : packed) {
+            Assertions.assertEquals(TransactionType.AGGREGATE_BONDED, packedAggregate.getAggregate().getType());
+            HashLockTransaction hashLock = (HashLockTransaction) BinarySerializationImpl.INSTANCE
+                .deserialize(ConvertUtils.fromHexToBytes(packedAggregate.getHashLock().get().getPayload()));
+            Assertions.assertEquals(packedAggregate.getAggregate().getHash(), hashLock.getHash());
+            Assertions.assertEquals(lockMosaic.getAmount(), hashLock.getMosaic().getAmount());
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests of {@link BulkAnnouncer}.
+ */
+class BulkAnnouncerTest {
+
+    private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+    private final String generationHash = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+    private final Account account = Account.generateNewAccount(networkType);
+
+    private final TestScheduler scheduler = new TestScheduler();
+
+    private TransactionRepository transactionRepository;
+
+    private Listener listener;
+
+    private PublishSubject<Transaction> confirmed;
+
+    private PublishSubject<TransactionStatusError> status;
+
+    private RepositoryFactory repositoryFactory;
+
+    @BeforeEach
+    void setup() {
+        scheduler.advanceTimeTo(System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        transactionRepository = Mockito.mock(TransactionRepository.class);
+        repositoryFactory = Mockito.mock(RepositoryFactory.class);
+        Mockito.when(repositoryFactory.createTransactionRepository()).thenReturn(transactionRepository);
+        Mockito.when(transactionRepository.announce(Mockito.any()))
+            .thenReturn(Observable.just(new TransactionAnnounceResponse("packet 9 was pushed to the network")));
+        listener = Mockito.mock(Listener.class);
+        confirmed = PublishSubject.create();
+        status = PublishSubject.create();
+        Mockito.when(listener.confirmed(account.getAddress())).thenReturn(confirmed);
+        Mockito.when(listener.status(account.getAddress())).thenReturn(status);
+    }
+
+    private BulkAnnouncer createAnnouncer() {
+        return new BulkAnnouncer(repositoryFactory, listener,
+            new BulkAnnouncerConfiguration().withScheduler(scheduler).withDeadlineGracePeriod(Duration.ZERO));
+    }
+
+    private SignedTransaction sign(int amount, Deadline deadline) {
+        return TransferTransactionFactory
+            .create(networkType, Address.generateRandom(networkType), Collections.emptyList(),
+                new PlainMessage("bulk " + amount)).deadline(deadline).build().signWith(account, generationHash);
+    }
+
+    private Transaction confirmedTransaction(SignedTransaction signedTransaction) {
+        return TransferTransactionFactory
+            .create(networkType, account.getAddress(), Collections.emptyList(), PlainMessage.Empty)
+            .transactionInfo(TransactionInfo.create(BigInteger.ONE, 0, "id", signedTransaction.getHash(), ""))
+            .build();
+    }
+
+    @Test
+    void shouldTrackOutcomesWithOneSubscriptionPerSigner() {
+        BulkAnnouncer announcer = createAnnouncer();
+        SignedTransaction confirmedTransaction = sign(1, Deadline.create(1, ChronoUnit.HOURS));
+        SignedTransaction failedTransaction = sign(2, Deadline.create(1, ChronoUnit.HOURS));
+        SignedTransaction expiredTransaction = sign(3, Deadline.create(1, ChronoUnit.MINUTES));
+
+        TestObserver<TransactionOutcome> observer = announcer
+            .announce(Observable.just(confirmedTransaction, failedTransaction, expiredTransaction)).test();
+
+        Assertions.assertEquals(3, announcer.getPendingCount());
+        Assertions.assertEquals(3, announcer.getAnnouncedCount());
+        Assertions.assertEquals(1, announcer.getSubscribedSignerCount());
+        Mockito.verify(listener, Mockito.times(1)).confirmed(account.getAddress());
+        Mockito.verify(listener, Mockito.times(1)).status(account.getAddress());
+        Mockito.verify(transactionRepository, Mockito.times(3)).announce(Mockito.any());
+
+        scheduler.advanceTimeBy(5, TimeUnit.SECONDS);
+        confirmed.onNext(confirmedTransaction(sign(4, Deadline.create())));
+        confirmed.onNext(confirmedTransaction(confirmedTransaction));
+        status.onNext(new TransactionStatusError(account.getAddress(), failedTransaction.getHash().toLowerCase(),
+            "Failure_Core_Insufficient_Balance", Deadline.create()));
+        observer.assertValueCount(2);
+        Assertions.assertEquals(1, announcer.getPendingCount());
+
+        scheduler.advanceTimeBy(2, TimeUnit.MINUTES);
+        observer.assertValueCount(3).assertComplete();
+
+        List<TransactionOutcome> outcomes = observer.values();
+        TransactionOutcome confirmedOutcome = outcomes.get(0);
+        Assertions.assertEquals(confirmedTransaction.getHash(), confirmedOutcome.getHash());
+        Assertions.assertEquals(TransactionOutcomeStatus.CONFIRMED, confirmedOutcome.getStatus());
+        Assertions.assertTrue(confirmedOutcome.isConfirmed());
+        Assertions.assertTrue(confirmedOutcome.getTransaction().isPresent());
+        Assertions.assertEquals(Duration.ofSeconds(5), confirmedOutcome.getLatency());
+        Assertions.assertEquals(account.getAddress(), confirmedOutcome.getSigner().get());
+
+        TransactionOutcome failedOutcome = outcomes.get(1);
+        Assertions.assertEquals(failedTransaction.getHash(), failedOutcome.getHash());
+        Assertions.assertEquals(TransactionOutcomeStatus.FAILED, failedOutcome.getStatus());
+        Assertions.assertEquals("Failure_Core_Insufficient_Balance", failedOutcome.getError().get());
+
+        TransactionOutcome expiredOutcome = outcomes.get(2);
+        Assertions.assertEquals(expiredTransaction.getHash(), expiredOutcome.getHash());
+        Assertions.assertEquals(TransactionOutcomeStatus.EXPIRED, expiredOutcome.getStatus());
+        Assertions.assertFalse(expiredOutcome.getError().isPresent());
+
+        Assertions.assertEquals(1, announcer.getConfirmedCount());
+        Assertions.assertEquals(1, announcer.getFailedCount());
+        Assertions.assertEquals(1, announcer.getExpiredCount());
+        Assertions.assertEquals(Duration.ofSeconds(5), announcer.getAverageConfirmationLatency());
+        Assertions.assertEquals(0, announcer.getPendingCount());
+        Assertions.assertEquals(0, announcer.getSubscribedSignerCount());
+        Assertions.assertFalse(confirmed.hasObservers());
+        Assertions.assertFalse(status.hasObservers());
+        announcer.close();
+    }
+
+    @Test
+    void shouldLimitConcurrentAnnounces() {
+        List<PublishSubject<TransactionAnnounceResponse>> responses = new ArrayList<>();
+        Mockito.when(transactionRepository.announce(Mockito.any())).thenAnswer(invocation -> {
+            PublishSubject<TransactionAnnounceResponse> response = PublishSubject.create();
+            responses.add(response);
+            return response;
+        });
+        BulkAnnouncer announcer = new BulkAnnouncer(repositoryFactory, listener,
+            new BulkAnnouncerConfiguration().withScheduler(scheduler).withMaxConcurrentAnnounces(2));
+        List<SignedTransaction> transactions = Arrays
+            .asList(sign(1, Deadline.create()), sign(2, Deadline.create()), sign(3, Deadline.create()),
+                sign(4, Deadline.create()), sign(5, Deadline.create()));
+
+        TestObserver<TransactionOutcome> observer = announcer.announce(Observable.fromIterable(transactions)).test();
+        Assertions.assertEquals(2, responses.size());
+
+        responses.get(1).onComplete();
+        Assertions.assertEquals(3, responses.size());
+        responses.get(0).onComplete();
+        Assertions.assertEquals(4, responses.size());
+
+        transactions.forEach(t -> confirmed.onNext(confirmedTransaction(t)));
+        observer.assertValueCount(2);
+        responses.get(2).onComplete();
+        responses.get(3).onComplete();
+        observer.assertValueCount(4).assertNotComplete();
+        Assertions.assertEquals(transactions.subList(0, 4).stream().map(SignedTransaction::getHash)
+                .collect(Collectors.toSet()),
+            observer.values().stream().map(TransactionOutcome::getHash).collect(Collectors.toSet()));
+        Assertions.assertEquals(5, responses.size());
+        Assertions.assertEquals(1, announcer.getPendingCount());
+
+        announcer.close();
+        Assertions.assertFalse(confirmed.hasObservers());
+        responses.get(4).onComplete();
+        observer.assertError(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldFailWhenAnnounceFails() {
+        Mockito.when(transactionRepository.announce(Mockito.any()))
+            .thenReturn(Observable.error(new RepositoryCallException("Invalid payload", 400, null)));
+        BulkAnnouncer announcer = createAnnouncer();
+        SignedTransaction signedTransaction = sign(1, Deadline.create());
+
+        TransactionOutcome outcome = announcer.announce(signedTransaction).blockingFirst();
+
+        Assertions.assertEquals(TransactionOutcomeStatus.FAILED, outcome.getStatus());
+        Assertions.assertEquals("RepositoryCallException: Invalid payload", outcome.getError().get());
+        Assertions.assertEquals(1, announcer.getFailedCount());
+        Assertions.assertEquals(0, announcer.getSubscribedSignerCount());
+        announcer.close();
+    }
+
+    @Test
+    void shouldFailPendingTransactionsWhenListenerFails() {
+        BulkAnnouncer announcer = createAnnouncer();
+        TestObserver<TransactionOutcome> observer = announcer
+            .announce(Observable.just(sign(1, Deadline.create()), sign(2, Deadline.create()))).test();
+
+        confirmed.onError(new IllegalStateException("Connection closed"));
+
+        observer.assertValueCount(2).assertComplete();
+        observer.values().forEach(outcome -> {
+            Assertions.assertEquals(TransactionOutcomeStatus.FAILED, outcome.getStatus());
+            Assertions.assertEquals("Listener error: IllegalStateException: Connection closed",
+                outcome.getError().get());
+        });
+        Assertions.assertEquals(0, announcer.getSubscribedSignerCount());
+        Assertions.assertFalse(status.hasObservers());
+        announcer.close();
+    }
+
+    @Test
+    void shouldAnnounceBondedAggregateOnceTheHashLockIsConfirmed() {
+        Mockito.when(transactionRepository.announceAggregateBonded(Mockito.any()))
+            .thenReturn(Observable.just(new TransactionAnnounceResponse("packet 500 was pushed to the network")));
+        BulkAnnouncer announcer = createAnnouncer();
+        SignedTransaction aggregate = AggregateTransactionFactory.createBonded(networkType, Collections.singletonList(
+            TransferTransactionFactory.create(networkType, Address.generateRandom(networkType), Collections.emptyList(),
+                PlainMessage.Empty).build().toAggregate(account.getPublicAccount()))).build()
+            .signWith(account, generationHash);
+        SignedTransaction hashLock = sign(1, Deadline.create(1, ChronoUnit.HOURS));
+
+        TestObserver<TransactionOutcome> observer = announcer.announce(new PackedAggregate(aggregate, hashLock, 1))
+            .test();
+        Mockito.verify(transactionRepository).announce(hashLock);
+        Mockito.verify(transactionRepository, Mockito.never()).announceAggregateBonded(Mockito.any());
+
+        confirmed.onNext(confirmedTransaction(hashLock));
+        Mockito.verify(transactionRepository).announceAggregateBonded(aggregate);
+        observer.assertNoValues();
+
+        confirmed.onNext(confirmedTransaction(aggregate));
+        observer.assertComplete();
+        Assertions.assertEquals(aggregate.getHash().toUpperCase(), observer.values().get(0).getHash());
+        Assertions.assertEquals(TransactionOutcomeStatus.CONFIRMED, observer.values().get(0).getStatus());
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.announce;
+
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionStatusRepository;
+import io.nem.symbol.sdk.model.network.ChainProperties;
+import io.nem.symbol.sdk.model.network.NetworkConfiguration;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.TransactionState;
+import io.nem.symbol.sdk.model.transaction.TransactionStatus;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests of {@link PollingConfirmationTracker}.
+ */
+class PollingConfirmationTrackerTest {
+
+    private final TestScheduler scheduler = new TestScheduler();
+
+    private TransactionStatusRepository transactionStatusRepository;
+
+    private NetworkRepository networkRepository;
+
+    private RepositoryFactory repositoryFactory;
+
+    private final List<List<String>> requests = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        scheduler.advanceTimeTo(System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        transactionStatusRepository = Mockito.mock(TransactionStatusRepository.class);
+        networkRepository = Mockito.mock(NetworkRepository.class);
+        repositoryFactory = Mockito.mock(RepositoryFactory.class);
+        Mockito.when(repositoryFactory.createTransactionStatusRepository()).thenReturn(transactionStatusRepository);
+        Mockito.when(repositoryFactory.createNetworkRepository()).thenReturn(networkRepository);
+
+        ChainProperties chainProperties = Mockito.mock(ChainProperties.class);
+        Mockito.when(chainProperties.getBlockGenerationTargetTime()).thenReturn("15s");
+        NetworkConfiguration networkConfiguration = Mockito.mock(NetworkConfiguration.class);
+        Mockito.when(networkConfiguration.getChain()).thenReturn(chainProperties);
+        Mockito.when(networkRepository.getNetworkProperties()).thenReturn(Observable.just(networkConfiguration));
+    }
+
+    private PollingConfirmationTracker createTracker() {
+        return new PollingConfirmationTracker(repositoryFactory,
+            new PollingConfirmationTrackerConfiguration().withScheduler(scheduler)
+                .withDeadlineGracePeriod(Duration.ZERO));
+    }
+
+    private static String hash(int index) {
+        return String.format("%064X", index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void simulateStatuses(String confirmedHash, String failedHash) {
+        Mockito.when(transactionStatusRepository.getTransactionStatuses(Mockito.anyList())).thenAnswer(invocation -> {
+            List<String> hashes = new ArrayList<>((List<String>) invocation.getArguments()[0]);
+            requests.add(hashes);
+            return Observable.just(hashes.stream().map(hash -> {
+                TransactionState state = hash.equals(confirmedHash) ? TransactionState.CONFIRMED
+                    : hash.equals(failedHash) ? TransactionState.FAILED : TransactionState.UNCONFIRMED;
+                String code = state == TransactionState.FAILED ? "Failure_Core_Past_Deadline" : "Success";
+                return new TransactionStatus(state, code, hash.toLowerCase(), Deadline.create(), BigInteger.ONE);
+            }).collect(Collectors.toList()));
+        });
+    }
+
+    @Test
+    void shouldPollPendingHashesInBatches() {
+        simulateStatuses(hash(0), hash(1));
+        PollingConfirmationTracker tracker = createTracker();
+        TestObserver<TransactionOutcome> allOutcomes = tracker.outcomes().test();
+        List<TestObserver<TransactionOutcome>> outcomes = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            outcomes.add(tracker.track(hash(i), Deadline.create(1, ChronoUnit.HOURS)).test());
+        }
+        Assertions.assertEquals(250, tracker.getPendingCount());
+        Assertions.assertEquals(Duration.ofMillis(7500), tracker.getPollingInterval());
+
+        scheduler.advanceTimeBy(7499, TimeUnit.MILLISECONDS);
+        Assertions.assertEquals(0, tracker.getPollCount());
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        Assertions.assertEquals(1, tracker.getPollCount());
+        Assertions.assertEquals(3, tracker.getRequestCount());
+        Assertions.assertEquals(250, requests.stream().mapToInt(List::size).sum());
+        Assertions.assertEquals(100, requests.get(0).size());
+
+        TransactionOutcome confirmed = outcomes.get(0).assertValueCount(1).assertComplete().values().get(0);
+        Assertions.assertEquals(TransactionOutcomeStatus.CONFIRMED, confirmed.getStatus());
+        Assertions.assertEquals(hash(0), confirmed.getHash());
+        Assertions.assertEquals(Duration.ofMillis(7500), confirmed.getLatency());
+        Assertions.assertFalse(confirmed.getSigner().isPresent());
+
+        TransactionOutcome failed = outcomes.get(1).assertValueCount(1).values().get(0);
+        Assertions.assertEquals(TransactionOutcomeStatus.FAILED, failed.getStatus());
+        Assertions.assertEquals(Optional.of("Failure_Core_Past_Deadline"), failed.getError());
+        outcomes.get(2).assertNoValues().assertNotComplete();
+        allOutcomes.assertValueCount(2);
+        Assertions.assertEquals(248, tracker.getPendingCount());
+
+        scheduler.advanceTimeBy(7500, TimeUnit.MILLISECONDS);
+        Assertions.assertEquals(2, tracker.getPollCount());
+        Assertions.assertEquals(6, tracker.getRequestCount());
+        Assertions.assertEquals(0, tracker.getFailedRequestCount());
+        Assertions.assertEquals(248, requests.subList(3, 6).stream().mapToInt(List::size).sum());
+        Mockito.verify(networkRepository, Mockito.times(1)).getNetworkProperties();
+
+        tracker.close();
+        outcomes.get(2).assertError(IllegalStateException.class);
+        allOutcomes.assertComplete();
+    }
+
+    @Test
+    void shouldExpireHashesAndStopPolling() {
+        simulateStatuses(null, null);
+        PollingConfirmationTracker tracker = createTracker();
+        TestObserver<TransactionOutcome> expiring = tracker.track(hash(1), Deadline.create(1, ChronoUnit.MINUTES))
+            .test();
+        TestObserver<TransactionOutcome> pending = tracker.track(hash(2), Deadline.create(2, ChronoUnit.HOURS))
+            .test();
+
+        scheduler.advanceTimeBy(70, TimeUnit.SECONDS);
+        TransactionOutcome expired = expiring.assertValueCount(1).values().get(0);
+        Assertions.assertEquals(TransactionOutcomeStatus.EXPIRED, expired.getStatus());
+        pending.assertNoValues();
+        Assertions.assertEquals(Optional.of(hash(2)), requests.stream().skip(requests.size() - 1)
+            .flatMap(List::stream).distinct().findFirst());
+
+        simulateStatuses(hash(2), null);
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+        pending.assertValueCount(1).assertComplete();
+        long polls = tracker.getPollCount();
+        scheduler.advanceTimeBy(10, TimeUnit.MINUTES);
+        Assertions.assertEquals(polls, tracker.getPollCount());
+
+        tracker.track(hash(3), Deadline.create(1, ChronoUnit.HOURS));
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(polls + 1, tracker.getPollCount());
+        tracker.close();
+    }
+
+    @Test
+    void shouldUseDefaultIntervalWhenNetworkConfigurationFails() {
+        Mockito.when(networkRepository.getNetworkProperties())
+            .thenReturn(Observable.error(new RepositoryCallException("Not found", 404, null)));
+        Mockito.when(transactionStatusRepository.getTransactionStatuses(Mockito.anyList()))
+            .thenReturn(Observable.error(new RepositoryCallException("Unavailable", 503, null)));
+        PollingConfirmationTracker tracker = createTracker();
+        TestObserver<TransactionOutcome> outcome = tracker.track(hash(1), Deadline.create()).test();
+
+        Assertions.assertEquals(Duration.ofSeconds(5), tracker.getPollingInterval());
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(2, tracker.getPollCount());
+        Assertions.assertEquals(2, tracker.getFailedRequestCount());
+        Mockito.verify(networkRepository, Mockito.times(3)).getNetworkProperties();
+        outcome.assertNoValues();
+        Assertions.assertEquals(1, tracker.getPendingCount());
+
+        tracker.close();
+        outcome.assertError(IllegalStateException.class);
+        Assertions.assertThrows(IllegalStateException.class, () -> tracker.track(hash(2), Deadline.create()));
+    }
+
+    @Test
+    void shouldDisposeNetworkConfigurationRequestWhenClosed() {
+        PublishSubject<NetworkConfiguration> networkProperties = PublishSubject.create();
+        Mockito.when(networkRepository.getNetworkProperties()).thenReturn(networkProperties);
+        PollingConfirmationTracker tracker = createTracker();
+        TestObserver<TransactionOutcome> outcome = tracker.track(hash(1), Deadline.create()).test();
+        Assertions.assertTrue(networkProperties.hasObservers());
+
+        tracker.close();
+        Assertions.assertFalse(networkProperties.hasObservers());
+        outcome.assertError(IllegalStateException.class);
+    }
+
+    @Test
+    void toDuration() {
+        Assertions.assertEquals(Optional.of(Duration.ofSeconds(15)), PollingConfirmationTracker.toDuration("15s"));
+        Assertions.assertEquals(Optional.of(Duration.ofMillis(500)), PollingConfirmationTracker.toDuration("500ms"));
+        Assertions.assertEquals(Optional.of(Duration.ofMinutes(2)), PollingConfirmationTracker.toDuration("2m"));
+        Assertions.assertEquals(Optional.of(Duration.ofHours(1)), PollingConfirmationTracker.toDuration("1h"));
+        Assertions.assertEquals(Optional.of(Duration.ofDays(3)), PollingConfirmationTracker.toDuration("3d"));
+        Assertions.assertEquals(Optional.of(Duration.ofMillis(1500)), PollingConfirmationTracker.toDuration("1'500ms"));
+        Assertions.assertEquals(Optional.empty(), PollingConfirmationTracker.toDuration("15 seconds"));
+    }
+}
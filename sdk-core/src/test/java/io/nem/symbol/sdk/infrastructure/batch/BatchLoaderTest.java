@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.batch;
+
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link BatchLoader}
+ */
+class BatchLoaderTest {
+
+    private final TestScheduler scheduler = new TestScheduler();
+
+    private final List<List<Integer>> batches = new ArrayList<>();
+
+    private BatchLoader<Integer, String> createLoader(int maxBatchSize) {
+        return new BatchLoader<>(keys -> {
+            batches.add(keys);
+            return Observable.just(
+                keys.stream().filter(key -> key > 0).map(key -> "value" + key).collect(Collectors.toList()));
+        }, value -> Integer.valueOf(value.substring(5)),
+            new BatchConfiguration().withMaxBatchSize(maxBatchSize).withWindow(Duration.ofMillis(10))
+                .withScheduler(scheduler));
+    }
+
+    @Test
+    void shouldBatchLoadsWithinTheWindow() {
+        BatchLoader<Integer, String> loader = createLoader(100);
+        TestObserver<String> observer1 = loader.load(1).test();
+        TestObserver<String> observer2 = loader.load(2).test();
+        TestObserver<String> observer3 = loader.load(1).test();
+        Assertions.assertTrue(batches.isEmpty());
+        observer1.assertNoValues();
+
+        scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+
+        Assertions.assertEquals(Collections.singletonList(Arrays.asList(1, 2)), batches);
+        observer1.assertResult("value1");
+        observer2.assertResult("value2");
+        observer3.assertResult("value1");
+        Assertions.assertEquals(3, loader.getLoadCount());
+        Assertions.assertEquals(1, loader.getBatchCount());
+
+        TestObserver<String> observer4 = loader.load(3).test();
+        scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+        observer4.assertResult("value3");
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(3)), batches);
+    }
+
+    @Test
+    void shouldSendFullBatchesImmediately() {
+        BatchLoader<Integer, String> loader = createLoader(2);
+        TestObserver<String> observer1 = loader.load(1).test();
+        TestObserver<String> observer2 = loader.load(2).test();
+        TestObserver<String> observer3 = loader.load(3).test();
+
+        observer1.assertResult("value1");
+        observer2.assertResult("value2");
+        observer3.assertNoValues();
+        Assertions.assertEquals(Collections.singletonList(Arrays.asList(1, 2)), batches);
+
+        scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+        observer3.assertResult("value3");
+        Assertions.assertEquals(2, batches.size());
+    }
+
+    @Test
+    void missingKeysShouldFailWithNotFound() {
+        BatchLoader<Integer, String> loader = createLoader(100);
+        TestObserver<String> observer1 = loader.load(1).test();
+        TestObserver<String> observer2 = loader.load(-1).test();
+        loader.flush();
+
+        observer1.assertResult("value1");
+        observer2.assertError(RepositoryCallException.class);
+        Assertions.assertEquals(404,
+            ((RepositoryCallException) observer2.errors().get(0)).getStatusCode());
+    }
+
+    @Test
+    void bulkErrorsShouldFailAllKeys() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(
+            keys -> Observable.error(new IllegalStateException("Boom")), value -> 1,
+            new BatchConfiguration().withScheduler(scheduler));
+        TestObserver<String> observer1 = loader.load(1).test();
+        TestObserver<String> observer2 = loader.load(2).test();
+        loader.flush();
+
+        observer1.assertError(IllegalStateException.class);
+        observer2.assertError(IllegalStateException.class);
+    }
+
+    @Test
+    void loadShouldBeLazy() {
+        BatchLoader<Integer, String> loader = createLoader(1);
+        Observable<String> observable = loader.load(1);
+        Assertions.assertTrue(batches.isEmpty());
+        Assertions.assertEquals("value1", observable.blockingFirst());
+    }
+}
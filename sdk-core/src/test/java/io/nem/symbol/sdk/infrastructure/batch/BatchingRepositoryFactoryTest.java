@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.batch;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionStatusRepository;
+import io.nem.symbol.sdk.model.account.AccountInfo;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.TransactionStatus;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * Test of {@link BatchingRepositoryFactory}
+ */
+class BatchingRepositoryFactoryTest {
+
+    private final TestScheduler scheduler = new TestScheduler();
+
+    private final RepositoryFactory delegate = Mockito.mock(RepositoryFactory.class);
+
+    private final BatchingRepositoryFactory factory = new BatchingRepositoryFactory(delegate,
+        new BatchConfiguration().withScheduler(scheduler));
+
+    private static AccountInfo mockAccountInfo(Address address) {
+        AccountInfo accountInfo = Mockito.mock(AccountInfo.class);
+        Mockito.when(accountInfo.getAddress()).thenReturn(address);
+        return accountInfo;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAccountInfoShouldUseBulkEndpoint() {
+        AccountRepository accountRepository = Mockito.mock(AccountRepository.class);
+        Mockito.when(delegate.createAccountRepository()).thenReturn(accountRepository);
+        Address address1 = Address.generateRandom(NetworkType.MIJIN_TEST);
+        Address address2 = Address.generateRandom(NetworkType.MIJIN_TEST);
+        AccountInfo accountInfo1 = mockAccountInfo(address1);
+        AccountInfo accountInfo2 = mockAccountInfo(address2);
+        Mockito.when(accountRepository.getAccountsInfo(Mockito.any()))
+            .thenReturn(Observable.just(Arrays.asList(accountInfo2, accountInfo1)));
+
+        AccountRepository repository = factory.createAccountRepository();
+        TestObserver<AccountInfo> observer1 = repository.getAccountInfo(address1).test();
+        TestObserver<AccountInfo> observer2 = repository.getAccountInfo(address2).test();
+        scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+
+        observer1.assertResult(accountInfo1);
+        observer2.assertResult(accountInfo2);
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(accountRepository).getAccountsInfo(captor.capture());
+        Assertions.assertEquals(Arrays.asList(address1, address2), captor.getValue());
+        Mockito.verify(accountRepository, Mockito.never()).getAccountInfo(Mockito.any());
+    }
+
+    @Test
+    void getTransactionStatusShouldIgnoreHashCase() {
+        TransactionStatusRepository statusRepository = Mockito.mock(TransactionStatusRepository.class);
+        Mockito.when(delegate.createTransactionStatusRepository()).thenReturn(statusRepository);
+        TransactionStatus status = Mockito.mock(TransactionStatus.class);
+        Mockito.when(status.getHash()).thenReturn("ABCD");
+        Mockito.when(statusRepository.getTransactionStatuses(Arrays.asList("ABCD")))
+            .thenReturn(Observable.just(Arrays.asList(status)));
+
+        TestObserver<TransactionStatus> observer = factory.createTransactionStatusRepository()
+            .getTransactionStatus("abcd").test();
+        scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+        observer.assertResult(status);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.AliasAction;
+import io.nem.symbol.sdk.model.namespace.MosaicAlias;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.namespace.NamespaceInfo;
+import io.nem.symbol.sdk.model.namespace.NamespaceRegistrationType;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.MosaicAliasTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test of {@link AliasResolutionCache}
+ */
+class AliasResolutionCacheTest {
+
+    private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+    private final Address owner = Address.generateRandom(networkType);
+
+    private final NamespaceId alias = NamespaceId.createFromName("cachedalias");
+
+    private final NamespaceId otherAlias = NamespaceId.createFromName("otheralias");
+
+    private final MosaicId mosaicId = new MosaicId(BigInteger.TEN);
+
+    private NamespaceRepository namespaceRepository;
+
+    @BeforeEach
+    void setup() {
+        namespaceRepository = Mockito.mock(NamespaceRepository.class);
+        Mockito.when(namespaceRepository.getNamespace(alias)).thenReturn(Observable.just(
+            new NamespaceInfo("abc", true, 0, "metaId", NamespaceRegistrationType.ROOT_NAMESPACE, 1,
+                Collections.singletonList(alias), null, owner, BigInteger.ONE, BigInteger.valueOf(100),
+                new MosaicAlias(mosaicId))));
+    }
+
+    @Test
+    void shouldReloadExpiredNamespaces() {
+        AliasResolutionCache cache = new AliasResolutionCache(namespaceRepository);
+        Assertions.assertEquals(mosaicId, cache.getNamespace(alias).blockingFirst().getAlias().getAliasValue());
+        cache.setChainHeight(BigInteger.valueOf(99));
+        cache.getNamespace(alias).blockingFirst();
+        Mockito.verify(namespaceRepository, Mockito.times(1)).getNamespace(alias);
+
+        cache.setChainHeight(BigInteger.valueOf(100));
+        cache.setChainHeight(BigInteger.valueOf(50));
+        Assertions.assertEquals(BigInteger.valueOf(100), cache.getChainHeight());
+        cache.getNamespace(alias).blockingFirst();
+        Mockito.verify(namespaceRepository, Mockito.times(2)).getNamespace(alias);
+    }
+
+    @Test
+    void listenerShouldInvalidateChangedAliases() {
+        Listener listener = Mockito.mock(Listener.class);
+        PublishSubject<BlockInfo> newBlock = PublishSubject.create();
+        PublishSubject<Transaction> confirmed = PublishSubject.create();
+        Mockito.when(listener.newBlock()).thenReturn(newBlock);
+        Mockito.when(listener.confirmed(owner)).thenReturn(confirmed);
+
+        AliasResolutionCache cache = new AliasResolutionCache(namespaceRepository);
+        cache.listen(listener);
+        cache.getNamespace(alias).blockingFirst();
+        cache.getNamespace(alias).blockingFirst();
+        Mockito.verify(listener, Mockito.times(1)).confirmed(owner);
+
+        confirmed.onNext(MosaicAliasTransactionFactory
+            .create(networkType, AliasAction.LINK, otherAlias, mosaicId).build());
+        cache.getNamespace(alias).blockingFirst();
+        Mockito.verify(namespaceRepository, Mockito.times(1)).getNamespace(alias);
+
+        Transaction aliasChange = MosaicAliasTransactionFactory
+            .create(networkType, AliasAction.UNLINK, alias, mosaicId).build()
+            .toAggregate(Account.generateNewAccount(networkType).getPublicAccount());
+        confirmed.onNext(AggregateTransactionFactory.createComplete(networkType, Collections.singletonList(
+            aliasChange)).build());
+        cache.getNamespace(alias).blockingFirst();
+        Mockito.verify(namespaceRepository, Mockito.times(2)).getNamespace(alias);
+
+        BlockInfo block = Mockito.mock(BlockInfo.class);
+        Mockito.when(block.getHeight()).thenReturn(BigInteger.valueOf(100));
+        newBlock.onNext(block);
+        cache.getNamespace(alias).blockingFirst();
+        Mockito.verify(namespaceRepository, Mockito.times(3)).getNamespace(alias);
+
+        cache.close();
+        Assertions.assertFalse(confirmed.hasObservers());
+        Assertions.assertFalse(newBlock.hasObservers());
+    }
+
+    @Test
+    void ownerShouldNotBeWatchedOnceItsNamespacesAreGone() {
+        Listener listener = Mockito.mock(Listener.class);
+        PublishSubject<Transaction> confirmed = PublishSubject.create();
+        Mockito.when(listener.newBlock()).thenReturn(PublishSubject.create());
+        Mockito.when(listener.confirmed(owner)).thenReturn(confirmed);
+
+        AliasResolutionCache cache = new AliasResolutionCache(namespaceRepository);
+        cache.listen(listener);
+        cache.getNamespace(alias).blockingFirst();
+        Assertions.assertEquals(1, cache.getWatchedOwnerCount());
+        Assertions.assertTrue(confirmed.hasObservers());
+
+        cache.invalidate(alias);
+        Assertions.assertEquals(0, cache.getWatchedOwnerCount());
+        Assertions.assertFalse(confirmed.hasObservers());
+
+        cache.getNamespace(alias).blockingFirst();
+        Assertions.assertEquals(1, cache.getWatchedOwnerCount());
+        Mockito.verify(listener, Mockito.times(2)).confirmed(owner);
+        cache.close();
+    }
+
+    @Test
+    void newBlockErrorShouldInvalidateAndDetachTheListener() {
+        Listener listener = Mockito.mock(Listener.class);
+        PublishSubject<BlockInfo> newBlock = PublishSubject.create();
+        PublishSubject<Transaction> confirmed = PublishSubject.create();
+        Mockito.when(listener.newBlock()).thenReturn(newBlock);
+        Mockito.when(listener.confirmed(owner)).thenReturn(confirmed);
+
+        AliasResolutionCache cache = new AliasResolutionCache(namespaceRepository);
+        cache.listen(listener);
+        cache.getNamespace(alias).blockingFirst();
+
+        newBlock.onError(new IllegalStateException("Connection lost"));
+        Assertions.assertFalse(confirmed.hasObservers());
+        Assertions.assertEquals(0, cache.getWatchedOwnerCount());
+        cache.getNamespace(alias).blockingFirst();
+        Mockito.verify(namespaceRepository, Mockito.times(2)).getNamespace(alias);
+
+        PublishSubject<BlockInfo> otherNewBlock = PublishSubject.create();
+        Mockito.when(listener.newBlock()).thenReturn(otherNewBlock);
+        cache.listen(listener);
+        Assertions.assertTrue(otherNewBlock.hasObservers());
+        cache.close();
+        Assertions.assertFalse(otherNewBlock.hasObservers());
+    }
+}
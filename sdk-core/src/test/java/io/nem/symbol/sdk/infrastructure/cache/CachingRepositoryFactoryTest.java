@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.MosaicRepository;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.mosaic.MosaicInfo;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test of {@link CachingRepositoryFactory}
+ */
+class CachingRepositoryFactoryTest {
+
+    private RepositoryFactory delegate;
+
+    private CachingRepositoryFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(RepositoryFactory.class);
+        ChainRepository chainRepository = Mockito.mock(ChainRepository.class);
+        Mockito.when(chainRepository.getBlockchainHeight()).thenReturn(Observable.just(BigInteger.valueOf(1000)));
+        Mockito.when(delegate.createChainRepository()).thenReturn(chainRepository);
+        factory = new CachingRepositoryFactory(delegate);
+    }
+
+    private static Transaction mockTransaction(String hash) {
+        Transaction transaction = Mockito.mock(Transaction.class);
+        Mockito.when(transaction.getTransactionInfo())
+            .thenReturn(Optional.of(TransactionInfo.create(BigInteger.ONE, 0, "id", hash, "merkle")));
+        return transaction;
+    }
+
+    @Test
+    void blocksShouldBeSharedByRepositories() {
+        BlockRepository blockRepository = Mockito.mock(BlockRepository.class);
+        Mockito.when(delegate.createBlockRepository()).thenReturn(blockRepository);
+        BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+        Mockito.when(blockRepository.getBlockByHeight(BigInteger.TEN)).thenReturn(Observable.just(blockInfo));
+
+        Assertions.assertEquals(blockInfo, factory.createBlockRepository().getBlockByHeight(BigInteger.TEN)
+            .blockingFirst());
+        Assertions.assertEquals(blockInfo, factory.createBlockRepository().getBlockByHeight(BigInteger.TEN)
+            .blockingFirst());
+
+        Mockito.verify(blockRepository, Mockito.times(1)).getBlockByHeight(BigInteger.TEN);
+        Assertions.assertEquals(1, factory.getStats().get("blocks").getHitCount());
+        Assertions.assertEquals(1, factory.getStats().get("blocks").getMissCount());
+
+        factory.invalidateAll();
+        factory.createBlockRepository().getBlockByHeight(BigInteger.TEN).blockingFirst();
+        Mockito.verify(blockRepository, Mockito.times(2)).getBlockByHeight(BigInteger.TEN);
+    }
+
+    @Test
+    void onlyConfirmedTransactionsShouldBeCached() {
+        TransactionRepository transactionRepository = Mockito.mock(TransactionRepository.class);
+        Mockito.when(delegate.createTransactionRepository()).thenReturn(transactionRepository);
+        Transaction transaction1 = mockTransaction("AA");
+        Transaction transaction2 = mockTransaction("BB");
+        Mockito.when(transactionRepository.getTransaction(Mockito.any(), Mockito.eq("aa")))
+            .thenReturn(Observable.just(transaction1));
+        Mockito.when(transactionRepository.getTransactions(TransactionGroup.CONFIRMED, Collections.singletonList("BB")))
+            .thenReturn(Observable.just(Collections.singletonList(transaction2)));
+
+        TransactionRepository repository = factory.createTransactionRepository();
+        repository.getTransaction(TransactionGroup.UNCONFIRMED, "aa").blockingFirst();
+        repository.getTransaction(TransactionGroup.UNCONFIRMED, "aa").blockingFirst();
+        repository.getTransaction(TransactionGroup.CONFIRMED, "aa").blockingFirst();
+        repository.getTransaction(TransactionGroup.CONFIRMED, "aa").blockingFirst();
+        Mockito.verify(transactionRepository, Mockito.times(2))
+            .getTransaction(TransactionGroup.UNCONFIRMED, "aa");
+        Mockito.verify(transactionRepository, Mockito.times(1)).getTransaction(TransactionGroup.CONFIRMED, "aa");
+
+        List<Transaction> transactions = repository
+            .getTransactions(TransactionGroup.CONFIRMED, Arrays.asList("AA", "bb")).blockingFirst();
+        Assertions.assertEquals(Arrays.asList(transaction1, transaction2), transactions);
+        transactions = repository.getTransactions(TransactionGroup.CONFIRMED, Arrays.asList("bb", "aa"))
+            .blockingFirst();
+        Assertions.assertEquals(Arrays.asList(transaction2, transaction1), transactions);
+        Mockito.verify(transactionRepository, Mockito.times(1))
+            .getTransactions(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void disabledPolicyShouldNotCache() {
+        factory = new CachingRepositoryFactory(delegate,
+            new RepositoryCacheConfiguration().withMosaicPolicy(CachePolicy.none()));
+        MosaicRepository mosaicRepository = Mockito.mock(MosaicRepository.class);
+        Mockito.when(delegate.createMosaicRepository()).thenReturn(mosaicRepository);
+        MosaicId mosaicId = new MosaicId(BigInteger.TEN);
+        MosaicInfo mosaicInfo = Mockito.mock(MosaicInfo.class);
+        Mockito.when(mosaicInfo.getMosaicId()).thenReturn(mosaicId);
+        Mockito.when(mosaicRepository.getMosaic(mosaicId)).thenReturn(Observable.just(mosaicInfo));
+
+        MosaicRepository repository = factory.createMosaicRepository();
+        repository.getMosaic(mosaicId).blockingFirst();
+        repository.getMosaic(mosaicId).blockingFirst();
+        Mockito.verify(mosaicRepository, Mockito.times(2)).getMosaic(mosaicId);
+        Assertions.assertEquals(2, factory.getStats().get("mosaics").getMissCount());
+    }
+
+    @Test
+    void networkTypeShouldBeCached() {
+        NetworkRepository networkRepository = Mockito.mock(NetworkRepository.class);
+        Mockito.when(delegate.createNetworkRepository()).thenReturn(networkRepository);
+        Mockito.when(networkRepository.getNetworkType()).thenReturn(Observable.just(NetworkType.MIJIN_TEST));
+
+        NetworkRepository repository = factory.createNetworkRepository();
+        Assertions.assertEquals(NetworkType.MIJIN_TEST, repository.getNetworkType().blockingFirst());
+        Assertions.assertEquals(NetworkType.MIJIN_TEST, repository.getNetworkType().blockingFirst());
+        repository.getTransactionFees();
+        repository.getTransactionFees();
+
+        Mockito.verify(networkRepository, Mockito.times(1)).getNetworkType();
+        Mockito.verify(networkRepository, Mockito.times(2)).getTransactionFees();
+    }
+
+    @Test
+    void closeShouldCloseDelegate() {
+        factory.close();
+        Mockito.verify(delegate).close();
+    }
+}
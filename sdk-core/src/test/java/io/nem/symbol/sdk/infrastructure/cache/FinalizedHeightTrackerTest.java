@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test of {@link FinalizedHeightTracker}
+ */
+class FinalizedHeightTrackerTest {
+
+    private final Duration unfinalizedExpireAfterWrite = Duration.ofSeconds(15);
+
+    private ChainRepository chainRepository;
+
+    private FinalizedHeightTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        chainRepository = Mockito.mock(ChainRepository.class);
+        tracker = new FinalizedHeightTracker(() -> chainRepository, 100, unfinalizedExpireAfterWrite);
+    }
+
+    @Test
+    void onlyHeightsBelowTheFinalizationDepthShouldBeFinalized() {
+        Mockito.when(chainRepository.getBlockchainHeight()).thenReturn(Observable.just(BigInteger.valueOf(1000)));
+
+        Assertions.assertEquals(Optional.empty(), tracker.getExpireAfterWrite(BigInteger.valueOf(900)).blockingFirst());
+        Assertions.assertEquals(Optional.of(unfinalizedExpireAfterWrite),
+            tracker.getExpireAfterWrite(BigInteger.valueOf(901)).blockingFirst());
+        Assertions.assertEquals(Optional.empty(), tracker.getExpireAfterWrite(BigInteger.ONE).blockingFirst());
+        Assertions.assertEquals(Optional.of(unfinalizedExpireAfterWrite), tracker.getExpireAfterWrite(null)
+            .blockingFirst());
+
+        Mockito.verify(chainRepository, Mockito.times(1)).getBlockchainHeight();
+    }
+
+    @Test
+    void heightsShouldNotBeFinalizedWhenTheChainHeightFails() {
+        Mockito.when(chainRepository.getBlockchainHeight())
+            .thenReturn(Observable.error(new IllegalStateException("Boom")));
+
+        Assertions.assertEquals(Optional.of(unfinalizedExpireAfterWrite),
+            tracker.getExpireAfterWrite(BigInteger.ONE).blockingFirst());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.nem.symbol.sdk.api.MultisigRepository;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.MultisigAccountGraphInfo;
+import io.nem.symbol.sdk.model.account.MultisigAccountInfo;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.reactivex.Observable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test of {@link MultisigGraphCache}
+ */
+class MultisigGraphCacheTest {
+
+    private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+    private final Address multisig = Address.generateRandom(networkType);
+
+    private final Address cosignatory = Address.generateRandom(networkType);
+
+    private final Address other = Address.generateRandom(networkType);
+
+    private MultisigRepository multisigRepository;
+
+    @BeforeEach
+    void setup() {
+        multisigRepository = Mockito.mock(MultisigRepository.class);
+        MultisigAccountInfo multisigInfo = new MultisigAccountInfo(multisig, 1, 1,
+            Collections.singletonList(cosignatory), Collections.emptyList());
+        Map<Integer, List<MultisigAccountInfo>> graph = Collections.singletonMap(0,
+            Collections.singletonList(multisigInfo));
+        Mockito.when(multisigRepository.getMultisigAccountInfo(multisig)).thenReturn(Observable.just(multisigInfo));
+        Mockito.when(multisigRepository.getMultisigAccountGraphInfo(multisig))
+            .thenReturn(Observable.just(new MultisigAccountGraphInfo(graph)));
+    }
+
+    @Test
+    void shouldCacheAccountsAndGraphs() {
+        MultisigGraphCache cache = new MultisigGraphCache(multisigRepository);
+        Assertions.assertEquals(multisig, cache.getMultisigAccountInfo(multisig).blockingFirst().getAccountAddress());
+        Assertions.assertEquals(multisig, cache.getMultisigAccountInfo(multisig).blockingFirst().getAccountAddress());
+        Assertions.assertEquals(cache.getMultisigAccountGraphInfo(multisig).blockingFirst(),
+            cache.getMultisigAccountGraphInfo(multisig).blockingFirst());
+
+        Mockito.verify(multisigRepository, Mockito.times(1)).getMultisigAccountInfo(multisig);
+        Mockito.verify(multisigRepository, Mockito.times(1)).getMultisigAccountGraphInfo(multisig);
+        Assertions.assertEquals(1, cache.getAccountInfoStats().getHitCount());
+        Assertions.assertEquals(1, cache.getGraphInfoStats().getHitCount());
+    }
+
+    @Test
+    void invalidateShouldRemoveTheGraphsContainingTheAccount() {
+        MultisigGraphCache cache = new MultisigGraphCache(multisigRepository);
+        cache.getMultisigAccountInfo(multisig).blockingFirst();
+        cache.getMultisigAccountGraphInfo(multisig).blockingFirst();
+
+        cache.invalidate(other);
+        Assertions.assertEquals(1, cache.getGraphInfoStats().getSize());
+
+        cache.invalidate(cosignatory);
+        Assertions.assertEquals(0, cache.getGraphInfoStats().getSize());
+        Assertions.assertEquals(1, cache.getAccountInfoStats().getSize());
+
+        cache.getMultisigAccountGraphInfo(multisig).blockingFirst();
+        Mockito.verify(multisigRepository, Mockito.times(2)).getMultisigAccountGraphInfo(multisig);
+
+        cache.invalidateAll();
+        Assertions.assertEquals(0, cache.getGraphInfoStats().getSize());
+        Assertions.assertEquals(0, cache.getAccountInfoStats().getSize());
+    }
+
+    @Test
+    void evictedGraphsShouldBeRemovedFromTheIndex() {
+        Address otherCosignatory = Address.generateRandom(networkType);
+        MultisigAccountInfo otherInfo = new MultisigAccountInfo(other, 1, 1,
+            Collections.singletonList(otherCosignatory), Collections.emptyList());
+        Mockito.when(multisigRepository.getMultisigAccountGraphInfo(other)).thenReturn(Observable.just(
+            new MultisigAccountGraphInfo(Collections.singletonMap(0, Collections.singletonList(otherInfo)))));
+        MultisigGraphCache cache = new MultisigGraphCache(multisigRepository, CachePolicy.permanent().maximumSize(1));
+
+        cache.getMultisigAccountGraphInfo(multisig).blockingFirst();
+        Assertions.assertEquals(2, cache.getIndexedAccountCount());
+        cache.getMultisigAccountGraphInfo(other).blockingFirst();
+        Assertions.assertEquals(1, cache.getGraphInfoStats().getSize());
+        Assertions.assertEquals(2, cache.getIndexedAccountCount());
+
+        cache.invalidate(otherCosignatory);
+        Assertions.assertEquals(0, cache.getGraphInfoStats().getSize());
+        Assertions.assertEquals(0, cache.getIndexedAccountCount());
+    }
+
+    @Test
+    void disabledPolicyShouldAlwaysLoad() {
+        MultisigGraphCache cache = new MultisigGraphCache(multisigRepository, CachePolicy.none());
+        cache.getMultisigAccountGraphInfo(multisig).blockingFirst();
+        cache.getMultisigAccountGraphInfo(multisig).blockingFirst();
+        Mockito.verify(multisigRepository, Mockito.times(2)).getMultisigAccountGraphInfo(multisig);
+        Assertions.assertEquals(0, cache.getGraphInfoStats().getSize());
+    }
+}
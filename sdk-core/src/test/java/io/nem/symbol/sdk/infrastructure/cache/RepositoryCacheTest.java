@@ -0,0 +1,214 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.cache;
+
+import io.reactivex.Observable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link RepositoryCache}
+ */
+class RepositoryCacheTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Observable<String> load(Integer key) {
+        return Observable.fromCallable(() -> {
+            loads.incrementAndGet();
+            return "value" + key;
+        });
+    }
+
+    @Test
+    void permanentShouldLoadOnce() {
+        RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.permanent(), ticker::get);
+        Observable<String> observable = cache.get(1, () -> load(1));
+        Assertions.assertEquals(0, loads.get());
+
+        Assertions.assertEquals("value1", observable.blockingFirst());
+        Assertions.assertEquals("value1", observable.blockingFirst());
+        ticker.addAndGet(Duration.ofDays(365).toNanos());
+        Assertions.assertEquals("value1", cache.get(1, () -> load(1)).blockingFirst());
+
+        Assertions.assertEquals(1, loads.get());
+        CacheStats stats = cache.getStats();
+        Assertions.assertEquals(2, stats.getHitCount());
+        Assertions.assertEquals(1, stats.getMissCount());
+        Assertions.assertEquals(0, stats.getEvictionCount());
+        Assertions.assertEquals(1, stats.getSize());
+        Assertions.assertEquals(2.0 / 3, stats.getHitRate());
+    }
+
+    @Test
+    void shouldExpireAfterWrite() {
+        RepositoryCache<Integer, String> cache = new RepositoryCache<>(
+            CachePolicy.expireAfterWrite(Duration.ofSeconds(10)), ticker::get);
+        Assertions.assertEquals("value1", cache.get(1, () -> load(1)).blockingFirst());
+        ticker.addAndGet(Duration.ofSeconds(9).toNanos());
+        Assertions.assertEquals("value1", cache.get(1, () -> load(1)).blockingFirst());
+        Assertions.assertEquals(1, loads.get());
+
+        ticker.addAndGet(Duration.ofSeconds(1).toNanos());
+        Assertions.assertEquals("value1", cache.get(1, () -> load(1)).blockingFirst());
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(1, cache.getStats().getEvictionCount());
+
+        cache.put(2, "value2");
+        ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+        cache.cleanUp();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(3, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.permanent().maximumSize(2),
+            ticker::get);
+        cache.put(1, "value1");
+        cache.put(2, "value2");
+        Assertions.assertTrue(cache.getIfPresent(1).isPresent());
+        cache.put(3, "value3");
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals("value1", cache.getIfPresent(1).orElse(null));
+        Assertions.assertFalse(cache.getIfPresent(2).isPresent());
+        Assertions.assertEquals("value3", cache.getIfPresent(3).orElse(null));
+        Assertions.assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    void shouldNotCacheErrors() {
+        RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.permanent(), ticker::get);
+        Assertions.assertThrows(IllegalStateException.class,
+            () -> cache.get(1, () -> Observable.error(new IllegalStateException("Boom"))).blockingFirst());
+        Assertions.assertEquals("value1", cache.get(1, () -> load(1)).blockingFirst());
+        Assertions.assertEquals(2, cache.getStats().getMissCount());
+    }
+
+    @Test
+    void noneShouldNotCache() {
+        RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.none(), ticker::get);
+        cache.get(1, () -> load(1)).blockingFirst();
+        cache.get(1, () -> load(1)).blockingFirst();
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(2, cache.getStats().getMissCount());
+    }
+
+    @Test
+    void getAllShouldLoadOnlyMissingKeys() {
+        RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.permanent(), ticker::get);
+        cache.put(2, "value2");
+        List<List<Integer>> requested = new ArrayList<>();
+
+        List<String> values = cache.getAll(Arrays.asList(1, 2, 3), keys -> {
+            requested.add(keys);
+            return Observable.just(keys.stream().map(key -> "value" + key).collect(Collectors.toList()));
+        }, value -> Integer.valueOf(value.substring(5))).blockingFirst();
+
+        Assertions.assertEquals(Arrays.asList("value1", "value2", "value3"), values);
+        Assertions.assertEquals(Collections.singletonList(Arrays.asList(1, 3)), requested);
+
+        values = cache.getAll(Arrays.asList(3, 1), keys -> {
+            requested.add(keys);
+            return Observable.just(Collections.emptyList());
+        }, value -> Integer.valueOf(value.substring(5))).blockingFirst();
+        Assertions.assertEquals(Arrays.asList("value3", "value1"), values);
+        Assertions.assertEquals(1, requested.size());
+    }
+
+    @Test
+    void shouldExpireValuesWithTheirOwnExpiration() {
+        RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.permanent(), ticker::get);
+        Assertions.assertEquals("value1", cache.get(1, () -> load(1),
+            value -> Observable.just(Optional.of(Duration.ofSeconds(10)))).blockingFirst());
+        Assertions.assertEquals(Arrays.asList("value2", "value3"), cache.getAll(Arrays.asList(2, 3),
+            keys -> Observable.just(Arrays.asList("value3", "value2")), value -> Integer.valueOf(value.substring(5)),
+            value -> Observable.just(value.equals("value2") ? Optional.of(Duration.ofSeconds(10)) : Optional.empty()))
+            .blockingFirst());
+
+        ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+        Assertions.assertFalse(cache.getIfPresent(1).isPresent());
+        Assertions.assertFalse(cache.getIfPresent(2).isPresent());
+        Assertions.assertEquals("value3", cache.getIfPresent(3).orElse(null));
+
+        RepositoryCache<Integer, String> expiringCache = new RepositoryCache<>(
+            CachePolicy.expireAfterWrite(Duration.ofSeconds(5)), ticker::get);
+        expiringCache.put(1, "value1", Duration.ofSeconds(10));
+        ticker.addAndGet(Duration.ofSeconds(5).toNanos());
+        Assertions.assertFalse(expiringCache.getIfPresent(1).isPresent());
+    }
+
+    @Test
+    void removalListenerShouldBeNotified() {
+        Map<Integer, String> removed = new LinkedHashMap<>();
+        RepositoryCache<Integer, String> cache = new RepositoryCache<>(
+            CachePolicy.expireAfterWrite(Duration.ofSeconds(10)).maximumSize(2), ticker::get, removed::put);
+        cache.put(1, "value1");
+        cache.put(2, "value2");
+        cache.put(3, "value3");
+        Assertions.assertEquals(Collections.singletonMap(1, "value1"), removed);
+
+        cache.invalidate(2);
+        Assertions.assertEquals("value2", removed.get(2));
+        cache.put(4, "value4");
+        ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+        Assertions.assertFalse(cache.getIfPresent(3).isPresent());
+        Assertions.assertEquals("value3", removed.get(3));
+        cache.cleanUp();
+        Assertions.assertEquals("value4", removed.get(4));
+
+        cache.put(5, "value5");
+        cache.put(5, "value5b");
+        cache.invalidateAll();
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5), new ArrayList<>(removed.keySet()));
+        Assertions.assertEquals("value5b", removed.get(5));
+    }
+
+    @Test
+    void invalidate() {
+        RepositoryCache<Integer, String> cache = new RepositoryCache<>(CachePolicy.permanent(), ticker::get);
+        cache.put(1, "value1");
+        cache.put(2, "value2");
+        cache.invalidate(1);
+        Assertions.assertFalse(cache.getIfPresent(1).isPresent());
+        Assertions.assertTrue(cache.getIfPresent(2).isPresent());
+        cache.invalidateAll();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidPolicies() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CachePolicy.expireAfterWrite(Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CachePolicy.permanent().maximumSize(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CachePolicy.none().maximumSize(10));
+    }
+}
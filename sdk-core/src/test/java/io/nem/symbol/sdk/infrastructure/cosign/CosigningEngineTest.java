@@ -0,0 +1,205 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.sdk.infrastructure.cosign;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionCosignature;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test of {@link CosigningEngine}
+ */
+class CosigningEngineTest {
+
+    private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+    private final Account account1 = Account.generateNewAccount(networkType);
+
+    private final Account account2 = Account.generateNewAccount(networkType);
+
+    private final Account initiator = Account.generateNewAccount(networkType);
+
+    private final TestScheduler scheduler = new TestScheduler();
+
+    private TransactionRepository transactionRepository;
+
+    private Listener listener;
+
+    private PublishSubject<AggregateTransaction> added1;
+
+    private PublishSubject<AggregateTransaction> added2;
+
+    private PublishSubject<String> removed1;
+
+    private RepositoryFactory repositoryFactory;
+
+    @BeforeEach
+    void setup() {
+        transactionRepository = Mockito.mock(TransactionRepository.class);
+        repositoryFactory = Mockito.mock(RepositoryFactory.class);
+        Mockito.when(repositoryFactory.createTransactionRepository()).thenReturn(transactionRepository);
+        Mockito.when(transactionRepository.announceAggregateBondedCosignature(Mockito.any()))
+            .thenReturn(Observable.just(new TransactionAnnounceResponse("packet 9 was pushed to the network")));
+        listener = Mockito.mock(Listener.class);
+        added1 = PublishSubject.create();
+        added2 = PublishSubject.create();
+        removed1 = PublishSubject.create();
+        Mockito.when(listener.aggregateBondedAdded(account1.getAddress())).thenReturn(added1);
+        Mockito.when(listener.aggregateBondedAdded(account2.getAddress())).thenReturn(added2);
+        Mockito.when(listener.aggregateBondedRemoved(account1.getAddress())).thenReturn(removed1);
+        Mockito.when(listener.aggregateBondedRemoved(account2.getAddress())).thenReturn(PublishSubject.create());
+    }
+
+    private CosigningEngine createEngine(CosignaturePolicy policy) {
+        return new CosigningEngine(repositoryFactory, listener, Arrays.asList(account1, account2), policy,
+            new CosigningEngineConfiguration().withScheduler(scheduler).withMaxBatchSize(2)
+                .withBatchInterval(Duration.ofSeconds(1)));
+    }
+
+    private AggregateTransaction partial(String hash, Account... cosigners) {
+        List<AggregateTransactionCosignature> cosignatures = Arrays.stream(cosigners)
+            .map(cosigner -> new AggregateTransactionCosignature(AggregateTransactionCosignature.DEFAULT_VERSION,
+                "signature", cosigner.getPublicAccount())).collect(Collectors.toList());
+        return AggregateTransactionFactory.create(TransactionType.AGGREGATE_BONDED, networkType,
+            Collections.singletonList(TransferTransactionFactory
+                .create(networkType, Address.generateRandom(networkType), Collections.emptyList(), PlainMessage.Empty)
+                .build().toAggregate(account1.getPublicAccount())), cosignatures).signer(initiator.getPublicAccount())
+            .transactionInfo(TransactionInfo.create(BigInteger.ZERO, 0, "id", hash, "")).build();
+    }
+
+    private String randomHash() {
+        return ConvertUtils.toHex(RandomUtils.nextBytes(32));
+    }
+
+    @Test
+    void shouldCosignEachPartialTransactionOncePerAccount() {
+        CosigningEngine engine = createEngine(CosignaturePolicy.approveAll());
+        TestObserver<CosignatureSignedTransaction> observer = engine.cosignatures().test();
+        String hash1 = randomHash();
+        String hash2 = randomHash();
+
+        added1.onNext(partial(hash1));
+        added1.onNext(partial(hash1.toLowerCase()));
+        added2.onNext(partial(hash1));
+        added2.onNext(partial(hash2, account2));
+        added1.onNext(partial(hash2));
+        Mockito.verify(transactionRepository, Mockito.never()).announceAggregateBondedCosignature(Mockito.any());
+
+        scheduler.triggerActions();
+        observer.assertValueCount(2);
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        observer.assertValueCount(3);
+
+        Assertions.assertEquals(3, engine.getSignedCount());
+        Assertions.assertEquals(3, engine.getAnnouncedCount());
+        Assertions.assertEquals(2, engine.getSkippedCount());
+        Mockito.verify(transactionRepository, Mockito.times(3)).announceAggregateBondedCosignature(Mockito.any());
+
+        CosignatureSignedTransaction cosignature = observer.values().get(0);
+        Assertions.assertEquals(hash1, cosignature.getParentHash());
+        Assertions.assertEquals(account1.getPublicKey(), cosignature.getSignerPublicKey());
+        Signature signature = new Signature(ConvertUtils.fromHexToBytes(cosignature.getSignature()));
+        Assertions.assertTrue(CryptoEngines.defaultEngine().createDsaSigner(account1.getKeyPair())
+            .verify(ConvertUtils.fromHexToBytes(hash1), signature));
+        Assertions.assertEquals(account2.getPublicKey(), observer.values().get(1).getSignerPublicKey());
+    }
+
+    @Test
+    void rejectedOrFailedCosignaturesShouldBeRetriedOnTheNextNotification() {
+        CosigningEngine engine = createEngine(
+            (transaction, cosigner) -> Observable.just(cosigner.equals(account1.getPublicAccount())));
+        Mockito.when(transactionRepository.announceAggregateBondedCosignature(Mockito.any()))
+            .thenReturn(Observable.error(new IllegalStateException("Node unavailable")));
+        String hash = randomHash();
+
+        added1.onNext(partial(hash));
+        added2.onNext(partial(hash));
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, engine.getRejectedCount());
+        Assertions.assertEquals(1, engine.getFailedCount());
+        Assertions.assertEquals(0, engine.getAnnouncedCount());
+
+        Mockito.when(transactionRepository.announceAggregateBondedCosignature(Mockito.any()))
+            .thenReturn(Observable.just(new TransactionAnnounceResponse("packet 9 was pushed to the network")));
+        added1.onNext(partial(hash));
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, engine.getAnnouncedCount());
+
+        added1.onNext(partial(hash));
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, engine.getSkippedCount());
+
+        removed1.onNext(hash.toLowerCase());
+        added1.onNext(partial(hash));
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(2, engine.getAnnouncedCount());
+    }
+
+    @Test
+    void listenerErrorShouldStopManagingTheAccount() {
+        CosigningEngine engine = createEngine(CosignaturePolicy.approveAll());
+        TestObserver<CosignatureSignedTransaction> observer = engine.cosignatures().test();
+        Assertions.assertEquals(2, engine.getManagedAddresses().size());
+
+        added2.onError(new IllegalStateException("Connection closed"));
+        Assertions.assertEquals(Collections.singletonList(account1.getAddress()), engine.getManagedAddresses());
+        Assertions.assertFalse(added2.hasObservers());
+        Assertions.assertTrue(added1.hasObservers());
+
+        engine.removeAccount(account1.getAddress());
+        Assertions.assertFalse(added1.hasObservers());
+        Assertions.assertTrue(engine.getManagedAddresses().isEmpty());
+
+        engine.close();
+        observer.assertComplete();
+        IllegalArgumentException exception = Assertions
+            .assertThrows(IllegalArgumentException.class, () -> engine.addAccount(account1));
+        Assertions.assertEquals("The engine is closed", exception.getMessage());
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.multinode;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.NodeRepository;
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.account.AccountInfo;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.node.NodeHealth;
+import io.nem.symbol.sdk.model.node.NodeInfo;
+import io.nem.symbol.sdk.model.node.NodeStatus;
+import io.nem.symbol.sdk.model.node.RoleType;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test of {@link MultiNodeRepositoryFactory}
+ */
+class MultiNodeRepositoryFactoryTest {
+
+    private static final String NODE_A = "http://a:3000";
+
+    private static final String NODE_B = "http://b:3000";
+
+    private final TestScheduler scheduler = new TestScheduler();
+
+    private final Map<String, StubNode> stubs = new HashMap<>();
+
+    private final Address address = Address.generateRandom(NetworkType.MIJIN_TEST);
+
+    private MultiNodeConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new MultiNodeConfiguration().withScheduler(scheduler).withMaxHeightLag(10)
+            .withHealthCheckInterval(Duration.ofSeconds(30));
+        stubs.put(NODE_A, new StubNode(100, BigInteger.valueOf(1000)));
+        stubs.put(NODE_B, new StubNode(10, BigInteger.valueOf(1000)));
+    }
+
+    private MultiNodeRepositoryFactory createFactory() {
+        return new MultiNodeRepositoryFactory(Arrays.asList(NODE_A, NODE_B),
+            url -> stubs.computeIfAbsent(url, u -> new StubNode(1, BigInteger.valueOf(1000))).factory,
+            configuration);
+    }
+
+    private NodeEndpoint getNode(MultiNodeRepositoryFactory factory, String url) {
+        return factory.getNodes().stream().filter(node -> node.getUrl().equals(url)).findFirst()
+            .orElseThrow(IllegalStateException::new);
+    }
+
+    @Test
+    void shouldRouteToTheFastestNode() {
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(100.0, getNode(factory, NODE_A).getLatencyMillis());
+        Assertions.assertEquals(10.0, getNode(factory, NODE_B).getLatencyMillis());
+        Assertions.assertEquals(NODE_B, factory.selectNode().getUrl());
+
+        AccountRepository accountRepository = factory.createAccountRepository();
+        Assertions.assertEquals(stubs.get(NODE_B).accountInfo,
+            accountRepository.getAccountInfo(address).blockingFirst());
+        Mockito.verify(stubs.get(NODE_A).accountRepository, Mockito.never()).getAccountInfo(address);
+    }
+
+    @Test
+    void latencyShouldBeMovingAverage() {
+        NodeEndpoint node = new NodeEndpoint(NODE_A, stubs.get(NODE_A).factory, configuration.withLatencyAlpha(0.5),
+            true);
+        node.recordSuccess(100);
+        node.recordSuccess(50);
+        node.recordSuccess(25);
+        Assertions.assertEquals(50.0, node.getLatencyMillis());
+    }
+
+    @Test
+    void shouldEjectAndReadmitUnhealthyNodes() {
+        stubs.get(NODE_B).health = new NodeHealth(NodeStatus.UP, NodeStatus.DOWN);
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        Assertions.assertFalse(getNode(factory, NODE_B).isHealthy());
+        Assertions.assertEquals(NODE_A, factory.selectNode().getUrl());
+
+        stubs.get(NODE_B).health = new NodeHealth(NodeStatus.UP, NodeStatus.UP);
+        scheduler.advanceTimeBy(30, TimeUnit.SECONDS);
+        Assertions.assertTrue(getNode(factory, NODE_B).isHealthy());
+        Assertions.assertEquals(NODE_B, factory.selectNode().getUrl());
+    }
+
+    @Test
+    void shouldNotRouteToLaggingNodes() {
+        stubs.get(NODE_B).height = BigInteger.valueOf(989);
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(getNode(factory, NODE_B).isHealthy());
+        Assertions.assertEquals(NODE_A, factory.selectNode().getUrl());
+    }
+
+    @Test
+    void shouldEjectNodesAfterConsecutiveFailures() {
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        AccountRepository accountRepository = factory.createAccountRepository();
+        StubNode nodeB = stubs.get(NODE_B);
+
+        Mockito.when(nodeB.accountRepository.getAccountInfo(address))
+            .thenReturn(Observable.error(new RepositoryCallException("Not Found", 404, null)));
+        for (int i = 0; i < 5; i++) {
+            accountRepository.getAccountInfo(address).test().assertError(RepositoryCallException.class);
+        }
+        Assertions.assertTrue(getNode(factory, NODE_B).isHealthy());
+
+        Mockito.when(nodeB.accountRepository.getAccountInfo(address))
+            .thenReturn(Observable.error(new RepositoryCallException("Internal Server Error", 500, null)));
+        for (int i = 0; i < 3; i++) {
+            accountRepository.getAccountInfo(address).test().assertError(RepositoryCallException.class);
+        }
+        Assertions.assertFalse(getNode(factory, NODE_B).isHealthy());
+        Assertions.assertEquals(3, getNode(factory, NODE_B).getFailureCount());
+        Assertions.assertEquals(stubs.get(NODE_A).accountInfo,
+            accountRepository.getAccountInfo(address).blockingFirst());
+    }
+
+    @Test
+    void shouldEjectNodesOfOtherNetworks() {
+        stubs.get(NODE_B).generationHash = "OTHER";
+        configuration.withGenerationHash("HASH");
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(getNode(factory, NODE_A).isHealthy());
+        Assertions.assertFalse(getNode(factory, NODE_B).isHealthy());
+        Assertions.assertEquals(IllegalStateException.class, getNode(factory, NODE_B).getLastError().getClass());
+    }
+
+    @Test
+    void shouldDiscoverPeers() {
+        stubs.get(NODE_A).peers = Arrays
+            .asList(createNodeInfo("c", RoleType.API_NODE, "HASH"), createNodeInfo("d", RoleType.PEER_NODE, "HASH"),
+                createNodeInfo("a", RoleType.DUAL_NODE, "HASH"));
+        configuration.withPeerDiscovery(true);
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        List<String> urls = factory.getNodes().stream().map(NodeEndpoint::getUrl).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(NODE_A, NODE_B, "http://c:3000"), urls);
+        Assertions.assertTrue(getNode(factory, "http://c:3000").isHealthy());
+
+        factory.close();
+        Mockito.verify(stubs.get("http://c:3000").factory).close();
+    }
+
+    @Test
+    void shouldKeepCheckingHealthAfterUnexpectedErrors() {
+        AtomicInteger checks = new AtomicInteger();
+        MultiNodeRepositoryFactory factory = new MultiNodeRepositoryFactory(Arrays.asList(NODE_A, NODE_B),
+            url -> stubs.get(url).factory, configuration) {
+            @Override
+            public Observable<List<NodeEndpoint>> checkHealth() {
+                if (checks.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Unexpected");
+                }
+                return super.checkHealth();
+            }
+        };
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, factory.getFailedHealthCheckCount());
+
+        scheduler.advanceTimeBy(30, TimeUnit.SECONDS);
+        Assertions.assertEquals(2, checks.get());
+        Assertions.assertEquals(1, factory.getFailedHealthCheckCount());
+        Assertions.assertEquals(10.0, getNode(factory, NODE_B).getLatencyMillis());
+        factory.close();
+    }
+
+    @Test
+    void shouldRetryRetryableErrorsOnAnotherNode() {
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Mockito.when(stubs.get(NODE_B).accountRepository.getAccountInfo(address))
+            .thenReturn(Observable.error(new RepositoryCallException("Service Unavailable", 503, null)));
+
+        TestObserver<AccountInfo> observer = factory.createAccountRepository().getAccountInfo(address).test();
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+
+        observer.assertResult(stubs.get(NODE_A).accountInfo);
+        Assertions.assertEquals(1, factory.getRetryCount());
+        Assertions.assertEquals(0, getNode(factory, NODE_B).getInFlightCount());
+        Assertions.assertEquals(0, getNode(factory, NODE_A).getInFlightCount());
+    }
+
+    @Test
+    void shouldNotRetryNonRetryableErrorsNorAnnounces() {
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Mockito.when(stubs.get(NODE_B).accountRepository.getAccountInfo(address))
+            .thenReturn(Observable.error(new RepositoryCallException("Not Found", 404, null)));
+        Mockito.when(stubs.get(NODE_B).transactionRepository.announce(Mockito.any()))
+            .thenReturn(Observable.error(new RepositoryCallException("Service Unavailable", 503, null)));
+
+        TestObserver<AccountInfo> observer1 = factory.createAccountRepository().getAccountInfo(address).test();
+        TestObserver<TransactionAnnounceResponse> observer2 = factory.createTransactionRepository().announce(null)
+            .test();
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+
+        observer1.assertError(RepositoryCallException.class);
+        observer2.assertError(RepositoryCallException.class);
+        Mockito.verify(stubs.get(NODE_A).transactionRepository, Mockito.never()).announce(Mockito.any());
+        Assertions.assertEquals(0, factory.getRetryCount());
+    }
+
+    @Test
+    void shouldHedgeSlowRequests() {
+        configuration.withExecutionPolicy(
+            new ExecutionPolicy().withHedging(true).withHedgeMinSamples(100).withHedgeDelay(Duration.ofMillis(50)));
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Mockito.when(stubs.get(NODE_B).accountRepository.getAccountInfo(address)).thenReturn(
+            Observable.just(stubs.get(NODE_B).accountInfo).delay(1, TimeUnit.SECONDS, scheduler));
+
+        TestObserver<AccountInfo> observer = factory.createAccountRepository().getAccountInfo(address).test();
+        scheduler.advanceTimeBy(49, TimeUnit.MILLISECONDS);
+        observer.assertEmpty();
+        Assertions.assertEquals(0, factory.getHedgeCount());
+
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        observer.assertResult(stubs.get(NODE_A).accountInfo);
+        Assertions.assertEquals(1, factory.getHedgeCount());
+        Assertions.assertEquals(0, getNode(factory, NODE_B).getInFlightCount());
+    }
+
+    @Test
+    void disposedHedgesShouldReleaseBothNodes() {
+        configuration.withExecutionPolicy(
+            new ExecutionPolicy().withHedging(true).withHedgeMinSamples(100).withHedgeDelay(Duration.ofMillis(50)));
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Mockito.when(stubs.get(NODE_A).accountRepository.getAccountInfo(address))
+            .thenReturn(PublishSubject.<AccountInfo>create());
+        Mockito.when(stubs.get(NODE_B).accountRepository.getAccountInfo(address))
+            .thenReturn(PublishSubject.<AccountInfo>create());
+
+        TestObserver<AccountInfo> observer = factory.createAccountRepository().getAccountInfo(address).test();
+        scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+        Assertions.assertEquals(1, factory.getHedgeCount());
+        Assertions.assertEquals(1, getNode(factory, NODE_A).getInFlightCount());
+        Assertions.assertEquals(1, getNode(factory, NODE_B).getInFlightCount());
+
+        observer.dispose();
+        Assertions.assertEquals(0, getNode(factory, NODE_A).getInFlightCount());
+        Assertions.assertEquals(0, getNode(factory, NODE_B).getInFlightCount());
+    }
+
+    @Test
+    void shouldLimitConcurrentCallsPerNode() {
+        configuration.withExecutionPolicy(new ExecutionPolicy().withConcurrency(1, 1, 1));
+        MultiNodeRepositoryFactory factory = createFactory();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        Mockito.when(stubs.get(NODE_B).accountRepository.getAccountInfo(address))
+            .thenReturn(PublishSubject.<AccountInfo>create());
+        NodeEndpoint nodeB = getNode(factory, NODE_B);
+        Assertions.assertEquals(1, nodeB.getConcurrencyLimit());
+
+        AccountRepository accountRepository = factory.createAccountRepository();
+        TestObserver<AccountInfo> observer1 = accountRepository.getAccountInfo(address).test();
+        TestObserver<AccountInfo> observer2 = accountRepository.getAccountInfo(address).test();
+
+        observer1.assertEmpty();
+        observer2.assertResult(stubs.get(NODE_A).accountInfo);
+        Assertions.assertEquals(1, nodeB.getInFlightCount());
+        observer1.dispose();
+        Assertions.assertEquals(0, nodeB.getInFlightCount());
+    }
+
+    @Test
+    void concurrencyLimitShouldBeAdaptive() {
+        NodeEndpoint node = new NodeEndpoint(NODE_A, stubs.get(NODE_A).factory,
+            configuration.withExecutionPolicy(new ExecutionPolicy().withConcurrency(4, 1, 5)), true);
+        node.recordSuccess(10);
+        for (int i = 0; i < 20; i++) {
+            node.recordSuccess(10);
+        }
+        Assertions.assertEquals(5, node.getConcurrencyLimit());
+        node.recordFailure(new IllegalStateException());
+        Assertions.assertEquals(3, node.getConcurrencyLimit());
+        node.recordSuccess(100);
+        Assertions.assertEquals(2, node.getConcurrencyLimit());
+    }
+
+    @Test
+    void latencyPercentile() {
+        NodeEndpoint node = new NodeEndpoint(NODE_A, stubs.get(NODE_A).factory, configuration, true);
+        Assertions.assertFalse(node.getLatencyPercentile(0.95, 1).isPresent());
+        for (int i = 100; i > 0; i--) {
+            node.recordSuccess(i);
+        }
+        Assertions.assertFalse(node.getLatencyPercentile(0.95, 101).isPresent());
+        Assertions.assertEquals(95.0, node.getLatencyPercentile(0.95, 20).getAsDouble());
+        Assertions.assertEquals(100.0, node.getLatencyPercentile(1, 20).getAsDouble());
+    }
+
+    @Test
+    void backoffShouldBeJitteredAndBounded() {
+        ExecutionPolicy policy = new ExecutionPolicy().withInitialBackoff(Duration.ofMillis(100))
+            .withMaxBackoff(Duration.ofMillis(300));
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(policy.getBackoffMillis(0) <= 100);
+            Assertions.assertTrue(policy.getBackoffMillis(5) <= 300);
+        }
+        Assertions.assertTrue(policy.isRetryable(new RepositoryCallException("Boom", 503, null)));
+        Assertions.assertFalse(policy.isRetryable(new RepositoryCallException("Boom", 500, null)));
+        Assertions.assertFalse(policy.isRetryable(new IllegalStateException()));
+    }
+
+    private static NodeInfo createNodeInfo(String host, RoleType roleType, String generationHash) {
+        return new NodeInfo("publicKey", 7900, NetworkType.MIJIN_TEST, 0, roleType, host, host, generationHash);
+    }
+
+    /**
+     * A stubbed node whose responses are delayed in the test scheduler.
+     */
+    private class StubNode {
+
+        private final RepositoryFactory factory = Mockito.mock(RepositoryFactory.class);
+
+        private final AccountRepository accountRepository = Mockito.mock(AccountRepository.class);
+
+        private final AccountInfo accountInfo = Mockito.mock(AccountInfo.class);
+
+        private final TransactionRepository transactionRepository = Mockito.mock(TransactionRepository.class);
+
+        private NodeHealth health = new NodeHealth(NodeStatus.UP, NodeStatus.UP);
+
+        private BigInteger height;
+
+        private String generationHash = "HASH";
+
+        private List<NodeInfo> peers = Collections.emptyList();
+
+        StubNode(long delayMillis, BigInteger height) {
+            this.height = height;
+            NodeRepository nodeRepository = Mockito.mock(NodeRepository.class);
+            ChainRepository chainRepository = Mockito.mock(ChainRepository.class);
+            Mockito.when(factory.createNodeRepository()).thenReturn(nodeRepository);
+            Mockito.when(factory.createChainRepository()).thenReturn(chainRepository);
+            Mockito.when(factory.createAccountRepository()).thenReturn(accountRepository);
+            Mockito.when(factory.createTransactionRepository()).thenReturn(transactionRepository);
+            Mockito.when(nodeRepository.getNodeHealth()).thenReturn(
+                Observable.defer(() -> Observable.just(health)).delay(delayMillis, TimeUnit.MILLISECONDS, scheduler));
+            Mockito.when(nodeRepository.getNodeInfo())
+                .thenReturn(Observable.defer(() -> Observable.just(createNodeInfo("host", RoleType.API_NODE,
+                    generationHash))));
+            Mockito.when(nodeRepository.getNodePeers()).thenReturn(Observable.defer(() -> Observable.just(peers)));
+            Mockito.when(chainRepository.getBlockchainHeight())
+                .thenReturn(Observable.defer(() -> Observable.just(this.height)));
+            Mockito.when(accountRepository.getAccountInfo(Mockito.any())).thenReturn(Observable.just(accountInfo));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.singleflight;
+
+import io.nem.symbol.sdk.api.MultisigRepository;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.MultisigAccountGraphInfo;
+import io.nem.symbol.sdk.model.network.NetworkConfiguration;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test of {@link SingleFlightRepositoryFactory}
+ */
+class SingleFlightRepositoryFactoryTest {
+
+    private final RepositoryFactory delegate = Mockito.mock(RepositoryFactory.class);
+
+    private final SingleFlightRepositoryFactory factory = new SingleFlightRepositoryFactory(delegate);
+
+    @Test
+    void networkPropertiesShouldBeSharedByRepositories() {
+        NetworkRepository networkRepository = Mockito.mock(NetworkRepository.class);
+        Mockito.when(delegate.createNetworkRepository()).thenReturn(networkRepository);
+        PublishSubject<NetworkConfiguration> response = PublishSubject.create();
+        Mockito.when(networkRepository.getNetworkProperties()).thenReturn(response);
+
+        TestObserver<NetworkConfiguration> observer1 = factory.createNetworkRepository().getNetworkProperties()
+            .test();
+        TestObserver<NetworkConfiguration> observer2 = factory.createNetworkRepository().getNetworkProperties()
+            .test();
+        NetworkConfiguration configuration = Mockito.mock(NetworkConfiguration.class);
+        response.onNext(configuration);
+        response.onComplete();
+
+        observer1.assertResult(configuration);
+        observer2.assertResult(configuration);
+        Mockito.verify(networkRepository, Mockito.times(1)).getNetworkProperties();
+        Assertions.assertEquals(1, factory.getSingleFlight().getCoalescedCount());
+    }
+
+    @Test
+    void multisigGraphsShouldBeSharedByAddress() {
+        MultisigRepository multisigRepository = Mockito.mock(MultisigRepository.class);
+        Mockito.when(delegate.createMultisigRepository()).thenReturn(multisigRepository);
+        Address address1 = Address.generateRandom(NetworkType.MIJIN_TEST);
+        Address address2 = Address.generateRandom(NetworkType.MIJIN_TEST);
+        Mockito.when(multisigRepository.getMultisigAccountGraphInfo(Mockito.any()))
+            .thenReturn(PublishSubject.<MultisigAccountGraphInfo>create());
+
+        MultisigRepository repository = factory.createMultisigRepository();
+        repository.getMultisigAccountGraphInfo(address1).test();
+        repository.getMultisigAccountGraphInfo(address1).test();
+        repository.getMultisigAccountGraphInfo(address2).test();
+
+        Mockito.verify(multisigRepository, Mockito.times(1)).getMultisigAccountGraphInfo(address1);
+        Mockito.verify(multisigRepository, Mockito.times(1)).getMultisigAccountGraphInfo(address2);
+        Assertions.assertEquals(1, factory.getSingleFlight().getCoalescedCount());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.singleflight;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link SingleFlight}
+ */
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private PublishSubject<String> response = PublishSubject.create();
+
+    private Observable<String> call() {
+        calls.incrementAndGet();
+        return response;
+    }
+
+    @Test
+    void shouldShareInFlightCalls() {
+        TestObserver<String> observer1 = singleFlight.execute("key", this::call).test();
+        TestObserver<String> observer2 = singleFlight.execute("key", this::call).test();
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, singleFlight.getInFlightCount());
+
+        response.onNext("value");
+        response.onComplete();
+
+        observer1.assertResult("value");
+        observer2.assertResult("value");
+        Assertions.assertEquals(2, singleFlight.getCallCount());
+        Assertions.assertEquals(1, singleFlight.getCoalescedCount());
+        Assertions.assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void shouldCallAgainOnceTerminated() {
+        response = PublishSubject.create();
+        TestObserver<String> observer1 = singleFlight.execute("key", this::call).test();
+        response.onError(new IllegalStateException("Boom"));
+        observer1.assertError(IllegalStateException.class);
+
+        response = PublishSubject.create();
+        TestObserver<String> observer2 = singleFlight.execute("key", this::call).test();
+        response.onNext("value");
+        response.onComplete();
+        observer2.assertResult("value");
+
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void differentKeysShouldNotBeShared() {
+        singleFlight.execute("key1", this::call).test();
+        singleFlight.execute("key2", this::call).test();
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(2, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void shouldReleaseDisposedCalls() {
+        TestObserver<String> observer1 = singleFlight.execute("key", this::call).test();
+        TestObserver<String> observer2 = singleFlight.execute("key", this::call).test();
+        observer1.dispose();
+        Assertions.assertTrue(response.hasObservers());
+        observer2.dispose();
+        Assertions.assertFalse(response.hasObservers());
+        Assertions.assertEquals(0, singleFlight.getInFlightCount());
+    }
+}
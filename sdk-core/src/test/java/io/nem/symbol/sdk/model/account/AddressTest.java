@@ -119,6 +119,26 @@ class AddressTest {
         assertEquals(address1.plain(), address2.plain());
     }
 
+    @Test
+    void createFromBytes() {
+        Address address = Address.createFromRawAddress("NAR3W7B4BCOZSZMFIZRYB3N5YGOUSWIYJCJ6HDA");
+        byte[] bytes = address.getBytes();
+        Address fromBytes = Address.createFromBytes(bytes);
+        assertEquals(address, fromBytes);
+        assertEquals(address.hashCode(), fromBytes.hashCode());
+        assertEquals(NetworkType.MAIN_NET, fromBytes.getNetworkType());
+        assertEquals("NAR3W7B4BCOZSZMFIZRYB3N5YGOUSWIYJCJ6HDA", fromBytes.plain());
+        assertEquals("NAR3W7-B4BCOZ-SZMFIZ-RYB3N5-YGOUSW-IYJCJ6-HDA", fromBytes.pretty());
+        assertEquals("6823BB7C3C089D996585466380EDBDC19D4959184893E38C", fromBytes.encoded());
+
+        bytes[1] = 0;
+        assertEquals(address, fromBytes);
+        assertNotEquals(bytes[1], fromBytes.getBytes()[1]);
+        assertEquals("Plain address 'NAALW7B4BCOZSZMFIZRYB3N5YGOUSWIYJCJ6HDA' checksum is incorrect. "
+                + "Address checksum is '93E38C' when '038E0B' is expected",
+            assertThrows(IllegalArgumentException.class, () -> Address.createFromBytes(bytes)).getMessage());
+    }
+
     @Test
     void createFromEncodedDuplicated() {
         Address address2 = Address.createFromRawAddress("NAR3W7B4BCOZSZMFIZRYB3N5YGOUSWIYJCJ6HDA");
@@ -27,6 +27,9 @@ import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -149,4 +152,87 @@ public class ResolutionStatementTest {
         assertEquals("9BB7E01FAEA831E790E4A2DE8DBEDB32F73889493F6B1BC02031457CB655F6D0", hash);
     }
 
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenResolvingEmptyStatement() {
+        MosaicResolutionStatement resolutionStatement = new MosaicResolutionStatement("abc", BigInteger.TEN,
+            namespaceId, new ArrayList<>());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> resolutionStatement.getResolutionEntryById(1, 0));
+        Assertions.assertEquals("resolutionEntries is empty when calculating getMaxAvailablePrimaryId",
+            exception.getMessage());
+    }
+
+    @Test
+    void getResolutionEntryByIdShouldMatchLinearSearch() {
+        Random random = new Random(42);
+        for (int statement = 0; statement < 500; statement++) {
+            int size = 1 + random.nextInt(statement % 10 == 0 ? 200 : 12);
+            int maxId = 1 + random.nextInt(10);
+            List<ResolutionEntry<MosaicId>> resolutionEntries = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                resolutionEntries.add(ResolutionEntry.forMosaicId(new MosaicId(BigInteger.valueOf(i + 1)),
+                    new ReceiptSource(random.nextInt(maxId + 1), random.nextInt(maxId + 1))));
+            }
+            MosaicResolutionStatement resolutionStatement = new MosaicResolutionStatement("abc", BigInteger.TEN,
+                namespaceId, resolutionEntries);
+            for (long primaryId = 0; primaryId <= maxId + 2; primaryId++) {
+                for (long secondaryId = 0; secondaryId <= maxId + 2; secondaryId++) {
+                    Optional<ResolutionEntry<MosaicId>> expected = linearSearch(resolutionEntries, primaryId,
+                        secondaryId);
+                    Optional<ResolutionEntry<MosaicId>> entry = resolutionStatement
+                        .getResolutionEntryById(primaryId, secondaryId);
+                    Assertions.assertEquals(expected.isPresent(), entry.isPresent(),
+                        "Entries " + toString(resolutionEntries) + " source " + primaryId + "/" + secondaryId);
+                    if (expected.isPresent()) {
+                        Assertions.assertSame(expected.get(), entry.get(),
+                            "Entries " + toString(resolutionEntries) + " source " + primaryId + "/" + secondaryId);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String toString(List<ResolutionEntry<MosaicId>> entries) {
+        return entries.stream().map(e -> e.getReceiptSource().getPrimaryId() + "/" + e.getReceiptSource()
+            .getSecondaryId()).collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    /**
+     * The original stream based resolution, used as reference for the indexed resolution.
+     */
+    private static <R> Optional<ResolutionEntry<R>> linearSearch(List<ResolutionEntry<R>> entries, long primaryId,
+        long secondaryId) {
+        long resolvedPrimaryId = maxAvailablePrimaryId(entries, primaryId);
+        if (resolvedPrimaryId == 0) {
+            return Optional.empty();
+        } else if (primaryId > resolvedPrimaryId) {
+            return entries.stream().filter(entry -> entry.getReceiptSource().getPrimaryId() == resolvedPrimaryId
+                && entry.getReceiptSource().getSecondaryId() == maxSecondaryId(entries, resolvedPrimaryId))
+                .findFirst();
+        }
+        long resolvedSecondaryId = entries.stream()
+            .filter(entry -> entry.getReceiptSource().getPrimaryId() == resolvedPrimaryId).mapToLong(
+                entry -> secondaryId >= entry.getReceiptSource().getSecondaryId() ? entry.getReceiptSource()
+                    .getSecondaryId() : 0).max().orElseThrow(IllegalArgumentException::new);
+        if (resolvedSecondaryId == 0 && resolvedSecondaryId != secondaryId) {
+            long lastPrimaryId = maxAvailablePrimaryId(entries, resolvedPrimaryId - 1);
+            return entries.stream().filter(entry -> entry.getReceiptSource().getPrimaryId() == lastPrimaryId
+                && entry.getReceiptSource().getSecondaryId() == maxSecondaryId(entries, lastPrimaryId)).findFirst();
+        }
+        return entries.stream().filter(entry -> entry.getReceiptSource().getPrimaryId() == resolvedPrimaryId)
+            .filter(entry -> entry.getReceiptSource().getSecondaryId() == resolvedSecondaryId).findFirst();
+    }
+
+    private static <R> long maxSecondaryId(List<ResolutionEntry<R>> entries, long primaryId) {
+        return entries.stream().filter(entry -> entry.getReceiptSource().getPrimaryId() == primaryId)
+            .mapToLong(entry -> entry.getReceiptSource().getSecondaryId()).max()
+            .orElseThrow(IllegalArgumentException::new);
+    }
+
+    private static <R> long maxAvailablePrimaryId(List<ResolutionEntry<R>> entries, long primaryId) {
+        return entries.stream().mapToLong(
+            entry -> primaryId >= entry.getReceiptSource().getPrimaryId() ? entry.getReceiptSource().getPrimaryId() : 0)
+            .max().orElseThrow(IllegalArgumentException::new);
+    }
+
 }
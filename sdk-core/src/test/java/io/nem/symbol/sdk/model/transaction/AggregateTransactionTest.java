@@ -19,6 +19,7 @@ package io.nem.symbol.sdk.model.transaction;
 import io.nem.symbol.catapult.builders.AggregateBondedTransactionBuilder;
 import io.nem.symbol.catapult.builders.AggregateCompleteTransactionBuilder;
 import io.nem.symbol.catapult.builders.TransactionBuilderFactory;
+import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.api.BinarySerialization;
 import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
@@ -34,6 +35,9 @@ import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -362,5 +366,47 @@ public class AggregateTransactionTest extends AbstractTransactionTester {
 
     }
 
+    @Test
+    void signTransactionWithCosigners() {
+        NetworkType networkType = NetworkType.MIJIN_TEST;
+        String generationHash = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+        List<Account> cosignatories = IntStream.range(0, 5).mapToObj(i -> Account.generateNewAccount(networkType))
+            .collect(Collectors.toList());
+
+        TransferTransaction transaction = TransferTransactionFactory.create(networkType,
+            new Address("SDZWZJUAYNOWGBTCUDBY3SE5JF4NCC2RDM6SIGQ", networkType), Collections.emptyList(),
+            new PlainMessage("Some Message")).signer(account.getPublicAccount()).build();
+
+        AggregateTransaction aggregateTransaction = AggregateTransactionFactory
+            .createComplete(networkType, Collections.singletonList(transaction)).deadline(new FakeDeadline()).build();
+
+        SignedTransaction signedTransaction = aggregateTransaction
+            .signTransactionWithCosigners(account, cosignatories, generationHash);
+
+        Assertions.assertEquals(aggregateTransaction.signWith(account, generationHash).getHash(),
+            signedTransaction.getHash());
+        Assertions.assertEquals(account.getPublicAccount(), signedTransaction.getSigner());
+        Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, signedTransaction.getType());
+
+        byte[] hash = ConvertUtils.fromHexToBytes(signedTransaction.getHash());
+        List<AggregateTransactionCosignature> cosignatures = cosignatories.stream().map(
+            cosignatory -> new AggregateTransactionCosignature(AggregateTransactionCosignature.DEFAULT_VERSION,
+                ConvertUtils.toHex(
+                    CryptoEngines.defaultEngine().createDsaSigner(cosignatory.getKeyPair()).sign(hash).getBytes()),
+                cosignatory.getPublicAccount())).collect(Collectors.toList());
+
+        AggregateTransaction expected = AggregateTransactionFactory
+            .create(TransactionType.AGGREGATE_COMPLETE, networkType, Collections.singletonList(transaction),
+                cosignatures).deadline(new FakeDeadline()).build();
+
+        Assertions
+            .assertEquals(expected.signWith(account, generationHash).getPayload(), signedTransaction.getPayload());
+
+        AggregateTransaction deserialized = (AggregateTransaction) new BinarySerializationImpl()
+            .deserialize(ConvertUtils.fromHexToBytes(signedTransaction.getPayload()));
+        Assertions.assertEquals(5, deserialized.getCosignatures().size());
+        cosignatories.forEach(
+            cosignatory -> Assertions.assertTrue(deserialized.signedByAccount(cosignatory.getPublicAccount())));
+    }
 
 }
@@ -19,6 +19,7 @@ package io.nem.symbol.sdk.model.transaction;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigInteger;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
@@ -58,4 +59,10 @@ class DeadlineTest {
         BigInteger originalValue = BigInteger.valueOf(System.currentTimeMillis());
         Assertions.assertEquals(originalValue, new Deadline(originalValue).toBigInteger());
     }
+
+    @Test
+    void toInstant() {
+        Assertions.assertEquals(Instant.ofEpochSecond(1573430400), new Deadline(BigInteger.ZERO).toInstant());
+        Assertions.assertEquals(Instant.ofEpochSecond(1573430401), new Deadline(BigInteger.valueOf(1000)).toInstant());
+    }
 }
@@ -17,9 +17,13 @@
 package io.nem.symbol.sdk.model.transaction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.message.PlainMessage;
 import io.nem.symbol.sdk.model.network.NetworkType;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import org.junit.jupiter.api.Test;
 
 public class SignedTransactionTest {
@@ -36,4 +40,21 @@ public class SignedTransactionTest {
         assertEquals(TransactionType.TRANSFER, signedTransaction.getType());
         assertEquals(signer.getPublicAccount(), signedTransaction.getSigner());
     }
+
+    @Test
+    void getDeadlineFromPayload() {
+        Account signer = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+        Deadline deadline = Deadline.create(3, ChronoUnit.HOURS);
+        SignedTransaction signedTransaction = TransferTransactionFactory
+            .create(NetworkType.MIJIN_TEST, signer.getAddress(), Collections.emptyList(), PlainMessage.Empty)
+            .deadline(deadline).build()
+            .signWith(signer, "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6");
+
+        assertEquals(deadline.getInstant(), signedTransaction.getDeadline().getInstant());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> new SignedTransaction(signer.getPublicAccount(), "payload", "hash", TransactionType.TRANSFER)
+                .getDeadline());
+        assertEquals("payload is too short to contain a deadline", exception.getMessage());
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.model.transaction;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.math.BigInteger;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link TransferTransactionTemplate}
+ */
+class TransferTransactionTemplateTest {
+
+    private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+    private final Account account = new Account("787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d",
+        networkType);
+
+    private final String generationHash = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+    private final MosaicId mosaicId1 = new MosaicId(new BigInteger("95442763262823"));
+
+    private final MosaicId mosaicId2 = new MosaicId(BigInteger.TEN);
+
+    private TransferTransaction createTransaction(UnresolvedAddress recipient, List<Mosaic> mosaics,
+        Deadline deadline, BigInteger maxFee) {
+        return TransferTransactionFactory.create(networkType, recipient, mosaics, new PlainMessage("Payroll"))
+            .deadline(deadline).maxFee(maxFee).build();
+    }
+
+    @Test
+    void shouldMatchBinarySerialization() {
+        TransferTransaction prototype = createTransaction(Address.generateRandom(networkType),
+            Collections.singletonList(new Mosaic(mosaicId1, BigInteger.ONE)), new FakeDeadline(), BigInteger.ZERO);
+        TransferTransactionTemplate template = new TransferTransactionTemplate(prototype);
+
+        for (int i = 0; i < 5; i++) {
+            UnresolvedAddress recipient =
+                i % 2 == 0 ? Address.generateRandom(networkType) : NamespaceId.createFromName("payroll" + i);
+            BigInteger amount = BigInteger.valueOf(1000L * i + 1);
+            Deadline deadline = Deadline.create(i + 1, ChronoUnit.HOURS);
+            BigInteger maxFee = BigInteger.valueOf(i * 100L);
+
+            TransferTransaction expected = createTransaction(recipient,
+                Collections.singletonList(new Mosaic(mosaicId1, amount)), deadline, maxFee);
+            template.recipient(recipient).amount(amount).deadline(deadline).maxFee(maxFee);
+
+            Assertions.assertArrayEquals(BinarySerializationImpl.INSTANCE.serialize(expected), template.serialize());
+            SignedTransaction expectedSigned = expected.signWith(account, generationHash);
+            SignedTransaction signed = template.signWith(account, generationHash);
+            Assertions.assertEquals(expectedSigned.getPayload(), signed.getPayload());
+            Assertions.assertEquals(expectedSigned.getHash(), signed.getHash());
+            Assertions.assertEquals(TransactionType.TRANSFER, signed.getType());
+            Assertions.assertEquals(account.getPublicAccount(), signed.getSigner());
+        }
+    }
+
+    @Test
+    void shouldPatchAmountsOfManyMosaics() {
+        Address recipient = Address.generateRandom(networkType);
+        TransferTransaction prototype = createTransaction(recipient,
+            Arrays.asList(new Mosaic(mosaicId1, BigInteger.ONE), new Mosaic(mosaicId2, BigInteger.ONE)),
+            new FakeDeadline(), BigInteger.ZERO);
+        TransferTransactionTemplate template = new TransferTransactionTemplate(prototype);
+
+        template.amount(mosaicId1, BigInteger.valueOf(20)).amount(mosaicId2, BigInteger.valueOf(30))
+            .calculateMaxFeeFromMultiplier(100);
+
+        TransferTransaction expected = TransferTransactionFactory.create(networkType, recipient,
+            Arrays.asList(new Mosaic(mosaicId2, BigInteger.valueOf(30)), new Mosaic(mosaicId1, BigInteger.valueOf(20))),
+            new PlainMessage("Payroll")).deadline(new FakeDeadline()).calculateMaxFeeFromMultiplier(100).build();
+
+        Assertions.assertEquals(expected.getSize(), template.getSize());
+        Assertions.assertArrayEquals(expected.serialize(), template.serialize());
+
+        IllegalArgumentException exception = Assertions
+            .assertThrows(IllegalArgumentException.class, () -> template.amount(BigInteger.TEN));
+        Assertions.assertEquals("The template has 2 mosaics", exception.getMessage());
+
+        exception = Assertions.assertThrows(IllegalArgumentException.class,
+            () -> template.amount(new MosaicId(BigInteger.ONE), BigInteger.TEN));
+        Assertions.assertEquals("Mosaic 0000000000000001 is not in the template", exception.getMessage());
+    }
+
+    @Test
+    void copyShouldNotSharePayload() {
+        Address recipient1 = Address.generateRandom(networkType);
+        Address recipient2 = Address.generateRandom(networkType);
+        TransferTransaction prototype = createTransaction(recipient1,
+            Collections.singletonList(new Mosaic(mosaicId1, BigInteger.ONE)), new FakeDeadline(), BigInteger.ZERO);
+        TransferTransactionTemplate template = new TransferTransactionTemplate(prototype);
+        TransferTransactionTemplate copy = template.copy().recipient(recipient2);
+
+        Assertions.assertArrayEquals(prototype.serialize(), template.serialize());
+        TransferTransaction deserialized = (TransferTransaction) BinarySerializationImpl.INSTANCE
+            .deserialize(copy.serialize());
+        Assertions.assertEquals(recipient2, deserialized.getRecipient());
+        Assertions.assertEquals(ConvertUtils.toHex(prototype.serialize()).length(),
+            copy.signWith(account, generationHash).getPayload().length());
+    }
+}
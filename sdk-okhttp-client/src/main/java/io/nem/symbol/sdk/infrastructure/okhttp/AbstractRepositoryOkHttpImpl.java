@@ -24,6 +24,7 @@ import io.nem.symbol.sdk.api.Page;
 import io.nem.symbol.sdk.api.RepositoryCallException;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
+import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiException;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.Order;
@@ -34,8 +35,9 @@ import io.reactivex.functions.Function;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Map;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -54,14 +56,41 @@ public abstract class AbstractRepositoryOkHttpImpl {
 
     }
 
-    public <T> Observable<T> call(Callable<T> callback) {
+    /**
+     * It creates a cold observable that enqueues the remote call when subscribed. The calling thread is not blocked,
+     * the observable emits the response from the http client's dispatcher. Disposing the subscription cancels the
+     * call.
+     *
+     * @param callback the non blocking remote call.
+     * @param <T> the type of the response.
+     * @return the observable of the response.
+     */
+    public <T> Observable<T> call(AsyncCall<T> callback) {
         Function<? super Throwable, ? extends ObservableSource<? extends T>> resumeFunction = this::onError;
-        return Observable.defer(() -> {
-            try {
-                return Observable.just(callback.call());
-            } catch (Exception e) {
-                return onError(e);
-            }
+        return Observable.<T>create(emitter -> {
+            Call call = callback.enqueue(new ApiCallback<T>() {
+                @Override
+                public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                    emitter.tryOnError(e);
+                }
+
+                @Override
+                public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+                    emitter.onNext(result);
+                    emitter.onComplete();
+                }
+
+                @Override
+                public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+                    // Not required.
+                }
+
+                @Override
+                public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+                    // Not required.
+                }
+            });
+            emitter.setCancellable(call::cancel);
         }).onErrorResumeNext(resumeFunction);
     }
 
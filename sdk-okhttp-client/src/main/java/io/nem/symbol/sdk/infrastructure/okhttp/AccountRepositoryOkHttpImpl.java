@@ -43,7 +43,6 @@ import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -63,7 +62,7 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
 
     @Override
     public Observable<AccountInfo> getAccountInfo(Address address) {
-        Callable<AccountInfoDTO> callback = () -> getClient().getAccountInfo(address.plain());
+        AsyncCall<AccountInfoDTO> callback = handler -> getClient().getAccountInfoAsync(address.plain(), handler);
         return exceptionHandling(call(callback).map(this::toAccountInfo));
     }
 
@@ -71,7 +70,7 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     public Observable<List<AccountInfo>> getAccountsInfo(List<Address> addresses) {
         AccountIds accountIds = new AccountIds()
             .addresses(addresses.stream().map(Address::plain).collect(Collectors.toList()));
-        Callable<List<AccountInfoDTO>> callback = () -> getClient().getAccountsInfo(accountIds);
+        AsyncCall<List<AccountInfoDTO>> callback = handler -> getClient().getAccountsInfoAsync(accountIds, handler);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toAccountInfo).toList().toObservable());
     }
@@ -123,8 +122,8 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
             criteria.getOrderBy() == null ? null : AccountOrderByEnum.fromValue(criteria.getOrderBy().getValue());
         String mosaicId = criteria.getMosaicId() == null ? null : criteria.getMosaicId().getIdAsHex();
 
-        Callable<AccountPage> callback = () -> getClient()
-            .searchAccounts(pageSize, pageNumber, offset, order, orderBy, mosaicId);
+        AsyncCall<AccountPage> callback = handler -> getClient()
+            .searchAccountsAsync(pageSize, pageNumber, offset, order, orderBy, mosaicId, handler);
 
         return exceptionHandling(call(callback).map(page -> this.toPage(page.getPagination(),
             page.getData().stream().map(this::toAccountInfo).collect(Collectors.toList()))));
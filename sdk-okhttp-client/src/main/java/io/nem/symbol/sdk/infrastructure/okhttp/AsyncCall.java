@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.okhttp;
+
+import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiCallback;
+import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiException;
+import okhttp3.Call;
+
+/**
+ * A non blocking remote call. It's usually one of the generated {@code *Async} methods of the open api client.
+ *
+ * @param <T> the type of the response.
+ */
+@FunctionalInterface
+public interface AsyncCall<T> {
+
+    /**
+     * It enqueues the remote call in the http client's dispatcher.
+     *
+     * @param callback the callback notified from the dispatcher's threads when the call completes.
+     * @return the enqueued call, it's cancelled when the subscription is disposed.
+     * @throws ApiException if the call cannot be created.
+     */
+    Call enqueue(ApiCallback<T> callback) throws ApiException;
+}
@@ -37,7 +37,6 @@ import io.reactivex.Observable;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -75,16 +74,16 @@ public class BlockRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
 
     @Override
     public Observable<BlockInfo> getBlockByHeight(BigInteger height) {
-        Callable<BlockInfoDTO> callback = () -> getClient().getBlockByHeight(height);
+        AsyncCall<BlockInfoDTO> callback = handler -> getClient().getBlockByHeightAsync(height, handler);
         return exceptionHandling(call(callback).map(BlockRepositoryOkHttpImpl::toBlockInfo));
     }
 
     @Override
     public Observable<Page<BlockInfo>> search(BlockSearchCriteria criteria) {
-        Callable<BlockPage> callback = () -> getClient()
-            .searchBlocks(toDto(criteria.getSignerPublicKey()), toDto(criteria.getBeneficiaryAddress()),
+        AsyncCall<BlockPage> callback = handler -> getClient()
+            .searchBlocksAsync(toDto(criteria.getSignerPublicKey()), toDto(criteria.getBeneficiaryAddress()),
                 criteria.getPageSize(), criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()),
-                toDto(criteria.getOrderBy()));
+                toDto(criteria.getOrderBy()), handler);
 
         return exceptionHandling(call(callback).map(mosaicPage -> this.toPage(mosaicPage.getPagination(),
             mosaicPage.getData().stream().map(BlockRepositoryOkHttpImpl::toBlockInfo).collect(Collectors.toList()))));
@@ -96,14 +95,15 @@ public class BlockRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
 
     @Override
     public Observable<MerkleProofInfo> getMerkleTransaction(BigInteger height, String hash) {
-        Callable<MerkleProofInfoDTO> callback = () -> getClient().getMerkleTransaction(height, hash);
+        AsyncCall<MerkleProofInfoDTO> callback = handler -> getClient()
+            .getMerkleTransactionAsync(height, hash, handler);
         return exceptionHandling(call(callback).map(this::toMerkleProofInfo));
 
     }
 
 
     public Observable<MerkleProofInfo> getMerkleReceipts(BigInteger height, String hash) {
-        Callable<MerkleProofInfoDTO> callback = () -> getClient().getMerkleReceipts(height, hash);
+        AsyncCall<MerkleProofInfoDTO> callback = handler -> getClient().getMerkleReceiptsAsync(height, hash, handler);
         return exceptionHandling(call(callback).map(this::toMerkleProofInfo));
     }
 
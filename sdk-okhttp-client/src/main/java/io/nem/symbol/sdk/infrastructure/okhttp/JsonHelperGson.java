@@ -23,6 +23,8 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
 import com.google.gson.internal.LinkedTreeMap;
 import com.google.gson.reflect.TypeToken;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
@@ -30,12 +32,19 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.JSON;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.JSON.ByteArrayAdapter;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.JSON.DateTypeAdapter;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.JSON.SqlDateTypeAdapter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import net.dongliu.gson.GsonJava8TypeAdapterFactory;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -50,6 +59,11 @@ public class JsonHelperGson implements JsonHelper {
     private final Gson objectMapper;
     private final Gson prettyObjectMapper;
 
+    /**
+     * The fields by serialized name of the DTO types.
+     */
+    private final Map<Class<?>, Optional<Map<String, Field>>> reflectiveFields = new ConcurrentHashMap<>();
+
     public JsonHelperGson() {
         this(JsonHelperGson.creatGson(false), JsonHelperGson.creatGson(true));
     }
@@ -126,6 +140,15 @@ public class JsonHelperGson implements JsonHelper {
         }
     }
 
+    @Override
+    public void print(Object object, Writer writer) {
+        try {
+            objectMapper.toJson(object, writer);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public String prettyPrint(Object object) {
         try {
@@ -149,19 +172,38 @@ public class JsonHelperGson implements JsonHelper {
 
     @Override
     public <T> T convert(Object object, Class<T> instanceClass, String... path) {
-        Object child = path.length == 0 ? object : getNode(convert(object, JsonObject.class), path);
+        Object child = path.length == 0 ? object : getNode(object, path);
         if (child == null) {
             return null;
         }
         if (instanceClass.isInstance(child)) {
             return (T) child;
         }
-        return parse(print(child), instanceClass);
+        JsonElement tree = toJsonTree(child);
+        if (instanceClass.isInstance(tree)) {
+            return (T) tree;
+        }
+        try {
+            return objectMapper.fromJson(tree, instanceClass);
+        } catch (Exception e) {
+            throw handleException(e, "Json payload: " + tree);
+        }
+    }
+
+    private JsonElement toJsonTree(Object object) {
+        try {
+            if (object instanceof JsonElement) {
+                return (JsonElement) object;
+            }
+            return objectMapper.toJsonTree(object);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
     }
 
     @Override
     public Integer getInteger(Object object, String... path) {
-        JsonElement child = getNode(convert(object, JsonObject.class), path);
+        JsonElement child = getNode(object, path);
         if (child == null || child.isJsonNull()) {
             return null;
         }
@@ -173,7 +215,7 @@ public class JsonHelperGson implements JsonHelper {
 
     @Override
     public String getString(Object object, String... path) {
-        JsonElement child = getNode(convert(object, JsonObject.class), path);
+        JsonElement child = getNode(object, path);
         if (child == null || child.isJsonNull()) {
             return null;
         }
@@ -185,7 +227,7 @@ public class JsonHelperGson implements JsonHelper {
 
     @Override
     public Long getLong(Object object, String... path) {
-        JsonElement child = getNode(convert(object, JsonObject.class), path);
+        JsonElement child = getNode(object, path);
         if (child == null || child.isJsonNull()) {
             return null;
         }
@@ -198,7 +240,7 @@ public class JsonHelperGson implements JsonHelper {
     @Override
     @SuppressWarnings("squid:S2447")
     public Boolean getBoolean(Object object, String... path) {
-        JsonElement child = getNode(convert(object, JsonObject.class), path);
+        JsonElement child = getNode(object, path);
         if (child == null || child.isJsonNull()) {
             return null;
         }
@@ -219,34 +261,75 @@ public class JsonHelperGson implements JsonHelper {
 
     @Override
     public boolean contains(Object object, String... path) {
-        JsonElement child = getNode(convert(object, JsonObject.class), path);
+        JsonElement child = getNode(object, path);
         return child != null && !child.isJsonNull();
     }
 
 
-    private JsonElement getNode(final JsonObject parent, final String... path) {
-        JsonElement child = parent;
-        if (child == null) {
-            return null;
+    /**
+     * It finds the json element of the given path. The attributes of the generated DTOs are read from their {@link
+     * SerializedName} fields, only the found value is converted to a json element.
+     *
+     * @param parent the json element, the map or the object.
+     * @param path the path of attributes.
+     * @return the found json element or null if the path doesn't exist.
+     */
+    private JsonElement getNode(final Object parent, final String... path) {
+        Object child = parent;
+        for (String attribute : path) {
+            if (child == null) {
+                return null;
+            }
+            child = getAttribute(child, attribute);
         }
-        if (path.length == 0) {
-            return child;
+        return child == null ? null : toJsonTree(child);
+    }
+
+    private Object getAttribute(Object object, String attribute) {
+        if (object instanceof JsonElement) {
+            return ((JsonElement) object).isJsonObject() ? ((JsonObject) object).get(attribute) : null;
+        }
+        if (object instanceof Map) {
+            return ((Map<?, ?>) object).get(attribute);
         }
-        if (!child.isJsonObject()) {
+        Map<String, Field> fields = getFields(object.getClass());
+        if (fields == null) {
+            return getAttribute(toJsonTree(object), attribute);
+        }
+        Field field = fields.get(attribute);
+        if (field == null) {
             return null;
         }
-        int index = 0;
-        for (String attribute : path) {
-            child = ((JsonObject) child).get(attribute);
-            if (child == null) {
-                return null;
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param type the object's type.
+     * @return the fields by serialized name if the type is a DTO, with {@link SerializedName} fields and without a
+     * {@link JsonAdapter}, or null if the object must be converted to a json element.
+     */
+    private Map<String, Field> getFields(Class<?> type) {
+        return reflectiveFields.computeIfAbsent(type, t -> {
+            if (t.isEnum() || t.isAnnotationPresent(JsonAdapter.class)) {
+                return Optional.empty();
             }
-            index++;
-            if (index < path.length && !child.isJsonObject()) {
-                return null;
+            Map<String, Field> fields = new HashMap<>();
+            for (Class<?> c = t; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                    if (serializedName != null && !Modifier.isStatic(field.getModifiers()) && !Modifier
+                        .isTransient(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.putIfAbsent(serializedName.value(), field);
+                    }
+                }
             }
-        }
-        return child;
+            return fields.isEmpty() ? Optional.empty() : Optional.of(fields);
+        }).orElse(null);
     }
 
     private static class BigIntegerJsonSerializer implements JsonSerializer<BigInteger> {
@@ -34,7 +34,6 @@ import io.reactivex.Observable;
 import java.math.BigInteger;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 
@@ -64,9 +63,9 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
         Integer pageNumber = criteria.getPageNumber();
         Order order = toDto(criteria.getOrder());
 
-        Callable<MetadataPage> callback = () -> getClient()
-            .searchMetadataEntries(sourceAddress, targetAddress, scopedMetadataKey, targetId, metadataType, pageSize,
-                pageNumber, offset, order);
+        AsyncCall<MetadataPage> callback = handler -> getClient()
+            .searchMetadataEntriesAsync(sourceAddress, targetAddress, scopedMetadataKey, targetId, metadataType,
+                pageSize, pageNumber, offset, order, handler);
 
         return exceptionHandling(call(callback).map(page -> this
             .toPage(page.getPagination(), page.getData().stream().map(this::toMetadata).collect(Collectors.toList()))));
@@ -34,7 +34,6 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.MosaicInfoDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.MosaicPage;
 import io.reactivex.Observable;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -63,7 +62,7 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
 
     @Override
     public Observable<MosaicInfo> getMosaic(MosaicId mosaicId) {
-        Callable<MosaicInfoDTO> callback = () -> getClient().getMosaic(mosaicId.getIdAsHex());
+        AsyncCall<MosaicInfoDTO> callback = handler -> getClient().getMosaicAsync(mosaicId.getIdAsHex(), handler);
         return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(callback).map(
             mosaicInfoDTO -> createMosaicInfo(mosaicInfoDTO, networkType))));
     }
@@ -74,8 +73,8 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
         mosaicIds.mosaicIds(ids.stream()
             .map(MosaicId::getIdAsHex)
             .collect(Collectors.toList()));
-        Callable<List<MosaicInfoDTO>> callback = () -> getClient()
-            .getMosaics(mosaicIds);
+        AsyncCall<List<MosaicInfoDTO>> callback = handler -> getClient()
+            .getMosaicsAsync(mosaicIds, handler);
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
             call(callback).flatMapIterable(item -> item).map(
                 mosaicInfoDTO -> createMosaicInfo(mosaicInfoDTO, networkType)).toList()
@@ -84,11 +83,11 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
 
     @Override
     public Observable<Page<MosaicInfo>> search(MosaicSearchCriteria criteria) {
-        Callable<MosaicPage> callback = () -> getClient()
-            .searchMosaics(toDto(criteria.getOwnerAddress()),
+        AsyncCall<MosaicPage> callback = handler -> getClient()
+            .searchMosaicsAsync(toDto(criteria.getOwnerAddress()),
                 criteria.getPageSize(),
                 criteria.getPageNumber(), criteria.getOffset(),
-                toDto(criteria.getOrder()));
+                toDto(criteria.getOrder()), handler);
 
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
             call(callback).map(mosaicPage -> this.toPage(mosaicPage.getPagination(),
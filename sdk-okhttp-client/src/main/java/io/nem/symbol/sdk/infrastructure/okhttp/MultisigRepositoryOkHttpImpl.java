@@ -49,8 +49,9 @@ public class MultisigRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
 
     @Override
     public Observable<MultisigAccountInfo> getMultisigAccountInfo(Address address) {
-        return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(
-            () -> getClient().getAccountMultisig(address.plain()))
+        AsyncCall<MultisigAccountInfoDTO> callback = handler -> getClient()
+            .getAccountMultisigAsync(address.plain(), handler);
+        return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(callback)
             .map(MultisigAccountInfoDTO::getMultisig)
             .map(dto -> toMultisigAccountInfo(dto))));
 
@@ -58,8 +59,9 @@ public class MultisigRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
 
     @Override
     public Observable<MultisigAccountGraphInfo> getMultisigAccountGraphInfo(Address address) {
-        return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(
-            () -> getClient().getAccountMultisigGraph(address.plain()))
+        AsyncCall<List<MultisigAccountGraphInfoDTO>> callback = handler -> getClient()
+            .getAccountMultisigGraphAsync(address.plain(), handler);
+        return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(callback)
             .map(multisigAccountGraphInfoDTOList -> {
                 Map<Integer, List<MultisigAccountInfo>> multisigAccountInfoMap = new HashMap<>();
                 multisigAccountGraphInfoDTOList.forEach(
@@ -55,7 +55,6 @@ import io.reactivex.Observable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -79,7 +78,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
 
     @Override
     public Observable<NamespaceInfo> getNamespace(NamespaceId namespaceId) {
-        Callable<NamespaceInfoDTO> callback = () -> getClient().getNamespace(namespaceId.getIdAsHex());
+        AsyncCall<NamespaceInfoDTO> callback = handler -> getClient()
+            .getNamespaceAsync(namespaceId.getIdAsHex(), handler);
         return exceptionHandling(call(callback).map(this::toNamespaceInfo));
     }
 
@@ -96,8 +96,9 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
         Integer pageNumber = criteria.getPageNumber();
         String offset = criteria.getOffset();
         Order order = toDto(criteria.getOrder());
-        Callable<NamespacePage> callback = () -> getClient()
-            .searchNamespaces(ownerAddress, registrationType, level0, aliasType, pageSize, pageNumber, offset, order);
+        AsyncCall<NamespacePage> callback = handler -> getClient()
+            .searchNamespacesAsync(ownerAddress, registrationType, level0, aliasType, pageSize, pageNumber, offset,
+                order, handler);
 
         return exceptionHandling(call(callback).map(page -> this.toPage(page.getPagination(),
             page.getData().stream().map(this::toNamespaceInfo).collect(Collectors.toList()))));
@@ -109,7 +110,7 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
         NamespaceIds ids = new NamespaceIds()
             .namespaceIds(namespaceIds.stream().map(NamespaceId::getIdAsHex).collect(Collectors.toList()));
 
-        Callable<List<NamespaceNameDTO>> callback = () -> getClient().getNamespacesNames(ids);
+        AsyncCall<List<NamespaceNameDTO>> callback = handler -> getClient().getNamespacesNamesAsync(ids, handler);
 
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toNamespaceName).toList().toObservable());
@@ -129,7 +130,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
      */
     @Override
     public Observable<MosaicId> getLinkedMosaicId(NamespaceId namespaceId) {
-        Callable<NamespaceInfoDTO> callback = () -> getClient().getNamespace(namespaceId.getIdAsHex());
+        AsyncCall<NamespaceInfoDTO> callback = handler -> getClient()
+            .getNamespaceAsync(namespaceId.getIdAsHex(), handler);
         return exceptionHandling(
             call(callback).map(namespaceInfoDTO -> this.toMosaicId(namespaceInfoDTO.getNamespace())));
     }
@@ -142,7 +144,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
      */
     @Override
     public Observable<Address> getLinkedAddress(NamespaceId namespaceId) {
-        Callable<NamespaceInfoDTO> callback = () -> getClient().getNamespace(namespaceId.getIdAsHex());
+        AsyncCall<NamespaceInfoDTO> callback = handler -> getClient()
+            .getNamespaceAsync(namespaceId.getIdAsHex(), handler);
         return exceptionHandling(
             call(callback).map(namespaceInfoDTO -> this.toAddress(namespaceInfoDTO.getNamespace())));
     }
@@ -156,7 +159,7 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
     }
 
     private Observable<List<AccountNames>> getAccountNames(Addresses accountIds) {
-        Callable<AccountsNamesDTO> callback = () -> getClient().getAccountsNames(accountIds);
+        AsyncCall<AccountsNamesDTO> callback = handler -> getClient().getAccountsNamesAsync(accountIds, handler);
         return exceptionHandling(call(callback).map(AccountsNamesDTO::getAccountNames).flatMapIterable(item -> item)
             .map(this::toAccountNames).toList().toObservable());
     }
@@ -177,7 +180,7 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
     public Observable<List<MosaicNames>> getMosaicsNames(List<MosaicId> ids) {
         MosaicIds mosaicIds = new MosaicIds();
         mosaicIds.mosaicIds(ids.stream().map(MosaicId::getIdAsHex).collect(Collectors.toList()));
-        Callable<MosaicsNamesDTO> callback = () -> getClient().getMosaicsNames(mosaicIds);
+        AsyncCall<MosaicsNamesDTO> callback = handler -> getClient().getMosaicsNamesAsync(mosaicIds, handler);
         return exceptionHandling(
             call(callback).map(MosaicsNamesDTO::getMosaicNames).flatMapIterable(item -> item).map(this::toMosaicNames)
                 .toList().toObservable());
@@ -76,25 +76,26 @@ public class NetworkRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     @Override
     public Observable<NetworkType> getNetworkType() {
         return exceptionHandling(
-            call(getNodeRoutesApi()::getNodeInfo).map(info -> NetworkType.rawValueOf(info.getNetworkIdentifier())));
+            call(getNodeRoutesApi()::getNodeInfoAsync)
+                .map(info -> NetworkType.rawValueOf(info.getNetworkIdentifier())));
     }
 
     @Override
     public Observable<NetworkInfo> getNetworkInfo() {
-        return exceptionHandling(call(getNetworkRoutesApi()::getNetworkType)
+        return exceptionHandling(call(getNetworkRoutesApi()::getNetworkTypeAsync)
             .map(info -> new NetworkInfo(info.getName(), info.getDescription())));
     }
 
     @Override
     public Observable<TransactionFees> getTransactionFees() {
-        return exceptionHandling(call(getNetworkRoutesApi()::getTransactionFees).map(
+        return exceptionHandling(call(getNetworkRoutesApi()::getTransactionFeesAsync).map(
             info -> new TransactionFees(info.getAverageFeeMultiplier(), info.getMedianFeeMultiplier(),
                 info.getLowestFeeMultiplier(), info.getHighestFeeMultiplier())));
     }
 
     @Override
     public Observable<RentalFees> getRentalFees() {
-        return exceptionHandling(call(getNetworkRoutesApi()::getRentalFees).map(
+        return exceptionHandling(call(getNetworkRoutesApi()::getRentalFeesAsync).map(
             info -> new RentalFees(info.getEffectiveRootNamespaceRentalFeePerBlock(),
                 info.getEffectiveChildNamespaceRentalFee(), info.getEffectiveMosaicRentalFee())));
     }
@@ -102,7 +103,7 @@ public class NetworkRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
 
     @Override
     public Observable<NetworkConfiguration> getNetworkProperties() {
-        return call(getNetworkRoutesApi()::getNetworkProperties).map(
+        return call(getNetworkRoutesApi()::getNetworkPropertiesAsync).map(
             info -> new NetworkConfiguration(toNetworkProperties(info.getNetwork()), toChainProperties(info.getChain()),
                 toPluginsProperties(info.getPlugins())));
     }
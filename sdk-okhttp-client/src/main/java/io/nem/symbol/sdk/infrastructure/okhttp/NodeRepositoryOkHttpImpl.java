@@ -36,7 +36,6 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.StorageInfoDTO;
 import io.reactivex.Observable;
 import java.math.BigInteger;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -63,7 +62,7 @@ public class NodeRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imple
      * @return {@link Observable} of NodeInfo
      */
     public Observable<NodeInfo> getNodeInfo() {
-        return exceptionHandling(call(getClient()::getNodeInfo).map(this::toNodeInfo));
+        return exceptionHandling(call(getClient()::getNodeInfoAsync).map(this::toNodeInfo));
     }
 
     private NodeInfo toNodeInfo(NodeInfoDTO nodeInfoDTO) {
@@ -86,7 +85,7 @@ public class NodeRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imple
     @Override
     public Observable<List<NodeInfo>> getNodePeers() {
         return exceptionHandling(
-            call(getClient()::getNodePeers)).map(l -> l.stream().map(this::toNodeInfo).collect(
+            call(getClient()::getNodePeersAsync)).map(l -> l.stream().map(this::toNodeInfo).collect(
             Collectors.toList()));
     }
 
@@ -97,8 +96,8 @@ public class NodeRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imple
      * @return {@link Observable} of NodeTime
      */
     public Observable<NodeTime> getNodeTime() {
-        Callable<NodeTimeDTO> callback = () -> getClient()
-            .getNodeTime();
+        AsyncCall<NodeTimeDTO> callback = handler -> getClient()
+            .getNodeTimeAsync(handler);
         return exceptionHandling(
             call(callback).map(this::toNodeTime));
     }
@@ -110,7 +109,7 @@ public class NodeRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imple
      */
     @Override
     public Observable<StorageInfo> getNodeStorage() {
-        Callable<StorageInfoDTO> callback = getClient()::getNodeStorage;
+        AsyncCall<StorageInfoDTO> callback = getClient()::getNodeStorageAsync;
         return exceptionHandling(call(callback).map(this::toStorageInfo));
     }
 
@@ -121,7 +120,7 @@ public class NodeRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imple
      */
     @Override
     public Observable<NodeHealth> getNodeHealth() {
-        Callable<NodeHealthInfoDTO> callback = getClient()::getNodeHealth;
+        AsyncCall<NodeHealthInfoDTO> callback = getClient()::getNodeHealthAsync;
         return exceptionHandling(call(callback)
             .map(dto -> new NodeHealth(
                 NodeStatus.rawValueOf(dto.getStatus().getApiNode().getValue()),
@@ -142,7 +141,7 @@ public class NodeRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imple
      * @return {@link Observable} of ServerInfo
      */
     public Observable<ServerInfo> getServerInfo() {
-        Callable<ServerInfoDTO> callback = getClient()::getServerInfo;
+        AsyncCall<ServerInfoDTO> callback = getClient()::getServerInfoAsync;
         return exceptionHandling(
             call(callback).map(ServerInfoDTO::getServerInfo).map(this::toServerInfo));
     }
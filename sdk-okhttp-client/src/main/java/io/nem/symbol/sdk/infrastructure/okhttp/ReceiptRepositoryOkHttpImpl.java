@@ -33,7 +33,6 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionStatementPage;
 import io.reactivex.Observable;
 import java.math.BigInteger;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 
@@ -66,9 +65,9 @@ public class ReceiptRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
         String offset = criteria.getOffset();
         Order order = toDto(criteria.getOrder());
 
-        Callable<TransactionStatementPage> callback = () -> getClient()
-            .searchReceipts(height, receiptTypes, recipientAddress, senderAddress, targetAddress, artifactId, pageSize,
-                pageNumber, offset, order);
+        AsyncCall<TransactionStatementPage> callback = handler -> getClient()
+            .searchReceiptsAsync(height, receiptTypes, recipientAddress, senderAddress, targetAddress, artifactId,
+                pageSize, pageNumber, offset, order, handler);
 
         return exceptionHandling(call(callback).map(page -> this.toPage(page.getPagination(),
             page.getData().stream().map(mapper::createTransactionStatement).collect(Collectors.toList()))));
@@ -83,8 +82,8 @@ public class ReceiptRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
         Integer pageNumber = criteria.getPageNumber();
         String offset = criteria.getOffset();
         Order order = toDto(criteria.getOrder());
-        Callable<ResolutionStatementPage> callback = () -> getClient()
-            .searchAddressResolutionStatements(height, pageSize, pageNumber, offset, order);
+        AsyncCall<ResolutionStatementPage> callback = handler -> getClient()
+            .searchAddressResolutionStatementsAsync(height, pageSize, pageNumber, offset, order, handler);
         return exceptionHandling(call(callback).map(page -> this.toPage(page.getPagination(),
             page.getData().stream().map(mapper::createAddressResolutionStatementFromDto)
                 .collect(Collectors.toList()))));
@@ -100,8 +99,8 @@ public class ReceiptRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
         Integer pageNumber = criteria.getPageNumber();
         String offset = criteria.getOffset();
         Order order = toDto(criteria.getOrder());
-        Callable<ResolutionStatementPage> callback = () -> getClient()
-            .searchMosaicResolutionStatements(height, pageSize, pageNumber, offset, order);
+        AsyncCall<ResolutionStatementPage> callback = handler -> getClient()
+            .searchMosaicResolutionStatementsAsync(height, pageSize, pageNumber, offset, order, handler);
         return exceptionHandling(call(callback).map(page -> this.toPage(page.getPagination(),
             page.getData().stream().map(mapper::createMosaicResolutionStatementFromDto).collect(Collectors.toList()))));
 
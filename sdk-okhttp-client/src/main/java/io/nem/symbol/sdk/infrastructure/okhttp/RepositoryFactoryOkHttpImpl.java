@@ -37,6 +37,7 @@ import io.nem.symbol.sdk.api.TransactionRepository;
 import io.nem.symbol.sdk.api.TransactionStatusRepository;
 import io.nem.symbol.sdk.infrastructure.RepositoryFactoryBase;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiClient;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import org.apache.commons.io.IOUtils;
 
@@ -62,6 +63,13 @@ public class RepositoryFactoryOkHttpImpl extends RepositoryFactoryBase {
         this.apiClient = new ApiClient();
         this.apiClient.setBasePath(getBaseUrl());
         this.apiClient.getJSON().setGson(gson);
+        Dispatcher dispatcher = this.apiClient.getHttpClient().dispatcher();
+        if (configuration.getMaxRequests() != null) {
+            dispatcher.setMaxRequests(configuration.getMaxRequests());
+        }
+        if (configuration.getMaxRequestsPerHost() != null) {
+            dispatcher.setMaxRequestsPerHost(configuration.getMaxRequestsPerHost());
+        }
     }
 
     @Override
@@ -111,7 +119,7 @@ public class RepositoryFactoryOkHttpImpl extends RepositoryFactoryBase {
 
     @Override
     public TransactionRepository createTransactionRepository() {
-        return new TransactionRepositoryOkHttpImpl(apiClient);
+        return new TransactionRepositoryOkHttpImpl(apiClient, isStreamingPages());
     }
 
     @Override
@@ -56,8 +56,9 @@ public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkH
         MosaicId mosaicId, List<Address> addresses) {
         AccountIds accountIds = new AccountIds()
             .addresses(addresses.stream().map(Address::plain).collect(Collectors.toList()));
-        return exceptionHandling(call(() -> getClient()
-            .getMosaicAddressRestrictions(mosaicId.getIdAsHex(), accountIds))
+        AsyncCall<List<MosaicAddressRestrictionDTO>> callback = handler -> getClient()
+            .getMosaicAddressRestrictionsAsync(mosaicId.getIdAsHex(), accountIds, handler);
+        return exceptionHandling(call(callback)
             .flatMapIterable(item -> item).map(this::toMosaicAddressRestriction)).toList()
             .toObservable();
     }
@@ -65,15 +66,18 @@ public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkH
     @Override
     public Observable<MosaicAddressRestriction> getMosaicAddressRestriction(MosaicId mosaicId,
         Address address) {
-        return exceptionHandling(call(
-            () -> getClient().getMosaicAddressRestriction(mosaicId.getIdAsHex(), address.plain()))
+        AsyncCall<MosaicAddressRestrictionDTO> callback = handler -> getClient()
+            .getMosaicAddressRestrictionAsync(mosaicId.getIdAsHex(), address.plain(), handler);
+        return exceptionHandling(call(callback)
             .map(this::toMosaicAddressRestriction));
     }
 
     @Override
     public Observable<MosaicGlobalRestriction> getMosaicGlobalRestriction(MosaicId mosaicId) {
+        AsyncCall<MosaicGlobalRestrictionDTO> callback = handler -> getClient()
+            .getMosaicGlobalRestrictionAsync(mosaicId.getIdAsHex(), handler);
         return exceptionHandling(
-            call(() -> getClient().getMosaicGlobalRestriction(mosaicId.getIdAsHex()))
+            call(callback)
                 .map(this::toMosaicGlobalRestriction));
     }
 
@@ -82,8 +86,10 @@ public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkH
         List<MosaicId> mosaicIds) {
         MosaicIds mosaicIdsParmas = new MosaicIds()
             .mosaicIds(mosaicIds.stream().map(MosaicId::getIdAsHex).collect(Collectors.toList()));
+        AsyncCall<List<MosaicGlobalRestrictionDTO>> callback = handler -> getClient()
+            .getMosaicGlobalRestrictionsAsync(mosaicIdsParmas, handler);
         return exceptionHandling(
-            call(() -> getClient().getMosaicGlobalRestrictions(mosaicIdsParmas))
+            call(callback)
                 .flatMapIterable(item -> item).map(this::toMosaicGlobalRestriction)).toList()
             .toObservable();
     }
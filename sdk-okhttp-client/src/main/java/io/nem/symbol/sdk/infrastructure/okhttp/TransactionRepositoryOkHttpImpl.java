@@ -16,6 +16,8 @@
 
 package io.nem.symbol.sdk.infrastructure.okhttp;
 
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
 import io.nem.symbol.sdk.api.Page;
 import io.nem.symbol.sdk.api.TransactionRepository;
 import io.nem.symbol.sdk.api.TransactionSearchCriteria;
@@ -27,19 +29,27 @@ import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
 import io.nem.symbol.sdk.model.transaction.TransactionGroup;
 import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.nem.symbol.sdk.openapi.okhttp_gson.api.TransactionRoutesApi;
+import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiException;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.AnnounceTransactionInfoDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.Cosignature;
+import io.nem.symbol.sdk.openapi.okhttp_gson.model.Pagination;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionIds;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionPage;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionPayload;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionTypeEnum;
 import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 /**
  * Transaction http repository.
@@ -52,10 +62,31 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
     private final GeneralTransactionMapper transactionMapper;
 
+    private final Gson gson;
+
+    /**
+     * If the search pages are decoded incrementally from the response body.
+     */
+    private final boolean streamingPages;
+
     public TransactionRepositoryOkHttpImpl(ApiClient apiClient) {
+        this(apiClient, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param apiClient the api client.
+     * @param streamingPages if the search pages are decoded incrementally. Each transaction is mapped as soon as it's
+     * read from the response body instead of buffering the body and creating the page's dto graph first. The page is
+     * still emitted once all its transactions are mapped.
+     */
+    public TransactionRepositoryOkHttpImpl(ApiClient apiClient, boolean streamingPages) {
         super(apiClient);
         this.client = new TransactionRoutesApi(apiClient);
         this.transactionMapper = new GeneralTransactionMapper(getJsonHelper());
+        this.gson = apiClient.getJSON().getGson();
+        this.streamingPages = streamingPages;
     }
 
     public TransactionRoutesApi getClient() {
@@ -64,7 +95,7 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
     @Override
     public Observable<Transaction> getTransaction(TransactionGroup group, String transactionHash) {
-        Callable<TransactionInfoDTO> callback = () -> getBasicTransactions(group, transactionHash);
+        AsyncCall<TransactionInfoDTO> callback = handler -> getBasicTransactions(group, transactionHash, handler);
         return exceptionHandling(call(callback).map(transactionInfoDTO -> mapTransaction(group, transactionInfoDTO)));
     }
 
@@ -74,7 +105,8 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
     @Override
     public Observable<List<Transaction>> getTransactions(TransactionGroup group, List<String> transactionHashes) {
-        Callable<List<TransactionInfoDTO>> callback = () -> getBasicTransactions(group, transactionHashes);
+        AsyncCall<List<TransactionInfoDTO>> callback = handler -> getBasicTransactions(group, transactionHashes,
+            handler);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(info -> mapTransaction(group, info)).toList()
                 .toObservable());
@@ -83,15 +115,15 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     @Override
     public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
 
-        Callable<AnnounceTransactionInfoDTO> callback = () -> getClient()
-            .announceTransaction(new TransactionPayload().payload(signedTransaction.getPayload()));
+        AsyncCall<AnnounceTransactionInfoDTO> callback = handler -> getClient()
+            .announceTransactionAsync(new TransactionPayload().payload(signedTransaction.getPayload()), handler);
         return exceptionHandling(call(callback).map(dto -> new TransactionAnnounceResponse(dto.getMessage())));
     }
 
     @Override
     public Observable<TransactionAnnounceResponse> announceAggregateBonded(SignedTransaction signedTransaction) {
-        Callable<AnnounceTransactionInfoDTO> callback = () -> getClient()
-            .announcePartialTransaction(new TransactionPayload().payload(signedTransaction.getPayload()));
+        AsyncCall<AnnounceTransactionInfoDTO> callback = handler -> getClient()
+            .announcePartialTransactionAsync(new TransactionPayload().payload(signedTransaction.getPayload()), handler);
         return exceptionHandling(call(callback).map(dto -> new TransactionAnnounceResponse(dto.getMessage())));
     }
 
@@ -99,18 +131,21 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     public Observable<TransactionAnnounceResponse> announceAggregateBondedCosignature(
         CosignatureSignedTransaction cosignatureSignedTransaction) {
 
-        Callable<AnnounceTransactionInfoDTO> callback = () -> getClient().announceCosignatureTransaction(
+        AsyncCall<AnnounceTransactionInfoDTO> callback = handler -> getClient().announceCosignatureTransactionAsync(
             new Cosignature().parentHash(cosignatureSignedTransaction.getParentHash())
                 .signature(cosignatureSignedTransaction.getSignature())
                 .version(cosignatureSignedTransaction.getVersion())
-                .signerPublicKey(cosignatureSignedTransaction.getSignerPublicKey()));
+                .signerPublicKey(cosignatureSignedTransaction.getSignerPublicKey()), handler);
         return exceptionHandling(call(callback).map(dto -> new TransactionAnnounceResponse(dto.getMessage())));
 
     }
 
     @Override
     public Observable<Page<Transaction>> search(TransactionSearchCriteria criteria) {
-        Callable<TransactionPage> callback = () -> basicSearch(criteria);
+        if (streamingPages) {
+            return exceptionHandling(streamingSearch(criteria));
+        }
+        AsyncCall<TransactionPage> callback = handler -> basicSearch(criteria, handler);
         return exceptionHandling(call(callback).map(p -> {
             List<Transaction> data = p.getData().stream()
                 .map(transactionInfoDTO -> mapTransaction(criteria.getGroup(), transactionInfoDTO))
@@ -119,55 +154,133 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
         }));
     }
 
-    private TransactionPage basicSearch(TransactionSearchCriteria criteria) throws ApiException {
+    private Call basicSearch(TransactionSearchCriteria criteria, ApiCallback<TransactionPage> handler)
+        throws ApiException {
         switch (criteria.getGroup()) {
             case CONFIRMED:
-                return getClient()
-                    .searchConfirmedTransactions(toDto(criteria.getAddress()), toDto(criteria.getRecipientAddress()),
-                        toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
-                        toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
-                        criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()));
+                return getClient().searchConfirmedTransactionsAsync(toDto(criteria.getAddress()),
+                    toDto(criteria.getRecipientAddress()), toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
+                    toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
+                    criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()), handler);
             case PARTIAL:
-                return getClient()
-                    .searchPartialTransactions(toDto(criteria.getAddress()), toDto(criteria.getRecipientAddress()),
-                        toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
-                        toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
-                        criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()));
+                return getClient().searchPartialTransactionsAsync(toDto(criteria.getAddress()),
+                    toDto(criteria.getRecipientAddress()), toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
+                    toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
+                    criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()), handler);
 
             case UNCONFIRMED:
-                return getClient()
-                    .searchUnconfirmedTransactions(toDto(criteria.getAddress()), toDto(criteria.getRecipientAddress()),
-                        toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
-                        toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
-                        criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()));
+                return getClient().searchUnconfirmedTransactionsAsync(toDto(criteria.getAddress()),
+                    toDto(criteria.getRecipientAddress()), toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
+                    toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
+                    criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()), handler);
         }
         throw new IllegalArgumentException("Invalid group " + criteria.getGroup());
     }
 
 
-    private TransactionInfoDTO getBasicTransactions(TransactionGroup group, String transactionHash)
-        throws ApiException {
+    private Call searchCall(TransactionSearchCriteria criteria) throws ApiException {
+        switch (criteria.getGroup()) {
+            case CONFIRMED:
+                return getClient().searchConfirmedTransactionsCall(toDto(criteria.getAddress()),
+                    toDto(criteria.getRecipientAddress()), toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
+                    toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
+                    criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()), null);
+            case PARTIAL:
+                return getClient().searchPartialTransactionsCall(toDto(criteria.getAddress()),
+                    toDto(criteria.getRecipientAddress()), toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
+                    toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
+                    criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()), null);
+
+            case UNCONFIRMED:
+                return getClient().searchUnconfirmedTransactionsCall(toDto(criteria.getAddress()),
+                    toDto(criteria.getRecipientAddress()), toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
+                    toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
+                    criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()), null);
+        }
+        throw new IllegalArgumentException("Invalid group " + criteria.getGroup());
+    }
+
+
+    /**
+     * It creates a cold observable that executes the search call on the io scheduler and maps the transactions while
+     * the response body is being read. The body is always closed and disposing the subscription cancels the call,
+     * aborting the read.
+     *
+     * @param criteria the search criteria.
+     * @return the observable of the mapped page.
+     */
+    private Observable<Page<Transaction>> streamingSearch(TransactionSearchCriteria criteria) {
+        return Observable.<Page<Transaction>>create(emitter -> {
+            Call call = searchCall(criteria);
+            emitter.setCancellable(call::cancel);
+            try (Response response = call.execute()) {
+                ResponseBody body = response.body();
+                if (!response.isSuccessful() || body == null) {
+                    String responseBody = body == null ? null : body.string();
+                    emitter.tryOnError(
+                        new ApiException(response.message(), response.code(), response.headers().toMultimap(),
+                            responseBody));
+                    return;
+                }
+                emitter.onNext(readPage(criteria.getGroup(), body.charStream()));
+                emitter.onComplete();
+            } catch (IOException e) {
+                emitter.tryOnError(new ApiException(e));
+            } catch (RuntimeException e) {
+                emitter.tryOnError(e);
+            }
+        }).subscribeOn(Schedulers.io());
+    }
+
+    private Page<Transaction> readPage(TransactionGroup group, Reader body) throws IOException {
+        List<Transaction> data = new ArrayList<>();
+        Pagination pagination = null;
+        JsonReader reader = gson.newJsonReader(body);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("data".equals(name)) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    data.add(mapTransaction(group, gson.fromJson(reader, TransactionInfoDTO.class)));
+                }
+                reader.endArray();
+            } else if ("pagination".equals(name)) {
+                pagination = gson.fromJson(reader, Pagination.class);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (pagination == null) {
+            throw new IllegalArgumentException("Search response doesn't have pagination");
+        }
+        return toPage(pagination, data);
+    }
+
+    private Call getBasicTransactions(TransactionGroup group, String transactionHash,
+        ApiCallback<TransactionInfoDTO> handler) throws ApiException {
         switch (group) {
             case CONFIRMED:
-                return getClient().getConfirmedTransaction(transactionHash);
+                return getClient().getConfirmedTransactionAsync(transactionHash, handler);
             case PARTIAL:
-                return getClient().getPartialTransaction(transactionHash);
+                return getClient().getPartialTransactionAsync(transactionHash, handler);
             case UNCONFIRMED:
-                return getClient().getUnconfirmedTransaction(transactionHash);
+                return getClient().getUnconfirmedTransactionAsync(transactionHash, handler);
         }
         throw new IllegalArgumentException("Invalid group " + group);
     }
 
-    private List<TransactionInfoDTO> getBasicTransactions(TransactionGroup group, List<String> transactionHashes)
-        throws ApiException {
+    private Call getBasicTransactions(TransactionGroup group, List<String> transactionHashes,
+        ApiCallback<List<TransactionInfoDTO>> handler) throws ApiException {
         TransactionIds transactionIds = new TransactionIds().transactionIds(transactionHashes);
         switch (group) {
             case CONFIRMED:
-                return getClient().getConfirmedTransactions(transactionIds);
+                return getClient().getConfirmedTransactionsAsync(transactionIds, handler);
             case PARTIAL:
-                return getClient().getPartialTransactions(transactionIds);
+                return getClient().getPartialTransactionsAsync(transactionIds, handler);
             case UNCONFIRMED:
-                return getClient().getUnconfirmedTransactions(transactionIds);
+                return getClient().getUnconfirmedTransactionsAsync(transactionIds, handler);
         }
         throw new IllegalArgumentException("Invalid group " + group);
     }
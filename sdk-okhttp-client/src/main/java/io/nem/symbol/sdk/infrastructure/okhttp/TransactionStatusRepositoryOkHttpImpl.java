@@ -12,7 +12,6 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionHashes;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionStatusDTO;
 import io.reactivex.Observable;
 import java.util.List;
-import java.util.concurrent.Callable;
 
 /**
  * Implementation of {@link io.nem.symbol.sdk.api.TransactionStatusRepository}
@@ -29,8 +28,8 @@ public class TransactionStatusRepositoryOkHttpImpl extends AbstractRepositoryOkH
 
     @Override
     public Observable<TransactionStatus> getTransactionStatus(String transactionHash) {
-        Callable<TransactionStatusDTO> callback = () -> getClient()
-            .getTransactionStatus(transactionHash);
+        AsyncCall<TransactionStatusDTO> callback = handler -> getClient()
+            .getTransactionStatusAsync(transactionHash, handler);
         return exceptionHandling(call(callback).map(this::toTransactionStatus));
     }
 
@@ -47,8 +46,8 @@ public class TransactionStatusRepositoryOkHttpImpl extends AbstractRepositoryOkH
     @Override
     public Observable<List<TransactionStatus>> getTransactionStatuses(
         List<String> transactionHashes) {
-        Callable<List<TransactionStatusDTO>> callback = () ->
-            getClient().getTransactionStatuses(new TransactionHashes().hashes(transactionHashes));
+        AsyncCall<List<TransactionStatusDTO>> callback = handler ->
+            getClient().getTransactionStatusesAsync(new TransactionHashes().hashes(transactionHashes), handler);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransactionStatus).toList()
                 .toObservable());
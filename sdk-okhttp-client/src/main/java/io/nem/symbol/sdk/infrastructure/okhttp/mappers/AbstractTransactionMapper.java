@@ -32,6 +32,7 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.NetworkTypeEnum;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionMetaDTO;
+import java.math.BigInteger;
 
 /**
  * Abstract transaction mapper for the transaction mappers that support a specific type of transaction (Account Link,
@@ -48,11 +49,14 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction> implem
 
     private final Class<D> transactionDtoClass;
 
+    private final TransactionDtoSetters<D> commonSetters;
+
     public AbstractTransactionMapper(JsonHelper jsonHelper, TransactionType transactionType,
         Class<D> transactionDtoClass) {
         this.jsonHelper = jsonHelper;
         this.transactionType = transactionType;
         this.transactionDtoClass = transactionDtoClass;
+        this.commonSetters = new TransactionDtoSetters<>(transactionDtoClass);
     }
     @Override
     public Transaction mapFromDto(Object object) {
@@ -77,22 +81,15 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction> implem
         if (meta == null) {
             return null;
         }
-        if (this.jsonHelper.contains(meta, "aggregateHash")) {
-            EmbeddedTransactionMetaDTO embedded = this.jsonHelper.convert(meta, EmbeddedTransactionMetaDTO.class);
-            return TransactionInfo.createAggregate(
-                embedded.getHeight(),
-                embedded.getIndex(),
-                id,
-                embedded.getAggregateHash(),
-                embedded.getAggregateId());
+        BigInteger height = this.jsonHelper.getBigInteger(meta, "height");
+        Integer index = this.jsonHelper.getInteger(meta, "index");
+        String aggregateHash = this.jsonHelper.getString(meta, "aggregateHash");
+        if (aggregateHash != null) {
+            return TransactionInfo
+                .createAggregate(height, index, id, aggregateHash, this.jsonHelper.getString(meta, "aggregateId"));
         } else {
-            TransactionMetaDTO toplevel = this.jsonHelper.convert(meta, TransactionMetaDTO.class);
-            return TransactionInfo.create(
-                toplevel.getHeight(),
-                toplevel.getIndex(),
-                id,
-                toplevel.getHash(),
-                toplevel.getMerkleComponentHash());
+            return TransactionInfo.create(height, index, id, this.jsonHelper.getString(meta, "hash"),
+                this.jsonHelper.getString(meta, "merkleComponentHash"));
         }
     }
 
@@ -118,25 +115,29 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction> implem
 
     protected final TransactionFactory<T> createFactory(TransactionInfo transactionInfo, Object transactionDto) {
         D transaction = getJsonHelper().convert(transactionDto, transactionDtoClass);
-        TransactionDTO transactionDTO = getJsonHelper()
-            .convert(transactionDto, TransactionDTO.class);
-        NetworkType networkType = NetworkType.rawValueOf(transactionDTO.getNetwork().getValue());
+        // The common attributes are read from the specific dto, the transaction json is decoded once.
+        NetworkType networkType = NetworkType.rawValueOf(getJsonHelper().getInteger(transaction, "network"));
         TransactionFactory<T> factory = createFactory(networkType, transaction);
-        factory.version(transactionDTO.getVersion());
-        if (transactionDTO.getDeadline() != null) {
-            factory.deadline(new Deadline(transactionDTO.getDeadline()));
+        factory.version(getJsonHelper().getInteger(transaction, "version"));
+        BigInteger deadline = getJsonHelper().getBigInteger(transaction, "deadline");
+        if (deadline != null) {
+            factory.deadline(new Deadline(deadline));
         }
-        if (transactionDTO.getSignerPublicKey() != null) {
-            factory.signer(PublicAccount.createFromPublicKey(transactionDTO.getSignerPublicKey(), networkType));
+        String signerPublicKey = getJsonHelper().getString(transaction, "signerPublicKey");
+        if (signerPublicKey != null) {
+            factory.signer(PublicAccount.createFromPublicKey(signerPublicKey, networkType));
         }
-        if (transactionDTO.getSignature() != null) {
-            factory.signature(transactionDTO.getSignature());
+        String signature = getJsonHelper().getString(transaction, "signature");
+        if (signature != null) {
+            factory.signature(signature);
         }
-        if (transactionDTO.getMaxFee() != null) {
-            factory.maxFee(transactionDTO.getMaxFee());
+        BigInteger maxFee = getJsonHelper().getBigInteger(transaction, "maxFee");
+        if (maxFee != null) {
+            factory.maxFee(maxFee);
         }
-        if (transactionDTO.getSize() != null) {
-            factory.size(transactionDTO.getSize());
+        Long size = getJsonHelper().getLong(transaction, "size");
+        if (size != null) {
+            factory.size(size);
         }
         if (transactionInfo != null) {
             factory.transactionInfo(transactionInfo);
@@ -175,28 +176,32 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction> implem
 
 
     private D mapTransaction(Transaction transaction, boolean embedded) {
-
-        TransactionDTO dto = new TransactionDTO();
-        dto.setSignerPublicKey(
-            transaction.getSigner().map(PublicAccount::getPublicKey).map(PublicKey::toHex)
-                .orElse(null));
-
-        dto.setVersion(transaction.getVersion());
-        dto.setNetwork(NetworkTypeEnum.fromValue(transaction.getNetworkType().getValue()));
-        dto.setType(transaction.getType().getValue());
+        TransactionDTO common = new TransactionDTO();
+        common.setSignerPublicKey(
+            transaction.getSigner().map(PublicAccount::getPublicKey).map(PublicKey::toHex).orElse(null));
+        common.setVersion(transaction.getVersion());
+        common.setNetwork(NetworkTypeEnum.fromValue(transaction.getNetworkType().getValue()));
+        common.setType(transaction.getType().getValue());
 
         if (!embedded) {
-            dto.setSize(transaction.getSize());
-            dto.setMaxFee(transaction.getMaxFee());
-            dto.setDeadline(transaction.getDeadline().toBigInteger());
-            dto.setSignature(transaction.getSignature().orElse(null));
+            common.setSize(transaction.getSize());
+            common.setMaxFee(transaction.getMaxFee());
+            common.setDeadline(transaction.getDeadline().toBigInteger());
+            common.setSignature(transaction.getSignature().orElse(null));
         }
-
-        D specificDto = getJsonHelper().parse(getJsonHelper().print(dto), transactionDtoClass);
-        copyToDto((T) transaction, specificDto);
-        return specificDto;
+        D dto = createDto();
+        commonSetters.copy(common, dto);
+        copyToDto((T) transaction, dto);
+        return dto;
     }
 
+    /**
+     * Subclasses create their empty specific transaction dto. The attributes shared by all the transaction dtos, like
+     * maxFee or deadline, are copied by this abstract class.
+     *
+     * @return the specific transaction dto.
+     */
+    protected abstract D createDto();
 
     /**
      * Subclasses need to map the values from the transaction model to the transaction dto. Only the specific fields
@@ -45,6 +45,11 @@ class AccountKeyLinkTransactionMapper extends
             LinkAction.rawValueOf(dto.getLinkAction().getValue()));
     }
 
+    @Override
+    protected AccountKeyLinkTransactionDTO createDto() {
+        return new AccountKeyLinkTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(AccountKeyLinkTransaction transaction,
         AccountKeyLinkTransactionDTO dto) {
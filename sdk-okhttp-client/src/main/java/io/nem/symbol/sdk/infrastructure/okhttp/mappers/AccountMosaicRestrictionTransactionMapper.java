@@ -53,6 +53,11 @@ public class AccountMosaicRestrictionTransactionMapper extends
         return AccountMosaicRestrictionTransactionFactory.create(networkType, restrictionFlags, additions, deletions);
     }
 
+    @Override
+    protected AccountMosaicRestrictionTransactionDTO createDto() {
+        return new AccountMosaicRestrictionTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(AccountMosaicRestrictionTransaction transaction,
         AccountMosaicRestrictionTransactionDTO dto) {
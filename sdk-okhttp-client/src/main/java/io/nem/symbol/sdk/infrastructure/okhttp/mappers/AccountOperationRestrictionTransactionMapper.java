@@ -56,6 +56,11 @@ public class AccountOperationRestrictionTransactionMapper extends
             .create(networkType, restrictionFlags, additions, deletions);
     }
 
+    @Override
+    protected AccountOperationRestrictionTransactionDTO createDto() {
+        return new AccountOperationRestrictionTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(AccountOperationRestrictionTransaction transaction,
         AccountOperationRestrictionTransactionDTO dto) {
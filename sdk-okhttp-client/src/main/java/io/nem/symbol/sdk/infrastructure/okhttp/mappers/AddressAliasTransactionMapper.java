@@ -53,6 +53,11 @@ class AddressAliasTransactionMapper extends
             MapperUtils.toAddress(transaction.getAddress()));
     }
 
+    @Override
+    protected AddressAliasTransactionDTO createDto() {
+        return new AddressAliasTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(AddressAliasTransaction transaction, AddressAliasTransactionDTO dto) {
         dto.setAddress(transaction.getAddress().encoded(transaction.getNetworkType()));
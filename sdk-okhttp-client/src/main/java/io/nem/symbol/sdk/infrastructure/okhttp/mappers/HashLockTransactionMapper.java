@@ -50,6 +50,11 @@ class HashLockTransactionMapper extends
             transaction.getDuration(), transaction.getHash());
     }
 
+    @Override
+    protected HashLockTransactionDTO createDto() {
+        return new HashLockTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(HashLockTransaction transaction, HashLockTransactionDTO dto) {
         dto.setMosaicId(MapperUtils.getIdAsHex(transaction.getMosaic().getId()));
@@ -51,6 +51,11 @@ class MosaicAddressRestrictionTransactionMapper extends
             .previousRestrictionValue(transaction.getPreviousRestrictionValue());
     }
 
+    @Override
+    protected MosaicAddressRestrictionTransactionDTO createDto() {
+        return new MosaicAddressRestrictionTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(MosaicAddressRestrictionTransaction transaction,
         MosaicAddressRestrictionTransactionDTO dto) {
@@ -53,6 +53,11 @@ class MosaicAliasTransactionMapper extends
             MapperUtils.toMosaicId(transaction.getMosaicId()));
     }
 
+    @Override
+    protected MosaicAliasTransactionDTO createDto() {
+        return new MosaicAliasTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(MosaicAliasTransaction transaction, MosaicAliasTransactionDTO dto) {
         dto.setAliasAction(
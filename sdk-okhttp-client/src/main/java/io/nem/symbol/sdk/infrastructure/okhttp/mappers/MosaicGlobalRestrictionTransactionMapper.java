@@ -64,6 +64,11 @@ class MosaicGlobalRestrictionTransactionMapper extends
             .previousRestrictionType(MosaicRestrictionType.rawValueOf(prevRestrictionType));
     }
 
+    @Override
+    protected MosaicGlobalRestrictionTransactionDTO createDto() {
+        return new MosaicGlobalRestrictionTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(MosaicGlobalRestrictionTransaction transaction,
         MosaicGlobalRestrictionTransactionDTO dto) {
@@ -62,6 +62,11 @@ class MosaicMetadataTransactionMapper extends
         return factory;
     }
 
+    @Override
+    protected MosaicMetadataTransactionDTO createDto() {
+        return new MosaicMetadataTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(MosaicMetadataTransaction transaction,
         MosaicMetadataTransactionDTO dto) {
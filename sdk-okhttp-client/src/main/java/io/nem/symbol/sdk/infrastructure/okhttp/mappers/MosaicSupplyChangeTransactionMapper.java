@@ -49,6 +49,11 @@ class MosaicSupplyChangeTransactionMapper extends
             transaction.getDelta());
     }
 
+    @Override
+    protected MosaicSupplyChangeTransactionDTO createDto() {
+        return new MosaicSupplyChangeTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(MosaicSupplyChangeTransaction transaction,
         MosaicSupplyChangeTransactionDTO dto) {
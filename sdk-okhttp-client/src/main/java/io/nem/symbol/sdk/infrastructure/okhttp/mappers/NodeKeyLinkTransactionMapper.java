@@ -45,6 +45,11 @@ public class NodeKeyLinkTransactionMapper extends
         return NodeKeyLinkTransactionFactory.create(networkType, linkedPublicKey, linkAction);
     }
 
+    @Override
+    protected NodeKeyLinkTransactionDTO createDto() {
+        return new NodeKeyLinkTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(NodeKeyLinkTransaction transaction, NodeKeyLinkTransactionDTO dto) {
         dto.setLinkAction(LinkActionEnum.fromValue((int) transaction.getLinkAction().getValue()));
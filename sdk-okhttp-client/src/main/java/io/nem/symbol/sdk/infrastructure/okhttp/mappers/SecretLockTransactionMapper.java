@@ -56,6 +56,11 @@ class SecretLockTransactionMapper extends
             MapperUtils.toUnresolvedAddress(transaction.getRecipientAddress()));
     }
 
+    @Override
+    protected SecretLockTransactionDTO createDto() {
+        return new SecretLockTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(SecretLockTransaction transaction, SecretLockTransactionDTO dto) {
         dto.setAmount(transaction.getMosaic().getAmount());
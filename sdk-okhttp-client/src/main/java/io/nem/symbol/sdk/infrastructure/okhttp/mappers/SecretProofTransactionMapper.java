@@ -48,6 +48,11 @@ class SecretProofTransactionMapper extends
             transaction.getProof());
     }
 
+    @Override
+    protected SecretProofTransactionDTO createDto() {
+        return new SecretProofTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(SecretProofTransaction transaction, SecretProofTransactionDTO dto) {
         dto.setHashAlgorithm(LockHashAlgorithmEnum.fromValue(transaction.getHashType().getValue()));
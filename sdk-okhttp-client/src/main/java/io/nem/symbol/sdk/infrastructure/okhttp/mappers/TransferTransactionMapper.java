@@ -76,6 +76,11 @@ class TransferTransactionMapper extends
             message);
     }
 
+    @Override
+    protected TransferTransactionDTO createDto() {
+        return new TransferTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(TransferTransaction transaction, TransferTransactionDTO dto) {
         List<UnresolvedMosaic> mosaics = new ArrayList<>();
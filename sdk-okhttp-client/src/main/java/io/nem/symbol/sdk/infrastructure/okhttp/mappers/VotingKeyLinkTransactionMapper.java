@@ -46,6 +46,11 @@ public class VotingKeyLinkTransactionMapper extends
             .create(networkType, linkedPublicKey, transaction.getStartPoint(), transaction.getEndPoint(), linkAction);
     }
 
+    @Override
+    protected VotingKeyLinkTransactionDTO createDto() {
+        return new VotingKeyLinkTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(VotingKeyLinkTransaction transaction, VotingKeyLinkTransactionDTO dto) {
         dto.setLinkAction(LinkActionEnum.fromValue((int) transaction.getLinkAction().getValue()));
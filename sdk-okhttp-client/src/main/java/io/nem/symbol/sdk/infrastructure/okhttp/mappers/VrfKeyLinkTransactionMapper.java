@@ -45,6 +45,11 @@ public class VrfKeyLinkTransactionMapper extends
         return VrfKeyLinkTransactionFactory.create(networkType, linkedPublicKey, linkAction);
     }
 
+    @Override
+    protected VrfKeyLinkTransactionDTO createDto() {
+        return new VrfKeyLinkTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(VrfKeyLinkTransaction transaction, VrfKeyLinkTransactionDTO dto) {
         dto.setLinkAction(LinkActionEnum.fromValue((int) transaction.getLinkAction().getValue()));
@@ -21,6 +21,7 @@ import io.nem.symbol.core.utils.HttpStatus;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
+import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiException;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiResponse;
@@ -34,6 +35,7 @@ import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
 
 /**
  * Abstract class for all the unit tests related to OkHttp repositories.
@@ -85,6 +87,11 @@ public abstract class AbstractOkHttpRespositoryTest {
 
         Mockito.doReturn(apiResponse).when(apiClientMock).execute(Mockito.any(),
             Mockito.any(Type.class));
+        Mockito.doAnswer((Answer<Void>) invocationOnMock -> {
+            ApiCallback<T> callback = (ApiCallback<T>) invocationOnMock.getArguments()[2];
+            callback.onSuccess(value, 200, headers);
+            return null;
+        }).when(apiClientMock).executeAsync(Mockito.any(), Mockito.any(Type.class), Mockito.any());
         return captor;
     }
 
@@ -123,6 +130,11 @@ public abstract class AbstractOkHttpRespositoryTest {
 
         Mockito.doThrow(exception).when(apiClientMock).execute(Mockito.any(),
             Mockito.any(Type.class));
+        Mockito.doAnswer((Answer<Void>) invocationOnMock -> {
+            ApiCallback<?> callback = (ApiCallback<?>) invocationOnMock.getArguments()[2];
+            callback.onFailure(exception, statusCode, headers);
+            return null;
+        }).when(apiClientMock).executeAsync(Mockito.any(), Mockito.any(Type.class), Mockito.any());
     }
 
     protected abstract AbstractRepositoryOkHttpImpl getRepository();
@@ -19,7 +19,18 @@ package io.nem.symbol.sdk.infrastructure.okhttp;
 import io.nem.symbol.sdk.model.blockchain.BlockchainScore;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.ChainScoreDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.HeightInfoDTO;
+import io.reactivex.observers.TestObserver;
+import java.io.InterruptedIOException;
 import java.math.BigInteger;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,6 +73,62 @@ public class ChainRepositoryOkHttpImplTest extends AbstractOkHttpRespositoryTest
             blockchainScore.getScoreHigh());
     }
 
+    @Test
+    public void shouldNotBlockTheSubscribingThread() throws Exception {
+        CountDownLatch responseLatch = mockDelayedResponse("{\"height\":\"8\"}");
+        AtomicReference<Thread> emittingThread = new AtomicReference<>();
+
+        TestObserver<BigInteger> observer = repository.getBlockchainHeight()
+            .doOnNext(height -> emittingThread.set(Thread.currentThread())).test();
+        observer.assertNoValues();
+        observer.assertNotTerminated();
+
+        responseLatch.countDown();
+        Assertions.assertTrue(observer.await(10, TimeUnit.SECONDS));
+        observer.assertValue(BigInteger.valueOf(8));
+        Assertions.assertNotNull(emittingThread.get());
+        Assertions.assertNotEquals(Thread.currentThread(), emittingThread.get());
+    }
+
+    @Test
+    public void shouldCancelTheCallWhenDisposed() throws Exception {
+        CountDownLatch responseLatch = mockDelayedResponse("{\"height\":\"8\"}");
+        TestObserver<BigInteger> observer = repository.getBlockchainHeight().test();
+        Call call = waitForRunningCall();
+
+        observer.dispose();
+        Assertions.assertTrue(call.isCanceled());
+        responseLatch.countDown();
+        observer.assertNoValues();
+    }
+
+    private Call waitForRunningCall() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (!apiClientMock.getHttpClient().dispatcher().runningCalls().isEmpty()) {
+                return apiClientMock.getHttpClient().dispatcher().runningCalls().get(0);
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("The call has not been enqueued");
+    }
+
+    /**
+     * It mocks the http client, the response is returned once the returned latch is released.
+     */
+    private CountDownLatch mockDelayedResponse(String body) {
+        CountDownLatch responseLatch = new CountDownLatch(1);
+        apiClientMock.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            try {
+                responseLatch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException(e.getMessage());
+            }
+            return new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1).code(200)
+                .message("OK").body(ResponseBody.create(MediaType.parse("application/json"), body)).build();
+        }).build());
+        return responseLatch;
+    }
+
     @Override
     public ChainRepositoryOkHttpImpl getRepository() {
         return repository;
@@ -19,6 +19,8 @@ package io.nem.symbol.sdk.infrastructure.okhttp;
 
 import io.nem.symbol.sdk.api.JsonSerialization;
 import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -42,4 +44,24 @@ public class JsonSerializationOkHttpTest {
         Assertions.assertNotNull(mappedJson);
     }
 
+    @Test
+    public void transactionsToJson() {
+        Transaction aggregate = jsonSerialization
+            .jsonToTransaction(TestHelperOkHttp.loadResource("transaction-aggregateTransferTransaction.json"));
+        Transaction transfer = jsonSerialization
+            .jsonToTransaction(TestHelperOkHttp.loadResource("transaction-standaloneTransferTransaction.json"));
+        StringWriter writer = new StringWriter();
+
+        Long count = jsonSerialization.transactionsToJson(Observable.just(aggregate, transfer), writer)
+            .blockingFirst();
+
+        Assertions.assertEquals(2, count.longValue());
+        Assertions.assertEquals(
+            jsonSerialization.transactionToJson(aggregate) + "\n" + jsonSerialization.transactionToJson(transfer)
+                + "\n", writer.toString());
+        String[] lines = writer.toString().split("\n");
+        Assertions.assertEquals(jsonSerialization.transactionToJson(transfer),
+            jsonSerialization.transactionToJson(jsonSerialization.jsonToTransaction(lines[1])));
+    }
+
 }
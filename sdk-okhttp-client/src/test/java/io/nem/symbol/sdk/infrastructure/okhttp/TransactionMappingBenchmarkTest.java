@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.okhttp;
+
+import com.google.gson.JsonObject;
+import io.nem.symbol.sdk.infrastructure.okhttp.mappers.GeneralTransactionMapper;
+import io.nem.symbol.sdk.model.transaction.JsonHelper;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.openapi.okhttp_gson.model.Pagination;
+import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionDTO;
+import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionMetaDTO;
+import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionPage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Manual benchmark of the json conversions and the mapping of a 100 transactions search page. It's skipped by
+ * default, run it with:
+ *
+ * <pre>
+ * ./gradlew :symbol-sdk-okhttp-client:test --tests '*TransactionMappingBenchmarkTest' -Dbenchmark=true
+ * </pre>
+ *
+ * <p>The conversion cases compare the {@link JsonHelper#convert(Object, Class)} of each transaction into a
+ * TransactionDTO through the json tree with the previous print and parse round trip.
+ *
+ * <p>The legacy case replays the JSON string round trips the mappers did before mapping each transaction: the type
+ * lookup, the transaction info, the specific and the common transaction dtos and the meta. The inner transactions of
+ * the aggregates are not replayed, so it's a lower bound of the previous cost.
+ *
+ * <p>Every case parses the page first.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TransactionMappingBenchmarkTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final int WARMUP_ITERATIONS = 500;
+
+    private static final int ITERATIONS = 500;
+
+    private static final int ROUNDS = 5;
+
+    private static final String CLIENT = "okhttp";
+
+    private static final List<String> FIXTURES = Arrays
+        .asList("standaloneTransferTransaction.json", "aggregateTransferTransaction.json",
+            "standaloneMosaicCreationTransaction.json", "standaloneRootNamespaceCreationTransaction.json",
+            "aggregateMosaicCreationTransaction.json", "standaloneSecretLockTransaction.json",
+            "standaloneLockFundsTransaction.json", "standaloneMultisigModificationTransaction.json");
+
+    private final JsonHelper jsonHelper = new JsonHelperGson();
+
+    private final GeneralTransactionMapper mapper = new GeneralTransactionMapper(jsonHelper);
+
+    private final String pageJson = jsonHelper.print(createPage());
+
+    @Test
+    void mapSearchPage() {
+        Map<String, ToIntFunction<String>> cases = new LinkedHashMap<>();
+        cases.put("page parsing", json -> parse(json).getData().size());
+        cases.put("tree conversions", json -> parse(json).getData().stream()
+            .mapToInt(info -> jsonHelper.convert(info.getTransaction(), TransactionDTO.class).getType()).sum());
+        cases.put("string round trip conversions", json -> parse(json).getData().stream()
+            .mapToInt(info -> roundTrip(info.getTransaction(), TransactionDTO.class).getType()).sum());
+        cases.put("mapping", json -> map(parse(json)));
+        cases.put("legacy round trips + mapping", json -> {
+            TransactionPage page = parse(json);
+            return page.getData().stream().mapToInt(this::replayLegacyRoundTrips).sum() + map(page);
+        });
+        cases.values().forEach(operation -> run(operation, WARMUP_ITERATIONS));
+        cases.forEach((name, operation) -> {
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                best = Math.min(best, run(operation, ITERATIONS));
+            }
+            System.out.printf("%s %-30s %10.1f pages/s %10.2f us/transaction%n", CLIENT, name,
+                ITERATIONS * 1_000_000_000.0 / best, best / 1000.0 / ITERATIONS / PAGE_SIZE);
+        });
+    }
+
+    private TransactionPage createPage() {
+        List<TransactionInfoDTO> data = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            data.add(TestHelperOkHttp.loadTransactionInfoDTO(FIXTURES.get(i % FIXTURES.size())));
+        }
+        return new TransactionPage().data(data)
+            .pagination(new Pagination().pageNumber(1).pageSize(PAGE_SIZE).totalEntries(PAGE_SIZE).totalPages(1));
+    }
+
+    private TransactionPage parse(String json) {
+        return jsonHelper.parse(json, TransactionPage.class);
+    }
+
+    private int map(TransactionPage page) {
+        int size = 0;
+        for (TransactionInfoDTO transactionInfoDTO : page.getData()) {
+            Transaction transaction = mapper.mapFromDto(transactionInfoDTO);
+            size += transaction.getSize();
+        }
+        return size;
+    }
+
+    private int replayLegacyRoundTrips(TransactionInfoDTO transactionInfoDTO) {
+        JsonObject typeLookup = roundTrip(transactionInfoDTO, JsonObject.class);
+        TransactionInfoDTO info = roundTrip(transactionInfoDTO, TransactionInfoDTO.class);
+        TransactionDTO specific = roundTrip(info.getTransaction(), TransactionDTO.class);
+        TransactionDTO common = roundTrip(info.getTransaction(), TransactionDTO.class);
+        TransactionMetaDTO meta = roundTrip(info.getMeta(), TransactionMetaDTO.class);
+        return typeLookup.size() + specific.getType() + common.getVersion() + (meta == null ? 0 : 1);
+    }
+
+    private <T> T roundTrip(Object object, Class<T> instanceClass) {
+        return jsonHelper.parse(jsonHelper.print(object), instanceClass);
+    }
+
+    /**
+     * @return the elapsed nanos.
+     */
+    private long run(ToIntFunction<String> operation, int iterations) {
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            checksum += operation.applyAsInt(pageJson);
+        }
+        long elapsed = System.nanoTime() - start;
+        Assertions.assertTrue(checksum > 0);
+        return elapsed;
+    }
+}
@@ -20,6 +20,7 @@ import static io.nem.symbol.sdk.infrastructure.okhttp.TestHelperOkHttp.loadTrans
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.RepositoryCallException;
 import io.nem.symbol.sdk.api.TransactionSearchCriteria;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
@@ -45,6 +46,14 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionPage;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -281,6 +290,102 @@ public class TransactionRepositoryOkHttpImplTest extends AbstractOkHttpResposito
 
     }
 
+    @Test
+    public void searchTransactionsStreaming() throws Exception {
+
+        TransactionInfoDTO transferTransactionDTO = loadTransactionInfoDTO("standaloneTransferTransaction.json",
+            TransactionInfoDTO.class);
+        TransactionInfoDTO aggregateTransactionDTO = loadTransactionInfoDTO(
+            "aggregateMosaicCreationTransaction.json", TransactionInfoDTO.class);
+        TransactionPage page = new TransactionPage()
+            .data(Arrays.asList(transferTransactionDTO, aggregateTransactionDTO))
+            .pagination(new Pagination().pageNumber(1).pageSize(2).totalEntries(3).totalPages(4));
+
+        mockRemoteResponse(200, jsonHelper.print(page));
+        TransactionRepositoryOkHttpImpl streamingRepository = new TransactionRepositoryOkHttpImpl(apiClientMock, true);
+
+        Page<Transaction> transactions = streamingRepository
+            .search(new TransactionSearchCriteria(TransactionGroup.CONFIRMED).pageSize(2)).toFuture().get();
+        Assertions.assertEquals(2, transactions.getData().size());
+        Assertions.assertEquals(TransactionType.TRANSFER, transactions.getData().get(0).getType());
+        Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, transactions.getData().get(1).getType());
+        Assertions.assertEquals(TransactionGroup.CONFIRMED, transactions.getData().get(1).getGroup().get());
+        Assertions.assertEquals(1, transactions.getPageNumber());
+        Assertions.assertEquals(2, transactions.getPageSize());
+        Assertions.assertEquals(3, transactions.getTotalEntries());
+        Assertions.assertEquals(4, transactions.getTotalPages());
+
+        mockRemoteCall(page);
+        Page<Transaction> expected = repository
+            .search(new TransactionSearchCriteria(TransactionGroup.CONFIRMED).pageSize(2)).toFuture().get();
+        for (int i = 0; i < expected.getData().size(); i++) {
+            Assertions
+                .assertArrayEquals(expected.getData().get(i).serialize(), transactions.getData().get(i).serialize());
+            Assertions.assertEquals(expected.getData().get(i).getTransactionInfo().get().getHash(),
+                transactions.getData().get(i).getTransactionInfo().get().getHash());
+        }
+    }
+
+    @Test
+    public void searchTransactionsStreamingError() {
+        mockRemoteResponse(404, "{\"code\":\"ResourceNotFound\",\"message\":\"Not found\"}");
+        TransactionRepositoryOkHttpImpl streamingRepository = new TransactionRepositoryOkHttpImpl(apiClientMock, true);
+
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+            () -> streamingRepository.search(new TransactionSearchCriteria(TransactionGroup.PARTIAL)).toFuture()
+                .get());
+        Assertions.assertTrue(exception.getCause() instanceof RepositoryCallException);
+        Assertions.assertEquals("ApiException: Not Found - 404 - ResourceNotFound - Not found",
+            exception.getCause().getMessage());
+        Assertions.assertEquals(404, ((RepositoryCallException) exception.getCause()).getStatusCode());
+    }
+
+    @Test
+    public void searchTransactionsStreamingClosesBody() throws Exception {
+        TransactionPage page = new TransactionPage().data(Collections.emptyList())
+            .pagination(new Pagination().pageNumber(1).pageSize(2).totalEntries(0).totalPages(0));
+        AtomicBoolean closed = new AtomicBoolean();
+        ResponseBody body = ResponseBody.create(MediaType.parse("application/json"), jsonHelper.print(page));
+        mockRemoteResponse(200, new ResponseBody() {
+            @Override
+            public MediaType contentType() {
+                return body.contentType();
+            }
+
+            @Override
+            public long contentLength() {
+                return body.contentLength();
+            }
+
+            @Override
+            public BufferedSource source() {
+                return body.source();
+            }
+
+            @Override
+            public void close() {
+                closed.set(true);
+                body.close();
+            }
+        });
+        TransactionRepositoryOkHttpImpl streamingRepository = new TransactionRepositoryOkHttpImpl(apiClientMock, true);
+
+        Page<Transaction> transactions = streamingRepository
+            .search(new TransactionSearchCriteria(TransactionGroup.CONFIRMED)).toFuture().get();
+        Assertions.assertTrue(transactions.getData().isEmpty());
+        Assertions.assertTrue(closed.get());
+    }
+
+    private void mockRemoteResponse(int code, String body) {
+        mockRemoteResponse(code, ResponseBody.create(MediaType.parse("application/json"), body));
+    }
+
+    private void mockRemoteResponse(int code, ResponseBody body) {
+        apiClientMock.setHttpClient(new OkHttpClient.Builder().addInterceptor(
+            chain -> new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1).code(code)
+                .message(code == 200 ? "OK" : "Not Found").body(body).build()).build());
+    }
+
     private TransactionPage toPage(TransactionInfoDTO dto) {
         return new TransactionPage()
             .data(Collections.singletonList(jsonHelper.parse(jsonHelper.print(dto), TransactionInfoDTO.class)))
@@ -20,19 +20,28 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
 import java.io.IOException;
+import java.io.Writer;
 import java.math.BigInteger;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -45,6 +54,12 @@ public class JsonHelperJackson2 implements JsonHelper {
 
     private final ObjectMapper objectMapper;
 
+    /**
+     * The property writers by name of the types Jackson serializes as beans.
+     */
+    private final Map<Class<?>, Optional<Map<String, BeanPropertyWriter>>> beanProperties =
+        new ConcurrentHashMap<>();
+
     public JsonHelperJackson2(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
     }
@@ -113,6 +128,16 @@ public class JsonHelperJackson2 implements JsonHelper {
         }
     }
 
+    @Override
+    public void print(Object object, Writer writer) {
+        try {
+            objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).writeValue(writer, object);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public String prettyPrint(Object object) {
         try {
@@ -137,19 +162,38 @@ public class JsonHelperJackson2 implements JsonHelper {
 
     @Override
     public <T> T convert(Object object, Class<T> instanceClass, String... path) {
-        Object child = path.length == 0 ? object : getNode(convert(object, JsonNode.class), path);
+        Object child = path.length == 0 ? object : getNode(object, path);
         if (child == null) {
             return null;
         }
         if (instanceClass.isInstance(child)) {
             return (T) child;
         }
-        return parse(print(child), instanceClass);
+        JsonNode tree = valueToTree(child);
+        if (instanceClass.isInstance(tree)) {
+            return (T) tree;
+        }
+        try {
+            return objectMapper.treeToValue(tree, instanceClass);
+        } catch (Exception e) {
+            throw handleException(e, "Json payload: " + tree);
+        }
+    }
+
+    private JsonNode valueToTree(Object object) {
+        try {
+            if (object instanceof JsonNode) {
+                return (JsonNode) object;
+            }
+            return objectMapper.valueToTree(object);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
     }
 
     @Override
     public Integer getInteger(Object object, String... path) {
-        JsonNode child = getNode(convert(object, JsonNode.class), path);
+        JsonNode child = getNode(object, path);
         if (child == null || child.isNull()) {
             return null;
         }
@@ -161,7 +205,7 @@ public class JsonHelperJackson2 implements JsonHelper {
 
     @Override
     public String getString(Object object, String... path) {
-        JsonNode child = getNode(convert(object, JsonNode.class), path);
+        JsonNode child = getNode(object, path);
         if (child == null || child.isNull()) {
             return null;
         }
@@ -173,7 +217,7 @@ public class JsonHelperJackson2 implements JsonHelper {
 
     @Override
     public Long getLong(Object object, String... path) {
-        JsonNode child = getNode(convert(object, JsonNode.class), path);
+        JsonNode child = getNode(object, path);
         if (child == null || child.isNull()) {
             return null;
         }
@@ -186,7 +230,7 @@ public class JsonHelperJackson2 implements JsonHelper {
     @Override
     @SuppressWarnings("squid:S2447")
     public Boolean getBoolean(Object object, String... path) {
-        JsonNode child = getNode(convert(object, JsonNode.class), path);
+        JsonNode child = getNode(object, path);
         if (child == null || child.isNull()) {
             return null;
         }
@@ -207,33 +251,109 @@ public class JsonHelperJackson2 implements JsonHelper {
 
     @Override
     public boolean contains(Object object, String... path) {
-        JsonNode child = getNode(convert(object, JsonNode.class), path);
+        JsonNode child = getNode(object, path);
         return child != null && !child.isNull();
     }
 
-    private JsonNode getNode(final JsonNode parent, final String... path) {
-        JsonNode child = parent;
-        if (child == null) {
+    /**
+     * It finds the json node of the given path. The properties of the objects Jackson serializes as beans, like the
+     * generated DTOs, are read using their property writers, only the found property is converted to a json node.
+     *
+     * @param parent the json node, the map or the object.
+     * @param path the path of attributes.
+     * @return the found json node or null if the path doesn't exist.
+     */
+    private JsonNode getNode(final Object parent, final String... path) {
+        Object child = parent;
+        for (int i = 0; i < path.length; i++) {
+            if (child == null) {
+                return null;
+            }
+            if (i == path.length - 1) {
+                return getAttributeNode(child, path[i]);
+            }
+            child = getAttribute(child, path[i]);
+        }
+        return child == null ? null : valueToTree(child);
+    }
+
+    private Object getAttribute(Object object, String attribute) {
+        if (object instanceof JsonNode) {
+            return ((JsonNode) object).isObject() ? ((JsonNode) object).get(attribute) : null;
+        }
+        if (object instanceof Map) {
+            return ((Map<?, ?>) object).get(attribute);
+        }
+        Map<String, BeanPropertyWriter> properties = getProperties(object.getClass());
+        if (properties == null) {
+            return getAttribute(valueToTree(object), attribute);
+        }
+        BeanPropertyWriter property = properties.get(attribute);
+        if (property == null) {
             return null;
         }
-        if (path.length == 0) {
-            return child;
+        try {
+            return property.get(object);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * It returns the json node of an attribute. Bean properties are serialized on their own so the mapper's
+     * inclusion rules, like not writing empty values, are applied.
+     *
+     * @param object the json node, the map or the object.
+     * @param attribute the attribute name.
+     * @return the json node or null if the object doesn't have the attribute.
+     */
+    private JsonNode getAttributeNode(Object object, String attribute) {
+        Map<String, BeanPropertyWriter> properties =
+            object instanceof JsonNode || object instanceof Map ? null : getProperties(object.getClass());
+        if (properties == null) {
+            Object value = getAttribute(object, attribute);
+            return value == null ? null : valueToTree(value);
         }
-        if (!child.isObject()) {
+        BeanPropertyWriter property = properties.get(attribute);
+        if (property == null) {
             return null;
         }
-        int index = 0;
-        for (String attribute : path) {
-            child = child.get(attribute);
-            if (child == null) {
-                return null;
+        try {
+            TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+            buffer.writeStartObject();
+            property.serializeAsField(object, buffer, objectMapper.getSerializerProviderInstance());
+            buffer.writeEndObject();
+            JsonNode node = objectMapper.readTree(buffer.asParser());
+            return node.get(property.getName());
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param type the object's type.
+     * @return the property writers by name if Jackson serializes the type as a bean or null if the type has a custom
+     * serializer.
+     */
+    private Map<String, BeanPropertyWriter> getProperties(Class<?> type) {
+        return beanProperties.computeIfAbsent(type, t -> {
+            JsonSerializer<Object> serializer;
+            try {
+                serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(t);
+            } catch (Exception e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
             }
-            index++;
-            if (index < path.length && !child.isObject()) {
-                return null;
+            if (!(serializer instanceof BeanSerializerBase)) {
+                return Optional.empty();
             }
-        }
-        return child;
+            Map<String, BeanPropertyWriter> properties = new HashMap<>();
+            serializer.properties().forEachRemaining(property -> {
+                if (property instanceof BeanPropertyWriter) {
+                    properties.put(property.getName(), (BeanPropertyWriter) property);
+                }
+            });
+            return Optional.of(properties);
+        }).orElse(null);
     }
 
     /**
@@ -22,6 +22,8 @@ import io.nem.symbol.sdk.infrastructure.vertx.mappers.GeneralTransactionMapper;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.openapi.vertx.model.TransactionInfoDTO;
+import io.reactivex.Observable;
+import java.io.Writer;
 import org.apache.commons.lang3.Validate;
 
 /**
@@ -50,4 +52,15 @@ public class JsonSerializationVertx implements JsonSerialization {
         Validate.notNull(json, "Json must not be null");
         return generalTransactionMapper.mapFromDto(jsonHelper.parse(json, TransactionInfoDTO.class));
     }
+
+    @Override
+    public Observable<Long> transactionsToJson(Observable<Transaction> transactions, Writer writer) {
+        Validate.notNull(transactions, "Transactions must not be null");
+        Validate.notNull(writer, "Writer must not be null");
+        return transactions.reduce(0L, (count, transaction) -> {
+            jsonHelper.print(generalTransactionMapper.mapToDto(transaction), writer);
+            writer.write('\n');
+            return count + 1;
+        }).doOnSuccess(count -> writer.flush()).toObservable();
+    }
 }
@@ -122,7 +122,7 @@ public class RepositoryFactoryVertxImpl extends RepositoryFactoryBase {
 
     @Override
     public TransactionRepository createTransactionRepository() {
-        return new TransactionRepositoryVertxImpl(apiClient);
+        return new TransactionRepositoryVertxImpl(apiClient, isStreamingPages());
     }
 
     @Override
@@ -16,6 +16,11 @@
 
 package io.nem.symbol.sdk.infrastructure.vertx;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.nem.symbol.sdk.api.Page;
 import io.nem.symbol.sdk.api.TransactionRepository;
 import io.nem.symbol.sdk.api.TransactionSearchCriteria;
@@ -30,8 +35,10 @@ import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.nem.symbol.sdk.openapi.vertx.api.TransactionRoutesApi;
 import io.nem.symbol.sdk.openapi.vertx.api.TransactionRoutesApiImpl;
 import io.nem.symbol.sdk.openapi.vertx.invoker.ApiClient;
+import io.nem.symbol.sdk.openapi.vertx.invoker.Pair;
 import io.nem.symbol.sdk.openapi.vertx.model.AnnounceTransactionInfoDTO;
 import io.nem.symbol.sdk.openapi.vertx.model.Cosignature;
+import io.nem.symbol.sdk.openapi.vertx.model.Pagination;
 import io.nem.symbol.sdk.openapi.vertx.model.TransactionIds;
 import io.nem.symbol.sdk.openapi.vertx.model.TransactionInfoDTO;
 import io.nem.symbol.sdk.openapi.vertx.model.TransactionPage;
@@ -40,7 +47,12 @@ import io.nem.symbol.sdk.openapi.vertx.model.TransactionTypeEnum;
 import io.reactivex.Observable;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonObject;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -55,10 +67,39 @@ public class TransactionRepositoryVertxImpl extends AbstractRepositoryVertxImpl
 
     private final TransactionMapper transactionMapper;
 
+    private final ApiClient apiClient;
+
+    /**
+     * The generated client used to search when the pages are decoded incrementally, its responses are read as json
+     * tokens. Null if the pages are not decoded incrementally.
+     */
+    private final TransactionRoutesApi streamingClient;
+
+    /**
+     * If the search pages are decoded incrementally from the response tokens.
+     */
+    private final boolean streamingPages;
+
     public TransactionRepositoryVertxImpl(ApiClient apiClient) {
+        this(apiClient, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param apiClient the api client.
+     * @param streamingPages if the search pages are decoded from json tokens. The whole response body is still
+     * buffered, as a {@link TokenBuffer}, and the page is emitted once all its transactions are mapped. Only the page's
+     * dto graph is skipped.
+     */
+    public TransactionRepositoryVertxImpl(ApiClient apiClient, boolean streamingPages) {
         super(apiClient);
-        client = new TransactionRoutesApiImpl(apiClient);
-        transactionMapper = new GeneralTransactionMapper(getJsonHelper());
+        this.client = new TransactionRoutesApiImpl(apiClient);
+        this.transactionMapper = new GeneralTransactionMapper(getJsonHelper());
+        this.apiClient = apiClient;
+        this.streamingClient =
+            streamingPages ? new TransactionRoutesApiImpl(new TokenBufferApiClient(apiClient)) : null;
+        this.streamingPages = streamingPages;
     }
 
     public TransactionRoutesApi getClient() {
@@ -67,6 +108,10 @@ public class TransactionRepositoryVertxImpl extends AbstractRepositoryVertxImpl
 
     @Override
     public Observable<Page<Transaction>> search(TransactionSearchCriteria criteria) {
+        if (streamingPages) {
+            Consumer<Handler<AsyncResult<TokenBuffer>>> callback = getStreamingSearchHandler(criteria);
+            return exceptionHandling(call(callback).map(tokens -> readPage(criteria.getGroup(), tokens)));
+        }
         Consumer<Handler<AsyncResult<TransactionPage>>> callback = getSearchHandler(criteria);
 
         return exceptionHandling(call(callback).map(p -> {
@@ -157,21 +202,26 @@ public class TransactionRepositoryVertxImpl extends AbstractRepositoryVertxImpl
 
 
     private Consumer<Handler<AsyncResult<TransactionPage>>> getSearchHandler(TransactionSearchCriteria criteria) {
+        return getSearchHandler(getClient(), criteria);
+    }
+
+    private Consumer<Handler<AsyncResult<TransactionPage>>> getSearchHandler(TransactionRoutesApi client,
+        TransactionSearchCriteria criteria) {
         switch (criteria.getGroup()) {
             case CONFIRMED:
-                return handler -> getClient()
+                return handler -> client
                     .searchConfirmedTransactions(toDto(criteria.getAddress()), toDto(criteria.getRecipientAddress()),
                         toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
                         toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
                         criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()), handler);
             case UNCONFIRMED:
-                return handler -> getClient()
+                return handler -> client
                     .searchUnconfirmedTransactions(toDto(criteria.getAddress()), toDto(criteria.getRecipientAddress()),
                         toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
                         toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
                         criteria.getPageNumber(), criteria.getOffset(), toDto(criteria.getOrder()), handler);
             case PARTIAL:
-                return handler -> getClient()
+                return handler -> client
                     .searchPartialTransactions(toDto(criteria.getAddress()), toDto(criteria.getRecipientAddress()),
                         toDto(criteria.getSignerPublicKey()), criteria.getHeight(),
                         toDto(criteria.getTransactionTypes()), criteria.getEmbedded(), criteria.getPageSize(),
@@ -181,8 +231,75 @@ public class TransactionRepositoryVertxImpl extends AbstractRepositoryVertxImpl
     }
 
 
+    /**
+     * The search request is built by the generated client, the {@link TokenBufferApiClient} sends it and hands the
+     * response's json tokens to the handler instead of the {@link TransactionPage}.
+     */
+    @SuppressWarnings("unchecked")
+    private Consumer<Handler<AsyncResult<TokenBuffer>>> getStreamingSearchHandler(
+        TransactionSearchCriteria criteria) {
+        Consumer<Handler<AsyncResult<TransactionPage>>> callback = getSearchHandler(streamingClient, criteria);
+        return handler -> callback.accept((Handler<AsyncResult<TransactionPage>>) (Handler<?>) handler);
+    }
+
+    private Page<Transaction> readPage(TransactionGroup group, TokenBuffer tokens) throws IOException {
+        ObjectMapper objectMapper = apiClient.getObjectMapper();
+        List<Transaction> data = new ArrayList<>();
+        Pagination pagination = null;
+        try (JsonParser parser = tokens.asParser(objectMapper)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Search response is not a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(name) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        data.add(mapTransaction(group, objectMapper.readValue(parser, TransactionInfoDTO.class)));
+                    }
+                } else if ("pagination".equals(name) && value == JsonToken.START_OBJECT) {
+                    pagination = objectMapper.readValue(parser, Pagination.class);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (pagination == null) {
+            throw new IllegalArgumentException("Search response doesn't have pagination");
+        }
+        return toPage(pagination, data);
+    }
+
     private Transaction mapTransaction(TransactionGroup group, TransactionInfoDTO transactionDto) {
         return transactionMapper.mapToFactoryFromDto(transactionDto).group(group).build();
     }
 
+    /**
+     * An api client that sends the requests built by a generated client through the delegate api client, reading the
+     * response as json tokens whatever the generated return type is. The handlers given to the generated client must
+     * then expect a {@link TokenBuffer}.
+     */
+    private static class TokenBufferApiClient extends ApiClient {
+
+        private static final TypeReference<TokenBuffer> TOKEN_BUFFER = new TypeReference<TokenBuffer>() {
+        };
+
+        private final ApiClient delegate;
+
+        private TokenBufferApiClient(ApiClient delegate) {
+            super(delegate.getVertx(), new JsonObject());
+            this.delegate = delegate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> void invokeAPI(String path, String method, List<Pair> queryParams, Object body,
+            MultiMap headerParams, MultiMap cookieParams, Map<String, Object> formParams, String[] accepts,
+            String[] contentTypes, String[] authNames, TypeReference<T> returnType,
+            Handler<AsyncResult<T>> resultHandler) {
+            delegate.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accepts,
+                contentTypes, authNames, TOKEN_BUFFER, (Handler<AsyncResult<TokenBuffer>>) (Handler<?>) resultHandler);
+        }
+    }
+
 }
@@ -55,6 +55,11 @@ public class AccountAddressRestrictionTransactionMapper extends
     }
 
 
+    @Override
+    protected AccountAddressRestrictionTransactionDTO createDto() {
+        return new AccountAddressRestrictionTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(AccountAddressRestrictionTransaction transaction,
         AccountAddressRestrictionTransactionDTO dto) {
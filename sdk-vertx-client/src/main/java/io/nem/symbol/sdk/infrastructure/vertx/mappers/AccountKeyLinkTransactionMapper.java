@@ -44,6 +44,11 @@ class AccountKeyLinkTransactionMapper extends
             linkedPublicKey, LinkAction.rawValueOf(dto.getLinkAction().getValue()));
     }
 
+    @Override
+    protected AccountKeyLinkTransactionDTO createDto() {
+        return new AccountKeyLinkTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(AccountKeyLinkTransaction transaction,
         AccountKeyLinkTransactionDTO dto) {
@@ -60,6 +60,11 @@ class AccountMetadataTransactionMapper extends
         return factory;
     }
 
+    @Override
+    protected AccountMetadataTransactionDTO createDto() {
+        return new AccountMetadataTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(AccountMetadataTransaction transaction,
         AccountMetadataTransactionDTO dto) {
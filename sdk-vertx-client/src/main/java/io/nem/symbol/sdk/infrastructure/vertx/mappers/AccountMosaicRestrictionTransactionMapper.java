@@ -58,6 +58,11 @@ public class AccountMosaicRestrictionTransactionMapper extends
             additions, deletions);
     }
 
+    @Override
+    protected AccountMosaicRestrictionTransactionDTO createDto() {
+        return new AccountMosaicRestrictionTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(AccountMosaicRestrictionTransaction transaction,
         AccountMosaicRestrictionTransactionDTO dto) {
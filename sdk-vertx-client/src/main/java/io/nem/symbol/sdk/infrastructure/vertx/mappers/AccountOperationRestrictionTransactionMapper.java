@@ -57,6 +57,11 @@ public class AccountOperationRestrictionTransactionMapper extends
             additions, deletions);
     }
 
+    @Override
+    protected AccountOperationRestrictionTransactionDTO createDto() {
+        return new AccountOperationRestrictionTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(AccountOperationRestrictionTransaction transaction,
         AccountOperationRestrictionTransactionDTO dto) {
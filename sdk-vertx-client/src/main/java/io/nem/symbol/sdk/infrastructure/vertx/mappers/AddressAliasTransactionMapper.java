@@ -54,6 +54,11 @@ class AddressAliasTransactionMapper extends
             toAddress(transaction.getAddress()));
     }
 
+    @Override
+    protected AddressAliasTransactionDTO createDto() {
+        return new AddressAliasTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(AddressAliasTransaction transaction, AddressAliasTransactionDTO dto) {
         dto.setAddress(transaction.getAddress().encoded());
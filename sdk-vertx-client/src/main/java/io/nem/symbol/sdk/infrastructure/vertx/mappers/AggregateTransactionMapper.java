@@ -81,6 +81,11 @@ class AggregateTransactionMapper extends
             PublicAccount.createFromPublicKey(aggregateCosignature.getSignerPublicKey(), networkType));
     }
 
+    @Override
+    protected AggregateTransactionExtendedDTO createDto() {
+        return new AggregateTransactionExtendedDTO();
+    }
+
     @Override
     protected void copyToDto(AggregateTransaction transaction, AggregateTransactionExtendedDTO dto) {
         List<EmbeddedTransactionInfoDTO> transactions = transaction.getInnerTransactions().stream().map(
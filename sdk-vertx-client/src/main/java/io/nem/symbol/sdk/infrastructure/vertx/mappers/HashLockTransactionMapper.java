@@ -51,6 +51,11 @@ class HashLockTransactionMapper extends
             transaction.getHash());
     }
 
+    @Override
+    protected HashLockTransactionDTO createDto() {
+        return new HashLockTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(HashLockTransaction transaction, HashLockTransactionDTO dto) {
         dto.setMosaicId(MapperUtils.getIdAsHex(transaction.getMosaic().getId()));
@@ -53,6 +53,11 @@ class MosaicDefinitionTransactionMapper extends
             new BlockDuration(transaction.getDuration()));
     }
 
+    @Override
+    protected MosaicDefinitionTransactionDTO createDto() {
+        return new MosaicDefinitionTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(MosaicDefinitionTransaction transaction,
         MosaicDefinitionTransactionDTO dto) {
@@ -64,6 +64,11 @@ class MosaicMetadataTransactionMapper extends
         return factory;
     }
 
+    @Override
+    protected MosaicMetadataTransactionDTO createDto() {
+        return new MosaicMetadataTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(MosaicMetadataTransaction transaction,
         MosaicMetadataTransactionDTO dto) {
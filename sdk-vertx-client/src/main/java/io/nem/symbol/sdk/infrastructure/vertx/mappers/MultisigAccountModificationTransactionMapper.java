@@ -54,6 +54,11 @@ class MultisigAccountModificationTransactionMapper extends
             additions, deletions);
     }
 
+    @Override
+    protected MultisigAccountModificationTransactionDTO createDto() {
+        return new MultisigAccountModificationTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(MultisigAccountModificationTransaction transaction,
         MultisigAccountModificationTransactionDTO dto) {
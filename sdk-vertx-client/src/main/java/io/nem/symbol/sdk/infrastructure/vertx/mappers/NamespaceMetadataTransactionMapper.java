@@ -56,6 +56,11 @@ class NamespaceMetadataTransactionMapper extends
         return factory;
     }
 
+    @Override
+    protected NamespaceMetadataTransactionDTO createDto() {
+        return new NamespaceMetadataTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(NamespaceMetadataTransaction transaction, NamespaceMetadataTransactionDTO dto) {
         dto.setTargetAddress(transaction.getTargetAddress().encoded(transaction.getNetworkType()));
@@ -61,6 +61,11 @@ class NamespaceRegistrationTransactionMapper extends
                 : Optional.empty());
     }
 
+    @Override
+    protected NamespaceRegistrationTransactionDTO createDto() {
+        return new NamespaceRegistrationTransactionDTO();
+    }
+
     @Override
     protected void copyToDto(NamespaceRegistrationTransaction transaction,
         NamespaceRegistrationTransactionDTO dto) {
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure.vertx.mappers;
+
+import io.nem.symbol.sdk.openapi.vertx.model.NetworkTypeEnum;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionDTO;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * The setters of the attributes shared by all the transaction dtos, like maxFee or deadline. The generated dtos don't
+ * have a common type, so the setters of each dto class are bound once to {@link BiConsumer}s and then called directly.
+ *
+ * @param <D> the transaction dto type.
+ */
+class TransactionDtoSetters<D> {
+
+    private final BiConsumer<D, String> signerPublicKey;
+
+    private final BiConsumer<D, Integer> version;
+
+    private final BiConsumer<D, NetworkTypeEnum> network;
+
+    private final BiConsumer<D, Integer> type;
+
+    private final BiConsumer<D, Long> size;
+
+    private final BiConsumer<D, BigInteger> maxFee;
+
+    private final BiConsumer<D, BigInteger> deadline;
+
+    private final BiConsumer<D, String> signature;
+
+    /**
+     * Constructor.
+     *
+     * @param transactionDtoClass the transaction dto class.
+     * @throws IllegalArgumentException if the class doesn't have the shared attributes' setters.
+     */
+    TransactionDtoSetters(Class<D> transactionDtoClass) {
+        this.signerPublicKey = setter(transactionDtoClass, "setSignerPublicKey", String.class);
+        this.version = setter(transactionDtoClass, "setVersion", Integer.class);
+        this.network = setter(transactionDtoClass, "setNetwork", NetworkTypeEnum.class);
+        this.type = setter(transactionDtoClass, "setType", Integer.class);
+        this.size = setter(transactionDtoClass, "setSize", Long.class);
+        this.maxFee = setter(transactionDtoClass, "setMaxFee", BigInteger.class);
+        this.deadline = setter(transactionDtoClass, "setDeadline", BigInteger.class);
+        this.signature = setter(transactionDtoClass, "setSignature", String.class);
+    }
+
+    /**
+     * It copies the shared attributes.
+     *
+     * @param from the dto with the shared attributes.
+     * @param to the specific transaction dto.
+     */
+    void copy(TransactionDTO from, D to) {
+        signerPublicKey.accept(to, from.getSignerPublicKey());
+        version.accept(to, from.getVersion());
+        network.accept(to, from.getNetwork());
+        type.accept(to, from.getType());
+        size.accept(to, from.getSize());
+        maxFee.accept(to, from.getMaxFee());
+        deadline.accept(to, from.getDeadline());
+        signature.accept(to, from.getSignature());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D, V> BiConsumer<D, V> setter(Class<D> transactionDtoClass, String name, Class<V> valueClass) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle setter = lookup
+                .findVirtual(transactionDtoClass, name, MethodType.methodType(void.class, valueClass));
+            CallSite callSite = LambdaMetafactory
+                .metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class), setter, setter.type());
+            return (BiConsumer<D, V>) callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(
+                "Cannot bind " + name + " of " + transactionDtoClass.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+}
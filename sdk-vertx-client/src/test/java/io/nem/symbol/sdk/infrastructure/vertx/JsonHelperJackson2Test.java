@@ -19,6 +19,8 @@ package io.nem.symbol.sdk.infrastructure.vertx;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.OptionalInt;
 import org.junit.jupiter.api.Assertions;
@@ -151,6 +153,24 @@ public class JsonHelperJackson2Test {
 
     }
 
+    @Test
+    public void shouldReturnNestedValues() {
+        Car car = new Car("Renault", "11", 1989, OptionalInt.of(200));
+        Map<String, Object> garage = Collections.singletonMap("car", car);
+
+        Assertions.assertEquals("11", jsonHelper.getString(garage, "car", "model"));
+        Assertions.assertEquals(1989, jsonHelper.getInteger(garage, "car", "year").intValue());
+        Assertions.assertEquals(200L, jsonHelper.getLong(jsonHelper.parse(jsonHelper.print(garage)), "car", "millage")
+            .longValue());
+        Assertions.assertNull(jsonHelper.getString(garage, "car", "model", "notInnerProperty"));
+        Assertions.assertNull(jsonHelper.getString(garage, "notCar", "model"));
+        Assertions.assertEquals(car, jsonHelper.convert(garage, Car.class, "car"));
+        Assertions.assertEquals("Renault", jsonHelper.convert(car, ObjectNode.class).get("brand").asText());
+
+        car.setBrand("");
+        Assertions.assertFalse(jsonHelper.contains(garage, "car", "brand"));
+    }
+
     @Test
     public void shouldRaiseErrorOnInvalidPath() {
         Car car = new Car("Renault", "11", 1989, OptionalInt.empty());
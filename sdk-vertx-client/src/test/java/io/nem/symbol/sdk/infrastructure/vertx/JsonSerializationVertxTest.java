@@ -19,6 +19,8 @@ package io.nem.symbol.sdk.infrastructure.vertx;
 
 import io.nem.symbol.sdk.api.JsonSerialization;
 import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import java.io.StringWriter;
 import io.vertx.core.json.Json;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -43,4 +45,24 @@ public class JsonSerializationVertxTest {
         Assertions.assertNotNull(mappedJson);
     }
 
+    @Test
+    public void transactionsToJson() {
+        Transaction aggregate = jsonSerialization
+            .jsonToTransaction(TestHelperVertx.loadResource("transaction-aggregateTransferTransaction.json"));
+        Transaction transfer = jsonSerialization
+            .jsonToTransaction(TestHelperVertx.loadResource("transaction-standaloneTransferTransaction.json"));
+        StringWriter writer = new StringWriter();
+
+        Long count = jsonSerialization.transactionsToJson(Observable.just(aggregate, transfer), writer)
+            .blockingFirst();
+
+        Assertions.assertEquals(2, count.longValue());
+        Assertions.assertEquals(
+            jsonSerialization.transactionToJson(aggregate) + "\n" + jsonSerialization.transactionToJson(transfer)
+                + "\n", writer.toString());
+        String[] lines = writer.toString().split("\n");
+        Assertions.assertEquals(jsonSerialization.transactionToJson(transfer),
+            jsonSerialization.transactionToJson(jsonSerialization.jsonToTransaction(lines[1])));
+    }
+
 }
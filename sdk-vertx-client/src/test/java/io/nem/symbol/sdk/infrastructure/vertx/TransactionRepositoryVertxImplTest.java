@@ -19,6 +19,8 @@ package io.nem.symbol.sdk.infrastructure.vertx;
 import static io.nem.symbol.sdk.infrastructure.vertx.TestHelperVertx.loadTransactionInfoDTO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.nem.symbol.core.utils.ExceptionUtils;
 import io.nem.symbol.sdk.api.Page;
 import io.nem.symbol.sdk.api.RepositoryCallException;
@@ -39,19 +41,24 @@ import io.nem.symbol.sdk.model.transaction.TransactionGroup;
 import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.nem.symbol.sdk.model.transaction.TransferTransaction;
 import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.nem.symbol.sdk.openapi.vertx.invoker.Pair;
 import io.nem.symbol.sdk.openapi.vertx.model.AnnounceTransactionInfoDTO;
 import io.nem.symbol.sdk.openapi.vertx.model.Cosignature;
 import io.nem.symbol.sdk.openapi.vertx.model.Pagination;
 import io.nem.symbol.sdk.openapi.vertx.model.TransactionInfoDTO;
 import io.nem.symbol.sdk.openapi.vertx.model.TransactionMetaDTO;
 import io.nem.symbol.sdk.openapi.vertx.model.TransactionPage;
+import io.vertx.core.Vertx;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 
 /**
  * Unit Tests for {@link TransactionRepositoryVertxImpl}
@@ -341,6 +348,53 @@ public class TransactionRepositoryVertxImplTest extends AbstractVertxRespository
         Assertions.assertEquals(3, transactions.getTotalEntries());
         Assertions.assertEquals(4, transactions.getTotalPages());
     }
+
+    @Test
+    public void searchTransactionsStreaming() throws Exception {
+
+        TransactionInfoDTO transferTransactionDTO = loadTransactionInfoDTO("standaloneTransferTransaction.json");
+        TransactionInfoDTO aggregateTransactionDTO = loadTransactionInfoDTO("aggregateMosaicCreationTransaction.json");
+        TransactionPage page = new TransactionPage()
+            .data(Arrays.asList(transferTransactionDTO, aggregateTransactionDTO))
+            .pagination(new Pagination().pageNumber(1).pageSize(2).totalEntries(3).totalPages(4));
+
+        ObjectMapper objectMapper = apiClientMock.getObjectMapper();
+        mockRemoteCall(objectMapper.readValue(objectMapper.writeValueAsString(page), TokenBuffer.class));
+        Mockito.when(apiClientMock.getVertx()).thenReturn(Mockito.mock(Vertx.class));
+        TransactionRepositoryVertxImpl streamingRepository = new TransactionRepositoryVertxImpl(apiClientMock, true);
+
+        Page<Transaction> transactions = streamingRepository
+            .search(new TransactionSearchCriteria(TransactionGroup.PARTIAL).pageSize(2).pageNumber(1)).toFuture()
+            .get();
+        Assertions.assertEquals(2, transactions.getData().size());
+        Assertions.assertEquals(TransactionType.TRANSFER, transactions.getData().get(0).getType());
+        Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, transactions.getData().get(1).getType());
+        Assertions.assertEquals(TransactionGroup.PARTIAL, transactions.getData().get(1).getGroup().get());
+        Assertions.assertEquals(1, transactions.getPageNumber());
+        Assertions.assertEquals(2, transactions.getPageSize());
+        Assertions.assertEquals(3, transactions.getTotalEntries());
+        Assertions.assertEquals(4, transactions.getTotalPages());
+
+        ArgumentCaptor<List> queryParams = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(apiClientMock)
+            .invokeAPI(Mockito.eq("/transactions/partial"), Mockito.eq("GET"), queryParams.capture(), Mockito.any(),
+                Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+                Mockito.any(), Mockito.any());
+        Assertions.assertEquals(Arrays.asList("pageSize=2", "pageNumber=1"),
+            ((List<Pair>) queryParams.getValue()).stream().map(p -> p.getName() + "=" + p.getValue())
+                .collect(Collectors.toList()));
+
+        mockRemoteCall(page);
+        Page<Transaction> expected = repository.search(new TransactionSearchCriteria(TransactionGroup.PARTIAL))
+            .toFuture().get();
+        for (int i = 0; i < expected.getData().size(); i++) {
+            Assertions
+                .assertArrayEquals(expected.getData().get(i).serialize(), transactions.getData().get(i).serialize());
+            Assertions.assertEquals(expected.getData().get(i).getTransactionInfo().get().getHash(),
+                transactions.getData().get(i).getTransactionInfo().get().getHash());
+        }
+    }
+
     private TransactionPage toPage(TransactionInfoDTO dto) {
         return new TransactionPage()
             .data(Collections.singletonList(jsonHelper.parse(jsonHelper.print(dto), TransactionInfoDTO.class)))